@@ -119,10 +119,20 @@ public type ImagePullPolicy "IfNotPresent"|"Always"|"Never";
 # + port - Port to check for tcp connection.
 # + initialDelaySeconds - Initial delay for pobing in seconds.
 # + periodSeconds - Interval between probes in seconds.
+# + timeoutSeconds - Timeout of a probe in seconds.
+# + successThreshold - Consecutive successes for the probe to be considered successful after a failure.
+# + failureThreshold - Consecutive failures for the probe to be considered failed.
+# + path - Path to probe with an HTTP GET request. Defaults to the health check resource of the service if any.
+# + command - Command to execute in the container as the probe.
 public type ProbeConfiguration record {|
     int port?;
     int initialDelaySeconds?;
     int periodSeconds?;
+    int timeoutSeconds?;
+    int successThreshold?;
+    int failureThreshold?;
+    string path?;
+    string[] command?;
 |};
 
 # Type of operations between key and value of a toleration.
@@ -146,6 +156,19 @@ public type PodTolerationConfiguration record {|
     int tolerationSeconds = 0;
 |};
 
+# Knative traffic target.
+#
+# + revisionName - Revision which receives the traffic.
+# + latestRevision - Route the traffic to the latest ready revision instead of a named revision.
+# + percent - Percentage of the traffic routed to the target.
+# + tag - Tag which exposes the target on a dedicated URL.
+public type TrafficTarget record {|
+    string revisionName?;
+    boolean latestRevision = false;
+    int percent?;
+    string tag?;
+|};
+
 # Knative service configuration.
 #
 # + dockerHost - Docker host IP and docker PORT. ( e.g minikube IP and docker PORT).
@@ -166,14 +189,25 @@ public type PodTolerationConfiguration record {|
 # + replicas - Number of replicas. Default is `1`.
 # + livenessProbe - Enable/Disable liveness probe and configure it. Default is `false`.
 # + readinessProbe - Enable/Disable readiness probe and configure it. Default is `false`.
+# + startupProbe - Enable/Disable startup probe and configure it. Default is `false`.
 # + imagePullPolicy - Image pull policy. Default is `"IfNotPresent"`.
 # + env - Environment variable map for containers.
 # + podAnnotations - Map of annotations for pods.
 # + podTolerations - Toleration for pods.
 # + dependsOn - Services this deployment depends on.
+# + dependsOnTimeoutSeconds - Seconds to wait for the services this deployment depends on to be ready. Default is `300`.
+# + dependsOnMaxBackoffSeconds - Maximum seconds between two readiness checks of a dependency. Default is `16`.
 # + imagePullSecrets - Image pull secrets.
 # + containerConcurrency - concurent request handle by one container instance
 # + timeoutSeconds - max time the instance is allowed for responding to a request
+# + cpuRequest - CPU requested for the container. Ex: `"250m"`.
+# + cpuLimit - Maximum CPU the container can use. Ex: `"1"`.
+# + memoryRequest - Memory requested for the container. Ex: `"256Mi"`.
+# + memoryLimit - Maximum memory the container can use. Ex: `"512Mi"`.
+# + ephemeralStorageRequest - Ephemeral storage requested for the container. Ex: `"1Gi"`.
+# + ephemeralStorageLimit - Maximum ephemeral storage the container can use. Ex: `"2Gi"`.
+# + revisionName - Name of the revision created from this configuration. Should start with `<service name>-`.
+# + traffic - Traffic targets of the service. Percentages should add up to `100`.
 public type ServiceConfiguration record{|
 
         *Metadata;
@@ -192,26 +226,52 @@ public type ServiceConfiguration record{|
         int replicas = 1;
         boolean|ProbeConfiguration livenessProbe = false;
         boolean|ProbeConfiguration readinessProbe = false;
+        boolean|ProbeConfiguration startupProbe = false;
         ImagePullPolicy imagePullPolicy = IMAGE_PULL_POLICY_IF_NOT_PRESENT;
         map<string|FieldRef|SecretKeyRef|ResourceFieldRef|ConfigMapKeyRef> env?;
         map<string> podAnnotations?;
         PodTolerationConfiguration[] podTolerations?;
         string[] dependsOn?;
+        int dependsOnTimeoutSeconds = 300;
+        int dependsOnMaxBackoffSeconds = 16;
         string[] imagePullSecrets?;
         int containerConcurrency=100;
         int timeoutSeconds=60;
+        string cpuRequest?;
+        string cpuLimit?;
+        string memoryRequest?;
+        string memoryLimit?;
+        string ephemeralStorageRequest?;
+        string ephemeralStorageLimit?;
+        string revisionName?;
+        TrafficTarget[] traffic?;
 |};
 
 public const annotation ServiceConfiguration Service on source service, source function, source listener;
 
+# Knative autoscaler class.
+public type AutoscalerClass "kpa"|"hpa";
+
 # Knative Horizontal Pod Autoscaler configuration
 #
-# + minReplicas - Minimum number of replicas.
-# + maxReplicas - Maximum number of replicas.
+# + minReplicas - Minimum number of replicas. `0` allows scaling to zero.
+# + maxReplicas - Maximum number of replicas. `0` means unlimited.
+# + autoscalerClass - Autoscaler implementation. `"hpa"` cannot scale to zero.
+# + metric - Metric to scale on. `"concurrency"` or `"rps"` with kpa, `"cpu"` or `"memory"` with hpa.
+# + target - Target value of the metric per pod.
+# + targetUtilizationPercentage - Percentage of the target at which new pods are added.
+# + window - Stable window of the autoscaler. Ex: `"60s"`.
+# + scaleToZeroPodRetentionPeriod - Minimum time the last pod is kept after the traffic stops. Ex: `"5m"`.
 public type PodAutoscalerConfig record {|
     *Metadata;
     int minReplicas?;
     int maxReplicas?;
+    AutoscalerClass autoscalerClass?;
+    string metric?;
+    int target?;
+    int targetUtilizationPercentage?;
+    string window?;
+    string scaleToZeroPodRetentionPeriod?;
 |};
 
 # @knative:HPA annotation to configure horizontal pod autoscaler yaml.
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.benchmark;
+
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.models.KubernetesDataHolder;
+import org.ballerinax.kubernetes.processors.AnnotationProcessorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.ballerinalang.compiler.tree.BLangAnnotationAttachment;
+import org.wso2.ballerinalang.compiler.tree.BLangService;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Average time of the annotation processors for modules with an increasing number of annotated services. Every
+ * invocation processes the annotations of all the services in to an empty data holder, while the deployment
+ * annotation is processed once per module.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class AnnotationProcessingBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int listeners;
+
+    private SyntheticModule module;
+    private List<BLangService> services;
+    private List<BLangAnnotationAttachment> serviceAnnotations;
+    private List<BLangAnnotationAttachment> deployments;
+    private List<BLangAnnotationAttachment> secrets;
+    private List<BLangAnnotationAttachment> configMaps;
+    private List<BLangAnnotationAttachment> gateways;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        module = SyntheticModule.create(listeners);
+        services = module.getServices();
+        serviceAnnotations = new ArrayList<>();
+        deployments = Collections.singletonList(module.deploymentAnnotation());
+        secrets = new ArrayList<>();
+        configMaps = new ArrayList<>();
+        gateways = new ArrayList<>();
+        for (int i = 0; i < listeners; i++) {
+            serviceAnnotations.add(module.serviceAnnotation(i));
+            secrets.add(module.secretAnnotation(i));
+            configMaps.add(module.configMapAnnotation(i));
+            gateways.add(module.gatewayAnnotation(i));
+        }
+    }
+
+    @Benchmark
+    public KubernetesDataHolder service() throws KubernetesPluginException {
+        return process(serviceAnnotations);
+    }
+
+    @Benchmark
+    public KubernetesDataHolder deployment() throws KubernetesPluginException {
+        return process(deployments);
+    }
+
+    @Benchmark
+    public KubernetesDataHolder secret() throws KubernetesPluginException {
+        return process(secrets);
+    }
+
+    @Benchmark
+    public KubernetesDataHolder configMap() throws KubernetesPluginException {
+        return process(configMaps);
+    }
+
+    @Benchmark
+    public KubernetesDataHolder istioGateway() throws KubernetesPluginException {
+        return process(gateways);
+    }
+
+    private KubernetesDataHolder process(List<BLangAnnotationAttachment> annotations)
+            throws KubernetesPluginException {
+        KubernetesDataHolder dataHolder = module.reset();
+        for (int i = 0; i < annotations.size(); i++) {
+            BLangAnnotationAttachment annotation = annotations.get(i);
+            AnnotationProcessorFactory.getAnnotationProcessorInstance(annotation.getAnnotationName().getValue(),
+                    dataHolder).processAnnotation(services.get(i), annotation);
+        }
+        return dataHolder;
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.benchmark;
+
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.handlers.ArtifactHandler;
+import org.ballerinax.kubernetes.handlers.ConfigMapHandler;
+import org.ballerinax.kubernetes.handlers.DeploymentHandler;
+import org.ballerinax.kubernetes.handlers.HPAHandler;
+import org.ballerinax.kubernetes.handlers.HelmChartHandler;
+import org.ballerinax.kubernetes.handlers.IngressHandler;
+import org.ballerinax.kubernetes.handlers.PersistentVolumeClaimHandler;
+import org.ballerinax.kubernetes.handlers.PodDisruptionBudgetHandler;
+import org.ballerinax.kubernetes.handlers.ResourceQuotaHandler;
+import org.ballerinax.kubernetes.handlers.SecretHandler;
+import org.ballerinax.kubernetes.handlers.ServiceHandler;
+import org.ballerinax.kubernetes.handlers.istio.IstioDestinationRuleHandler;
+import org.ballerinax.kubernetes.handlers.istio.IstioGatewayHandler;
+import org.ballerinax.kubernetes.handlers.istio.IstioVirtualServiceHandler;
+import org.ballerinax.kubernetes.models.KubernetesDataHolder;
+import org.ballerinax.kubernetes.utils.ArtifactSink;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Average time of the artifact handlers for modules with an increasing number of listeners. The handlers complete
+ * the models they generate from, hence every invocation builds the models the annotation processors produce and
+ * the {@link #models()} baseline measures the time taken for that. The artifacts other than the helm chart are
+ * emitted to an in-memory sink and the progress output is discarded, so that the results are not skewed by the file
+ * system or the console. Run with "-prof gc" to measure the allocation rate.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ArtifactGenerationBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int listeners;
+
+    private SyntheticModule module;
+    private KubernetesDataHolder helmChartModule;
+    private PrintStream standardOutput;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, KubernetesPluginException {
+        module = SyntheticModule.create(listeners);
+        // the handlers print their progress to the standard output, which is not part of the generation.
+        standardOutput = System.out;
+        System.setOut(new PrintStream(new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+            }
+        }));
+        // the helm chart is generated from the artifacts and the resources of a completed generation pass, which it
+        // does not modify. hence the pass is run once and the chart is regenerated from it.
+        module.populateModels();
+        helmChartModule = generate(ServiceHandler::new, SecretHandler::new, ConfigMapHandler::new,
+                DeploymentHandler::new, HPAHandler::new);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.setOut(standardOutput);
+    }
+
+    @Benchmark
+    public KubernetesDataHolder models() {
+        return module.populateModels();
+    }
+
+    @Benchmark
+    public ArtifactSink service() throws KubernetesPluginException {
+        return populateAndGenerate(ServiceHandler::new);
+    }
+
+    @Benchmark
+    public ArtifactSink ingress() throws KubernetesPluginException {
+        return populateAndGenerate(IngressHandler::new);
+    }
+
+    @Benchmark
+    public ArtifactSink secret() throws KubernetesPluginException {
+        return populateAndGenerate(SecretHandler::new);
+    }
+
+    @Benchmark
+    public ArtifactSink configMap() throws KubernetesPluginException {
+        return populateAndGenerate(ConfigMapHandler::new);
+    }
+
+    @Benchmark
+    public ArtifactSink volumeClaim() throws KubernetesPluginException {
+        return populateAndGenerate(PersistentVolumeClaimHandler::new);
+    }
+
+    @Benchmark
+    public ArtifactSink resourceQuota() throws KubernetesPluginException {
+        return populateAndGenerate(ResourceQuotaHandler::new);
+    }
+
+    @Benchmark
+    public ArtifactSink deployment() throws KubernetesPluginException {
+        return populateAndGenerate(DeploymentHandler::new);
+    }
+
+    @Benchmark
+    public ArtifactSink hpa() throws KubernetesPluginException {
+        return populateAndGenerate(HPAHandler::new);
+    }
+
+    @Benchmark
+    public ArtifactSink podDisruptionBudget() throws KubernetesPluginException {
+        return populateAndGenerate(PodDisruptionBudgetHandler::new);
+    }
+
+    @Benchmark
+    public ArtifactSink istioGateway() throws KubernetesPluginException {
+        return populateAndGenerate(IstioGatewayHandler::new);
+    }
+
+    @Benchmark
+    public ArtifactSink istioVirtualService() throws KubernetesPluginException {
+        return populateAndGenerate(IstioVirtualServiceHandler::new);
+    }
+
+    @Benchmark
+    public ArtifactSink istioDestinationRule() throws KubernetesPluginException {
+        return populateAndGenerate(IstioDestinationRuleHandler::new);
+    }
+
+    /**
+     * Only the chart is measured, as it is generated from the pass completed while setting up the trial. The chart
+     * is written to the file system.
+     *
+     * @return Data holder of the module.
+     * @throws KubernetesPluginException If the chart cannot be generated.
+     */
+    @Benchmark
+    public KubernetesDataHolder helm() throws KubernetesPluginException {
+        new HelmChartHandler(helmChartModule).createArtifacts();
+        return helmChartModule;
+    }
+
+    @Benchmark
+    public ArtifactSink allHandlers() throws KubernetesPluginException {
+        return populateAndGenerate(ServiceHandler::new, IngressHandler::new, SecretHandler::new,
+                ConfigMapHandler::new, PersistentVolumeClaimHandler::new, ResourceQuotaHandler::new,
+                DeploymentHandler::new, HPAHandler::new, PodDisruptionBudgetHandler::new, IstioGatewayHandler::new,
+                IstioVirtualServiceHandler::new, IstioDestinationRuleHandler::new, HelmChartHandler::new);
+    }
+
+    @SafeVarargs
+    private final ArtifactSink populateAndGenerate(Function<KubernetesDataHolder, ArtifactHandler>... handlers)
+            throws KubernetesPluginException {
+        module.populateModels();
+        return generate(handlers).getArtifactSink();
+    }
+
+    /**
+     * Run the handlers in a new generation pass of the module.
+     *
+     * @param handlers Handlers to be run in order.
+     * @return Data holder of the module, whose sink holds the generated artifacts.
+     * @throws KubernetesPluginException If a handler fails.
+     */
+    @SafeVarargs
+    private final KubernetesDataHolder generate(Function<KubernetesDataHolder, ArtifactHandler>... handlers)
+            throws KubernetesPluginException {
+        KubernetesDataHolder dataHolder = module.activate();
+        for (Function<KubernetesDataHolder, ArtifactHandler> handler : handlers) {
+            handler.apply(dataHolder).createArtifacts();
+        }
+        return dataHolder;
+    }
+}
@@ -0,0 +1,393 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.benchmark;
+
+import org.ballerinalang.model.TreeBuilder;
+import org.ballerinalang.model.elements.PackageID;
+import org.ballerinax.kubernetes.KubernetesConstants;
+import org.ballerinax.kubernetes.models.ConfigMapModel;
+import org.ballerinax.kubernetes.models.DeploymentModel;
+import org.ballerinax.kubernetes.models.IngressModel;
+import org.ballerinax.kubernetes.models.KubernetesContext;
+import org.ballerinax.kubernetes.models.KubernetesDataHolder;
+import org.ballerinax.kubernetes.models.PersistentVolumeClaimModel;
+import org.ballerinax.kubernetes.models.PodAutoscalerModel;
+import org.ballerinax.kubernetes.models.PodDisruptionBudgetModel;
+import org.ballerinax.kubernetes.models.ResourceQuotaModel;
+import org.ballerinax.kubernetes.models.SecretModel;
+import org.ballerinax.kubernetes.models.ServiceModel;
+import org.ballerinax.kubernetes.models.istio.IstioDestination;
+import org.ballerinax.kubernetes.models.istio.IstioDestinationRuleModel;
+import org.ballerinax.kubernetes.models.istio.IstioDestinationWeight;
+import org.ballerinax.kubernetes.models.istio.IstioGatewayModel;
+import org.ballerinax.kubernetes.models.istio.IstioHttpRoute;
+import org.ballerinax.kubernetes.models.istio.IstioPortModel;
+import org.ballerinax.kubernetes.models.istio.IstioServerModel;
+import org.ballerinax.kubernetes.models.istio.IstioVirtualServiceModel;
+import org.ballerinax.kubernetes.utils.ArtifactSink;
+import org.wso2.ballerinalang.compiler.tree.BLangAnnotationAttachment;
+import org.wso2.ballerinalang.compiler.tree.BLangIdentifier;
+import org.wso2.ballerinalang.compiler.tree.BLangService;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangExpression;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangListConstructorExpr;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangLiteral;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangRecordLiteral;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangSimpleVarRef;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangTypeInit;
+import org.wso2.ballerinalang.compiler.tree.types.BLangUserDefinedType;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.compiler.util.Names;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.ballerinax.kubernetes.KubernetesConstants.DOCKER;
+import static org.ballerinax.kubernetes.KubernetesConstants.KUBERNETES;
+
+/**
+ * A module with a given number of listeners, each of which has a service, an ingress, a secret, a config map, a
+ * volume claim, an istio gateway, an istio virtual service and an istio destination rule. The deployment of the
+ * module has an autoscaler, a pod disruption budget and a resource quota. The module is registered in the
+ * {@link KubernetesContext} the same way the compiler plugin registers a ballerina module, while the artifacts are
+ * emitted to an in-memory sink.
+ */
+final class SyntheticModule {
+    private static final String MODULE_PREFIX = "bench_";
+    private static final String LISTENER_PREFIX = "listener";
+    private static final int BASE_PORT = 9090;
+    private static final int SECRET_SIZE = 2048;
+
+    private final PackageID moduleID;
+    private final String moduleName;
+    private final Path sourceRoot;
+    private final int listeners;
+
+    private SyntheticModule(String moduleName, Path sourceRoot, int listeners) {
+        this.moduleName = moduleName;
+        this.moduleID = new PackageID(Names.ANON_ORG, new Name(moduleName), Names.DEFAULT_VERSION);
+        this.sourceRoot = sourceRoot;
+        this.listeners = listeners;
+    }
+
+    /**
+     * Create a module and the data files its secrets and config maps are read from.
+     *
+     * @param listeners Number of listeners of the module.
+     * @return Synthetic module with an empty data holder.
+     * @throws IOException If the data files cannot be created.
+     */
+    static SyntheticModule create(int listeners) throws IOException {
+        String moduleName = MODULE_PREFIX + listeners;
+        Path sourceRoot = Files.createTempDirectory("ballerinax-kubernetes-benchmark-");
+        Files.write(sourceRoot.resolve("keystore.p12"), new byte[SECRET_SIZE]);
+        Files.write(sourceRoot.resolve("app.toml"), ("[" + moduleName + "]\nlisteners = " + listeners + "\n")
+                .getBytes(StandardCharsets.UTF_8));
+        SyntheticModule module = new SyntheticModule(moduleName, sourceRoot, listeners);
+        module.reset();
+        return module;
+    }
+
+    /**
+     * Replace the data holder of the module with an empty one.
+     *
+     * @return Data holder of the module.
+     */
+    KubernetesDataHolder reset() {
+        KubernetesDataHolder dataHolder = KubernetesContext.getInstance().addDataHolder(moduleID, sourceRoot);
+        dataHolder.setUberJarPath(sourceRoot.resolve(moduleName + KubernetesConstants.EXECUTABLE_JAR));
+        dataHolder.setK8sArtifactOutputPath(sourceRoot.resolve(KUBERNETES));
+        dataHolder.setDockerArtifactOutputPath(sourceRoot.resolve(DOCKER));
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName(moduleName + KubernetesConstants.DEPLOYMENT_POSTFIX);
+        deploymentModel.setImage(moduleName + KubernetesConstants.DOCKER_LATEST_TAG);
+        deploymentModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, moduleName);
+        deploymentModel.setSingleYAML(false);
+        dataHolder.setDeploymentModel(deploymentModel);
+        return dataHolder;
+    }
+
+    /**
+     * Start a new generation pass of the module with an in-memory sink.
+     *
+     * @return Data holder of the module.
+     */
+    KubernetesDataHolder activate() {
+        KubernetesDataHolder dataHolder = KubernetesContext.getInstance().getDataHolder(moduleID);
+        dataHolder.setArtifactSink(ArtifactSink.inMemory(moduleName, false));
+        return dataHolder;
+    }
+
+    /**
+     * Populate an empty data holder with the models the annotation processors produce for the module.
+     *
+     * @return Data holder of the module.
+     */
+    KubernetesDataHolder populateModels() {
+        KubernetesDataHolder dataHolder = reset();
+        PodAutoscalerModel podAutoscalerModel = new PodAutoscalerModel();
+        podAutoscalerModel.setMinReplicas(2);
+        podAutoscalerModel.setMaxReplicas(5);
+        dataHolder.getDeploymentModel().setPodAutoscalerModel(podAutoscalerModel);
+
+        PodDisruptionBudgetModel podDisruptionBudgetModel = new PodDisruptionBudgetModel();
+        podDisruptionBudgetModel.setMaxUnavailable("1");
+        dataHolder.setPodDisruptionBudgetModel(podDisruptionBudgetModel);
+
+        ResourceQuotaModel resourceQuotaModel = new ResourceQuotaModel();
+        resourceQuotaModel.setName(moduleName + "-quota");
+        Map<String, String> hard = new LinkedHashMap<>();
+        hard.put("cpu", String.valueOf(listeners));
+        hard.put("memory", listeners + "Gi");
+        hard.put("pods", String.valueOf(2 * listeners));
+        resourceQuotaModel.setHard(hard);
+        dataHolder.setResourceQuotaModels(Collections.singleton(resourceQuotaModel));
+
+        Set<PersistentVolumeClaimModel> volumeClaims = new HashSet<>();
+        for (int i = 0; i < listeners; i++) {
+            String listener = LISTENER_PREFIX + i;
+            int port = BASE_PORT + i;
+
+            ServiceModel serviceModel = new ServiceModel();
+            serviceModel.setName(listener + KubernetesConstants.SVC_POSTFIX);
+            serviceModel.setProtocol("http");
+            serviceModel.setPort(port);
+            serviceModel.setTargetPort(port);
+            serviceModel.setServiceType("ClusterIP");
+            dataHolder.addBListenerToK8sServiceMap(listener, serviceModel);
+
+            IngressModel ingressModel = new IngressModel();
+            ingressModel.setName(listener + KubernetesConstants.INGRESS_POSTFIX);
+            ingressModel.setHostname(listener + ".example.com");
+            ingressModel.setListenerName(listener);
+            dataHolder.addIngressModel(ingressModel);
+
+            SecretModel secretModel = new SecretModel();
+            secretModel.setName(listener + KubernetesConstants.SECRET_POSTFIX);
+            secretModel.setMountPath("/home/ballerina/secrets/" + listener);
+            secretModel.setData(Collections.singletonMap("keystore.p12",
+                    Base64.getEncoder().encodeToString(new byte[SECRET_SIZE])));
+            secretModel.setReadOnly(true);
+            Set<SecretModel> secrets = new HashSet<>();
+            secrets.add(secretModel);
+            dataHolder.addSecrets(secrets);
+
+            ConfigMapModel configMapModel = new ConfigMapModel();
+            configMapModel.setName(listener + KubernetesConstants.CONFIG_MAP_POSTFIX);
+            configMapModel.setMountPath("/home/ballerina/conf/" + listener);
+            configMapModel.setData(Collections.singletonMap("app.toml", "[" + listener + "]\nport = " + port));
+            configMapModel.setReadOnly(true);
+            Set<ConfigMapModel> configMaps = new HashSet<>();
+            configMaps.add(configMapModel);
+            dataHolder.addConfigMaps(configMaps);
+
+            PersistentVolumeClaimModel volumeClaimModel = new PersistentVolumeClaimModel();
+            volumeClaimModel.setName(listener + "-pvc");
+            volumeClaimModel.setMountPath("/home/ballerina/data/" + listener);
+            volumeClaimModel.setVolumeClaimSize("1Gi");
+            volumeClaims.add(volumeClaimModel);
+
+            IstioPortModel gatewayPort = new IstioPortModel();
+            gatewayPort.setNumber(80);
+            gatewayPort.setName("http");
+            gatewayPort.setProtocol("HTTP");
+            IstioServerModel server = new IstioServerModel();
+            server.setPort(gatewayPort);
+            server.setHosts(Collections.singletonList(listener + ".example.com"));
+            IstioGatewayModel gatewayModel = new IstioGatewayModel();
+            gatewayModel.setName(listener + KubernetesConstants.ISTIO_GATEWAY_POSTFIX);
+            gatewayModel.setSelector(Collections.singletonMap("istio", "ingressgateway"));
+            gatewayModel.setServers(Collections.singletonList(server));
+            dataHolder.addIstioGatewayModel(listener, gatewayModel);
+
+            IstioDestination destination = new IstioDestination();
+            destination.setHost(serviceModel.getName());
+            destination.setPort(port);
+            IstioDestinationWeight destinationWeight = new IstioDestinationWeight();
+            destinationWeight.setDestination(destination);
+            IstioHttpRoute httpRoute = new IstioHttpRoute();
+            httpRoute.setRoute(Collections.singletonList(destinationWeight));
+            httpRoute.setTimeout(5);
+            IstioVirtualServiceModel virtualServiceModel = new IstioVirtualServiceModel();
+            virtualServiceModel.setName(listener + KubernetesConstants.ISTIO_VIRTUAL_SERVICE_POSTFIX);
+            virtualServiceModel.setHosts(Collections.singletonList(listener + ".example.com"));
+            virtualServiceModel.setGateways(Collections.singletonList(gatewayModel.getName()));
+            virtualServiceModel.setHttp(Collections.singletonList(httpRoute));
+            dataHolder.addIstioVirtualServiceModel(listener, virtualServiceModel);
+
+            IstioDestinationRuleModel destinationRuleModel = new IstioDestinationRuleModel();
+            destinationRuleModel.setName(listener + KubernetesConstants.ISTIO_DESTINATION_RULE_POSTFIX);
+            destinationRuleModel.setLoadBalancer("ROUND_ROBIN");
+            dataHolder.addIstioDestinationRuleModel(listener, destinationRuleModel);
+        }
+        dataHolder.addPersistentVolumeClaims(volumeClaims);
+        return dataHolder;
+    }
+
+    /**
+     * Get a service for each listener of the module, each of which is attached to an anonymous http listener.
+     *
+     * @return Service nodes.
+     */
+    List<BLangService> getServices() {
+        List<BLangService> services = new ArrayList<>();
+        for (int i = 0; i < listeners; i++) {
+            BLangUserDefinedType listenerType = (BLangUserDefinedType) TreeBuilder.createUserDefinedTypeNode();
+            listenerType.pkgAlias = identifier("http");
+            listenerType.typeName = identifier("Listener");
+            BLangTypeInit listener = (BLangTypeInit) TreeBuilder.createInitNode();
+            listener.userDefinedType = listenerType;
+            listener.argsExpr = new ArrayList<>(Collections.singletonList(literal((long) (BASE_PORT + i))));
+            BLangService service = (BLangService) TreeBuilder.createServiceNode();
+            service.setName(identifier(LISTENER_PREFIX + i));
+            service.addAttachedExpression(listener);
+            services.add(service);
+        }
+        return services;
+    }
+
+    /**
+     * Get the @kubernetes:Service annotation of a listener.
+     *
+     * @param listener Index of the listener.
+     * @return Annotation attachment.
+     */
+    BLangAnnotationAttachment serviceAnnotation(int listener) {
+        Map<String, BLangExpression> service = new LinkedHashMap<>();
+        service.put("name", literal(LISTENER_PREFIX + listener + KubernetesConstants.SVC_POSTFIX));
+        service.put("serviceType", literal("ClusterIP"));
+        return annotation("Service", record(service));
+    }
+
+    /**
+     * Get the @kubernetes:Deployment annotation of the module.
+     *
+     * @return Annotation attachment.
+     */
+    BLangAnnotationAttachment deploymentAnnotation() {
+        Map<String, BLangExpression> deployment = new LinkedHashMap<>();
+        deployment.put("name", literal(moduleName + KubernetesConstants.DEPLOYMENT_POSTFIX));
+        deployment.put("labels", record(Collections.singletonMap(KubernetesConstants.KUBERNETES_SELECTOR_KEY,
+                literal(moduleName))));
+        deployment.put("image", literal(moduleName + KubernetesConstants.DOCKER_LATEST_TAG));
+        deployment.put("buildImage", literal(false));
+        deployment.put("singleYAML", literal(false));
+        deployment.put("replicas", literal(2L));
+        return annotation("Deployment", record(deployment));
+    }
+
+    /**
+     * Get the @kubernetes:Secret annotation of a listener.
+     *
+     * @param listener Index of the listener.
+     * @return Annotation attachment.
+     */
+    BLangAnnotationAttachment secretAnnotation(int listener) {
+        Map<String, BLangExpression> secret = new LinkedHashMap<>();
+        secret.put("name", literal(LISTENER_PREFIX + listener + KubernetesConstants.SECRET_POSTFIX));
+        secret.put("mountPath", literal("/home/ballerina/secrets/" + LISTENER_PREFIX + listener));
+        secret.put("data", list(literal(sourceRoot.resolve("keystore.p12").toString())));
+        return annotation("Secret", record(Collections.singletonMap("secrets", list(record(secret)))));
+    }
+
+    /**
+     * Get the @kubernetes:ConfigMap annotation of a listener.
+     *
+     * @param listener Index of the listener.
+     * @return Annotation attachment.
+     */
+    BLangAnnotationAttachment configMapAnnotation(int listener) {
+        Map<String, BLangExpression> configMap = new LinkedHashMap<>();
+        configMap.put("name", literal(LISTENER_PREFIX + listener + KubernetesConstants.CONFIG_MAP_POSTFIX));
+        configMap.put("mountPath", literal("/home/ballerina/conf/" + LISTENER_PREFIX + listener));
+        configMap.put("data", list(literal("app.toml")));
+        return annotation("ConfigMap", record(Collections.singletonMap("configMaps", list(record(configMap)))));
+    }
+
+    /**
+     * Get the @istio:Gateway annotation of a listener.
+     *
+     * @param listener Index of the listener.
+     * @return Annotation attachment.
+     */
+    BLangAnnotationAttachment gatewayAnnotation(int listener) {
+        Map<String, BLangExpression> port = new LinkedHashMap<>();
+        port.put("number", literal(80L));
+        port.put("name", literal("http"));
+        port.put("protocol", literal("HTTP"));
+        Map<String, BLangExpression> server = new LinkedHashMap<>();
+        server.put("port", record(port));
+        server.put("hosts", list(literal(LISTENER_PREFIX + listener + ".example.com")));
+        Map<String, BLangExpression> gateway = new LinkedHashMap<>();
+        gateway.put("name", literal(LISTENER_PREFIX + listener + KubernetesConstants.ISTIO_GATEWAY_POSTFIX));
+        gateway.put("selector", record(Collections.singletonMap("istio", literal("ingressgateway"))));
+        gateway.put("servers", list(record(server)));
+        return annotation("Gateway", record(gateway));
+    }
+
+    private static BLangAnnotationAttachment annotation(String name, BLangRecordLiteral value) {
+        BLangAnnotationAttachment attachment = (BLangAnnotationAttachment) TreeBuilder.createAnnotAttachmentNode();
+        attachment.setAnnotationName(identifier(name));
+        attachment.expr = value;
+        return attachment;
+    }
+
+    private static BLangRecordLiteral record(Map<String, BLangExpression> fields) {
+        BLangRecordLiteral record = (BLangRecordLiteral) TreeBuilder.createRecordLiteralNode();
+        for (Map.Entry<String, BLangExpression> field : fields.entrySet()) {
+            BLangSimpleVarRef key = (BLangSimpleVarRef) TreeBuilder.createSimpleVariableReferenceNode();
+            key.pkgAlias = identifier("");
+            key.variableName = identifier(field.getKey());
+            BLangRecordLiteral.BLangRecordKeyValue keyValue =
+                    (BLangRecordLiteral.BLangRecordKeyValue) TreeBuilder.createRecordKeyValue();
+            keyValue.key = new BLangRecordLiteral.BLangRecordKey(key);
+            keyValue.valueExpr = field.getValue();
+            record.keyValuePairs.add(keyValue);
+        }
+        return record;
+    }
+
+    private static BLangListConstructorExpr list(BLangExpression... values) {
+        BLangListConstructorExpr list = (BLangListConstructorExpr) TreeBuilder.createListConstructorExpressionNode();
+        list.exprs = new ArrayList<>(Arrays.asList(values));
+        return list;
+    }
+
+    private static BLangLiteral literal(Object value) {
+        BLangLiteral literal = (BLangLiteral) TreeBuilder.createLiteralExpression();
+        literal.value = value;
+        return literal;
+    }
+
+    private static BLangIdentifier identifier(String value) {
+        BLangIdentifier identifier = (BLangIdentifier) TreeBuilder.createIdentifierNode();
+        identifier.setValue(value);
+        return identifier;
+    }
+}
@@ -19,6 +19,7 @@
 package org.ballerinax.kubernetes.test;
 
 import com.spotify.docker.client.messages.ImageInfo;
+import io.fabric8.kubernetes.api.model.Probe;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.test.utils.DockerTestException;
@@ -188,6 +189,40 @@ public class ReadinessProbeTest {
         KubernetesTestUtils.deleteDockerImage(DOCKER_IMAGE);
     }
     
+    /**
+     * Build bal file with a health check resource of a service whose http module is imported with an alias.
+     *
+     * @throws IOException               Error when loading the generated yaml.
+     * @throws InterruptedException      Error when compiling the ballerina file.
+     * @throws KubernetesPluginException Error when deleting the generated artifacts folder.
+     */
+    @Test
+    public void httpModuleAliasTest() throws IOException, InterruptedException, KubernetesPluginException,
+            DockerTestException {
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaFile(BAL_DIRECTORY, "http_alias.bal"), 0);
+        
+        // Check if docker image exists and correct
+        validateDockerfile();
+        validateDockerImage();
+        
+        // Validate deployment yaml
+        File deploymentYAML = KUBERNETES_TARGET_PATH.resolve("http_alias_deployment.yaml").toFile();
+        Assert.assertTrue(deploymentYAML.exists());
+        Deployment deployment = KubernetesTestUtils.loadYaml(deploymentYAML);
+        Assert.assertTrue(deployment.getSpec().getTemplate().getSpec().getContainers().size() > 0);
+        Probe readinessProbe = deployment.getSpec().getTemplate().getSpec().getContainers().get(0)
+                .getReadinessProbe();
+        Assert.assertNotNull(readinessProbe, "Readiness probe is missing.");
+        Assert.assertNull(readinessProbe.getTcpSocket());
+        Assert.assertEquals(readinessProbe.getHttpGet().getPath(), "/pizza/status/healthz",
+                "Health check path of the service is not resolved.");
+        Assert.assertEquals(readinessProbe.getHttpGet().getPort().getIntVal().intValue(), 9090);
+        
+        KubernetesUtils.deleteDirectory(KUBERNETES_TARGET_PATH);
+        KubernetesUtils.deleteDirectory(DOCKER_TARGET_PATH);
+        KubernetesTestUtils.deleteDockerImage(DOCKER_IMAGE);
+    }
+    
     /**
      * Validate if Dockerfile is created.
      */
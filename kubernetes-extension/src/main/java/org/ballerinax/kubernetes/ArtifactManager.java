@@ -18,7 +18,9 @@
 
 package org.ballerinax.kubernetes;
 
+import org.ballerinax.docker.generator.models.CopyFileModel;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.handlers.ArtifactHandler;
 import org.ballerinax.kubernetes.handlers.ConfigMapHandler;
 import org.ballerinax.kubernetes.handlers.DeploymentHandler;
 import org.ballerinax.kubernetes.handlers.DockerHandler;
@@ -27,10 +29,13 @@ import org.ballerinax.kubernetes.handlers.HelmChartHandler;
 import org.ballerinax.kubernetes.handlers.IngressHandler;
 import org.ballerinax.kubernetes.handlers.JobHandler;
 import org.ballerinax.kubernetes.handlers.PersistentVolumeClaimHandler;
+import org.ballerinax.kubernetes.handlers.PodDisruptionBudgetHandler;
 import org.ballerinax.kubernetes.handlers.ResourceQuotaHandler;
 import org.ballerinax.kubernetes.handlers.SecretHandler;
 import org.ballerinax.kubernetes.handlers.ServiceHandler;
+import org.ballerinax.kubernetes.handlers.istio.IstioDestinationRuleHandler;
 import org.ballerinax.kubernetes.handlers.istio.IstioGatewayHandler;
+import org.ballerinax.kubernetes.handlers.istio.IstioSidecarHandler;
 import org.ballerinax.kubernetes.handlers.istio.IstioVirtualServiceHandler;
 import org.ballerinax.kubernetes.handlers.openshift.OpenShiftBuildConfigHandler;
 import org.ballerinax.kubernetes.handlers.openshift.OpenShiftImageStreamHandler;
@@ -38,28 +43,66 @@ import org.ballerinax.kubernetes.handlers.openshift.OpenShiftRouteHandler;
 import org.ballerinax.kubernetes.models.DeploymentModel;
 import org.ballerinax.kubernetes.models.KubernetesContext;
 import org.ballerinax.kubernetes.models.KubernetesDataHolder;
+import org.ballerinax.kubernetes.utils.ArtifactSink;
+import org.ballerinax.kubernetes.utils.BuildMetrics;
+import org.ballerinax.kubernetes.utils.GenerationCache;
+import org.ballerinax.kubernetes.utils.KubernetesUtils;
+import org.ballerinax.kubernetes.utils.ProgressReporter;
+import org.ballerinax.kubernetes.utils.YamlWriter;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.PrintStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 
 import static org.ballerinax.docker.generator.utils.DockerGenUtils.extractUberJarName;
+import static org.ballerinax.kubernetes.KubernetesConstants.BUILD_REPORT_FILE_POSTFIX;
 import static org.ballerinax.kubernetes.KubernetesConstants.DEPLOYMENT_POSTFIX;
 import static org.ballerinax.kubernetes.KubernetesConstants.DOCKER_LATEST_TAG;
+import static org.ballerinax.kubernetes.utils.BuildMetrics.GENERATION_PHASE;
+import static org.ballerinax.kubernetes.utils.BuildMetrics.HANDLER_PHASE;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.getValidName;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.isBlank;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.printDebug;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.printInstruction;
 
 /**
  * Generate and write artifacts to files.
  */
 public class ArtifactManager {
-    private static final Map<String, String> instructions = new LinkedHashMap<>();
-    private static final PrintStream OUT = System.out;
-    private KubernetesDataHolder kubernetesDataHolder;
+    private static final PrintStream OUT = ProgressReporter.getStream();
+    private static final boolean PARALLEL_GENERATION_ENABLED =
+            "true".equals(System.getenv(KubernetesConstants.ENABLE_PARALLEL_GENERATION));
+    private static final boolean BUILD_REPORT_ENABLED =
+            "true".equals(System.getenv(KubernetesConstants.ENABLE_BUILD_REPORT));
+    private final KubernetesDataHolder kubernetesDataHolder;
+    private final boolean parallelGeneration;
 
-    ArtifactManager() {
-        this.kubernetesDataHolder = KubernetesContext.getInstance().getDataHolder();
+    ArtifactManager(KubernetesDataHolder kubernetesDataHolder) {
+        this(kubernetesDataHolder, PARALLEL_GENERATION_ENABLED);
+    }
+
+    ArtifactManager(KubernetesDataHolder kubernetesDataHolder, boolean parallelGeneration) {
+        this.kubernetesDataHolder = kubernetesDataHolder;
+        this.parallelGeneration = parallelGeneration;
     }
 
     /**
@@ -67,43 +110,416 @@ public class ArtifactManager {
      *
      * @throws KubernetesPluginException if an error occurs while generating artifacts
      */
-    void   createArtifacts() throws KubernetesPluginException {
+    void createArtifacts() throws KubernetesPluginException {
         // add default kubernetes instructions.
         setDefaultKubernetesInstructions();
         OUT.println("\nGenerating artifacts...");
+        try (BuildMetrics.Timer ignored = kubernetesDataHolder.getBuildMetrics().time(GENERATION_PHASE)) {
+            generateArtifacts();
+        }
+        if (BUILD_REPORT_ENABLED) {
+            writeBuildReport();
+        }
+        printInstructions();
+    }
+    
+    private void generateArtifacts() throws KubernetesPluginException {
+        Path outputPath = kubernetesDataHolder.getK8sArtifactOutputPath();
         if (kubernetesDataHolder.getJobModel() != null) {
-            new JobHandler().createArtifacts();
-            new DockerHandler().createArtifacts();
+            KubernetesUtils.deleteDirectory(outputPath);
+            openArtifactSink(kubernetesDataHolder.getJobModel().isSingleYAML());
+            try {
+                runHandler("job", new JobHandler(kubernetesDataHolder));
+                runHandler("docker", new DockerHandler(kubernetesDataHolder));
+            } finally {
+                closeArtifactSink();
+            }
         } else {
-            new ServiceHandler().createArtifacts();
-            new IngressHandler().createArtifacts();
-            new SecretHandler().createArtifacts();
-            new PersistentVolumeClaimHandler().createArtifacts();
-            new ResourceQuotaHandler().createArtifacts();
-            new ConfigMapHandler().createArtifacts();
-            new DeploymentHandler().createArtifacts();
-            new HPAHandler().createArtifacts();
-            new DockerHandler().createArtifacts();
-            new HelmChartHandler().createArtifacts();
-            new IstioGatewayHandler().createArtifacts();
-            new IstioVirtualServiceHandler().createArtifacts();
-            if (kubernetesDataHolder.getOpenShiftBuildExtensionModel() != null ||
-                kubernetesDataHolder.getOpenShiftRouteModels().size() > 0) {
-                // Clean all instructions
-                instructions.clear();
-                new OpenShiftBuildConfigHandler().createArtifacts();
-                new OpenShiftImageStreamHandler().createArtifacts();
-                new OpenShiftRouteHandler().createArtifacts();
+            List<GenerationTask> tasks = getGenerationTasks();
+            GenerationCache cache = null;
+            if (null != kubernetesDataHolder.getGenerationCachePath()) {
+                cache = GenerationCache.load(kubernetesDataHolder.getGenerationCachePath(), outputPath);
+                applyGenerationCache(tasks, cache);
+            } else {
+                KubernetesUtils.deleteDirectory(outputPath);
+            }
+            openArtifactSink(kubernetesDataHolder.getDeploymentModel().isSingleYAML());
+            try {
+                if (parallelGeneration) {
+                    executeInParallel(tasks);
+                } else {
+                    for (GenerationTask task : tasks) {
+                        runHandler(task.name, task.handler);
+                    }
+                }
+            } finally {
+                closeArtifactSink();
+            }
+            if (null != cache) {
+                cache.save();
             }
         }
-        
-        printInstructions();
+    }
+    
+    private void runHandler(String name, ArtifactHandler handler) throws KubernetesPluginException {
+        try (BuildMetrics.Timer ignored = kubernetesDataHolder.getBuildMetrics().time(HANDLER_PHASE + name)) {
+            handler.createArtifacts();
+        }
+    }
+    
+    /**
+     * Write the timings of the build phases of the module next to its artifact directory, so that the report is
+     * not picked up when the artifacts are applied with kubectl.
+     */
+    private void writeBuildReport() {
+        String moduleName = extractUberJarName(kubernetesDataHolder.getUberJarPath());
+        Path outputPath = kubernetesDataHolder.getK8sArtifactOutputPath().toAbsolutePath();
+        Path reportFile = outputPath.getParent().resolve(moduleName + BUILD_REPORT_FILE_POSTFIX);
+        try {
+            kubernetesDataHolder.getBuildMetrics().writeReport(reportFile, moduleName);
+        } catch (IOException e) {
+            printDebug("unable to write build report " + reportFile + ": " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Open the sink the handlers write the yaml artifacts to during this generation pass.
+     *
+     * @param singleYAML Whether all the artifacts of a directory are written to a single file.
+     */
+    private void openArtifactSink(boolean singleYAML) {
+        String artifactName = extractUberJarName(kubernetesDataHolder.getUberJarPath());
+        kubernetesDataHolder.setArtifactSink(ArtifactSink.toFiles(artifactName, singleYAML));
+    }
+    
+    private void closeArtifactSink() throws KubernetesPluginException {
+        ArtifactSink artifactSink = kubernetesDataHolder.getArtifactSink();
+        kubernetesDataHolder.setArtifactSink(null);
+        try {
+            artifactSink.close();
+        } catch (IOException e) {
+            throw new KubernetesPluginException("error while writing generated artifacts", e);
+        }
+    }
+    
+    /**
+     * Get the artifact handlers in the order in which they are executed sequentially, along with the handlers
+     * each of them has to wait for.
+     *
+     * @return Generation tasks.
+     */
+    private List<GenerationTask> getGenerationTasks() {
+        List<GenerationTask> tasks = new ArrayList<>();
+        DeploymentModel deploymentModel = kubernetesDataHolder.getDeploymentModel();
+        // ServiceHandler adds the container ports to the deployment model.
+        GenerationTask service = addTask(tasks, "service", new ServiceHandler(kubernetesDataHolder))
+                .producesModels()
+                .cachedBy(() -> Collections.singletonList(
+                        fieldsOf(kubernetesDataHolder.getbListenerToK8sServiceMap())));
+        GenerationTask ingress = addTask(tasks, "ingress", new IngressHandler(kubernetesDataHolder), service)
+                .cachedBy(() -> Arrays.asList(fieldsOf(kubernetesDataHolder.getIngressModelSet()),
+                        fieldsOf(kubernetesDataHolder.getSecretModels())));
+        GenerationTask secret = addTask(tasks, "secret", new SecretHandler(kubernetesDataHolder))
+                .withSecretOutput()
+                .cachedBy(() -> Collections.singletonList(fieldsOf(kubernetesDataHolder.getSecretModelSet())));
+        GenerationTask volumeClaim = addTask(tasks, "volumeClaim",
+                new PersistentVolumeClaimHandler(kubernetesDataHolder))
+                .cachedBy(() -> Arrays.asList(null != deploymentModel.getStatefulSet(),
+                        kubernetesDataHolder.getVolumeClaimModelSet().stream()
+                                .map(claim -> Arrays.asList(claim.getName(), claim.getAnnotations(),
+                                        claim.getAccessMode(), claim.getVolumeClaimSize()))
+                                .collect(Collectors.toList())));
+        GenerationTask resourceQuota = addTask(tasks, "resourceQuota", new ResourceQuotaHandler(kubernetesDataHolder))
+                .cachedBy(() -> Collections.singletonList(kubernetesDataHolder.getResourceQuotaModels().stream()
+                        .map(quota -> Arrays.asList(quota.getName(), quota.getLabels(), quota.getAnnotations(),
+                                quota.getHard(), quota.getScopes()))
+                        .collect(Collectors.toList())));
+        // ConfigMapHandler sets the ballerina.conf env var and command args of the deployment model.
+        GenerationTask configMap = addTask(tasks, "configMap", new ConfigMapHandler(kubernetesDataHolder))
+                .producesModels()
+                .cachedBy(() -> Collections.singletonList(fieldsOf(kubernetesDataHolder.getConfigMapModelSet())));
+        // DeploymentHandler produces the docker model and the autoscaler model of the deployment.
+        GenerationTask deployment = addTask(tasks, "deployment", new DeploymentHandler(kubernetesDataHolder), service,
+                configMap)
+                .producesModels()
+                .cachedBy(() -> Arrays.asList(fieldsOf(deploymentModel),
+                        fieldsOf(kubernetesDataHolder.getSecretModelSet()),
+                        fieldsOf(kubernetesDataHolder.getConfigMapModelSet()),
+                        fieldsOf(kubernetesDataHolder.getVolumeClaimModelSet()),
+                        fieldsOf(kubernetesDataHolder.getResourceQuotaModels()),
+                        fieldsOf(kubernetesDataHolder.getPodAutoscalerModel()),
+                        kubernetesDataHolder.getHealthCheckPaths(), kubernetesDataHolder.getListenerPorts(),
+                        getDependencyFields(deploymentModel)));
+        // HPAHandler records the autoscaler for the Helm templates.
+        GenerationTask hpa = addTask(tasks, "hpa", new HPAHandler(kubernetesDataHolder), deployment)
+                .producesModels()
+                .cachedBy(Collections::emptyList);
+        GenerationTask podDisruptionBudget = addTask(tasks, "podDisruptionBudget",
+                new PodDisruptionBudgetHandler(kubernetesDataHolder), deployment)
+                .cachedBy(() -> Collections.singletonList(
+                        fieldsOf(kubernetesDataHolder.getPodDisruptionBudgetModel())));
+        addTask(tasks, "docker", new DockerHandler(kubernetesDataHolder), deployment)
+                .writesDirectory(kubernetesDataHolder.getDockerArtifactOutputPath())
+                .cachedBy(() -> getDockerFields(deploymentModel));
+        // Helm templates are created from the yaml artifacts emitted up to this point.
+        GenerationTask helm = addTask(tasks, "helm", new HelmChartHandler(kubernetesDataHolder), service, ingress,
+                secret, volumeClaim, resourceQuota, configMap, deployment, hpa, podDisruptionBudget)
+                .writesDirectory(HelmChartHandler.getChartPath(kubernetesDataHolder))
+                .cachedBy(Collections::emptyList);
+        // Istio and OpenShift handlers, along with the models they generate, are only loaded when their annotations
+        // are used by the module.
+        if (!kubernetesDataHolder.getIstioGatewayModels().isEmpty()) {
+            addTask(tasks, "istioGateway", new IstioGatewayHandler(kubernetesDataHolder), helm);
+        }
+        if (!kubernetesDataHolder.getIstioVirtualServiceModels().isEmpty()) {
+            addTask(tasks, "istioVirtualService", new IstioVirtualServiceHandler(kubernetesDataHolder), service, helm);
+        }
+        if (!kubernetesDataHolder.getIstioDestinationRuleModels().isEmpty()) {
+            addTask(tasks, "istioDestinationRule", new IstioDestinationRuleHandler(kubernetesDataHolder), service,
+                    helm);
+        }
+        if (null != kubernetesDataHolder.getDeploymentModel().getIstioSidecar()) {
+            // The egress of the sidecar is resolved from the services of the dependent modules.
+            addTask(tasks, "istioSidecar", new IstioSidecarHandler(kubernetesDataHolder), deployment, helm);
+        }
+        if (null != kubernetesDataHolder.getDeploymentModel().getBuildExtension() ||
+            !kubernetesDataHolder.getOpenShiftRouteModels().isEmpty()) {
+            // OpenShift build config is set to the data holder by the DeploymentHandler.
+            addTask(tasks, "openshift", () -> {
+                if (kubernetesDataHolder.getOpenShiftBuildExtensionModel() != null ||
+                    kubernetesDataHolder.getOpenShiftRouteModels().size() > 0) {
+                    // Clean all instructions
+                    kubernetesDataHolder.getInstructions().clear();
+                    new OpenShiftBuildConfigHandler(kubernetesDataHolder).createArtifacts();
+                    new OpenShiftImageStreamHandler(kubernetesDataHolder).createArtifacts();
+                    new OpenShiftRouteHandler(kubernetesDataHolder).createArtifacts();
+                }
+            }, service, deployment);
+        }
+        return tasks;
+    }
+    
+    private GenerationTask addTask(List<GenerationTask> tasks, String name, ArtifactHandler handler,
+                                   GenerationTask... dependencies) {
+        GenerationTask task = new GenerationTask(tasks.size(), name, handler, Arrays.asList(dependencies));
+        tasks.add(task);
+        return task;
+    }
+    
+    /**
+     * Get the fields of a model, or of the models in a collection or map, in the order they are serialized in.
+     *
+     * @param model Model.
+     * @return Fields which can be fingerprinted.
+     */
+    private static Object fieldsOf(Object model) {
+        if (model instanceof Collection) {
+            return ((Collection<?>) model).stream().map(ArtifactManager::fieldsOf).collect(Collectors.toList());
+        }
+        if (model instanceof Map) {
+            Map<Object, Object> fields = new LinkedHashMap<>();
+            ((Map<?, ?>) model).forEach((key, value) -> fields.put(key, fieldsOf(value)));
+            return fields;
+        }
+        return null == model ? null : YamlWriter.toTree(model);
+    }
+    
+    /**
+     * Get the fields of the modules a deployment depends on, which are read when generating its init containers
+     * and pod affinity.
+     *
+     * @param deploymentModel Deployment model.
+     * @return Fields of each dependency.
+     * @throws KubernetesPluginException If a dependency is not found.
+     */
+    private List<Object> getDependencyFields(DeploymentModel deploymentModel) throws KubernetesPluginException {
+        List<Object> dependencyFields = new ArrayList<>();
+        for (String dependsOn : deploymentModel.getDependsOn()) {
+            KubernetesDataHolder dependency = KubernetesContext.getInstance().getDataHolderFromListener(dependsOn);
+            dependencyFields.add(Arrays.asList(dependsOn, dependency.getNamespace(),
+                    fieldsOf(dependency.getDeploymentModel()), fieldsOf(dependency.getbListenerToK8sServiceMap()),
+                    dependency.getHealthCheckPaths()));
+        }
+        return dependencyFields;
+    }
+    
+    /**
+     * Get the content of the files copied to the docker image, as the docker model is produced from the
+     * deployment model.
+     *
+     * @param deploymentModel Deployment model.
+     * @return Digest of the uber jar and of each external file.
+     * @throws IOException If an error occurs while reading the files.
+     */
+    private List<Object> getDockerFields(DeploymentModel deploymentModel) throws IOException {
+        List<Object> dockerFields = new ArrayList<>();
+        dockerFields.add(GenerationCache.digest(kubernetesDataHolder.getUberJarPath()));
+        for (CopyFileModel copyFile : deploymentModel.getCopyFiles()) {
+            dockerFields.add(Arrays.asList(copyFile.getTarget(),
+                    GenerationCache.digest(Paths.get(copyFile.getSource()))));
+        }
+        return dockerFields;
+    }
+    
+    /**
+     * Skip the cached handlers whose fields have not changed since the previous generation. The output directory
+     * is left untouched when every handler is skipped. Otherwise only the files of the handlers which are executed
+     * are removed, and the skipped handlers write the content they wrote previously, so that the files they share
+     * with the executed handlers are complete. The output of every handler is recorded for the next generation.
+     *
+     * @param tasks Generation tasks.
+     * @param cache Generation cache of the module.
+     * @throws KubernetesPluginException If the files of the previous generation cannot be removed.
+     */
+    private void applyGenerationCache(List<GenerationTask> tasks, GenerationCache cache)
+            throws KubernetesPluginException {
+        Map<GenerationTask, GenerationCache.CachedOutput> hits = new HashMap<>();
+        for (GenerationTask task : tasks) {
+            if (null != task.fingerprint) {
+                GenerationCache.CachedOutput cachedOutput = cache.get(task.name, task.fingerprint);
+                if (null != cachedOutput && cachedOutput.isAvailable()) {
+                    hits.put(task, cachedOutput);
+                }
+            }
+        }
+        Set<String> taskNames = tasks.stream().map(task -> task.name).collect(Collectors.toSet());
+        boolean upToDate = hits.size() == tasks.size() &&
+                           taskNames.containsAll(cache.getPreviousOutputs().keySet());
+        // A handler setting the models of the handlers depending on it is only skipped along with all of them, and
+        // a handler whose content is not in the cache cannot write it again.
+        Set<GenerationTask> skipped = new HashSet<>();
+        for (int i = tasks.size() - 1; i >= 0; i--) {
+            GenerationTask task = tasks.get(i);
+            GenerationCache.CachedOutput cachedOutput = hits.get(task);
+            if (null != cachedOutput && (upToDate || cachedOutput.isReplayable()) && (!task.producesModels ||
+                    tasks.stream().filter(dependent -> dependent.dependencies.contains(task))
+                            .allMatch(skipped::contains))) {
+                skipped.add(task);
+            }
+        }
+        if (!upToDate) {
+            deletePreviousOutputs(cache, skipped.stream().map(task -> task.name).collect(Collectors.toSet()));
+        }
+        for (GenerationTask task : tasks) {
+            ArtifactHandler handler = task.handler;
+            if (skipped.contains(task)) {
+                GenerationCache.CachedOutput cachedOutput = hits.get(task);
+                kubernetesDataHolder.getBuildMetrics().increment(BuildMetrics.GENERATION_CACHE_HITS, 1);
+                task.handler = () -> {
+                    ProgressReporter.report(cachedOutput.getProgress());
+                    if (!upToDate) {
+                        writeFragments(cachedOutput.getFragments());
+                    }
+                    cache.put(task.name, task.fingerprint, cachedOutput, task.storesContent);
+                };
+            } else {
+                task.handler = () -> {
+                    Map<Path, StringBuilder> previousWrites = KubernetesUtils.startBufferedWrites();
+                    ByteArrayOutputStream previousProgress = ProgressReporter.startCapture();
+                    Map<Path, StringBuilder> fragments;
+                    byte[] progress;
+                    try {
+                        handler.createArtifacts();
+                    } finally {
+                        fragments = KubernetesUtils.endBufferedWrites(previousWrites);
+                        progress = ProgressReporter.endCapture(previousProgress);
+                        ProgressReporter.report(progress);
+                    }
+                    cache.put(task.name, task.fingerprint, new GenerationCache.CachedOutput(fragments,
+                            task.directories, progress), task.storesContent);
+                    writeFragments(fragments);
+                };
+            }
+        }
+    }
+    
+    /**
+     * Remove the files and directories generated in the previous generation by the handlers which are not skipped.
+     * The whole output directory is removed if its content is not known.
+     *
+     * @param cache        Generation cache of the module.
+     * @param skippedTasks Names of the skipped handlers.
+     * @throws KubernetesPluginException If a file cannot be removed.
+     */
+    private void deletePreviousOutputs(GenerationCache cache, Set<String> skippedTasks)
+            throws KubernetesPluginException {
+        Path outputPath = kubernetesDataHolder.getK8sArtifactOutputPath().toAbsolutePath().normalize();
+        if (!cache.hasPreviousGeneration()) {
+            KubernetesUtils.deleteDirectory(outputPath);
+            return;
+        }
+        for (Map.Entry<String, GenerationCache.CachedOutput> previousOutput : cache.getPreviousOutputs().entrySet()) {
+            if (skippedTasks.contains(previousOutput.getKey())) {
+                continue;
+            }
+            GenerationCache.CachedOutput output = previousOutput.getValue();
+            List<Path> paths = new ArrayList<>(output.getFragments().keySet());
+            paths.addAll(output.getDirectories());
+            for (Path path : paths) {
+                // the docker build context is kept, as it is only rewritten by the docker handler.
+                if (path.toAbsolutePath().normalize().startsWith(outputPath)) {
+                    KubernetesUtils.deleteDirectory(path);
+                }
+            }
+        }
+    }
+    
+    private void writeFragments(Map<Path, StringBuilder> fragments) throws KubernetesPluginException {
+        try {
+            KubernetesUtils.flushBufferedWrites(kubernetesDataHolder, fragments);
+        } catch (IOException e) {
+            throw new KubernetesPluginException("error while writing generated artifacts", e);
+        }
+    }
+    
+    /**
+     * Execute the handlers concurrently once the handlers they depend on are completed. Writes and progress of each
+     * handler are buffered and flushed in the sequential order so that the generated files and the output are
+     * identical to a sequential run.
+     *
+     * @param tasks Generation tasks in sequential order.
+     * @throws KubernetesPluginException If a handler fails.
+     */
+    private void executeInParallel(List<GenerationTask> tasks) throws KubernetesPluginException {
+        int poolSize = Math.max(1, Math.min(tasks.size(), Runtime.getRuntime().availableProcessors()));
+        ExecutorService executor = Executors.newFixedThreadPool(poolSize);
+        OrderedWriteFlusher flusher = new OrderedWriteFlusher(kubernetesDataHolder, tasks.size());
+        Map<GenerationTask, CompletableFuture<Void>> futures = new HashMap<>();
+        try {
+            for (GenerationTask task : tasks) {
+                CompletableFuture<?>[] dependencies = task.dependencies.stream()
+                        .map(futures::get)
+                        .toArray(CompletableFuture[]::new);
+                futures.put(task, CompletableFuture.allOf(dependencies).thenRunAsync(() -> {
+                    Map<Path, StringBuilder> previousWrites = KubernetesUtils.startBufferedWrites();
+                    ByteArrayOutputStream previousProgress = ProgressReporter.startCapture();
+                    try {
+                        runHandler(task.name, task.handler);
+                    } catch (KubernetesPluginException e) {
+                        throw new CompletionException(e);
+                    } finally {
+                        byte[] progress = ProgressReporter.endCapture(previousProgress);
+                        flusher.complete(task.index, KubernetesUtils.endBufferedWrites(previousWrites), progress);
+                    }
+                }, executor));
+            }
+            CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0])).join();
+            flusher.rethrowFailure();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof KubernetesPluginException) {
+                throw (KubernetesPluginException) e.getCause();
+            }
+            throw new KubernetesPluginException("error while generating artifacts: " + e.getCause().getMessage(),
+                    e.getCause());
+        } finally {
+            executor.shutdown();
+        }
     }
     
     private void printInstructions() {
         printInstruction("");
         printInstruction("");
-        for (Map.Entry<String, String> instruction : instructions.entrySet()) {
+        for (Map.Entry<String, String> instruction : kubernetesDataHolder.getInstructions().entrySet()) {
             printInstruction(instruction.getKey());
             printInstruction(instruction.getValue());
             printInstruction("");
@@ -127,18 +543,137 @@ public class ArtifactManager {
     }
     
     /**
-     * Returns print instructions.
-     *
-     * @return instructions.
+     * An artifact handler and the handlers it has to wait for.
      */
-    public static Map<String, String> getInstructions() {
-        return instructions;
+    private class GenerationTask {
+        private final int index;
+        private final String name;
+        private final List<GenerationTask> dependencies;
+        private final Set<Path> directories = new LinkedHashSet<>();
+        private ArtifactHandler handler;
+        private String fingerprint;
+        private boolean producesModels;
+        private boolean storesContent = true;
+        
+        GenerationTask(int index, String name, ArtifactHandler handler, List<GenerationTask> dependencies) {
+            this.index = index;
+            this.name = name;
+            this.handler = handler;
+            this.dependencies = dependencies;
+        }
+        
+        /**
+         * Mark the handler as one which sets models read by the handlers depending on it, so that it is executed
+         * whenever one of them is.
+         *
+         * @return This task.
+         */
+        GenerationTask producesModels() {
+            this.producesModels = true;
+            return this;
+        }
+        
+        /**
+         * Mark the handler as one which writes secret data, so that only the names of its files are kept in the
+         * cache.
+         *
+         * @return This task.
+         */
+        GenerationTask withSecretOutput() {
+            this.storesContent = false;
+            return this;
+        }
+        
+        /**
+         * Record a directory the handler writes to outside the artifact files.
+         *
+         * @param directory Directory written by the handler.
+         * @return This task.
+         */
+        GenerationTask writesDirectory(Path directory) {
+            this.directories.add(directory);
+            return this;
+        }
+        
+        /**
+         * Mark the handler as one which only writes artifacts from the given model fields and the output of the
+         * handlers it depends on, so that its output can be reused while those are unchanged. The handler is not
+         * cached if the fields cannot be read or if it depends on a handler which is not cached.
+         *
+         * @param fields Model fields used by the handler.
+         * @return This task.
+         */
+        GenerationTask cachedBy(Callable<List<?>> fields) {
+            List<Object> taskFields = new ArrayList<>();
+            for (GenerationTask dependency : dependencies) {
+                if (null == dependency.fingerprint) {
+                    return this;
+                }
+                taskFields.add(dependency.fingerprint);
+            }
+            DeploymentModel deploymentModel = kubernetesDataHolder.getDeploymentModel();
+            try {
+                taskFields.addAll(fields.call());
+                this.fingerprint = GenerationCache.fingerprint(kubernetesDataHolder.getUberJarPath().getFileName(),
+                        kubernetesDataHolder.getK8sArtifactOutputPath(), kubernetesDataHolder.getNamespace(),
+                        deploymentModel.isSingleYAML(), directories, taskFields);
+            } catch (Exception e) {
+                printDebug("generation cache is not used for " + name + ": " + e.getMessage());
+            }
+            return this;
+        }
+    }
+    
+    /**
+     * Flushes the buffered writes and reports the progress of the handlers in their sequential order as they get
+     * completed.
+     */
+    private static class OrderedWriteFlusher {
+        private final KubernetesDataHolder dataHolder;
+        private final List<Map<Path, StringBuilder>> pendingWrites;
+        private final List<byte[]> pendingProgress;
+        private final boolean[] completed;
+        private int nextToFlush = 0;
+        private IOException failure;
+        
+        OrderedWriteFlusher(KubernetesDataHolder dataHolder, int size) {
+            this.dataHolder = dataHolder;
+            this.pendingWrites = new ArrayList<>(Collections.nCopies(size, null));
+            this.pendingProgress = new ArrayList<>(Collections.nCopies(size, null));
+            this.completed = new boolean[size];
+        }
+        
+        synchronized void complete(int index, Map<Path, StringBuilder> writes, byte[] progress) {
+            pendingWrites.set(index, writes);
+            pendingProgress.set(index, progress);
+            completed[index] = true;
+            while (nextToFlush < completed.length && completed[nextToFlush]) {
+                ProgressReporter.report(pendingProgress.get(nextToFlush));
+                try {
+                    if (failure == null) {
+                        KubernetesUtils.flushBufferedWrites(dataHolder, pendingWrites.get(nextToFlush));
+                    }
+                } catch (IOException e) {
+                    failure = e;
+                }
+                pendingWrites.set(nextToFlush, null);
+                pendingProgress.set(nextToFlush, null);
+                nextToFlush++;
+            }
+        }
+        
+        synchronized void rethrowFailure() throws KubernetesPluginException {
+            if (failure != null) {
+                throw new KubernetesPluginException("error while writing generated artifacts", failure);
+            }
+        }
     }
     
     /**
      * Set instructions for kubernetes and helm artifacts.
      */
     private void setDefaultKubernetesInstructions() {
+        Map<String, String> instructions = kubernetesDataHolder.getInstructions();
         instructions.put("\tRun the following command to deploy the Kubernetes artifacts: ",
                 "\tkubectl apply -f " + this.kubernetesDataHolder.getK8sArtifactOutputPath().toAbsolutePath());
         
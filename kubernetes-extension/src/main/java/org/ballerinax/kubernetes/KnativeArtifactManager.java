@@ -46,8 +46,8 @@ import static org.ballerinax.kubernetes.utils.KnativeUtils.printInstruction;
  */
 public class KnativeArtifactManager {
 
-    private static final Map<String, String> instructions = new LinkedHashMap<>();
     private static final PrintStream OUT = System.out;
+    private final Map<String, String> instructions = new LinkedHashMap<>();
     private KnativeDataHolder knativeDataHolder;
 
     KnativeArtifactManager() {
@@ -103,7 +103,7 @@ public class KnativeArtifactManager {
      *
      * @return instructions.
      */
-    public static Map<String, String> getInstructions() {
+    public Map<String, String> getInstructions() {
         return instructions;
     }
 
@@ -35,6 +35,7 @@ import org.ballerinax.kubernetes.models.knative.KnativeDataHolder;
 import org.ballerinax.kubernetes.processors.KnativeAnnotationProcessorFactory;
 import org.ballerinax.kubernetes.utils.DependencyValidator;
 import org.ballerinax.kubernetes.utils.KnativeUtils;
+import org.ballerinax.kubernetes.utils.KubernetesUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.wso2.ballerinalang.compiler.SourceDirectory;
@@ -44,6 +45,7 @@ import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -65,6 +67,8 @@ public class KnativePlugin extends AbstractCompilerPlugin {
     private static final Logger pluginLog = LoggerFactory.getLogger(KnativePlugin.class);
     private DiagnosticLog dlog;
     private SourceDirectory sourceDirectory;
+    private PackageID currentModule;
+    private final Set<PackageID> knativeModules = new HashSet<>();
 
     @Override
     public void setCompilerContext(CompilerContext context) {
@@ -85,11 +89,35 @@ public class KnativePlugin extends AbstractCompilerPlugin {
         if (this.sourceDirectory == null) {
             throw new IllegalArgumentException("source directory has not been initialized");
         }
-        KnativeContext.getInstance().addDataHolder(bPackage.packageID, sourceDirectory.getPath());
+        this.currentModule = bPackage.packageID;
+        // A recompiled module starts with a new data holder once a Knative annotation is found.
+        knativeModules.remove(currentModule);
+    }
+
+    /**
+     * Get the data holder of the module being compiled. The data holder is created on the first Knative annotation
+     * of the module, so that the Knative models are not loaded for modules which do not use them.
+     *
+     * @return Data holder of the module.
+     */
+    private KnativeDataHolder activateModule() {
+        KnativeContext context = KnativeContext.getInstance();
+        if (knativeModules.add(currentModule)) {
+            context.addDataHolder(currentModule, sourceDirectory.getPath());
+        }
+        return context.getDataHolder();
     }
 
     @Override
     public void process(ServiceNode serviceNode, List<AnnotationAttachmentNode> annotations) {
+        try {
+            KnativeDataHolder dataHolder = activateModule();
+            if (null == dataHolder.getHealthCheckPath()) {
+                dataHolder.setHealthCheckPath(KubernetesUtils.getHealthCheckPath(serviceNode));
+            }
+        } catch (KubernetesPluginException e) {
+            dlog.logDiagnostic(Diagnostic.Kind.ERROR, serviceNode.getPosition(), e.getMessage());
+        }
         for (AnnotationAttachmentNode attachmentNode : annotations) {
             String annotationKey = attachmentNode.getAnnotationName().getValue();
             try {
@@ -108,6 +136,7 @@ public class KnativePlugin extends AbstractCompilerPlugin {
                     "supported with listeners.");
             return;
         }
+        activateModule();
         for (AnnotationAttachmentNode attachmentNode : annotations) {
             String annotationKey = attachmentNode.getAnnotationName().getValue();
             try {
@@ -122,6 +151,7 @@ public class KnativePlugin extends AbstractCompilerPlugin {
 
     @Override
     public void process(FunctionNode functionNode, List<AnnotationAttachmentNode> annotations) {
+        activateModule();
         for (AnnotationAttachmentNode attachmentNode : annotations) {
             String annotationKey = attachmentNode.getAnnotationName().getValue();
             try {
@@ -135,6 +165,9 @@ public class KnativePlugin extends AbstractCompilerPlugin {
 
     @Override
     public void codeGenerated(PackageID moduleID, Path executableJarFile) {
+        if (!knativeModules.contains(moduleID)) {
+            return;
+        }
         KnativeContext.getInstance().setCurrentPackage(moduleID);
         KnativeDataHolder dataHolder = KnativeContext.getInstance().getDataHolder();
         if (dataHolder.isCanProcess()) {
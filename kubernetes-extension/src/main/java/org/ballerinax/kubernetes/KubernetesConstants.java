@@ -23,6 +23,9 @@ package org.ballerinax.kubernetes;
  */
 public class KubernetesConstants {
     public static final String ENABLE_DEBUG_LOGS = "BAL_KUBERNETES_DEBUG";
+    public static final String ENABLE_PARALLEL_GENERATION = "BAL_KUBERNETES_PARALLEL_GENERATION";
+    public static final String ENABLE_BUILD_REPORT = "BAL_KUBERNETES_BUILD_REPORT";
+    public static final String BUILD_REPORT_FILE_POSTFIX = "-build-report.json";
     public static final String KUBERNETES = "kubernetes";
     public static final String OPENSHIFT = "openshift";
     public static final String MAIN_FUNCTION_NAME = "main";
@@ -36,12 +39,17 @@ public class KubernetesConstants {
     public static final String CONFIG_MAP_POSTFIX = "-config-map";
     public static final String SECRET_POSTFIX = "-secret";
     public static final String DOCKER = "docker";
+    public static final String KUBERNETES_CACHE = "kubernetes-cache";
+    public static final String CACHE_FILE_POSTFIX = ".properties";
+    public static final String DOCKER_FINGERPRINT_FILE_NAME = "build-fingerprint.properties";
     public static final String HELM_CHART_TEMPLATES = "templates";
     public static final String EXECUTABLE_JAR = ".jar";
     public static final String DEPLOYMENT_POSTFIX = "-deployment";
     public static final String JOB_POSTFIX = "-job";
     public static final String HPA_POSTFIX = "-hpa";
+    public static final String POD_DISRUPTION_BUDGET_POSTFIX = "-pdb";
     public static final String DEPLOYMENT_FILE_POSTFIX = "_deployment";
+    public static final String STATEFUL_SET_FILE_POSTFIX = "_statefulset";
     public static final String JOB_FILE_POSTFIX = "_job";
     public static final String SVC_FILE_POSTFIX = "_svc";
     public static final String SECRET_FILE_POSTFIX = "_secret";
@@ -50,10 +58,30 @@ public class KubernetesConstants {
     public static final String RESOURCE_QUOTA_FILE_POSTFIX = "_resource_quota";
     public static final String ISTIO_GATEWAY_FILE_POSTFIX = "_istio_gateway";
     public static final String ISTIO_VIRTUAL_SERVICE_FILE_POSTFIX = "_istio_virtual_service";
+    public static final String ISTIO_DESTINATION_RULE_FILE_POSTFIX = "_istio_destination_rule";
+    public static final String ISTIO_SIDECAR_FILE_POSTFIX = "_istio_sidecar";
     public static final String OPENSHIFT_BUILD_CONFIG_FILE_POSTFIX = "_openshift_bc";
     public static final String OPENSHIFT_IMAGE_STREAM_TAG_FILE_POSTFIX = "_openshift_is";
     public static final String OPENSHIFT_ROUTE_FILE_POSTFIX = "_openshift_route";
     public static final String HPA_FILE_POSTFIX = "_hpa";
+    public static final String POD_DISRUPTION_BUDGET_FILE_POSTFIX = "_pdb";
+    public static final String AUTOSCALING_V2_API_VERSION = "autoscaling/v2";
+    public static final String METRIC_TYPE_PODS = "Pods";
+    public static final String METRIC_TYPE_OBJECT = "Object";
+    public static final String METRIC_TYPE_EXTERNAL = "External";
+    public static final String ROLLING_UPDATE_STRATEGY = "RollingUpdate";
+    public static final String RECREATE_STRATEGY = "Recreate";
+    public static final String STATEFUL_SET_KIND = "StatefulSet";
+    public static final String POD_MANAGEMENT_POLICY_PARALLEL = "Parallel";
+    public static final String POD_MANAGEMENT_POLICY_ORDERED_READY = "OrderedReady";
+    public static final String HEADLESS_SVC_POSTFIX = "-headless-svc";
+    public static final String HEADLESS_CLUSTER_IP = "None";
+    public static final String AFFINITY_PREFERRED = "preferred";
+    public static final String AFFINITY_REQUIRED = "required";
+    public static final String TOPOLOGY_KEY_HOSTNAME = "kubernetes.io/hostname";
+    public static final String KNATIVE_AUTOSCALER_CLASS_KPA = "kpa";
+    public static final String KNATIVE_AUTOSCALER_CLASS_HPA = "hpa";
+    public static final String KNATIVE_AUTOSCALING_PREFIX = "autoscaling.knative.dev/";
     public static final String YAML = ".yaml";
     public static final String DOCKER_LATEST_TAG = ":latest";
     public static final String BALLERINA_HOME = "/home/ballerina";
@@ -65,6 +93,7 @@ public class KubernetesConstants {
     public static final String DOCKER_CERT_PATH = "DOCKER_CERT_PATH";
     public static final String NGINX = "nginx";
     public static final String HELM_CHART_YAML_FILE_NAME = "Chart.yaml";
+    public static final String HELM_VALUES_YAML_FILE_NAME = "values.yaml";
     public static final String HELM_API_VERSION = "apiVersion";
     public static final String HELM_API_VERSION_DEFAULT = "v1";
     public static final String HELM_APP_VERSION = "appVersion";
@@ -76,6 +105,18 @@ public class KubernetesConstants {
     public static final String ISTIO_GATEWAY_SELECTOR = "istio";
     public static final String ISTIO_GATEWAY_POSTFIX = "-istio-gw";
     public static final String ISTIO_VIRTUAL_SERVICE_POSTFIX = "-istio-vs";
+    public static final String ISTIO_DESTINATION_RULE_POSTFIX = "-istio-dr";
+    public static final String ISTIO_SUBSET_VERSION_LABEL = "version";
+    public static final String ISTIO_SIDECAR_POSTFIX = "-istio-sidecar";
+    public static final String ISTIO_SYSTEM_NAMESPACE = "istio-system";
+    public static final String ISTIO_PROXY_CPU_ANNOTATION = "sidecar.istio.io/proxyCPU";
+    public static final String ISTIO_PROXY_CPU_LIMIT_ANNOTATION = "sidecar.istio.io/proxyCPULimit";
+    public static final String ISTIO_PROXY_MEMORY_ANNOTATION = "sidecar.istio.io/proxyMemory";
+    public static final String ISTIO_PROXY_MEMORY_LIMIT_ANNOTATION = "sidecar.istio.io/proxyMemoryLimit";
+    public static final String CONFIG_MAP_CHECKSUM_ANNOTATION = "checksum/config-maps";
+    public static final String SECRET_CHECKSUM_ANNOTATION = "checksum/secrets";
+    public static final String ISTIO_PROXY_CONFIG_ANNOTATION = "proxy.istio.io/config";
+    public static final String SERVICE_DNS_SUFFIX = ".svc.cluster.local";
     public static final String OPENSHIFT_BUILD_CONFIG_POSTFIX = "-openshift-bc";
     public static final String OPENSHIFT_ROUTE_POSTFIX = "-openshift-route";
 
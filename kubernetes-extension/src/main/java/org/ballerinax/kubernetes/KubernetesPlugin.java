@@ -33,12 +33,18 @@ import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.models.KubernetesContext;
 import org.ballerinax.kubernetes.models.KubernetesDataHolder;
 import org.ballerinax.kubernetes.processors.AnnotationProcessorFactory;
+import org.ballerinax.kubernetes.utils.BuildMetrics;
 import org.ballerinax.kubernetes.utils.DependencyValidator;
 import org.ballerinax.kubernetes.utils.KubernetesUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.wso2.ballerinalang.compiler.SourceDirectory;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
+import org.wso2.ballerinalang.compiler.tree.BLangFunction;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.tree.BLangService;
+import org.wso2.ballerinalang.compiler.tree.BLangSimpleVariable;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangTypeInit;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 
 import java.nio.file.Files;
@@ -49,8 +55,10 @@ import java.util.Map;
 import java.util.Set;
 
 import static org.ballerinax.docker.generator.utils.DockerGenUtils.extractUberJarName;
+import static org.ballerinax.kubernetes.KubernetesConstants.CACHE_FILE_POSTFIX;
 import static org.ballerinax.kubernetes.KubernetesConstants.DOCKER;
 import static org.ballerinax.kubernetes.KubernetesConstants.KUBERNETES;
+import static org.ballerinax.kubernetes.KubernetesConstants.KUBERNETES_CACHE;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.printError;
 
 /**
@@ -80,15 +88,37 @@ public class KubernetesPlugin extends AbstractCompilerPlugin {
     @Override
     public void process(PackageNode packageNode) {
         BLangPackage bPackage = (BLangPackage) packageNode;
-        KubernetesContext.getInstance().addDataHolder(bPackage.packageID, sourceDirectory.getPath());
+        KubernetesDataHolder dataHolder = KubernetesContext.getInstance().addDataHolder(bPackage.packageID,
+                sourceDirectory.getPath());
+        // Services refer to the listeners declared as module variables by name, hence the ports of the listeners
+        // are recorded before the services are processed.
+        for (BLangSimpleVariable variable : bPackage.getGlobalVariables()) {
+            if (variable.getFlags().contains(Flag.LISTENER) && variable.expr instanceof BLangTypeInit) {
+                Integer port = KubernetesUtils.getListenerPort((BLangTypeInit) variable.expr);
+                if (null != port) {
+                    dataHolder.addListenerPort(variable.getName().getValue(), port);
+                }
+            }
+        }
     }
 
     @Override
     public void process(ServiceNode serviceNode, List<AnnotationAttachmentNode> annotations) {
+        KubernetesDataHolder dataHolder = getDataHolder(((BLangService) serviceNode).symbol);
+        try {
+            String healthCheckPath = KubernetesUtils.getHealthCheckPath(serviceNode);
+            if (null != healthCheckPath) {
+                for (int port : KubernetesUtils.getServicePorts(serviceNode, dataHolder.getListenerPorts())) {
+                    dataHolder.addHealthCheckPath(port, healthCheckPath);
+                }
+            }
+        } catch (KubernetesPluginException e) {
+            dlog.logDiagnostic(Diagnostic.Kind.ERROR, serviceNode.getPosition(), e.getMessage());
+        }
         for (AnnotationAttachmentNode attachmentNode : annotations) {
             String annotationKey = attachmentNode.getAnnotationName().getValue();
-            try {
-                AnnotationProcessorFactory.getAnnotationProcessorInstance(annotationKey).processAnnotation
+            try (BuildMetrics.Timer ignored = timeAnnotation(dataHolder, annotationKey)) {
+                AnnotationProcessorFactory.getAnnotationProcessorInstance(annotationKey, dataHolder).processAnnotation
                         (serviceNode, attachmentNode);
             } catch (KubernetesPluginException e) {
                 dlog.logDiagnostic(Diagnostic.Kind.ERROR, serviceNode.getPosition(), e.getMessage());
@@ -103,10 +133,11 @@ public class KubernetesPlugin extends AbstractCompilerPlugin {
                     "supported with listeners.");
             return;
         }
+        KubernetesDataHolder dataHolder = getDataHolder(((BLangSimpleVariable) variableNode).symbol);
         for (AnnotationAttachmentNode attachmentNode : annotations) {
             String annotationKey = attachmentNode.getAnnotationName().getValue();
-            try {
-                AnnotationProcessorFactory.getAnnotationProcessorInstance(annotationKey).processAnnotation
+            try (BuildMetrics.Timer ignored = timeAnnotation(dataHolder, annotationKey)) {
+                AnnotationProcessorFactory.getAnnotationProcessorInstance(annotationKey, dataHolder).processAnnotation
                         (variableNode, attachmentNode);
             } catch (KubernetesPluginException e) {
                 dlog.logDiagnostic(Diagnostic.Kind.ERROR, variableNode.getPosition(), e.getMessage());
@@ -117,10 +148,11 @@ public class KubernetesPlugin extends AbstractCompilerPlugin {
 
     @Override
     public void process(FunctionNode functionNode, List<AnnotationAttachmentNode> annotations) {
+        KubernetesDataHolder dataHolder = getDataHolder(((BLangFunction) functionNode).symbol);
         for (AnnotationAttachmentNode attachmentNode : annotations) {
             String annotationKey = attachmentNode.getAnnotationName().getValue();
-            try {
-                AnnotationProcessorFactory.getAnnotationProcessorInstance(annotationKey).processAnnotation
+            try (BuildMetrics.Timer ignored = timeAnnotation(dataHolder, annotationKey)) {
+                AnnotationProcessorFactory.getAnnotationProcessorInstance(annotationKey, dataHolder).processAnnotation
                         (functionNode, attachmentNode);
             } catch (KubernetesPluginException e) {
                 dlog.logDiagnostic(Diagnostic.Kind.ERROR, functionNode.getPosition(), e.getMessage());
@@ -128,10 +160,24 @@ public class KubernetesPlugin extends AbstractCompilerPlugin {
         }
     }
 
+    /**
+     * Get the data holder of the module which owns an annotated construct. Modules may be compiled concurrently,
+     * hence the module is resolved from the symbol of the construct rather than from the last processed module.
+     *
+     * @param symbol Symbol of the annotated construct.
+     * @return Data holder of the module.
+     */
+    private KubernetesDataHolder getDataHolder(BSymbol symbol) {
+        return KubernetesContext.getInstance().getDataHolder(symbol.pkgID);
+    }
+
+    private BuildMetrics.Timer timeAnnotation(KubernetesDataHolder dataHolder, String annotationKey) {
+        return dataHolder.getBuildMetrics().time(BuildMetrics.ANNOTATION_PHASE + annotationKey);
+    }
+
     @Override
     public void codeGenerated(PackageID moduleID, Path executableJarFile) {
-        KubernetesContext.getInstance().setCurrentPackage(moduleID);
-        KubernetesDataHolder dataHolder = KubernetesContext.getInstance().getDataHolder();
+        KubernetesDataHolder dataHolder = KubernetesContext.getInstance().getDataHolder(moduleID);
         if (dataHolder.isCanProcess()) {
             executableJarFile = executableJarFile.toAbsolutePath();
             if (null != executableJarFile.getParent() && Files.exists(executableJarFile.getParent())) {
@@ -150,15 +196,17 @@ public class KubernetesPlugin extends AbstractCompilerPlugin {
                         dockerOutputPath = projectRoot.resolve("target")
                                 .resolve(DOCKER)
                                 .resolve(extractUberJarName(executableJarFile));
+                        dataHolder.setGenerationCachePath(projectRoot.resolve("target")
+                                .resolve(KUBERNETES_CACHE)
+                                .resolve(extractUberJarName(executableJarFile) + CACHE_FILE_POSTFIX));
                     }
                 }
 
                 dataHolder.setUberJarPath(executableJarFile);
                 dataHolder.setK8sArtifactOutputPath(kubernetesOutputPath);
                 dataHolder.setDockerArtifactOutputPath(dockerOutputPath);
-                ArtifactManager artifactManager = new ArtifactManager();
+                ArtifactManager artifactManager = new ArtifactManager(dataHolder);
                 try {
-                    KubernetesUtils.deleteDirectory(kubernetesOutputPath);
                     artifactManager.populateDeploymentModel();
                     validateDeploymentDependencies();
                     artifactManager.createArtifacts();
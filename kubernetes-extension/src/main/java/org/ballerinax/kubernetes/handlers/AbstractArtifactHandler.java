@@ -18,7 +18,6 @@
 
 package org.ballerinax.kubernetes.handlers;
 
-import org.ballerinax.kubernetes.models.KubernetesContext;
 import org.ballerinax.kubernetes.models.KubernetesDataHolder;
 
 /**
@@ -28,7 +27,7 @@ public abstract class AbstractArtifactHandler implements ArtifactHandler {
 
     protected KubernetesDataHolder dataHolder;
 
-    public AbstractArtifactHandler() {
-        dataHolder = KubernetesContext.getInstance().getDataHolder();
+    public AbstractArtifactHandler(KubernetesDataHolder dataHolder) {
+        this.dataHolder = dataHolder;
     }
 }
@@ -19,6 +19,7 @@
 package org.ballerinax.kubernetes.handlers;
 
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.utils.ProgressReporter;
 
 import java.io.PrintStream;
 
@@ -26,7 +27,7 @@ import java.io.PrintStream;
  * Artifact generator interface.
  */
 public interface ArtifactHandler {
-    PrintStream OUT = System.out;
+    PrintStream OUT = ProgressReporter.getStream();
 
     void createArtifacts() throws KubernetesPluginException;
 }
@@ -20,40 +20,52 @@ package org.ballerinax.kubernetes.handlers;
 
 import io.fabric8.kubernetes.api.model.ConfigMap;
 import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
-import io.fabric8.kubernetes.client.internal.SerializationUtils;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.models.ConfigMapModel;
 import org.ballerinax.kubernetes.models.DeploymentModel;
 import org.ballerinax.kubernetes.models.EnvVarValueModel;
+import org.ballerinax.kubernetes.models.KubernetesDataHolder;
 import org.ballerinax.kubernetes.utils.KubernetesUtils;
+import org.ballerinax.kubernetes.utils.PayloadShards;
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.List;
 
 import static org.ballerinax.kubernetes.KubernetesConstants.BALLERINA_CONF_FILE_NAME;
 import static org.ballerinax.kubernetes.KubernetesConstants.CONFIG_MAP_FILE_POSTFIX;
 import static org.ballerinax.kubernetes.KubernetesConstants.YAML;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.isBlank;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.toYaml;
 
 /**
  * Generates kubernetes Config Map.
  */
 public class ConfigMapHandler extends AbstractArtifactHandler {
 
+    public ConfigMapHandler(KubernetesDataHolder dataHolder) {
+        super(dataHolder);
+    }
+
     private void generate(ConfigMapModel configMapModel) throws KubernetesPluginException {
-        ConfigMap configMap = new ConfigMapBuilder()
-                .withNewMetadata()
-                .withName(configMapModel.getName())
-                .withNamespace(dataHolder.getNamespace())
-                .endMetadata()
-                .withData(configMapModel.getData())
-                .build();
-        try {
-            String configMapContent = SerializationUtils.dumpWithoutRuntimeStateAsYaml(configMap);
-            KubernetesUtils.writeToFile(configMapContent, CONFIG_MAP_FILE_POSTFIX + YAML);
-        } catch (IOException e) {
-            String errorMessage = "Error while parsing yaml file for config map: " + configMapModel.getName();
-            throw new KubernetesPluginException(errorMessage, e);
+        List<List<String>> shards = PayloadShards.shard(configMapModel.getName(), configMapModel.getData(),
+                configMapModel.getBinaryData());
+        for (int i = 0; i < shards.size(); i++) {
+            ConfigMap configMap = new ConfigMapBuilder()
+                    .withNewMetadata()
+                    .withName(PayloadShards.getShardName(configMapModel.getName(), i, shards.size()))
+                    .withNamespace(dataHolder.getNamespace())
+                    .endMetadata()
+                    .withData(PayloadShards.getShardEntries(configMapModel.getData(), shards.get(i)))
+                    .withBinaryData(PayloadShards.getShardEntries(configMapModel.getBinaryData(), shards.get(i)))
+                    .build();
+            try {
+                String configMapContent = toYaml(dataHolder, configMap);
+                KubernetesUtils.writeToFile(dataHolder, configMapContent, CONFIG_MAP_FILE_POSTFIX + YAML);
+            } catch (IOException e) {
+                String errorMessage = "Error while parsing yaml file for config map: " + configMapModel.getName();
+                throw new KubernetesPluginException(errorMessage, e);
+            }
         }
     }
 
@@ -19,14 +19,39 @@
 package org.ballerinax.kubernetes.handlers;
 
 
+import io.fabric8.kubernetes.api.model.Affinity;
+import io.fabric8.kubernetes.api.model.AffinityBuilder;
 import io.fabric8.kubernetes.api.model.Container;
 import io.fabric8.kubernetes.api.model.ContainerBuilder;
 import io.fabric8.kubernetes.api.model.ContainerPort;
 import io.fabric8.kubernetes.api.model.ContainerPortBuilder;
+import io.fabric8.kubernetes.api.model.ExecAction;
+import io.fabric8.kubernetes.api.model.ExecActionBuilder;
+import io.fabric8.kubernetes.api.model.HTTPGetAction;
+import io.fabric8.kubernetes.api.model.HTTPGetActionBuilder;
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.LocalObjectReferenceBuilder;
+import io.fabric8.kubernetes.api.model.NodeAffinity;
+import io.fabric8.kubernetes.api.model.NodeAffinityBuilder;
+import io.fabric8.kubernetes.api.model.NodeSelectorRequirement;
+import io.fabric8.kubernetes.api.model.NodeSelectorRequirementBuilder;
+import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
+import io.fabric8.kubernetes.api.model.PodAffinity;
+import io.fabric8.kubernetes.api.model.PodAffinityBuilder;
+import io.fabric8.kubernetes.api.model.PodAffinityTerm;
+import io.fabric8.kubernetes.api.model.PodAffinityTermBuilder;
+import io.fabric8.kubernetes.api.model.PodAntiAffinity;
+import io.fabric8.kubernetes.api.model.PodAntiAffinityBuilder;
+import io.fabric8.kubernetes.api.model.PodTemplateSpec;
+import io.fabric8.kubernetes.api.model.PodTemplateSpecBuilder;
+import io.fabric8.kubernetes.api.model.PreferredSchedulingTerm;
+import io.fabric8.kubernetes.api.model.PreferredSchedulingTermBuilder;
 import io.fabric8.kubernetes.api.model.Probe;
 import io.fabric8.kubernetes.api.model.ProbeBuilder;
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.ServiceBuilder;
+import io.fabric8.kubernetes.api.model.ServicePort;
+import io.fabric8.kubernetes.api.model.ServicePortBuilder;
 import io.fabric8.kubernetes.api.model.TCPSocketAction;
 import io.fabric8.kubernetes.api.model.TCPSocketActionBuilder;
 import io.fabric8.kubernetes.api.model.Toleration;
@@ -35,43 +60,96 @@ import io.fabric8.kubernetes.api.model.Volume;
 import io.fabric8.kubernetes.api.model.VolumeBuilder;
 import io.fabric8.kubernetes.api.model.VolumeMount;
 import io.fabric8.kubernetes.api.model.VolumeMountBuilder;
+import io.fabric8.kubernetes.api.model.VolumeProjection;
+import io.fabric8.kubernetes.api.model.VolumeProjectionBuilder;
+import io.fabric8.kubernetes.api.model.WeightedPodAffinityTerm;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
 import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
-import io.fabric8.kubernetes.client.internal.SerializationUtils;
+import io.fabric8.kubernetes.api.model.apps.DeploymentStrategy;
+import io.fabric8.kubernetes.api.model.apps.DeploymentStrategyBuilder;
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.fabric8.kubernetes.api.model.apps.StatefulSetBuilder;
+import io.fabric8.kubernetes.api.model.apps.StatefulSetUpdateStrategyBuilder;
 import org.ballerinax.docker.generator.exceptions.DockerGenException;
 import org.ballerinax.docker.generator.models.DockerModel;
 import org.ballerinax.kubernetes.KubernetesConstants;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.models.ConfigMapModel;
 import org.ballerinax.kubernetes.models.DeploymentModel;
+import org.ballerinax.kubernetes.models.DeploymentStrategyModel;
+import org.ballerinax.kubernetes.models.EnvVarValueModel;
 import org.ballerinax.kubernetes.models.KubernetesContext;
+import org.ballerinax.kubernetes.models.KubernetesDataHolder;
+import org.ballerinax.kubernetes.models.NodeAffinityModel;
 import org.ballerinax.kubernetes.models.PersistentVolumeClaimModel;
+import org.ballerinax.kubernetes.models.PodAntiAffinityModel;
+import org.ballerinax.kubernetes.models.PodAutoscalerModel;
 import org.ballerinax.kubernetes.models.PodTolerationModel;
 import org.ballerinax.kubernetes.models.ProbeModel;
+import org.ballerinax.kubernetes.models.ResourceQuotaModel;
 import org.ballerinax.kubernetes.models.SecretModel;
+import org.ballerinax.kubernetes.models.ServiceModel;
+import org.ballerinax.kubernetes.models.StatefulSetModel;
+import org.ballerinax.kubernetes.models.TopologySpreadConstraintModel;
+import org.ballerinax.kubernetes.models.istio.IstioSidecarModel;
 import org.ballerinax.kubernetes.models.openshift.OpenShiftBuildExtensionModel;
+import org.ballerinax.kubernetes.utils.ConfigChecksum;
+import org.ballerinax.kubernetes.utils.ContainerResources;
+import org.ballerinax.kubernetes.utils.DependencyReadiness;
+import org.ballerinax.kubernetes.utils.JvmErgonomics;
 import org.ballerinax.kubernetes.utils.KubernetesUtils;
+import org.ballerinax.kubernetes.utils.PayloadDecompression;
+import org.ballerinax.kubernetes.utils.PayloadShards;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.ballerinax.docker.generator.DockerGenConstants.REGISTRY_SEPARATOR;
 import static org.ballerinax.docker.generator.utils.DockerGenUtils.extractUberJarName;
+import static org.ballerinax.kubernetes.KubernetesConstants.AFFINITY_REQUIRED;
+import static org.ballerinax.kubernetes.KubernetesConstants.CONFIG_MAP_CHECKSUM_ANNOTATION;
 import static org.ballerinax.kubernetes.KubernetesConstants.DEPLOYMENT_FILE_POSTFIX;
 import static org.ballerinax.kubernetes.KubernetesConstants.DEPLOYMENT_POSTFIX;
 import static org.ballerinax.kubernetes.KubernetesConstants.EXECUTABLE_JAR;
+import static org.ballerinax.kubernetes.KubernetesConstants.HEADLESS_CLUSTER_IP;
+import static org.ballerinax.kubernetes.KubernetesConstants.HEADLESS_SVC_POSTFIX;
+import static org.ballerinax.kubernetes.KubernetesConstants.ISTIO_PROXY_CONFIG_ANNOTATION;
+import static org.ballerinax.kubernetes.KubernetesConstants.ISTIO_PROXY_CPU_ANNOTATION;
+import static org.ballerinax.kubernetes.KubernetesConstants.ISTIO_PROXY_CPU_LIMIT_ANNOTATION;
+import static org.ballerinax.kubernetes.KubernetesConstants.ISTIO_PROXY_MEMORY_ANNOTATION;
+import static org.ballerinax.kubernetes.KubernetesConstants.ISTIO_PROXY_MEMORY_LIMIT_ANNOTATION;
 import static org.ballerinax.kubernetes.KubernetesConstants.OPENSHIFT_BUILD_CONFIG_POSTFIX;
+import static org.ballerinax.kubernetes.KubernetesConstants.RECREATE_STRATEGY;
+import static org.ballerinax.kubernetes.KubernetesConstants.ROLLING_UPDATE_STRATEGY;
+import static org.ballerinax.kubernetes.KubernetesConstants.SECRET_CHECKSUM_ANNOTATION;
+import static org.ballerinax.kubernetes.KubernetesConstants.STATEFUL_SET_FILE_POSTFIX;
+import static org.ballerinax.kubernetes.KubernetesConstants.SVC_FILE_POSTFIX;
+import static org.ballerinax.kubernetes.KubernetesConstants.TOPOLOGY_KEY_HOSTNAME;
 import static org.ballerinax.kubernetes.KubernetesConstants.YAML;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.getIntOrPercentage;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.getValidName;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.isBlank;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.populateEnvVar;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.printWarning;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.toYaml;
+import static org.ballerinax.kubernetes.utils.PayloadDecompression.DECOMPRESSED_VOLUME_POSTFIX;
 
 /**
  * Generates kubernetes deployment from annotations.
  */
 public class DeploymentHandler extends AbstractArtifactHandler {
 
+    public DeploymentHandler(KubernetesDataHolder dataHolder) {
+        super(dataHolder);
+    }
+
     private List<ContainerPort> populatePorts(Set<Integer> ports) {
         List<ContainerPort> containerPorts = new ArrayList<>();
         for (int port : ports) {
@@ -87,9 +165,11 @@ public class DeploymentHandler extends AbstractArtifactHandler {
     private List<VolumeMount> populateVolumeMounts(DeploymentModel deploymentModel) {
         List<VolumeMount> volumeMounts = new ArrayList<>();
         for (SecretModel secretModel : deploymentModel.getSecretModels()) {
+            // compressed secrets are mounted from the volume the init container decompresses them to.
             VolumeMount volumeMount = new VolumeMountBuilder()
                     .withMountPath(secretModel.getMountPath())
-                    .withName(secretModel.getName() + "-volume")
+                    .withName(secretModel.getName() + (secretModel.isCompress() ? DECOMPRESSED_VOLUME_POSTFIX :
+                            "-volume"))
                     .withReadOnly(secretModel.isReadOnly())
                     .build();
             volumeMounts.add(volumeMount);
@@ -97,7 +177,8 @@ public class DeploymentHandler extends AbstractArtifactHandler {
         for (ConfigMapModel configMapModel : deploymentModel.getConfigMapModels()) {
             VolumeMount volumeMount = new VolumeMountBuilder()
                     .withMountPath(configMapModel.getMountPath())
-                    .withName(configMapModel.getName() + "-volume")
+                    .withName(configMapModel.getName() + (configMapModel.isCompress() ? DECOMPRESSED_VOLUME_POSTFIX :
+                            "-volume"))
                     .withReadOnly(configMapModel.isReadOnly())
                     .build();
             volumeMounts.add(volumeMount);
@@ -105,7 +186,7 @@ public class DeploymentHandler extends AbstractArtifactHandler {
         for (PersistentVolumeClaimModel volumeClaimModel : deploymentModel.getVolumeClaimModels()) {
             VolumeMount volumeMount = new VolumeMountBuilder()
                     .withMountPath(volumeClaimModel.getMountPath())
-                    .withName(volumeClaimModel.getName() + "-volume")
+                    .withName(getVolumeClaimVolumeName(deploymentModel, volumeClaimModel))
                     .withReadOnly(volumeClaimModel.isReadOnly())
                     .build();
             volumeMounts.add(volumeMount);
@@ -115,17 +196,44 @@ public class DeploymentHandler extends AbstractArtifactHandler {
 
     private List<Container> generateInitContainer(DeploymentModel deploymentModel) throws KubernetesPluginException {
         List<Container> initContainers = new ArrayList<>();
+        PayloadDecompression payloadDecompression = new PayloadDecompression();
+        for (SecretModel secretModel : deploymentModel.getSecretModels()) {
+            if (secretModel.isCompress()) {
+                payloadDecompression.addPayload(secretModel.getName());
+            }
+        }
+        for (ConfigMapModel configMapModel : deploymentModel.getConfigMapModels()) {
+            if (configMapModel.isCompress()) {
+                payloadDecompression.addPayload(configMapModel.getName());
+            }
+        }
+        if (!payloadDecompression.isEmpty()) {
+            initContainers.add(payloadDecompression.toInitContainer());
+        }
+        DependencyReadiness dependencyReadiness = new DependencyReadiness();
         for (String dependsOn : deploymentModel.getDependsOn()) {
-            String serviceName = KubernetesContext.getInstance().getServiceName(dependsOn);
-            List<String> commands = new ArrayList<>();
-            commands.add("sh");
-            commands.add("-c");
-            commands.add("until nslookup " + serviceName + "; do echo waiting for " + serviceName + "; sleep 2; done;");
-            initContainers.add(new ContainerBuilder()
-                    .withName("wait-for-" + serviceName)
-                    .withImage("busybox")
-                    .withCommand(commands)
-                    .build());
+            ServiceModel serviceModel = KubernetesContext.getInstance().getServiceModel(dependsOn);
+            KubernetesDataHolder dependencyDataHolder = KubernetesContext.getInstance()
+                    .getDataHolderFromListener(dependsOn);
+            DeploymentModel dependencyModel = dependencyDataHolder.getDeploymentModel();
+            // The readiness probe of the dependency is resolved from its model rather than read back after its
+            // deployment is generated, as the modules may be generated in any order.
+            ProbeModel readinessProbe = dependencyModel.getReadinessProbe();
+            String readinessPath = null;
+            if (null != readinessProbe && !dependencyModel.getPorts().isEmpty() &&
+                    getProbePort(readinessProbe, dependencyModel.getPorts()) == serviceModel.getTargetPort()) {
+                readinessPath = getProbePath(readinessProbe, serviceModel.getTargetPort(), dependencyDataHolder);
+            }
+            // The readiness path can only be checked through the service when it is served on the service port.
+            if (null != readinessPath) {
+                dependencyReadiness.addHttpCheck(serviceModel.getName(), serviceModel.getPort(), readinessPath);
+            } else {
+                dependencyReadiness.addTcpCheck(serviceModel.getName(), serviceModel.getPort());
+            }
+        }
+        if (!dependencyReadiness.isEmpty()) {
+            initContainers.add(dependencyReadiness.toInitContainer(deploymentModel.getDependsOnTimeoutSeconds(),
+                    deploymentModel.getDependsOnMaxBackoffSeconds()));
         }
         return initContainers;
     }
@@ -164,7 +272,7 @@ public class DeploymentHandler extends AbstractArtifactHandler {
             }
         }
 
-        return new ContainerBuilder()
+        Container container = new ContainerBuilder()
                 .withName(deploymentModel.getName())
                 .withImage(deploymentImageName)
                 .withImagePullPolicy(deploymentModel.getImagePullPolicy())
@@ -173,28 +281,91 @@ public class DeploymentHandler extends AbstractArtifactHandler {
                 .withVolumeMounts(populateVolumeMounts(deploymentModel))
                 .withLivenessProbe(generateProbe(deploymentModel.getLivenessProbe()))
                 .withReadinessProbe(generateProbe(deploymentModel.getReadinessProbe()))
+                .withResources(ContainerResources.of(deploymentModel).toResourceRequirements())
                 .build();
+        Probe startupProbe = generateProbe(deploymentModel.getStartupProbe());
+        if (null != startupProbe) {
+            // The startupProbe field is not available in the kubernetes model of the fabric8 client.
+            container.setAdditionalProperty("startupProbe", startupProbe);
+        }
+        return container;
+    }
+
+    private Volume generateDecompressedVolume(String name) {
+        return new VolumeBuilder()
+                .withName(name + DECOMPRESSED_VOLUME_POSTFIX)
+                .withNewEmptyDir()
+                .endEmptyDir()
+                .build();
+    }
+
+    private String getVolumeClaimVolumeName(DeploymentModel deploymentModel,
+                                            PersistentVolumeClaimModel volumeClaimModel) {
+        // claim templates of a statefulSet are mounted by the name of the template.
+        return null == deploymentModel.getStatefulSet() ? volumeClaimModel.getName() + "-volume" :
+                volumeClaimModel.getName();
     }
 
-    private List<Volume> populateVolume(DeploymentModel deploymentModel) {
+    private List<Volume> populateVolume(DeploymentModel deploymentModel) throws KubernetesPluginException {
         List<Volume> volumes = new ArrayList<>();
         for (SecretModel secretModel : deploymentModel.getSecretModels()) {
-            Volume volume = new VolumeBuilder()
-                    .withName(secretModel.getName() + "-volume")
-                    .withNewSecret()
-                    .withSecretName(secretModel.getName())
-                    .endSecret()
-                    .build();
-            volumes.add(volume);
+            int shards = PayloadShards.shard(secretModel.getName(), secretModel.getData(), null).size();
+            VolumeBuilder volumeBuilder = new VolumeBuilder()
+                    .withName(secretModel.getName() + "-volume");
+            if (shards == 1) {
+                volumeBuilder.withNewSecret()
+                        .withSecretName(secretModel.getName())
+                        .endSecret();
+            } else {
+                // shards of a secret are projected in to a single volume.
+                List<VolumeProjection> projections = new ArrayList<>();
+                for (int i = 0; i < shards; i++) {
+                    projections.add(new VolumeProjectionBuilder()
+                            .withNewSecret()
+                            .withName(PayloadShards.getShardName(secretModel.getName(), i, shards))
+                            .endSecret()
+                            .build());
+                }
+                volumeBuilder.withNewProjected()
+                        .withSources(projections)
+                        .endProjected();
+            }
+            volumes.add(volumeBuilder.build());
+            if (secretModel.isCompress()) {
+                volumes.add(generateDecompressedVolume(secretModel.getName()));
+            }
         }
         for (ConfigMapModel configMapModel : deploymentModel.getConfigMapModels()) {
-            Volume volume = new VolumeBuilder()
-                    .withName(configMapModel.getName() + "-volume")
-                    .withNewConfigMap()
-                    .withName(configMapModel.getName())
-                    .endConfigMap()
-                    .build();
-            volumes.add(volume);
+            int shards = PayloadShards.shard(configMapModel.getName(), configMapModel.getData(),
+                    configMapModel.getBinaryData()).size();
+            VolumeBuilder volumeBuilder = new VolumeBuilder()
+                    .withName(configMapModel.getName() + "-volume");
+            if (shards == 1) {
+                volumeBuilder.withNewConfigMap()
+                        .withName(configMapModel.getName())
+                        .endConfigMap();
+            } else {
+                // shards of a config map are projected in to a single volume.
+                List<VolumeProjection> projections = new ArrayList<>();
+                for (int i = 0; i < shards; i++) {
+                    projections.add(new VolumeProjectionBuilder()
+                            .withNewConfigMap()
+                            .withName(PayloadShards.getShardName(configMapModel.getName(), i, shards))
+                            .endConfigMap()
+                            .build());
+                }
+                volumeBuilder.withNewProjected()
+                        .withSources(projections)
+                        .endProjected();
+            }
+            volumes.add(volumeBuilder.build());
+            if (configMapModel.isCompress()) {
+                volumes.add(generateDecompressedVolume(configMapModel.getName()));
+            }
+        }
+        if (null != deploymentModel.getStatefulSet()) {
+            // volumes of the claim templates are added by the statefulSet controller.
+            return volumes;
         }
         for (PersistentVolumeClaimModel volumeClaimModel : deploymentModel.getVolumeClaimModels()) {
             Volume volume = new VolumeBuilder()
@@ -212,14 +383,98 @@ public class DeploymentHandler extends AbstractArtifactHandler {
         if (null == probeModel) {
             return null;
         }
-        TCPSocketAction tcpSocketAction = new TCPSocketActionBuilder()
-                .withNewPort(probeModel.getPort())
-                .build();
-        return new ProbeBuilder()
+        ProbeBuilder probeBuilder = new ProbeBuilder()
                 .withInitialDelaySeconds(probeModel.getInitialDelaySeconds())
                 .withPeriodSeconds(probeModel.getPeriodSeconds())
-                .withTcpSocket(tcpSocketAction)
+                .withTimeoutSeconds(getPositiveValue(probeModel.getTimeoutSeconds()))
+                .withSuccessThreshold(getPositiveValue(probeModel.getSuccessThreshold()))
+                .withFailureThreshold(getPositiveValue(probeModel.getFailureThreshold()));
+        if (null != probeModel.getCommand()) {
+            ExecAction execAction = new ExecActionBuilder()
+                    .withCommand(probeModel.getCommand())
+                    .build();
+            return probeBuilder.withExec(execAction).build();
+        }
+        if (null != probeModel.getPath()) {
+            HTTPGetAction httpGetAction = new HTTPGetActionBuilder()
+                    .withPath(probeModel.getPath())
+                    .withNewPort(probeModel.getPort())
+                    .build();
+            return probeBuilder.withHttpGet(httpGetAction).build();
+        }
+        TCPSocketAction tcpSocketAction = new TCPSocketActionBuilder()
+                .withNewPort(probeModel.getPort())
                 .build();
+        return probeBuilder.withTcpSocket(tcpSocketAction).build();
+    }
+
+    /**
+     * Generate the pod annotations which size the istio sidecar proxy injected to the pods.
+     *
+     * @param sidecarModel Istio sidecar model.
+     * @return Sidecar annotations.
+     */
+    private Map<String, String> generateIstioSidecarAnnotations(IstioSidecarModel sidecarModel) {
+        Map<String, String> annotations = new LinkedHashMap<>();
+        if (null == sidecarModel) {
+            return annotations;
+        }
+        putIfNotBlank(annotations, ISTIO_PROXY_CPU_ANNOTATION, sidecarModel.getCpuRequest());
+        putIfNotBlank(annotations, ISTIO_PROXY_CPU_LIMIT_ANNOTATION, sidecarModel.getCpuLimit());
+        putIfNotBlank(annotations, ISTIO_PROXY_MEMORY_ANNOTATION, sidecarModel.getMemoryRequest());
+        putIfNotBlank(annotations, ISTIO_PROXY_MEMORY_LIMIT_ANNOTATION, sidecarModel.getMemoryLimit());
+        // Envoy starts a worker thread per core of the node when the concurrency is 0.
+        if (-1 != sidecarModel.getConcurrency()) {
+            annotations.put(ISTIO_PROXY_CONFIG_ANNOTATION, "concurrency: " + sidecarModel.getConcurrency());
+        }
+        return annotations;
+    }
+
+    private void putIfNotBlank(Map<String, String> annotations, String key, String value) {
+        if (!isBlank(value)) {
+            annotations.put(key, value.trim());
+        }
+    }
+
+    private Integer getPositiveValue(int value) {
+        return value > 0 ? value : null;
+    }
+
+    private Integer getNonNegativeValue(int value) {
+        return value >= 0 ? value : null;
+    }
+
+    /**
+     * Probe the first port of the deployment when a port is not given. When neither a path nor a command is given,
+     * the probe uses HTTP only if a health check resource is served on the probed port and TCP otherwise.
+     *
+     * @param probeModel Probe model.
+     * @param ports      Ports of the deployment.
+     * @param name       Name of the probe field.
+     * @throws KubernetesPluginException If a liveness or startup probe has a success threshold other than 1.
+     */
+    private void resolveProbe(ProbeModel probeModel, Set<Integer> ports, String name)
+            throws KubernetesPluginException {
+        if (null == probeModel) {
+            return;
+        }
+        probeModel.setPort(getProbePort(probeModel, ports));
+        probeModel.setPath(getProbePath(probeModel, probeModel.getPort(), dataHolder));
+        if (!"readinessProbe".equals(name) && probeModel.getSuccessThreshold() > 1) {
+            throw new KubernetesPluginException("'successThreshold' of the " + name + " in @kubernetes:Deployment{} " +
+                    "must be 1.");
+        }
+    }
+
+    private static int getProbePort(ProbeModel probeModel, Set<Integer> ports) {
+        return probeModel.getPort() == 0 ? ports.iterator().next() : probeModel.getPort();
+    }
+
+    private static String getProbePath(ProbeModel probeModel, int port, KubernetesDataHolder dataHolder) {
+        if (null != probeModel.getPath() || null != probeModel.getCommand()) {
+            return probeModel.getPath();
+        }
+        return dataHolder.getHealthCheckPath(port);
     }
 
     private List<Toleration> populatePodTolerations(List<PodTolerationModel> podTolerationModels) {
@@ -251,6 +506,142 @@ public class DeploymentHandler extends AbstractArtifactHandler {
         return imagePullSecrets;
     }
 
+    /**
+     * Generate the affinity of the pods from the node affinity terms, the pod anti-affinity of the replicas and the
+     * co-location with the deployments this deployment depends on.
+     *
+     * @param deploymentModel Deployment model.
+     * @return Affinity or null if no affinity is configured.
+     * @throws KubernetesPluginException If a dependent deployment is not found.
+     */
+    private Affinity generateAffinity(DeploymentModel deploymentModel) throws KubernetesPluginException {
+        NodeAffinity nodeAffinity = generateNodeAffinity(deploymentModel.getNodeAffinity());
+        PodAntiAffinity podAntiAffinity = null;
+        PodAntiAffinityModel podAntiAffinityModel = deploymentModel.getPodAntiAffinity();
+        if (null != podAntiAffinityModel) {
+            PodAffinityTerm replicaTerm = generatePodAffinityTerm(deploymentModel.getLabels(),
+                    podAntiAffinityModel.getTopologyKey());
+            if (AFFINITY_REQUIRED.equals(podAntiAffinityModel.getType())) {
+                podAntiAffinity = new PodAntiAffinityBuilder()
+                        .withRequiredDuringSchedulingIgnoredDuringExecution(replicaTerm)
+                        .build();
+            } else {
+                podAntiAffinity = new PodAntiAffinityBuilder()
+                        .withPreferredDuringSchedulingIgnoredDuringExecution(
+                                new WeightedPodAffinityTerm(replicaTerm, podAntiAffinityModel.getWeight()))
+                        .build();
+            }
+        }
+        PodAffinity podAffinity = null;
+        if (deploymentModel.isColocateWithDependencies() && !deploymentModel.getDependsOn().isEmpty()) {
+            List<WeightedPodAffinityTerm> dependencyTerms = new ArrayList<>();
+            for (String dependsOn : deploymentModel.getDependsOn()) {
+                DeploymentModel dependency = KubernetesContext.getInstance().getDeploymentModelFromListener(dependsOn);
+                dependencyTerms.add(new WeightedPodAffinityTerm(generatePodAffinityTerm(dependency.getLabels(),
+                        TOPOLOGY_KEY_HOSTNAME), 100));
+            }
+            podAffinity = new PodAffinityBuilder()
+                    .withPreferredDuringSchedulingIgnoredDuringExecution(dependencyTerms)
+                    .build();
+        }
+        if (null == nodeAffinity && null == podAntiAffinity && null == podAffinity) {
+            return null;
+        }
+        return new AffinityBuilder()
+                .withNodeAffinity(nodeAffinity)
+                .withPodAffinity(podAffinity)
+                .withPodAntiAffinity(podAntiAffinity)
+                .build();
+    }
+
+    private NodeAffinity generateNodeAffinity(List<NodeAffinityModel> nodeAffinityModels) {
+        if (nodeAffinityModels.isEmpty()) {
+            return null;
+        }
+        List<NodeSelectorRequirement> requiredTerms = new ArrayList<>();
+        List<PreferredSchedulingTerm> preferredTerms = new ArrayList<>();
+        for (NodeAffinityModel nodeAffinityModel : nodeAffinityModels) {
+            NodeSelectorRequirement requirement = new NodeSelectorRequirementBuilder()
+                    .withKey(nodeAffinityModel.getKey())
+                    .withOperator(nodeAffinityModel.getOperator())
+                    .withValues(nodeAffinityModel.getValues())
+                    .build();
+            if (nodeAffinityModel.getWeight() > 0) {
+                preferredTerms.add(new PreferredSchedulingTermBuilder()
+                        .withWeight(nodeAffinityModel.getWeight())
+                        .withNewPreference()
+                        .withMatchExpressions(requirement)
+                        .endPreference()
+                        .build());
+            } else {
+                requiredTerms.add(requirement);
+            }
+        }
+        NodeAffinityBuilder nodeAffinityBuilder = new NodeAffinityBuilder();
+        if (!requiredTerms.isEmpty()) {
+            // Requirements of a single node selector term must all be satisfied.
+            nodeAffinityBuilder.withNewRequiredDuringSchedulingIgnoredDuringExecution()
+                    .addNewNodeSelectorTerm()
+                    .withMatchExpressions(requiredTerms)
+                    .endNodeSelectorTerm()
+                    .endRequiredDuringSchedulingIgnoredDuringExecution();
+        }
+        if (!preferredTerms.isEmpty()) {
+            nodeAffinityBuilder.withPreferredDuringSchedulingIgnoredDuringExecution(preferredTerms);
+        }
+        return nodeAffinityBuilder.build();
+    }
+
+    private PodAffinityTerm generatePodAffinityTerm(Map<String, String> labels, String topologyKey) {
+        return new PodAffinityTermBuilder()
+                .withNewLabelSelector()
+                .withMatchLabels(labels)
+                .endLabelSelector()
+                .withTopologyKey(topologyKey)
+                .build();
+    }
+
+    private List<Map<String, Object>> generateTopologySpreadConstraints(DeploymentModel deploymentModel) {
+        List<Map<String, Object>> constraints = new ArrayList<>();
+        for (TopologySpreadConstraintModel constraintModel : deploymentModel.getTopologySpreadConstraints()) {
+            Map<String, Object> constraint = new LinkedHashMap<>();
+            constraint.put("maxSkew", constraintModel.getMaxSkew());
+            constraint.put("topologyKey", constraintModel.getTopologyKey());
+            constraint.put("whenUnsatisfiable", constraintModel.getWhenUnsatisfiable());
+            constraint.put("labelSelector", Collections.singletonMap("matchLabels", deploymentModel.getLabels()));
+            constraints.add(constraint);
+        }
+        return constraints;
+    }
+
+    /**
+     * Generate the update strategy of the deployment.
+     *
+     * @param strategyModel Deployment strategy model.
+     * @return Deployment strategy or null if the strategy is not configured.
+     * @throws KubernetesPluginException If maxSurge or maxUnavailable is invalid.
+     */
+    private DeploymentStrategy generateStrategy(DeploymentStrategyModel strategyModel)
+            throws KubernetesPluginException {
+        if (null == strategyModel) {
+            return null;
+        }
+        if (RECREATE_STRATEGY.equals(strategyModel.getType())) {
+            return new DeploymentStrategyBuilder().withType(RECREATE_STRATEGY).build();
+        }
+        if (null == strategyModel.getMaxSurge() && null == strategyModel.getMaxUnavailable()) {
+            return null == strategyModel.getType() ? null :
+                    new DeploymentStrategyBuilder().withType(ROLLING_UPDATE_STRATEGY).build();
+        }
+        return new DeploymentStrategyBuilder()
+                .withType(ROLLING_UPDATE_STRATEGY)
+                .withNewRollingUpdate()
+                .withMaxSurge(getIntOrPercentage(strategyModel.getMaxSurge(), "maxSurge"))
+                .withMaxUnavailable(getIntOrPercentage(strategyModel.getMaxUnavailable(), "maxUnavailable"))
+                .endRollingUpdate()
+                .build();
+    }
+
     /**
      * Generate kubernetes deployment definition from annotation.
      *
@@ -258,11 +649,11 @@ public class DeploymentHandler extends AbstractArtifactHandler {
      * @throws KubernetesPluginException If an error occurs while generating artifact.
      */
     private void generate(DeploymentModel deploymentModel) throws KubernetesPluginException {
-        List<ContainerPort> containerPorts = null;
-        if (deploymentModel.getPorts() != null) {
-            containerPorts = populatePorts(deploymentModel.getPorts());
+        if (null != deploymentModel.getStatefulSet()) {
+            generateStatefulSet(deploymentModel);
+            return;
         }
-        Container container = generateContainer(deploymentModel, containerPorts);
+        DeploymentStrategyModel strategyModel = deploymentModel.getStrategy();
         Deployment deployment = new DeploymentBuilder()
                 .withNewMetadata()
                 .withName(deploymentModel.getName())
@@ -275,9 +666,70 @@ public class DeploymentHandler extends AbstractArtifactHandler {
                 .withMatchLabels(deploymentModel.getLabels())
                 .endSelector()
                 .withReplicas(deploymentModel.getReplicas())
-                .withNewTemplate()
+                .withStrategy(generateStrategy(strategyModel))
+                .withMinReadySeconds(null == strategyModel ? null :
+                        getNonNegativeValue(strategyModel.getMinReadySeconds()))
+                .withProgressDeadlineSeconds(null == strategyModel ? null :
+                        getPositiveValue(strategyModel.getProgressDeadlineSeconds()))
+                .withTemplate(generatePodTemplate(deploymentModel))
+                .endSpec()
+                .build();
+
+        try {
+            String deploymentContent = toYaml(dataHolder, deployment);
+            KubernetesUtils.writeToFile(dataHolder, deploymentContent, DEPLOYMENT_FILE_POSTFIX + YAML);
+            dataHolder.addHelmResource(deploymentContent, deployment);
+        } catch (IOException e) {
+            String errorMessage = "error while generating yaml file for deployment: " + deploymentModel.getName();
+            throw new KubernetesPluginException(errorMessage, e);
+        }
+    }
+
+    /**
+     * Generate annotations holding a digest of the config maps and the secrets mounted by the pods. Changing the
+     * mounted content changes the pod template, which rolls the pods, while unchanged workloads are left as they are.
+     *
+     * @param deploymentModel Deployment model.
+     * @return Checksum annotations.
+     */
+    private Map<String, String> generateChecksumAnnotations(DeploymentModel deploymentModel) {
+        Map<String, String> annotations = new LinkedHashMap<>();
+        ConfigChecksum configMapChecksum = new ConfigChecksum();
+        for (ConfigMapModel configMapModel : deploymentModel.getConfigMapModels()) {
+            configMapChecksum.addPayload(configMapModel.getName(), configMapModel.getData(),
+                    configMapModel.getBinaryData());
+        }
+        if (!configMapChecksum.isEmpty()) {
+            annotations.put(CONFIG_MAP_CHECKSUM_ANNOTATION, configMapChecksum.getChecksum());
+        }
+        ConfigChecksum secretChecksum = new ConfigChecksum();
+        for (SecretModel secretModel : deploymentModel.getSecretModels()) {
+            secretChecksum.addPayload(secretModel.getName(), secretModel.getData(), null);
+        }
+        if (!secretChecksum.isEmpty()) {
+            annotations.put(SECRET_CHECKSUM_ANNOTATION, secretChecksum.getChecksum());
+        }
+        return annotations;
+    }
+
+    /**
+     * Generate the pod template shared by the deployment and the statefulSet modes.
+     *
+     * @param deploymentModel Deployment model.
+     * @return Pod template.
+     * @throws KubernetesPluginException If an error occurs while generating the containers.
+     */
+    private PodTemplateSpec generatePodTemplate(DeploymentModel deploymentModel) throws KubernetesPluginException {
+        List<ContainerPort> containerPorts = null;
+        if (deploymentModel.getPorts() != null) {
+            containerPorts = populatePorts(deploymentModel.getPorts());
+        }
+        Container container = generateContainer(deploymentModel, containerPorts);
+        PodTemplateSpec podTemplate = new PodTemplateSpecBuilder()
                 .withNewMetadata()
                 .addToLabels(deploymentModel.getLabels())
+                .addToAnnotations(generateIstioSidecarAnnotations(deploymentModel.getIstioSidecar()))
+                .addToAnnotations(generateChecksumAnnotations(deploymentModel))
                 .addToAnnotations(deploymentModel.getPodAnnotations())
                 .endMetadata()
                 .withNewSpec()
@@ -286,20 +738,159 @@ public class DeploymentHandler extends AbstractArtifactHandler {
                 .withInitContainers(generateInitContainer(deploymentModel))
                 .withVolumes(populateVolume(deploymentModel))
                 .withTolerations(populatePodTolerations(deploymentModel.getPodTolerations()))
+                .withNodeSelector(deploymentModel.getNodeSelector().isEmpty() ? null :
+                        deploymentModel.getNodeSelector())
+                .withPriorityClassName(deploymentModel.getPriorityClassName())
+                .withAffinity(generateAffinity(deploymentModel))
                 .endSpec()
-                .endTemplate()
+                .build();
+        // The fabric8 model predates topologySpreadConstraints.
+        if (!deploymentModel.getTopologySpreadConstraints().isEmpty()) {
+            podTemplate.getSpec().setAdditionalProperty("topologySpreadConstraints",
+                    generateTopologySpreadConstraints(deploymentModel));
+        }
+        return podTemplate;
+    }
+
+    /**
+     * Generate a kubernetes statefulSet along with its headless governing service. The persistent volume claims of
+     * the deployment become claim templates so that each replica gets its own volumes.
+     *
+     * @param deploymentModel Deployment model.
+     * @throws KubernetesPluginException If an error occurs while generating artifact.
+     */
+    private void generateStatefulSet(DeploymentModel deploymentModel) throws KubernetesPluginException {
+        StatefulSetModel statefulSetModel = deploymentModel.getStatefulSet();
+        if (isBlank(statefulSetModel.getServiceName())) {
+            statefulSetModel.setServiceName(getValidName(extractUberJarName(dataHolder.getUberJarPath())) +
+                    HEADLESS_SVC_POSTFIX);
+        }
+        List<PersistentVolumeClaim> claimTemplates = new ArrayList<>();
+        for (PersistentVolumeClaimModel volumeClaimModel : deploymentModel.getVolumeClaimModels()) {
+            claimTemplates.add(PersistentVolumeClaimHandler.generateClaim(volumeClaimModel, null));
+        }
+        StatefulSetUpdateStrategyBuilder updateStrategy = new StatefulSetUpdateStrategyBuilder()
+                .withType(ROLLING_UPDATE_STRATEGY);
+        if (statefulSetModel.getPartition() >= 0) {
+            // Only the replicas with an ordinal greater than or equal to the partition are updated.
+            updateStrategy.withNewRollingUpdate()
+                    .withPartition(statefulSetModel.getPartition())
+                    .endRollingUpdate();
+        }
+        StatefulSet statefulSet = new StatefulSetBuilder()
+                .withNewMetadata()
+                .withName(deploymentModel.getName())
+                .withLabels(deploymentModel.getLabels())
+                .withAnnotations(deploymentModel.getAnnotations())
+                .withNamespace(dataHolder.getNamespace())
+                .endMetadata()
+                .withNewSpec()
+                .withServiceName(statefulSetModel.getServiceName())
+                .withPodManagementPolicy(statefulSetModel.getPodManagementPolicy())
+                .withNewSelector()
+                .withMatchLabels(deploymentModel.getLabels())
+                .endSelector()
+                .withReplicas(deploymentModel.getReplicas())
+                .withUpdateStrategy(updateStrategy.build())
+                .withTemplate(generatePodTemplate(deploymentModel))
+                .withVolumeClaimTemplates(claimTemplates)
                 .endSpec()
                 .build();
 
         try {
-            String deploymentContent = SerializationUtils.dumpWithoutRuntimeStateAsYaml(deployment);
-            KubernetesUtils.writeToFile(deploymentContent, DEPLOYMENT_FILE_POSTFIX + YAML);
+            KubernetesUtils.writeToFile(dataHolder, toYaml(dataHolder, generateHeadlessService(deploymentModel)),
+                    SVC_FILE_POSTFIX + YAML);
+            String statefulSetContent = toYaml(dataHolder, statefulSet);
+            KubernetesUtils.writeToFile(dataHolder, statefulSetContent, STATEFUL_SET_FILE_POSTFIX + YAML);
+            dataHolder.addHelmResource(statefulSetContent, statefulSet);
         } catch (IOException e) {
-            String errorMessage = "error while generating yaml file for deployment: " + deploymentModel.getName();
+            String errorMessage = "error while generating yaml file for statefulSet: " + deploymentModel.getName();
             throw new KubernetesPluginException(errorMessage, e);
         }
     }
 
+    /**
+     * Generate the headless service which gives the replicas of a statefulSet stable network identities. The
+     * service exposes the container ports of the kubernetes services of the listeners.
+     *
+     * @param deploymentModel Deployment model.
+     * @return Headless service.
+     */
+    private Service generateHeadlessService(DeploymentModel deploymentModel) {
+        List<ServicePort> servicePorts = new ArrayList<>();
+        Set<Integer> ports = new HashSet<>();
+        for (ServiceModel serviceModel : dataHolder.getbListenerToK8sServiceMap().values()) {
+            if (ports.add(serviceModel.getTargetPort())) {
+                servicePorts.add(new ServicePortBuilder()
+                        .withName(ServiceHandler.getPortName(serviceModel))
+                        .withProtocol(KubernetesConstants.KUBERNETES_SVC_PROTOCOL)
+                        .withPort(serviceModel.getTargetPort())
+                        .withNewTargetPort(serviceModel.getTargetPort())
+                        .build());
+            }
+        }
+        return new ServiceBuilder()
+                .withNewMetadata()
+                .withName(deploymentModel.getStatefulSet().getServiceName())
+                .withNamespace(dataHolder.getNamespace())
+                .withLabels(deploymentModel.getLabels())
+                .endMetadata()
+                .withNewSpec()
+                .withClusterIP(HEADLESS_CLUSTER_IP)
+                .withPorts(servicePorts)
+                .withSelector(deploymentModel.getLabels())
+                .endSpec()
+                .build();
+    }
+
+    /**
+     * Warn when the pods of the deployment do not fit in the resource quotas declared in the module.
+     *
+     * @param deploymentModel Deployment model.
+     * @throws KubernetesPluginException If a resource quantity is invalid.
+     */
+    private void checkResourceQuotas(DeploymentModel deploymentModel) throws KubernetesPluginException {
+        ContainerResources resources = ContainerResources.of(deploymentModel);
+        int pods = deploymentModel.getReplicas();
+        PodAutoscalerModel podAutoscalerModel = deploymentModel.getPodAutoscalerModel();
+        if (null != podAutoscalerModel) {
+            pods = Math.max(pods, podAutoscalerModel.getMaxReplicas());
+        }
+        for (ResourceQuotaModel resourceQuotaModel : dataHolder.getResourceQuotaModels()) {
+            for (String violation : resources.checkQuota(deploymentModel.getName(), pods, false,
+                    resourceQuotaModel.getName(), resourceQuotaModel.getHard(), resourceQuotaModel.getScopes())) {
+                printWarning(violation);
+            }
+        }
+    }
+
+    /**
+     * Pass the JVM options of the tuning profile to the container through the JAVA_OPTS environment variable. The
+     * image is started with a command which expands the variable unless the command is overridden.
+     *
+     * @param deploymentModel Deployment model.
+     * @throws KubernetesPluginException If a resource quantity is invalid.
+     */
+    private void applyJvmTuningProfile(DeploymentModel deploymentModel) throws KubernetesPluginException {
+        if (isBlank(deploymentModel.getJvmTuningProfile())) {
+            return;
+        }
+        JvmErgonomics.Profile profile = JvmErgonomics.Profile.fromValue(deploymentModel.getJvmTuningProfile());
+        if (deploymentModel.getEnv().containsKey(JvmErgonomics.JAVA_OPTS)) {
+            printWarning("JAVA_OPTS is set in the env of @kubernetes:Deployment{}. ignoring the jvmTuningProfile " +
+                    profile.getValue() + ".");
+            return;
+        }
+        deploymentModel.addEnv(JvmErgonomics.JAVA_OPTS,
+                new EnvVarValueModel(JvmErgonomics.getJavaOpts(profile, ContainerResources.of(deploymentModel))));
+        if (isBlank(deploymentModel.getCmd())) {
+            deploymentModel.setCmd(JvmErgonomics.JAVA_OPTS_CMD);
+        } else if (!deploymentModel.getCmd().contains("$" + JvmErgonomics.JAVA_OPTS)) {
+            printWarning("the cmd of @kubernetes:Deployment{} does not use $JAVA_OPTS. the options of the " +
+                    "jvmTuningProfile " + profile.getValue() + " will not be applied.");
+        }
+    }
+
     @Override
     public void createArtifacts() throws KubernetesPluginException {
         try {
@@ -308,18 +899,15 @@ public class DeploymentHandler extends AbstractArtifactHandler {
             deploymentModel.setSecretModels(dataHolder.getSecretModelSet());
             deploymentModel.setConfigMapModels(dataHolder.getConfigMapModelSet());
             deploymentModel.setVolumeClaimModels(dataHolder.getVolumeClaimModelSet());
-            if (null != deploymentModel.getLivenessProbe() && deploymentModel.getLivenessProbe().getPort() == 0) {
-                //set first port as liveness port
-                deploymentModel.getLivenessProbe().setPort(deploymentModel.getPorts().iterator().next());
-            }
-
-            if (null != deploymentModel.getReadinessProbe() && deploymentModel.getReadinessProbe().getPort() == 0) {
-                //set first port as readiness port
-                deploymentModel.getReadinessProbe().setPort(deploymentModel.getPorts().iterator().next());
-            }
+            resolveProbe(deploymentModel.getLivenessProbe(), deploymentModel.getPorts(), "livenessProbe");
+            resolveProbe(deploymentModel.getReadinessProbe(), deploymentModel.getPorts(), "readinessProbe");
+            resolveProbe(deploymentModel.getStartupProbe(), deploymentModel.getPorts(), "startupProbe");
+            applyJvmTuningProfile(deploymentModel);
             generate(deploymentModel);
+            checkResourceQuotas(deploymentModel);
             OUT.println();
-            OUT.print("\t@kubernetes:Deployment \t\t\t - complete 1/1");
+            OUT.print(null == deploymentModel.getStatefulSet() ? "\t@kubernetes:Deployment \t\t\t - complete 1/1" :
+                    "\t@kubernetes:StatefulSet \t\t - complete 1/1");
             dataHolder.setDockerModel(getDockerModel(deploymentModel));
         } catch (DockerGenException e) {
             throw new KubernetesPluginException("error occurred creating docker image.", e);
@@ -20,22 +20,120 @@ package org.ballerinax.kubernetes.handlers;
 
 import org.ballerinax.docker.generator.DockerArtifactHandler;
 import org.ballerinax.docker.generator.exceptions.DockerGenException;
+import org.ballerinax.docker.generator.models.CopyFileModel;
+import org.ballerinax.docker.generator.models.DockerModel;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.models.DeploymentModel;
+import org.ballerinax.kubernetes.models.KubernetesDataHolder;
+import org.ballerinax.kubernetes.utils.BuildMetrics;
+import org.ballerinax.kubernetes.utils.DockerBuildFingerprint;
+import org.ballerinax.kubernetes.utils.DockerImageBuilder;
+import org.ballerinax.kubernetes.utils.DockerImageLayers;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
 
 /**
  * Wrapper handler for creating docker artifacts.
  */
 public class DockerHandler extends AbstractArtifactHandler {
+
+    public DockerHandler(KubernetesDataHolder dataHolder) {
+        super(dataHolder);
+    }
+
     @Override
     public void createArtifacts() throws KubernetesPluginException {
+        DockerModel dockerModel = dataHolder.getDockerModel();
+        DeploymentModel deploymentModel = dataHolder.getDeploymentModel();
+        boolean layeredImage = null != deploymentModel && deploymentModel.isLayeredImage();
+        boolean buildImage = dockerModel.isBuildImage();
+        boolean push = dockerModel.isPush();
+        // the docker build phase includes the push of the image when it is enabled.
+        try (BuildMetrics.Timer ignored = dataHolder.getBuildMetrics().time(BuildMetrics.DOCKER_BUILD_PHASE)) {
+            // The Dockerfile is always generated, so that the image is built from the rendered build context.
+            dockerModel.setBuildImage(false);
+            dockerModel.setPush(false);
+            OUT.println();
+            try {
+                if (layeredImage) {
+                    generateLayeredDockerfile(dockerModel);
+                } else {
+                    // Generate docker artifacts
+                    DockerArtifactHandler dockerArtifactHandler = new DockerArtifactHandler(dockerModel);
+                    dockerArtifactHandler.createArtifacts(OUT, "\t@kubernetes:Docker \t\t\t",
+                            dataHolder.getUberJarPath(), dataHolder.getDockerArtifactOutputPath());
+                }
+            } catch (DockerGenException e) {
+                throw new KubernetesPluginException(e.getMessage(), e);
+            } finally {
+                dockerModel.setBuildImage(buildImage);
+                dockerModel.setPush(push);
+            }
+            if (buildImage) {
+                buildImage(dockerModel);
+            }
+        }
+    }
+
+    /**
+     * Generate the Dockerfile with the uber jar split in to layers, which are copied to the image along with the
+     * external files of the docker model.
+     *
+     * @param dockerModel Docker model
+     * @throws DockerGenException        If an error occurs while generating the Dockerfile.
+     * @throws KubernetesPluginException If an error occurs while creating the layers.
+     */
+    private void generateLayeredDockerfile(DockerModel dockerModel) throws DockerGenException,
+            KubernetesPluginException {
+        Path dockerOutputPath = dataHolder.getDockerArtifactOutputPath();
+        DockerImageLayers imageLayers;
+        try {
+            imageLayers = new DockerImageLayers(dataHolder.getUberJarPath(),
+                    Files.createTempDirectory("ballerina-image-layers-"));
+        } catch (IOException e) {
+            throw new KubernetesPluginException("error while creating layered docker image artifacts: " +
+                    e.getMessage(), e);
+        }
+        Set<CopyFileModel> copyFiles = dockerModel.getCopyFiles();
         try {
-            // Generate docker artifacts
-            DockerArtifactHandler dockerArtifactHandler = new DockerArtifactHandler(dataHolder.getDockerModel());
+            Path launcherJarPath = imageLayers.createArtifacts(dockerModel.getUberJarFileName());
+            DockerImageLayers.deleteLayers(dockerOutputPath);
+            dockerModel.setCopyFiles(imageLayers.getCopyFiles(copyFiles));
+            new DockerArtifactHandler(dockerModel).createArtifacts(OUT, "\t@kubernetes:Docker \t\t\t",
+                    launcherJarPath, dockerOutputPath);
+        } finally {
+            dockerModel.setCopyFiles(copyFiles);
+            imageLayers.cleanUp();
+        }
+    }
+
+    /**
+     * Build the image from the generated build context unless it is unchanged since the previous build, and push
+     * it if required.
+     *
+     * @param dockerModel Docker model
+     * @throws KubernetesPluginException If an error occurs while building or pushing the image.
+     */
+    private void buildImage(DockerModel dockerModel) throws KubernetesPluginException {
+        Path buildContext = dataHolder.getDockerArtifactOutputPath();
+        DockerImageBuilder imageBuilder = new DockerImageBuilder(dockerModel, OUT, "\t@kubernetes:Docker \t\t\t");
+        DockerBuildFingerprint buildFingerprint = new DockerBuildFingerprint(dockerModel, buildContext);
+        OUT.println();
+        if (buildFingerprint.isUpToDate()) {
+            dataHolder.getBuildMetrics().increment(BuildMetrics.DOCKER_BUILDS_SKIPPED, 1);
+            OUT.print("\t@kubernetes:Docker \t\t\t - image " + imageBuilder.getImageName() + " is up to date");
+        } else {
+            imageBuilder.build(buildContext);
+            buildFingerprint.save();
+            OUT.print("\t@kubernetes:Docker \t\t\t - image " + imageBuilder.getImageName() + " built");
+        }
+        if (dockerModel.isPush()) {
+            imageBuilder.push();
             OUT.println();
-            dockerArtifactHandler.createArtifacts(OUT, "\t@kubernetes:Docker \t\t\t", dataHolder.getUberJarPath(),
-                    dataHolder.getDockerArtifactOutputPath());
-        } catch (DockerGenException e) {
-            throw new KubernetesPluginException(e.getMessage(), e);
+            OUT.print("\t@kubernetes:Docker \t\t\t - image " + imageBuilder.getImageName() + " pushed");
         }
     }
 }
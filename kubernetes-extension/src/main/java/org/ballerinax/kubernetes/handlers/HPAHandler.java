@@ -22,35 +22,46 @@ import io.fabric8.kubernetes.api.model.HorizontalPodAutoscaler;
 import io.fabric8.kubernetes.api.model.HorizontalPodAutoscalerBuilder;
 import io.fabric8.kubernetes.api.model.MetricSpec;
 import io.fabric8.kubernetes.api.model.MetricSpecBuilder;
-import io.fabric8.kubernetes.client.internal.SerializationUtils;
 import org.ballerinax.kubernetes.KubernetesConstants;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.models.DeploymentModel;
+import org.ballerinax.kubernetes.models.KubernetesDataHolder;
+import org.ballerinax.kubernetes.models.PodAutoscalerMetricModel;
 import org.ballerinax.kubernetes.models.PodAutoscalerModel;
+import org.ballerinax.kubernetes.models.PodAutoscalerScalingRulesModel;
 import org.ballerinax.kubernetes.utils.KubernetesUtils;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 import static org.ballerinax.docker.generator.utils.DockerGenUtils.extractUberJarName;
+import static org.ballerinax.kubernetes.KubernetesConstants.AUTOSCALING_V2_API_VERSION;
 import static org.ballerinax.kubernetes.KubernetesConstants.HPA_FILE_POSTFIX;
 import static org.ballerinax.kubernetes.KubernetesConstants.HPA_POSTFIX;
+import static org.ballerinax.kubernetes.KubernetesConstants.METRIC_TYPE_OBJECT;
+import static org.ballerinax.kubernetes.KubernetesConstants.STATEFUL_SET_KIND;
 import static org.ballerinax.kubernetes.KubernetesConstants.YAML;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.getValidName;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.isBlank;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.toYaml;
 
 /**
  * Generates kubernetes Horizontal Pod Autoscaler from annotations.
  */
 public class HPAHandler extends AbstractArtifactHandler {
 
+    public HPAHandler(KubernetesDataHolder dataHolder) {
+        super(dataHolder);
+    }
+
     private void generate(PodAutoscalerModel podAutoscalerModel) throws KubernetesPluginException {
-        MetricSpec metricSpec = new MetricSpecBuilder()
-                .withType("Resource")
-                .withNewResource()
-                .withName("cpu")
-                .withTargetAverageUtilization(podAutoscalerModel.getCpuPercentage())
-                .endResource()
-                .build();
-        
+        String targetKind = null == dataHolder.getDeploymentModel().getStatefulSet() ? "Deployment" :
+                STATEFUL_SET_KIND;
         HorizontalPodAutoscaler horizontalPodAutoscaler = new HorizontalPodAutoscalerBuilder()
                 .withNewMetadata()
                 .withName(podAutoscalerModel.getName())
@@ -60,19 +71,122 @@ public class HPAHandler extends AbstractArtifactHandler {
                 .withNewSpec()
                 .withMaxReplicas(podAutoscalerModel.getMaxReplicas())
                 .withMinReplicas(podAutoscalerModel.getMinReplicas())
-                .withMetrics(metricSpec)
-                .withNewScaleTargetRef("apps/v1", "Deployment", podAutoscalerModel.getDeployment())
+                .withNewScaleTargetRef("apps/v1", targetKind, podAutoscalerModel.getDeployment())
                 .endSpec()
                 .build();
+        if (podAutoscalerModel.isAutoscalingV2()) {
+            // The kubernetes model does not support autoscaling/v2, hence the metrics and the behavior are set as
+            // additional properties.
+            horizontalPodAutoscaler.setApiVersion(AUTOSCALING_V2_API_VERSION);
+            horizontalPodAutoscaler.getSpec().setMetrics(null);
+            horizontalPodAutoscaler.getSpec().setAdditionalProperty("metrics", populateMetrics(podAutoscalerModel));
+            Map<String, Object> behavior = new LinkedHashMap<>();
+            if (null != podAutoscalerModel.getScaleUp()) {
+                behavior.put("scaleUp", populateScalingRules(podAutoscalerModel.getScaleUp()));
+            }
+            if (null != podAutoscalerModel.getScaleDown()) {
+                behavior.put("scaleDown", populateScalingRules(podAutoscalerModel.getScaleDown()));
+            }
+            if (!behavior.isEmpty()) {
+                horizontalPodAutoscaler.getSpec().setAdditionalProperty("behavior", behavior);
+            }
+        } else {
+            MetricSpec metricSpec = new MetricSpecBuilder()
+                    .withType("Resource")
+                    .withNewResource()
+                    .withName("cpu")
+                    .withTargetAverageUtilization(podAutoscalerModel.getCpuPercentage())
+                    .endResource()
+                    .build();
+            horizontalPodAutoscaler.getSpec().setMetrics(Collections.singletonList(metricSpec));
+        }
         try {
-            String serviceContent = SerializationUtils.dumpWithoutRuntimeStateAsYaml(horizontalPodAutoscaler);
-            KubernetesUtils.writeToFile(serviceContent, HPA_FILE_POSTFIX + YAML);
+            String serviceContent = toYaml(dataHolder, horizontalPodAutoscaler);
+            KubernetesUtils.writeToFile(dataHolder, serviceContent, HPA_FILE_POSTFIX + YAML);
+            dataHolder.addHelmResource(serviceContent, horizontalPodAutoscaler);
         } catch (IOException e) {
             String errorMessage = "error while generating yaml file for autoscaler: " + podAutoscalerModel.getName();
             throw new KubernetesPluginException(errorMessage, e);
         }
     }
 
+    private List<Map<String, Object>> populateMetrics(PodAutoscalerModel podAutoscalerModel) {
+        List<Map<String, Object>> metrics = new ArrayList<>();
+        if (podAutoscalerModel.getCpuPercentage() > 0) {
+            metrics.add(populateResourceMetric("cpu", podAutoscalerModel.getCpuPercentage()));
+        }
+        if (podAutoscalerModel.getMemoryPercentage() > 0) {
+            metrics.add(populateResourceMetric("memory", podAutoscalerModel.getMemoryPercentage()));
+        }
+        for (PodAutoscalerMetricModel metricModel : podAutoscalerModel.getMetrics()) {
+            Map<String, Object> metricIdentifier = new LinkedHashMap<>();
+            metricIdentifier.put("name", metricModel.getName());
+            if (!metricModel.getSelector().isEmpty()) {
+                metricIdentifier.put("selector", Collections.singletonMap("matchLabels", metricModel.getSelector()));
+            }
+            Map<String, Object> target = new LinkedHashMap<>();
+            if (isBlank(metricModel.getAverageValue())) {
+                target.put("type", "Value");
+                target.put("value", metricModel.getValue());
+            } else {
+                target.put("type", "AverageValue");
+                target.put("averageValue", metricModel.getAverageValue());
+            }
+            Map<String, Object> metricSource = new LinkedHashMap<>();
+            metricSource.put("metric", metricIdentifier);
+            if (METRIC_TYPE_OBJECT.equals(metricModel.getType())) {
+                Map<String, Object> describedObject = new LinkedHashMap<>();
+                if (!isBlank(metricModel.getObjectApiVersion())) {
+                    describedObject.put("apiVersion", metricModel.getObjectApiVersion());
+                }
+                describedObject.put("kind", metricModel.getObjectKind());
+                describedObject.put("name", metricModel.getObjectName());
+                metricSource.put("describedObject", describedObject);
+            }
+            metricSource.put("target", target);
+            Map<String, Object> metric = new LinkedHashMap<>();
+            metric.put("type", metricModel.getType());
+            metric.put(metricModel.getType().toLowerCase(Locale.ROOT), metricSource);
+            metrics.add(metric);
+        }
+        return metrics;
+    }
+
+    private Map<String, Object> populateResourceMetric(String resourceName, int averageUtilization) {
+        Map<String, Object> target = new LinkedHashMap<>();
+        target.put("type", "Utilization");
+        target.put("averageUtilization", averageUtilization);
+        Map<String, Object> resource = new LinkedHashMap<>();
+        resource.put("name", resourceName);
+        resource.put("target", target);
+        Map<String, Object> metric = new LinkedHashMap<>();
+        metric.put("type", "Resource");
+        metric.put("resource", resource);
+        return metric;
+    }
+
+    private Map<String, Object> populateScalingRules(PodAutoscalerScalingRulesModel scalingRulesModel) {
+        Map<String, Object> scalingRules = new LinkedHashMap<>();
+        if (scalingRulesModel.getStabilizationWindowSeconds() >= 0) {
+            scalingRules.put("stabilizationWindowSeconds", scalingRulesModel.getStabilizationWindowSeconds());
+        }
+        if (!isBlank(scalingRulesModel.getSelectPolicy())) {
+            scalingRules.put("selectPolicy", scalingRulesModel.getSelectPolicy());
+        }
+        if (!scalingRulesModel.getPolicies().isEmpty()) {
+            List<Map<String, Object>> policies = new ArrayList<>();
+            for (PodAutoscalerScalingRulesModel.ScalingPolicy policyModel : scalingRulesModel.getPolicies()) {
+                Map<String, Object> policy = new LinkedHashMap<>();
+                policy.put("type", policyModel.getType());
+                policy.put("value", policyModel.getValue());
+                policy.put("periodSeconds", policyModel.getPeriodSeconds());
+                policies.add(policy);
+            }
+            scalingRules.put("policies", policies);
+        }
+        return scalingRules;
+    }
+
     @Override
     public void createArtifacts() throws KubernetesPluginException {
         DeploymentModel deploymentModel = dataHolder.getDeploymentModel();
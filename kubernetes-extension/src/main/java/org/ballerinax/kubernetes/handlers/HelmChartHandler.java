@@ -17,21 +17,41 @@
  */
 package org.ballerinax.kubernetes.handlers;
 
+import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.EnvVar;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.HorizontalPodAutoscaler;
+import io.fabric8.kubernetes.api.model.HorizontalPodAutoscalerSpec;
+import io.fabric8.kubernetes.api.model.PodTemplateSpec;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.DeploymentSpec;
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.fabric8.kubernetes.api.model.apps.StatefulSetSpec;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.models.DeploymentModel;
+import org.ballerinax.kubernetes.models.KubernetesDataHolder;
+import org.ballerinax.kubernetes.models.PodAutoscalerModel;
+import org.ballerinax.kubernetes.utils.ArtifactSink;
 import org.ballerinax.kubernetes.utils.KubernetesUtils;
+import org.ballerinax.kubernetes.utils.YamlWriter;
 import org.yaml.snakeyaml.DumperOptions;
 import org.yaml.snakeyaml.DumperOptions.FlowStyle;
 import org.yaml.snakeyaml.Yaml;
 
 import java.io.File;
-import java.io.FileWriter;
 import java.io.FilenameFilter;
 import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static org.ballerinax.docker.generator.utils.DockerGenUtils.extractUberJarName;
 import static org.ballerinax.kubernetes.KubernetesConstants.HELM_API_VERSION;
@@ -42,63 +62,292 @@ import static org.ballerinax.kubernetes.KubernetesConstants.HELM_CHART_TEMPLATES
 import static org.ballerinax.kubernetes.KubernetesConstants.HELM_CHART_YAML_FILE_NAME;
 import static org.ballerinax.kubernetes.KubernetesConstants.HELM_DESCRIPTION;
 import static org.ballerinax.kubernetes.KubernetesConstants.HELM_NAME;
+import static org.ballerinax.kubernetes.KubernetesConstants.HELM_VALUES_YAML_FILE_NAME;
 import static org.ballerinax.kubernetes.KubernetesConstants.HELM_VERSION;
 import static org.ballerinax.kubernetes.KubernetesConstants.HELM_VERSION_DEFAULT;
 import static org.ballerinax.kubernetes.KubernetesConstants.YAML;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.isBlank;
 
 /**
  * Generates the Helm chart from annotations.
  */
 public class HelmChartHandler extends AbstractArtifactHandler {
+    private static final String PLACEHOLDER_PREFIX = "HELM_PLACEHOLDER_";
+    private static final Pattern PLACEHOLDER = Pattern.compile("'?" + PLACEHOLDER_PREFIX + "(\\d+)'?");
+    private static final String INDENT = "{indent}";
+
+    private final List<String> placeholderExpressions = new ArrayList<>();
+
+    public HelmChartHandler(KubernetesDataHolder dataHolder) {
+        super(dataHolder);
+    }
 
     @Override
     public void createArtifacts() throws KubernetesPluginException {
-        DeploymentModel model = this.dataHolder.getDeploymentModel();
         OUT.println();
-        Path helmBaseOutputDir = this.dataHolder.getK8sArtifactOutputPath();
-        if (helmBaseOutputDir.endsWith("target" + File.separator + "kubernetes" + File.separator)) {
-            helmBaseOutputDir = helmBaseOutputDir.resolve(extractUberJarName(this.dataHolder.getUberJarPath()));
-        }
-        helmBaseOutputDir = helmBaseOutputDir.resolve(model.getName());
-        String helmTemplatesOutputDir = helmBaseOutputDir + File.separator + HELM_CHART_TEMPLATES;
+        Path helmBaseOutputDir = getChartPath(this.dataHolder);
+        Path helmTemplatesOutputDir = helmBaseOutputDir.resolve(HELM_CHART_TEMPLATES);
         // Create the Helm templates directory
-        new File(helmTemplatesOutputDir).mkdirs();
-        // Create the helm template files using the generated Kubernetes artifacts
-        this.copyKubernetesArtifactsToHelmTemplates(helmTemplatesOutputDir);
+        new File(helmTemplatesOutputDir.toString()).mkdirs();
+        // Create the helm templates from the generated Kubernetes artifacts, collecting the default values.
+        Map<String, Object> values = new LinkedHashMap<>();
+        this.generateHelmTemplates(helmTemplatesOutputDir, values);
         // Create the Chart.yaml
         this.generateChartYAML(helmBaseOutputDir);
+        // Create the values.yaml
+        this.writeYAML(helmBaseOutputDir.resolve(HELM_VALUES_YAML_FILE_NAME), values);
         OUT.print("\t@kubernetes:Helm \t\t\t - complete 1/1");
     }
     
-    private void copyKubernetesArtifactsToHelmTemplates(String helmTemplatesOutputDir) 
-            throws KubernetesPluginException {
-        File dir = this.dataHolder.getK8sArtifactOutputPath().toFile();
-        File[] yamlFiles = dir.listFiles(new KubernetesArtifactsFileFilter());
-        if (yamlFiles == null) {
+    /**
+     * Get the directory the Helm chart of a module is generated to.
+     *
+     * @param dataHolder Data holder of the module.
+     * @return Path of the chart directory.
+     */
+    public static Path getChartPath(KubernetesDataHolder dataHolder) {
+        Path helmBaseOutputDir = dataHolder.getK8sArtifactOutputPath();
+        if (helmBaseOutputDir.endsWith("target" + File.separator + "kubernetes" + File.separator)) {
+            helmBaseOutputDir = helmBaseOutputDir.resolve(extractUberJarName(dataHolder.getUberJarPath()));
+        }
+        return helmBaseOutputDir.resolve(dataHolder.getDeploymentModel().getName());
+    }
+    
+    /**
+     * Get the Kubernetes artifacts generated for the module. The artifacts emitted to the artifact sink in this
+     * generation pass are used when available instead of reading them from disk.
+     *
+     * @return Content against each artifact file.
+     * @throws KubernetesPluginException If the artifacts are not available.
+     */
+    private Map<Path, String> getKubernetesArtifacts() throws KubernetesPluginException {
+        ArtifactSink artifactSink = this.dataHolder.getArtifactSink();
+        Map<Path, String> artifacts = new LinkedHashMap<>();
+        if (null != artifactSink) {
+            artifacts = artifactSink.getArtifacts(this.dataHolder.getK8sArtifactOutputPath());
+        } else {
+            File dir = this.dataHolder.getK8sArtifactOutputPath().toFile();
+            File[] yamlFiles = dir.listFiles(new KubernetesArtifactsFileFilter());
+            if (yamlFiles != null) {
+                for (File yamlFile : yamlFiles) {
+                    artifacts.put(yamlFile.toPath(),
+                            new String(KubernetesUtils.readFileContent(yamlFile.toPath()), StandardCharsets.UTF_8));
+                }
+            }
+        }
+        if (artifacts.isEmpty()) {
             throw new KubernetesPluginException("kuberenetes artifacts not available to generate Helm templates");
         }
-        for (File yamlFile : yamlFiles) {
-            KubernetesUtils.copyFileOrDirectory(yamlFile.getAbsolutePath(),
-                    helmTemplatesOutputDir + File.separator + yamlFile.getName());
+        return artifacts;
+    }
+    
+    private void generateHelmTemplates(Path helmTemplatesOutputDir, Map<String, Object> values)
+            throws KubernetesPluginException {
+        Map<String, HasMetadata> helmResources = this.dataHolder.getHelmResources();
+        for (Map.Entry<Path, String> artifact : getKubernetesArtifacts().entrySet()) {
+            String template = artifact.getValue();
+            for (Map.Entry<String, HasMetadata> helmResource : helmResources.entrySet()) {
+                if (template.contains(helmResource.getKey())) {
+                    template = template.replace(helmResource.getKey(),
+                            parameterise(helmResource.getKey(), helmResource.getValue(), values));
+                }
+            }
+            Path templatePath = helmTemplatesOutputDir.resolve(artifact.getKey().getFileName());
+            try {
+                Files.write(templatePath, template.getBytes(StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                throw new KubernetesPluginException("error in generating the Helm templates: " + e.getMessage(), e);
+            }
+        }
+    }
+    
+    /**
+     * Replace the fields of a workload or an autoscaler which can be tuned per environment with references to
+     * values.yaml. The values are taken from the resource and the template is built from its serialized fields.
+     *
+     * @param document Yaml document the resource is emitted as.
+     * @param resource Emitted resource.
+     * @param values   Values of the chart, to which the current values of the replaced fields are added.
+     * @return Helm template of the document.
+     */
+    private String parameterise(String document, HasMetadata resource, Map<String, Object> values) {
+        Map<String, Object> resourceTree = YamlWriter.toTree(resource);
+        Map<String, Object> spec = getChildMap(resourceTree, "spec");
+        if (resource instanceof Deployment) {
+            DeploymentSpec deploymentSpec = ((Deployment) resource).getSpec();
+            parameteriseWorkload(spec, deploymentSpec.getReplicas(), deploymentSpec.getTemplate(), values);
+        } else if (resource instanceof StatefulSet) {
+            StatefulSetSpec statefulSetSpec = ((StatefulSet) resource).getSpec();
+            parameteriseWorkload(spec, statefulSetSpec.getReplicas(), statefulSetSpec.getTemplate(), values);
+        } else if (resource instanceof HorizontalPodAutoscaler) {
+            parameteriseAutoscaler(spec, ((HorizontalPodAutoscaler) resource).getSpec(), values);
+        } else {
+            return document;
+        }
+        String template = resolvePlaceholders(dumpYAML(resourceTree));
+        return document.startsWith("---") ? "---\n" + template : template;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private void parameteriseWorkload(Map<String, Object> spec, Integer replicas, PodTemplateSpec podTemplate,
+                                      Map<String, Object> values) {
+        if (null != replicas) {
+            putValue(values, "replicaCount", replicas);
+            spec.put("replicas", placeholder("{{ .Values.replicaCount }}"));
+        }
+        Object containerTrees = getChildMap(getChildMap(spec, "template"), "spec").get("containers");
+        if (null == podTemplate || null == podTemplate.getSpec() || podTemplate.getSpec().getContainers().isEmpty()
+                || !(containerTrees instanceof List)) {
+            return;
+        }
+        Container container = podTemplate.getSpec().getContainers().get(0);
+        Map<String, Object> containerTree = (Map<String, Object>) ((List) containerTrees).get(0);
+        if (!isBlank(container.getImage())) {
+            String repository = container.getImage();
+            String tag = "latest";
+            int tagSeparator = repository.lastIndexOf(':');
+            if (tagSeparator > repository.lastIndexOf('/')) {
+                tag = repository.substring(tagSeparator + 1);
+                repository = repository.substring(0, tagSeparator);
+            }
+            putValue(values, "image.repository", repository);
+            putValue(values, "image.tag", tag);
+            containerTree.put("image", placeholder("\"{{ .Values.image.repository }}:{{ .Values.image.tag }}\""));
+        }
+        if (!isBlank(container.getImagePullPolicy())) {
+            putValue(values, "image.pullPolicy", container.getImagePullPolicy());
+            containerTree.put("imagePullPolicy", placeholder("{{ .Values.image.pullPolicy }}"));
+        }
+        putValue(values, "resources", null == container.getResources() ? new LinkedHashMap<>() :
+                YamlWriter.toTree(container.getResources()));
+        containerTree.put("resources", placeholder("{{- toYaml .Values.resources | nindent " + INDENT + " }}"));
+        Object envTrees = containerTree.get("env");
+        List<EnvVar> envVars = container.getEnv();
+        for (int i = 0; i < envVars.size() && envTrees instanceof List; i++) {
+            EnvVar envVar = envVars.get(i);
+            if (null != envVar.getValue()) {
+                Map<String, Object> envValues =
+                        (Map<String, Object>) values.computeIfAbsent("env", key -> new LinkedHashMap<>());
+                envValues.put(envVar.getName(), envVar.getValue());
+                ((Map<String, Object>) ((List) envTrees).get(i)).put("value",
+                        placeholder("{{ index .Values.env \"" + envVar.getName() + "\" | quote }}"));
+            }
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    private void parameteriseAutoscaler(Map<String, Object> spec, HorizontalPodAutoscalerSpec autoscalerSpec,
+                                        Map<String, Object> values) {
+        if (null != autoscalerSpec.getMinReplicas()) {
+            putValue(values, "autoscaling.minReplicas", autoscalerSpec.getMinReplicas());
+            spec.put("minReplicas", placeholder("{{ .Values.autoscaling.minReplicas }}"));
+        }
+        if (null != autoscalerSpec.getMaxReplicas()) {
+            putValue(values, "autoscaling.maxReplicas", autoscalerSpec.getMaxReplicas());
+            spec.put("maxReplicas", placeholder("{{ .Values.autoscaling.maxReplicas }}"));
+        }
+        PodAutoscalerModel podAutoscalerModel = this.dataHolder.getDeploymentModel().getPodAutoscalerModel();
+        Object metricTrees = spec.get("metrics");
+        if (null == podAutoscalerModel || !(metricTrees instanceof List)) {
+            return;
+        }
+        for (Object metricTree : (List) metricTrees) {
+            Map<String, Object> resourceTree = getChildMap((Map<String, Object>) metricTree, "resource");
+            String valueName;
+            int utilization;
+            if ("cpu".equals(resourceTree.get("name"))) {
+                valueName = "autoscaling.targetCPUUtilizationPercentage";
+                utilization = podAutoscalerModel.getCpuPercentage();
+            } else if ("memory".equals(resourceTree.get("name"))) {
+                valueName = "autoscaling.targetMemoryUtilizationPercentage";
+                utilization = podAutoscalerModel.getMemoryPercentage();
+            } else {
+                continue;
+            }
+            // autoscaling/v2beta1 sets the utilization on the resource while autoscaling/v2 sets it on the target.
+            replaceWithValue(resourceTree, "targetAverageUtilization", values, valueName, utilization);
+            replaceWithValue(getChildMap(resourceTree, "target"), "averageUtilization", values, valueName,
+                    utilization);
+        }
+    }
+    
+    private void replaceWithValue(Map<String, Object> resourceTree, String field, Map<String, Object> values,
+                                  String valuePath, Object value) {
+        if (resourceTree.containsKey(field)) {
+            putValue(values, valuePath, value);
+            resourceTree.put(field, placeholder("{{ .Values." + valuePath + " }}"));
+        }
+    }
+    
+    private String placeholder(String expression) {
+        placeholderExpressions.add(expression);
+        return PLACEHOLDER_PREFIX + (placeholderExpressions.size() - 1);
+    }
+    
+    /**
+     * Replace the placeholders in a dumped yaml document with the template expressions. Block expressions are
+     * indented relative to the field they are set to.
+     *
+     * @param template Yaml document with placeholders.
+     * @return Helm template.
+     */
+    private String resolvePlaceholders(String template) {
+        StringBuilder resolvedTemplate = new StringBuilder();
+        for (String line : template.split("\n")) {
+            Matcher matcher = PLACEHOLDER.matcher(line);
+            StringBuffer resolvedLine = new StringBuffer();
+            while (matcher.find()) {
+                String expression = placeholderExpressions.get(Integer.parseInt(matcher.group(1)));
+                int fieldIndent = line.length() - line.replaceFirst("^\\s*(- )?", "").length();
+                expression = expression.replace(INDENT, String.valueOf(fieldIndent + 2));
+                matcher.appendReplacement(resolvedLine, Matcher.quoteReplacement(expression));
+            }
+            matcher.appendTail(resolvedLine);
+            resolvedTemplate.append(resolvedLine).append("\n");
+        }
+        return resolvedTemplate.toString();
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> getChildMap(Map<String, Object> parent, String key) {
+        Object child = parent.get(key);
+        return child instanceof Map ? (Map<String, Object>) child : new LinkedHashMap<>();
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static void putValue(Map<String, Object> values, String path, Object value) {
+        String[] keys = path.split("\\.");
+        Map<String, Object> parent = values;
+        for (int i = 0; i < keys.length - 1; i++) {
+            parent = (Map<String, Object>) parent.computeIfAbsent(keys[i], key -> new LinkedHashMap<>());
+        }
+        parent.put(keys[keys.length - 1], value);
+    }
+    
+    private String dumpYAML(Object content) {
+        DumperOptions options = new DumperOptions();
+        options.setDefaultFlowStyle(FlowStyle.BLOCK);
+        options.setWidth(Integer.MAX_VALUE);
+        return new Yaml(options).dump(content);
+    }
+    
+    private void writeYAML(Path yamlFile, Map<String, ?> content) throws KubernetesPluginException {
+        try (Writer writer = Files.newBufferedWriter(yamlFile, StandardCharsets.UTF_8)) {
+            writer.write(dumpYAML(content));
+        } catch (IOException e) {
+            throw new KubernetesPluginException("error in generating the Helm chart: " + e.getMessage(), e);
         }
     }
 
     private void generateChartYAML(Path helmBaseOutputDir) throws KubernetesPluginException {
         DeploymentModel model = this.dataHolder.getDeploymentModel();
-        DumperOptions options = new DumperOptions();
-        options.setDefaultFlowStyle(FlowStyle.BLOCK);
-        Yaml yaml = new Yaml(options);
         Map<String, String> values = new LinkedHashMap<>();
         values.put(HELM_API_VERSION, HELM_API_VERSION_DEFAULT);
         values.put(HELM_APP_VERSION, HELM_APP_VERSION_DEFAULT);
         values.put(HELM_DESCRIPTION, "Helm chart for " + model.getName());
         values.put(HELM_NAME, model.getName());
         values.put(HELM_VERSION, model.getVersion() == null ? HELM_VERSION_DEFAULT : model.getVersion());
-        try (FileWriter writer = new FileWriter(helmBaseOutputDir.resolve(HELM_CHART_YAML_FILE_NAME).toString())) {
-            yaml.dump(values, writer);
-        } catch (IOException e) {
-            throw new KubernetesPluginException("error in generating the Helm chart: " + e.getMessage(), e);
-        }
+        this.writeYAML(helmBaseOutputDir.resolve(HELM_CHART_YAML_FILE_NAME), values);
     }
     
     /**
@@ -108,7 +357,7 @@ public class HelmChartHandler extends AbstractArtifactHandler {
         
         @Override
         public boolean accept(File dir, String name) {
-            return name.toLowerCase(Locale.getDefault()).endsWith(YAML);
+            return name.toLowerCase(Locale.ROOT).endsWith(YAML);
         }
         
     }
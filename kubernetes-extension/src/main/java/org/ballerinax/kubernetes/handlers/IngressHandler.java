@@ -26,10 +26,10 @@ import io.fabric8.kubernetes.api.model.extensions.IngressBackendBuilder;
 import io.fabric8.kubernetes.api.model.extensions.IngressBuilder;
 import io.fabric8.kubernetes.api.model.extensions.IngressTLS;
 import io.fabric8.kubernetes.api.model.extensions.IngressTLSBuilder;
-import io.fabric8.kubernetes.client.internal.SerializationUtils;
 import org.ballerinax.kubernetes.KubernetesConstants;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.models.IngressModel;
+import org.ballerinax.kubernetes.models.KubernetesDataHolder;
 import org.ballerinax.kubernetes.models.SecretModel;
 import org.ballerinax.kubernetes.models.ServiceModel;
 import org.ballerinax.kubernetes.utils.KubernetesUtils;
@@ -45,6 +45,7 @@ import static org.ballerinax.docker.generator.utils.DockerGenUtils.extractUberJa
 import static org.ballerinax.kubernetes.KubernetesConstants.INGRESS_FILE_POSTFIX;
 import static org.ballerinax.kubernetes.KubernetesConstants.NGINX;
 import static org.ballerinax.kubernetes.KubernetesConstants.YAML;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.toYaml;
 
 
 /**
@@ -52,6 +53,10 @@ import static org.ballerinax.kubernetes.KubernetesConstants.YAML;
  */
 public class IngressHandler extends AbstractArtifactHandler {
 
+    public IngressHandler(KubernetesDataHolder dataHolder) {
+        super(dataHolder);
+    }
+
     /**
      * Generate kubernetes ingress definition from annotation.
      *
@@ -115,8 +120,8 @@ public class IngressHandler extends AbstractArtifactHandler {
                 .build();
         String ingressYAML;
         try {
-            ingressYAML = SerializationUtils.dumpWithoutRuntimeStateAsYaml(ingress);
-            KubernetesUtils.writeToFile(ingressYAML, INGRESS_FILE_POSTFIX + YAML);
+            ingressYAML = toYaml(dataHolder, ingress);
+            KubernetesUtils.writeToFile(dataHolder, ingressYAML, INGRESS_FILE_POSTFIX + YAML);
         } catch (IOException e) {
             String errorMessage = "error while generating yaml file for ingress: " + ingressModel.getName();
             throw new KubernetesPluginException(errorMessage, e);
@@ -23,12 +23,14 @@ import io.fabric8.kubernetes.api.model.batch.CronJob;
 import io.fabric8.kubernetes.api.model.batch.CronJobBuilder;
 import io.fabric8.kubernetes.api.model.batch.Job;
 import io.fabric8.kubernetes.api.model.batch.JobBuilder;
-import io.fabric8.kubernetes.client.internal.SerializationUtils;
 import org.ballerinax.docker.generator.exceptions.DockerGenException;
 import org.ballerinax.docker.generator.models.DockerModel;
 import org.ballerinax.kubernetes.KubernetesConstants;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.models.JobModel;
+import org.ballerinax.kubernetes.models.KubernetesDataHolder;
+import org.ballerinax.kubernetes.models.ResourceQuotaModel;
+import org.ballerinax.kubernetes.utils.ContainerResources;
 import org.ballerinax.kubernetes.utils.KubernetesUtils;
 
 import java.io.IOException;
@@ -44,22 +46,27 @@ import static org.ballerinax.kubernetes.KubernetesConstants.YAML;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.getValidName;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.isBlank;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.populateEnvVar;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.printWarning;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.toYaml;
 
 /**
  * Job generator.
  */
 public class JobHandler extends AbstractArtifactHandler {
 
+    public JobHandler(KubernetesDataHolder dataHolder) {
+        super(dataHolder);
+    }
 
     private void generate(JobModel jobModel) throws KubernetesPluginException {
         try {
             String jobContent;
             if (isBlank(jobModel.getSchedule())) {
-                jobContent = SerializationUtils.dumpWithoutRuntimeStateAsYaml(getJob(jobModel));
+                jobContent = toYaml(dataHolder, getJob(jobModel));
             } else {
-                jobContent = SerializationUtils.dumpWithoutRuntimeStateAsYaml(getCronJob(jobModel));
+                jobContent = toYaml(dataHolder, getCronJob(jobModel));
             }
-            KubernetesUtils.writeToFile(jobContent, JOB_FILE_POSTFIX + YAML);
+            KubernetesUtils.writeToFile(dataHolder, jobContent, JOB_FILE_POSTFIX + YAML);
         } catch (IOException e) {
             String errorMessage = "error while generating yaml file for job " + jobModel.getName();
             throw new KubernetesPluginException(errorMessage, e);
@@ -74,6 +81,7 @@ public class JobHandler extends AbstractArtifactHandler {
                 .withImage(jobModel.getImage())
                 .withImagePullPolicy(jobModel.getImagePullPolicy())
                 .withEnv(populateEnvVar(jobModel.getEnv()))
+                .withResources(ContainerResources.of(jobModel).toResourceRequirements())
                 .build();
     }
 
@@ -120,6 +128,23 @@ public class JobHandler extends AbstractArtifactHandler {
     }
 
 
+    /**
+     * Warn when the pod of the job does not fit in the resource quotas declared in the module.
+     *
+     * @param jobModel Job model.
+     * @throws KubernetesPluginException If a resource quantity is invalid.
+     */
+    private void checkResourceQuotas(JobModel jobModel) throws KubernetesPluginException {
+        ContainerResources resources = ContainerResources.of(jobModel);
+        boolean terminating = jobModel.getActiveDeadlineSeconds() > 0;
+        for (ResourceQuotaModel resourceQuotaModel : dataHolder.getResourceQuotaModels()) {
+            for (String violation : resources.checkQuota(jobModel.getName(), 1, terminating,
+                    resourceQuotaModel.getName(), resourceQuotaModel.getHard(), resourceQuotaModel.getScopes())) {
+                printWarning(violation);
+            }
+        }
+    }
+
     @Override
     public void createArtifacts() throws KubernetesPluginException {
         try {
@@ -133,6 +158,7 @@ public class JobHandler extends AbstractArtifactHandler {
             }
             jobModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, balxFileName);
             generate(jobModel);
+            checkResourceQuotas(jobModel);
             //generate dockerfile and docker image
             dataHolder.setDockerModel(getDockerModel(jobModel));
             OUT.println();
@@ -22,8 +22,9 @@ import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
 import io.fabric8.kubernetes.api.model.PersistentVolumeClaimBuilder;
 import io.fabric8.kubernetes.api.model.Quantity;
 import io.fabric8.kubernetes.api.model.QuantityBuilder;
-import io.fabric8.kubernetes.client.internal.SerializationUtils;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.models.DeploymentModel;
+import org.ballerinax.kubernetes.models.KubernetesDataHolder;
 import org.ballerinax.kubernetes.models.PersistentVolumeClaimModel;
 import org.ballerinax.kubernetes.utils.KubernetesUtils;
 
@@ -34,22 +35,47 @@ import java.util.Map;
 
 import static org.ballerinax.kubernetes.KubernetesConstants.VOLUME_CLAIM_FILE_POSTFIX;
 import static org.ballerinax.kubernetes.KubernetesConstants.YAML;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.toYaml;
 
 /**
  * Generates kubernetes secret.
  */
 public class PersistentVolumeClaimHandler extends AbstractArtifactHandler {
 
+    public PersistentVolumeClaimHandler(KubernetesDataHolder dataHolder) {
+        super(dataHolder);
+    }
+
     private void generate(PersistentVolumeClaimModel volumeClaimModel) throws KubernetesPluginException {
+        PersistentVolumeClaim claim = generateClaim(volumeClaimModel, dataHolder.getNamespace());
+        try {
+            String claimContent = toYaml(dataHolder, claim);
+            KubernetesUtils.writeToFile(dataHolder, claimContent,
+                    VOLUME_CLAIM_FILE_POSTFIX + YAML);
+        } catch (IOException e) {
+            String errorMessage = "error while generating yaml file for volume claim: " + volumeClaimModel.getName();
+            throw new KubernetesPluginException(errorMessage, e);
+        }
+    }
+
+    /**
+     * Generate a persistent volume claim. The statefulSet mode reuses the claim as a volume claim template, which
+     * does not have a namespace of its own.
+     *
+     * @param volumeClaimModel Volume claim model.
+     * @param namespace        Namespace of the claim or null.
+     * @return Persistent volume claim.
+     */
+    static PersistentVolumeClaim generateClaim(PersistentVolumeClaimModel volumeClaimModel, String namespace) {
         Quantity quantity = new QuantityBuilder()
                 .withAmount(volumeClaimModel.getVolumeClaimSize())
                 .build();
         Map<String, Quantity> requests = new HashMap<>();
         requests.put("storage", quantity);
-        PersistentVolumeClaim claim = new PersistentVolumeClaimBuilder()
+        return new PersistentVolumeClaimBuilder()
                 .withNewMetadata()
                 .withName(volumeClaimModel.getName())
-                .withNamespace(dataHolder.getNamespace())
+                .withNamespace(namespace)
                 .withAnnotations(volumeClaimModel.getAnnotations())
                 .endMetadata()
                 .withNewSpec()
@@ -59,19 +85,15 @@ public class PersistentVolumeClaimHandler extends AbstractArtifactHandler {
                 .endResources()
                 .endSpec()
                 .build();
-        try {
-            String claimContent = SerializationUtils.dumpWithoutRuntimeStateAsYaml(claim);
-            KubernetesUtils.writeToFile(claimContent,
-                    VOLUME_CLAIM_FILE_POSTFIX + YAML);
-        } catch (IOException e) {
-            String errorMessage = "error while generating yaml file for volume claim: " + volumeClaimModel.getName();
-            throw new KubernetesPluginException(errorMessage, e);
-        }
     }
 
-
     @Override
     public void createArtifacts() throws KubernetesPluginException {
+        DeploymentModel deploymentModel = dataHolder.getDeploymentModel();
+        if (null != deploymentModel && null != deploymentModel.getStatefulSet()) {
+            // claims are generated per replica from the volume claim templates of the statefulSet.
+            return;
+        }
         int count = 0;
         Collection<PersistentVolumeClaimModel> volumeClaims = dataHolder.getVolumeClaimModelSet();
         if (volumeClaims.size() > 0) {
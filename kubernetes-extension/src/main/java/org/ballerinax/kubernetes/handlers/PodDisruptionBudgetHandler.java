@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.handlers;
+
+import io.fabric8.kubernetes.api.model.policy.PodDisruptionBudget;
+import io.fabric8.kubernetes.api.model.policy.PodDisruptionBudgetBuilder;
+import org.ballerinax.kubernetes.KubernetesConstants;
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.models.DeploymentModel;
+import org.ballerinax.kubernetes.models.KubernetesDataHolder;
+import org.ballerinax.kubernetes.models.PodAutoscalerModel;
+import org.ballerinax.kubernetes.models.PodDisruptionBudgetModel;
+import org.ballerinax.kubernetes.utils.KubernetesUtils;
+
+import java.io.IOException;
+
+import static org.ballerinax.docker.generator.utils.DockerGenUtils.extractUberJarName;
+import static org.ballerinax.kubernetes.KubernetesConstants.POD_DISRUPTION_BUDGET_FILE_POSTFIX;
+import static org.ballerinax.kubernetes.KubernetesConstants.POD_DISRUPTION_BUDGET_POSTFIX;
+import static org.ballerinax.kubernetes.KubernetesConstants.YAML;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.getIntOrPercentage;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.getValidName;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.isBlank;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.printWarning;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.toYaml;
+
+/**
+ * Generates kubernetes pod disruption budget from annotations.
+ */
+public class PodDisruptionBudgetHandler extends AbstractArtifactHandler {
+
+    public PodDisruptionBudgetHandler(KubernetesDataHolder dataHolder) {
+        super(dataHolder);
+    }
+
+    private void generate(PodDisruptionBudgetModel podDisruptionBudgetModel, DeploymentModel deploymentModel)
+            throws KubernetesPluginException {
+        PodDisruptionBudget podDisruptionBudget = new PodDisruptionBudgetBuilder()
+                .withNewMetadata()
+                .withName(podDisruptionBudgetModel.getName())
+                .withNamespace(dataHolder.getNamespace())
+                .withLabels(podDisruptionBudgetModel.getLabels())
+                .withAnnotations(podDisruptionBudgetModel.getAnnotations())
+                .endMetadata()
+                .withNewSpec()
+                .withMinAvailable(getIntOrPercentage(podDisruptionBudgetModel.getMinAvailable(), "minAvailable"))
+                .withMaxUnavailable(getIntOrPercentage(podDisruptionBudgetModel.getMaxUnavailable(),
+                        "maxUnavailable"))
+                .withNewSelector()
+                .withMatchLabels(deploymentModel.getLabels())
+                .endSelector()
+                .endSpec()
+                .build();
+        try {
+            String podDisruptionBudgetContent = toYaml(dataHolder, podDisruptionBudget);
+            KubernetesUtils.writeToFile(dataHolder, podDisruptionBudgetContent,
+                    POD_DISRUPTION_BUDGET_FILE_POSTFIX + YAML);
+        } catch (IOException e) {
+            String errorMessage = "error while generating yaml file for pod disruption budget: " +
+                    podDisruptionBudgetModel.getName();
+            throw new KubernetesPluginException(errorMessage, e);
+        }
+    }
+
+    @Override
+    public void createArtifacts() throws KubernetesPluginException {
+        PodDisruptionBudgetModel podDisruptionBudgetModel = dataHolder.getPodDisruptionBudgetModel();
+        DeploymentModel deploymentModel = dataHolder.getDeploymentModel();
+        if (null == podDisruptionBudgetModel || null == deploymentModel) {
+            return;
+        }
+        String balxFileName = extractUberJarName(dataHolder.getUberJarPath());
+        podDisruptionBudgetModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, balxFileName);
+        podDisruptionBudgetModel.setDeployment(deploymentModel.getName());
+        if (isBlank(podDisruptionBudgetModel.getName())) {
+            podDisruptionBudgetModel.setName(getValidName(balxFileName) + POD_DISRUPTION_BUDGET_POSTFIX);
+        }
+        if (null == podDisruptionBudgetModel.getMinAvailable() &&
+                null == podDisruptionBudgetModel.getMaxUnavailable()) {
+            podDisruptionBudgetModel.setMaxUnavailable("1");
+        }
+        String minAvailable = podDisruptionBudgetModel.getMinAvailable();
+        if (null != minAvailable && !minAvailable.endsWith("%") &&
+                Integer.parseInt(minAvailable) >= getMinReplicas(deploymentModel)) {
+            printWarning("minAvailable of @kubernetes:PodDisruptionBudget{} is not less than the replicas of " +
+                    deploymentModel.getName() + ". no pod can be evicted while draining a node.");
+        }
+        generate(podDisruptionBudgetModel, deploymentModel);
+        OUT.println();
+        OUT.print("\t@kubernetes:PodDisruptionBudget \t - complete 1/1");
+    }
+
+    private int getMinReplicas(DeploymentModel deploymentModel) {
+        PodAutoscalerModel podAutoscalerModel = deploymentModel.getPodAutoscalerModel();
+        if (null != podAutoscalerModel && podAutoscalerModel.getMinReplicas() > 0) {
+            return podAutoscalerModel.getMinReplicas();
+        }
+        return deploymentModel.getReplicas();
+    }
+}
@@ -22,8 +22,8 @@ import io.fabric8.kubernetes.api.model.Quantity;
 import io.fabric8.kubernetes.api.model.QuantityBuilder;
 import io.fabric8.kubernetes.api.model.ResourceQuota;
 import io.fabric8.kubernetes.api.model.ResourceQuotaBuilder;
-import io.fabric8.kubernetes.client.internal.SerializationUtils;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.models.KubernetesDataHolder;
 import org.ballerinax.kubernetes.models.ResourceQuotaModel;
 import org.ballerinax.kubernetes.utils.KubernetesUtils;
 
@@ -35,12 +35,17 @@ import java.util.stream.Collectors;
 
 import static org.ballerinax.kubernetes.KubernetesConstants.RESOURCE_QUOTA_FILE_POSTFIX;
 import static org.ballerinax.kubernetes.KubernetesConstants.YAML;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.toYaml;
 
 /**
  * Generates kubernetes resource quotas.
  */
 public class ResourceQuotaHandler extends AbstractArtifactHandler {
-    
+
+    public ResourceQuotaHandler(KubernetesDataHolder dataHolder) {
+        super(dataHolder);
+    }
+
     /**
      * Generate resource quota files.
      * @param resourceQuotaModel Resource quota models.
@@ -60,8 +65,8 @@ public class ResourceQuotaHandler extends AbstractArtifactHandler {
                 .build();
         
         try {
-            String resourceQuotaContent = SerializationUtils.dumpWithoutRuntimeStateAsYaml(resourceQuota);
-            KubernetesUtils.writeToFile(resourceQuotaContent, RESOURCE_QUOTA_FILE_POSTFIX + YAML);
+            String resourceQuotaContent = toYaml(dataHolder, resourceQuota);
+            KubernetesUtils.writeToFile(dataHolder, resourceQuotaContent, RESOURCE_QUOTA_FILE_POSTFIX + YAML);
         } catch (IOException e) {
             String errorMessage = "error while generating yaml file for resource quotas: " +
                                   resourceQuotaModel.getName();
@@ -20,38 +20,47 @@ package org.ballerinax.kubernetes.handlers;
 
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.SecretBuilder;
-import io.fabric8.kubernetes.client.internal.SerializationUtils;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.models.KubernetesDataHolder;
 import org.ballerinax.kubernetes.models.SecretModel;
 import org.ballerinax.kubernetes.utils.KubernetesUtils;
+import org.ballerinax.kubernetes.utils.PayloadShards;
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.List;
 
 import static org.ballerinax.kubernetes.KubernetesConstants.SECRET_FILE_POSTFIX;
 import static org.ballerinax.kubernetes.KubernetesConstants.YAML;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.toYaml;
 
 /**
  * Generates kubernetes secret.
  */
 public class SecretHandler extends AbstractArtifactHandler {
 
+    public SecretHandler(KubernetesDataHolder dataHolder) {
+        super(dataHolder);
+    }
 
     private void generate(SecretModel secretModel) throws KubernetesPluginException {
-        Secret secret = new SecretBuilder()
-                .withNewMetadata()
-                .withNamespace(dataHolder.getNamespace())
-                .withName(secretModel.getName())
-                .endMetadata()
-                .withData(secretModel.getData())
-                .build();
-        try {
-            String secretContent = SerializationUtils.dumpWithoutRuntimeStateAsYaml(secret);
-            KubernetesUtils.writeToFile(secretContent, SECRET_FILE_POSTFIX +
-                    YAML);
-        } catch (IOException e) {
-            String errorMessage = "error while generating yaml file for secret: " + secretModel.getName();
-            throw new KubernetesPluginException(errorMessage, e);
+        List<List<String>> shards = PayloadShards.shard(secretModel.getName(), secretModel.getData(), null);
+        for (int i = 0; i < shards.size(); i++) {
+            Secret secret = new SecretBuilder()
+                    .withNewMetadata()
+                    .withNamespace(dataHolder.getNamespace())
+                    .withName(PayloadShards.getShardName(secretModel.getName(), i, shards.size()))
+                    .endMetadata()
+                    .withData(PayloadShards.getShardEntries(secretModel.getData(), shards.get(i)))
+                    .build();
+            try {
+                String secretContent = toYaml(dataHolder, secret);
+                KubernetesUtils.writeToFile(dataHolder, secretContent, SECRET_FILE_POSTFIX +
+                        YAML);
+            } catch (IOException e) {
+                String errorMessage = "error while generating yaml file for secret: " + secretModel.getName();
+                throw new KubernetesPluginException(errorMessage, e);
+            }
         }
     }
 
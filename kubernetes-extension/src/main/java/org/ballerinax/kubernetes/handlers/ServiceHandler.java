@@ -20,11 +20,10 @@ package org.ballerinax.kubernetes.handlers;
 
 import io.fabric8.kubernetes.api.model.Service;
 import io.fabric8.kubernetes.api.model.ServiceBuilder;
-import io.fabric8.kubernetes.client.internal.SerializationUtils;
 import org.ballerinax.kubernetes.KubernetesConstants;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.models.DeploymentModel;
-import org.ballerinax.kubernetes.models.KubernetesContext;
+import org.ballerinax.kubernetes.models.KubernetesDataHolder;
 import org.ballerinax.kubernetes.models.ServiceModel;
 import org.ballerinax.kubernetes.utils.KubernetesUtils;
 
@@ -34,6 +33,7 @@ import java.util.Map;
 import static org.ballerinax.docker.generator.utils.DockerGenUtils.extractUberJarName;
 import static org.ballerinax.kubernetes.KubernetesConstants.SVC_FILE_POSTFIX;
 import static org.ballerinax.kubernetes.KubernetesConstants.YAML;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.toYaml;
 
 
 /**
@@ -41,15 +41,17 @@ import static org.ballerinax.kubernetes.KubernetesConstants.YAML;
  */
 public class ServiceHandler extends AbstractArtifactHandler {
 
+    public ServiceHandler(KubernetesDataHolder dataHolder) {
+        super(dataHolder);
+    }
+
     /**
      * Generate kubernetes service definition from annotation.
      *
      * @throws KubernetesPluginException If an error occurs while generating artifact.
      */
     private void generate(ServiceModel serviceModel) throws KubernetesPluginException {
-        if (null == serviceModel.getPortName()) {
-            serviceModel.setPortName(serviceModel.getProtocol() + "-" + serviceModel.getName());
-        }
+        serviceModel.setPortName(getPortName(serviceModel));
         
         Service service = new ServiceBuilder()
                 .withNewMetadata()
@@ -70,8 +72,8 @@ public class ServiceHandler extends AbstractArtifactHandler {
                 .endSpec()
                 .build();
         try {
-            String serviceYAML = SerializationUtils.dumpWithoutRuntimeStateAsYaml(service);
-            KubernetesUtils.writeToFile(serviceYAML, SVC_FILE_POSTFIX + YAML);
+            String serviceYAML = toYaml(dataHolder, service);
+            KubernetesUtils.writeToFile(dataHolder, serviceYAML, SVC_FILE_POSTFIX + YAML);
         } catch (IOException e) {
             String errorMessage = "error while generating yaml file for service: " + serviceModel.getName();
             throw new KubernetesPluginException(errorMessage, e);
@@ -79,6 +81,20 @@ public class ServiceHandler extends AbstractArtifactHandler {
 
     }
 
+    /**
+     * Get the name of the port of a kubernetes service. Defaults to the protocol and the name of the service, so that
+     * the ports of services exposing multiple ports are named.
+     *
+     * @param serviceModel Service model.
+     * @return Name of the port.
+     */
+    static String getPortName(ServiceModel serviceModel) {
+        if (null == serviceModel.getPortName()) {
+            return serviceModel.getProtocol() + "-" + serviceModel.getName();
+        }
+        return serviceModel.getPortName();
+    }
+
     @Override
     public void createArtifacts() throws KubernetesPluginException {
         // Service
@@ -87,8 +103,7 @@ public class ServiceHandler extends AbstractArtifactHandler {
         int count = 0;
         for (ServiceModel serviceModel : serviceModels.values()) {
             count++;
-            String balxFileName = extractUberJarName(KubernetesContext.getInstance().getDataHolder()
-                    .getUberJarPath());
+            String balxFileName = extractUberJarName(dataHolder.getUberJarPath());
             serviceModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, balxFileName);
             serviceModel.setSelector(balxFileName);
             generate(serviceModel);
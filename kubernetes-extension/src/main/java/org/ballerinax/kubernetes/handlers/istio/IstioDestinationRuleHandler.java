@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.handlers.istio;
+
+import me.snowdrop.istio.api.Duration;
+import me.snowdrop.istio.api.DurationBuilder;
+import me.snowdrop.istio.api.networking.v1alpha3.ConnectionPoolSettings;
+import me.snowdrop.istio.api.networking.v1alpha3.ConnectionPoolSettingsBuilder;
+import me.snowdrop.istio.api.networking.v1alpha3.ConsistentHashLB;
+import me.snowdrop.istio.api.networking.v1alpha3.ConsistentHashLBBuilder;
+import me.snowdrop.istio.api.networking.v1alpha3.DestinationRule;
+import me.snowdrop.istio.api.networking.v1alpha3.DestinationRuleBuilder;
+import me.snowdrop.istio.api.networking.v1alpha3.LoadBalancerSettings;
+import me.snowdrop.istio.api.networking.v1alpha3.LoadBalancerSettingsBuilder;
+import me.snowdrop.istio.api.networking.v1alpha3.OutlierDetection;
+import me.snowdrop.istio.api.networking.v1alpha3.OutlierDetectionBuilder;
+import me.snowdrop.istio.api.networking.v1alpha3.SimpleLB;
+import me.snowdrop.istio.api.networking.v1alpha3.Subset;
+import me.snowdrop.istio.api.networking.v1alpha3.SubsetBuilder;
+import me.snowdrop.istio.api.networking.v1alpha3.TrafficPolicy;
+import me.snowdrop.istio.api.networking.v1alpha3.TrafficPolicyBuilder;
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.handlers.AbstractArtifactHandler;
+import org.ballerinax.kubernetes.models.KubernetesDataHolder;
+import org.ballerinax.kubernetes.models.ServiceModel;
+import org.ballerinax.kubernetes.models.istio.IstioConnectionPool;
+import org.ballerinax.kubernetes.models.istio.IstioConsistentHash;
+import org.ballerinax.kubernetes.models.istio.IstioDestinationRuleModel;
+import org.ballerinax.kubernetes.models.istio.IstioOutlierDetection;
+import org.ballerinax.kubernetes.models.istio.IstioSubset;
+import org.ballerinax.kubernetes.utils.KubernetesUtils;
+
+import java.io.IOException;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import static org.ballerinax.kubernetes.KubernetesConstants.ISTIO_DESTINATION_RULE_FILE_POSTFIX;
+import static org.ballerinax.kubernetes.KubernetesConstants.YAML;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.toYaml;
+
+/**
+ * Generates istio destination rule artifacts.
+ *
+ * @since 1.0.1
+ */
+public class IstioDestinationRuleHandler extends AbstractArtifactHandler {
+
+    public IstioDestinationRuleHandler(KubernetesDataHolder dataHolder) {
+        super(dataHolder);
+    }
+
+    @Override
+    public void createArtifacts() throws KubernetesPluginException {
+        Map<String, IstioDestinationRuleModel> istioDRModels = dataHolder.getIstioDestinationRuleModels();
+        int size = istioDRModels.size();
+        if (size > 0) {
+            OUT.println();
+        }
+        
+        int count = 0;
+        for (Map.Entry<String, IstioDestinationRuleModel> drModel : istioDRModels.entrySet()) {
+            count++;
+            generate(drModel.getKey(), drModel.getValue());
+            OUT.print("\t@istio:DestinationRule \t\t\t - complete " + count + "/" + size + "\r");
+        }
+    }
+    
+    /**
+     * Generate artifact for istio destination rule model.
+     *
+     * @param serviceName The name of the service in which the destination rule applies to.
+     * @param drModel     The destination rule model.
+     * @throws KubernetesPluginException Error when writing artifact files.
+     */
+    private void generate(String serviceName, IstioDestinationRuleModel drModel) throws KubernetesPluginException {
+        if (null == drModel.getHost()) {
+            ServiceModel serviceModel = dataHolder.getServiceModel(serviceName);
+            if (null == serviceModel) {
+                throw new KubernetesPluginException("unable to resolve the host of istio destination rule '" +
+                        drModel.getName() + "'. Add @kubernetes:Service{} annotation or set the host.");
+            }
+            drModel.setHost(serviceModel.getName());
+        }
+        
+        try {
+            DestinationRule destinationRule = new DestinationRuleBuilder()
+                    .withNewMetadata()
+                    .withName(drModel.getName())
+                    .withNamespace(dataHolder.getNamespace())
+                    .withLabels(drModel.getLabels())
+                    .withAnnotations(drModel.getAnnotations())
+                    .endMetadata()
+                    .withNewSpec()
+                    .withHost(drModel.getHost())
+                    .withTrafficPolicy(populateTrafficPolicy(drModel))
+                    .withSubsets(populateSubsets(drModel.getSubsets()))
+                    .endSpec()
+                    .build();
+            
+            String destinationRuleContent = toYaml(dataHolder, destinationRule);
+            KubernetesUtils.writeToFile(dataHolder, destinationRuleContent, ISTIO_DESTINATION_RULE_FILE_POSTFIX + YAML);
+        } catch (IOException e) {
+            String errorMessage = "error while generating yaml file for istio destination rule: " + drModel.getName();
+            throw new KubernetesPluginException(errorMessage, e);
+        }
+    }
+    
+    /**
+     * Parse the load balancer, connection pool and outlier detection of the destination rule to a traffic policy.
+     *
+     * @param drModel The destination rule model.
+     * @return The traffic policy or null when none of them are set.
+     */
+    private TrafficPolicy populateTrafficPolicy(IstioDestinationRuleModel drModel) {
+        LoadBalancerSettings loadBalancer = populateLoadBalancer(drModel);
+        ConnectionPoolSettings connectionPool = populateConnectionPool(drModel.getConnectionPool());
+        OutlierDetection outlierDetection = populateOutlierDetection(drModel.getOutlierDetection());
+        if (null == loadBalancer && null == connectionPool && null == outlierDetection) {
+            return null;
+        }
+        
+        return new TrafficPolicyBuilder()
+                .withLoadBalancer(loadBalancer)
+                .withConnectionPool(connectionPool)
+                .withOutlierDetection(outlierDetection)
+                .build();
+    }
+    
+    /**
+     * Parse the simple or consistent hash load balancer of the destination rule.
+     *
+     * @param drModel The destination rule model.
+     * @return The load balancer settings or null when not set.
+     */
+    private LoadBalancerSettings populateLoadBalancer(IstioDestinationRuleModel drModel) {
+        if (null != drModel.getLoadBalancer()) {
+            return new LoadBalancerSettingsBuilder()
+                    .withNewSimpleLbPolicy()
+                    .withSimple(SimpleLB.valueOf(drModel.getLoadBalancer()))
+                    .endSimpleLbPolicy()
+                    .build();
+        }
+        
+        IstioConsistentHash hashModel = drModel.getConsistentHash();
+        if (null == hashModel) {
+            return null;
+        }
+        
+        ConsistentHashLBBuilder consistentHashBuilder = new ConsistentHashLBBuilder();
+        if (-1 != hashModel.getMinimumRingSize()) {
+            consistentHashBuilder.withMinimumRingSize(hashModel.getMinimumRingSize());
+        }
+        
+        if (null != hashModel.getHttpHeaderName()) {
+            consistentHashBuilder.withNewHttpHeaderNameHashKey()
+                    .withHttpHeaderName(hashModel.getHttpHeaderName())
+                    .endHttpHeaderNameHashKey();
+        } else if (null != hashModel.getHttpCookieName()) {
+            consistentHashBuilder.withNewHttpCookieHashKey()
+                    .withNewHttpCookie()
+                    .withName(hashModel.getHttpCookieName())
+                    .withTtl(toDuration(hashModel.getHttpCookieTtl()))
+                    .endHttpCookie()
+                    .endHttpCookieHashKey();
+        } else {
+            consistentHashBuilder.withNewUseSourceIpHashKey()
+                    .withUseSourceIp(true)
+                    .endUseSourceIpHashKey();
+        }
+        
+        ConsistentHashLB consistentHash = consistentHashBuilder.build();
+        return new LoadBalancerSettingsBuilder()
+                .withNewConsistentHashLbPolicy()
+                .withConsistentHash(consistentHash)
+                .endConsistentHashLbPolicy()
+                .build();
+    }
+    
+    /**
+     * Parse the connection pool of the destination rule to the tcp and http connection pool settings. Each of the
+     * settings is only added when at least one of its fields is set.
+     *
+     * @param poolModel The connection pool model.
+     * @return The connection pool settings or null when not set.
+     */
+    private ConnectionPoolSettings populateConnectionPool(IstioConnectionPool poolModel) {
+        if (null == poolModel) {
+            return null;
+        }
+        
+        Integer maxConnections = getPositiveValue(poolModel.getMaxConnections());
+        Duration connectTimeout = toDuration(poolModel.getConnectTimeout());
+        Integer http1MaxPendingRequests = getPositiveValue(poolModel.getHttp1MaxPendingRequests());
+        Integer http2MaxRequests = getPositiveValue(poolModel.getHttp2MaxRequests());
+        Integer maxRequestsPerConnection = getPositiveValue(poolModel.getMaxRequestsPerConnection());
+        Integer maxRetries = -1 == poolModel.getMaxRetries() ? null : poolModel.getMaxRetries();
+        boolean hasTcp = null != maxConnections || null != connectTimeout;
+        boolean hasHttp = null != http1MaxPendingRequests || null != http2MaxRequests ||
+                          null != maxRequestsPerConnection || null != maxRetries;
+        if (!hasTcp && !hasHttp) {
+            return null;
+        }
+        
+        ConnectionPoolSettingsBuilder connectionPoolBuilder = new ConnectionPoolSettingsBuilder();
+        if (hasTcp) {
+            connectionPoolBuilder.withNewTcp()
+                    .withMaxConnections(maxConnections)
+                    .withConnectTimeout(connectTimeout)
+                    .endTcp();
+        }
+        if (hasHttp) {
+            connectionPoolBuilder.withNewHttp()
+                    .withHttp1MaxPendingRequests(http1MaxPendingRequests)
+                    .withHttp2MaxRequests(http2MaxRequests)
+                    .withMaxRequestsPerConnection(maxRequestsPerConnection)
+                    .withMaxRetries(maxRetries)
+                    .endHttp();
+        }
+        return connectionPoolBuilder.build();
+    }
+    
+    /**
+     * Parse the outlier detection of the destination rule.
+     *
+     * @param outlierModel The outlier detection model.
+     * @return The outlier detection or null when not set.
+     */
+    private OutlierDetection populateOutlierDetection(IstioOutlierDetection outlierModel) {
+        if (null == outlierModel) {
+            return null;
+        }
+        
+        return new OutlierDetectionBuilder()
+                .withConsecutiveErrors(getPositiveValue(outlierModel.getConsecutiveErrors()))
+                .withInterval(toDuration(outlierModel.getInterval()))
+                .withBaseEjectionTime(toDuration(outlierModel.getBaseEjectionTime()))
+                .withMaxEjectionPercent(-1 == outlierModel.getMaxEjectionPercent() ? null :
+                        outlierModel.getMaxEjectionPercent())
+                .build();
+    }
+    
+    /**
+     * Parse the subsets of the destination rule.
+     *
+     * @param subsetModels The subset models.
+     * @return A list of subsets.
+     */
+    private List<Subset> populateSubsets(List<IstioSubset> subsetModels) {
+        List<Subset> subsets = new LinkedList<>();
+        if (null == subsetModels) {
+            return subsets;
+        }
+        
+        for (IstioSubset subsetModel : subsetModels) {
+            subsets.add(new SubsetBuilder()
+                    .withName(subsetModel.getName())
+                    .withLabels(subsetModel.getLabels())
+                    .build());
+        }
+        return subsets;
+    }
+    
+    private Duration toDuration(long seconds) {
+        if (-1 == seconds) {
+            return null;
+        }
+        return new DurationBuilder()
+                .withSeconds(seconds)
+                .build();
+    }
+    
+    private Integer getPositiveValue(int value) {
+        return value > 0 ? value : null;
+    }
+}
@@ -18,7 +18,6 @@
 
 package org.ballerinax.kubernetes.handlers.istio;
 
-import io.fabric8.kubernetes.client.internal.SerializationUtils;
 import me.snowdrop.istio.api.networking.v1alpha3.Gateway;
 import me.snowdrop.istio.api.networking.v1alpha3.GatewayBuilder;
 import me.snowdrop.istio.api.networking.v1alpha3.Server;
@@ -29,6 +28,7 @@ import me.snowdrop.istio.api.networking.v1alpha3.TLSOptionsMode;
 import org.ballerinax.kubernetes.KubernetesConstants;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.handlers.AbstractArtifactHandler;
+import org.ballerinax.kubernetes.models.KubernetesDataHolder;
 import org.ballerinax.kubernetes.models.istio.IstioGatewayModel;
 import org.ballerinax.kubernetes.models.istio.IstioServerModel;
 import org.ballerinax.kubernetes.utils.KubernetesUtils;
@@ -42,6 +42,7 @@ import java.util.stream.Collectors;
 
 import static org.ballerinax.kubernetes.KubernetesConstants.ISTIO_GATEWAY_FILE_POSTFIX;
 import static org.ballerinax.kubernetes.KubernetesConstants.YAML;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.toYaml;
 
 /**
  * Generates istio gateway artifacts.
@@ -49,7 +50,11 @@ import static org.ballerinax.kubernetes.KubernetesConstants.YAML;
  * @since 0.985.0
  */
 public class IstioGatewayHandler extends AbstractArtifactHandler {
-    
+
+    public IstioGatewayHandler(KubernetesDataHolder dataHolder) {
+        super(dataHolder);
+    }
+
     /**
      * {@inheritDoc}
      * Performs validations and creates the artifacts.
@@ -134,8 +139,8 @@ public class IstioGatewayHandler extends AbstractArtifactHandler {
                     .endSpec()
                     .build();
             
-            String gatewayContent = SerializationUtils.dumpWithoutRuntimeStateAsYaml(gateway);
-            KubernetesUtils.writeToFile(gatewayContent, ISTIO_GATEWAY_FILE_POSTFIX + YAML);
+            String gatewayContent = toYaml(dataHolder, gateway);
+            KubernetesUtils.writeToFile(dataHolder, gatewayContent, ISTIO_GATEWAY_FILE_POSTFIX + YAML);
         } catch (IOException e) {
             String errorMessage = "error while generating yaml file for istio gateway: " + gatewayModel.getName();
             throw new KubernetesPluginException(errorMessage, e);
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.handlers.istio;
+
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.handlers.AbstractArtifactHandler;
+import org.ballerinax.kubernetes.models.DeploymentModel;
+import org.ballerinax.kubernetes.models.KubernetesContext;
+import org.ballerinax.kubernetes.models.KubernetesDataHolder;
+import org.ballerinax.kubernetes.models.istio.IstioSidecar;
+import org.ballerinax.kubernetes.models.istio.IstioSidecarModel;
+import org.ballerinax.kubernetes.specs.IstioSidecarSpec;
+import org.ballerinax.kubernetes.utils.KubernetesUtils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.ballerinax.kubernetes.KubernetesConstants.DEPLOYMENT_POSTFIX;
+import static org.ballerinax.kubernetes.KubernetesConstants.ISTIO_SIDECAR_FILE_POSTFIX;
+import static org.ballerinax.kubernetes.KubernetesConstants.ISTIO_SIDECAR_POSTFIX;
+import static org.ballerinax.kubernetes.KubernetesConstants.ISTIO_SYSTEM_NAMESPACE;
+import static org.ballerinax.kubernetes.KubernetesConstants.SERVICE_DNS_SUFFIX;
+import static org.ballerinax.kubernetes.KubernetesConstants.YAML;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.isBlank;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.printWarning;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.toYaml;
+
+/**
+ * Generates the istio sidecar which limits the egress of the deployment to its dependencies. The egress is widened
+ * to the namespace of the deployment for dependencies whose namespace is not known.
+ *
+ * @since 1.0.1
+ */
+public class IstioSidecarHandler extends AbstractArtifactHandler {
+    private static final String CURRENT_NAMESPACE_HOSTS = "./*";
+
+    public IstioSidecarHandler(KubernetesDataHolder dataHolder) {
+        super(dataHolder);
+    }
+
+    @Override
+    public void createArtifacts() throws KubernetesPluginException {
+        DeploymentModel deploymentModel = dataHolder.getDeploymentModel();
+        if (null == deploymentModel || null == deploymentModel.getIstioSidecar() ||
+            !deploymentModel.getIstioSidecar().isEgressScope()) {
+            return;
+        }
+        
+        OUT.println();
+        generate(deploymentModel, deploymentModel.getIstioSidecar());
+        OUT.print("\t@istio:Sidecar \t\t\t\t - complete 1/1\r");
+    }
+    
+    /**
+     * Generate the istio sidecar of the deployment.
+     *
+     * @param deploymentModel The deployment model.
+     * @param sidecarModel    The istio sidecar model of the deployment.
+     * @throws KubernetesPluginException Error when resolving the dependencies or writing artifact files.
+     */
+    private void generate(DeploymentModel deploymentModel, IstioSidecarModel sidecarModel)
+            throws KubernetesPluginException {
+        IstioSidecarSpec spec = new IstioSidecarSpec();
+        spec.setWorkloadSelector(new IstioSidecarSpec.WorkloadSelector(deploymentModel.getLabels()));
+        spec.getEgress().add(new IstioSidecarSpec.EgressListener(getEgressHosts(deploymentModel)));
+        
+        IstioSidecar sidecar = new IstioSidecar();
+        sidecar.setMetadata(new ObjectMetaBuilder()
+                .withName(deploymentModel.getName().replace(DEPLOYMENT_POSTFIX, "") + ISTIO_SIDECAR_POSTFIX)
+                .withNamespace(dataHolder.getNamespace())
+                .build());
+        sidecar.setSpec(spec);
+        
+        try {
+            String sidecarContent = toYaml(dataHolder, sidecar);
+            KubernetesUtils.writeToFile(dataHolder, sidecarContent, ISTIO_SIDECAR_FILE_POSTFIX + YAML);
+        } catch (IOException e) {
+            String errorMessage = "error while generating yaml file for istio sidecar of: " +
+                                  deploymentModel.getName() + " " + sidecarModel;
+            throw new KubernetesPluginException(errorMessage, e);
+        }
+    }
+    
+    /**
+     * Get the hosts the deployment depends on in namespace/dnsName format. The istio control plane is always
+     * reachable. A dependency without a namespace is deployed to the namespace of the deployment when the deployment
+     * has no namespace either. As that namespace is only known when the artifacts are applied, the egress is widened
+     * to every host in it, which is reported as a warning.
+     *
+     * @param deploymentModel The deployment model.
+     * @return Egress hosts.
+     * @throws KubernetesPluginException When the namespace of a dependency cannot be resolved.
+     */
+    private List<String> getEgressHosts(DeploymentModel deploymentModel) throws KubernetesPluginException {
+        KubernetesContext context = KubernetesContext.getInstance();
+        Set<String> hosts = new TreeSet<>();
+        Set<String> unscopedDependencies = new TreeSet<>();
+        for (String dependsOn : deploymentModel.getDependsOn()) {
+            String namespace = context.getNamespaceFromListener(dependsOn);
+            if (!isBlank(namespace)) {
+                hosts.add(namespace + "/" + context.getServiceName(dependsOn) + "." + namespace + SERVICE_DNS_SUFFIX);
+            } else if (isBlank(dataHolder.getNamespace())) {
+                hosts.add(CURRENT_NAMESPACE_HOSTS);
+                unscopedDependencies.add(dependsOn);
+            } else {
+                throw new KubernetesPluginException("unable to scope the istio sidecar egress to '" + dependsOn +
+                        "'. Set the namespace of the dependency.");
+            }
+        }
+        if (!unscopedDependencies.isEmpty()) {
+            printWarning("istio sidecar egress of '" + deploymentModel.getName() + "' allows every host in its " +
+                         "namespace, as neither the deployment nor its dependencies " + unscopedDependencies +
+                         " set a namespace. Set the namespaces to limit the egress to the dependsOn services.");
+        }
+        hosts.add(ISTIO_SYSTEM_NAMESPACE + "/*");
+        return new ArrayList<>(hosts);
+    }
+}
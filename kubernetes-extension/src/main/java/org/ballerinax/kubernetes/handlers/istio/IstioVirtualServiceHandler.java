@@ -18,36 +18,50 @@
 
 package org.ballerinax.kubernetes.handlers.istio;
 
-import io.fabric8.kubernetes.client.internal.SerializationUtils;
 import me.snowdrop.istio.api.Duration;
 import me.snowdrop.istio.api.DurationBuilder;
 import me.snowdrop.istio.api.networking.v1alpha3.Destination;
 import me.snowdrop.istio.api.networking.v1alpha3.DestinationBuilder;
 import me.snowdrop.istio.api.networking.v1alpha3.DestinationWeight;
 import me.snowdrop.istio.api.networking.v1alpha3.DestinationWeightBuilder;
+import me.snowdrop.istio.api.networking.v1alpha3.HTTPFaultInjection;
+import me.snowdrop.istio.api.networking.v1alpha3.HTTPFaultInjectionBuilder;
+import me.snowdrop.istio.api.networking.v1alpha3.HTTPMatchRequest;
+import me.snowdrop.istio.api.networking.v1alpha3.HTTPMatchRequestBuilder;
+import me.snowdrop.istio.api.networking.v1alpha3.HTTPRetry;
+import me.snowdrop.istio.api.networking.v1alpha3.HTTPRetryBuilder;
 import me.snowdrop.istio.api.networking.v1alpha3.HTTPRoute;
 import me.snowdrop.istio.api.networking.v1alpha3.HTTPRouteBuilder;
 import me.snowdrop.istio.api.networking.v1alpha3.PortSelectorBuilder;
+import me.snowdrop.istio.api.networking.v1alpha3.StringMatch;
+import me.snowdrop.istio.api.networking.v1alpha3.StringMatchBuilder;
 import me.snowdrop.istio.api.networking.v1alpha3.VirtualService;
 import me.snowdrop.istio.api.networking.v1alpha3.VirtualServiceBuilder;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.handlers.AbstractArtifactHandler;
-import org.ballerinax.kubernetes.models.KubernetesContext;
+import org.ballerinax.kubernetes.models.KubernetesDataHolder;
 import org.ballerinax.kubernetes.models.ServiceModel;
 import org.ballerinax.kubernetes.models.istio.IstioDestination;
+import org.ballerinax.kubernetes.models.istio.IstioDestinationRuleModel;
 import org.ballerinax.kubernetes.models.istio.IstioDestinationWeight;
 import org.ballerinax.kubernetes.models.istio.IstioGatewayModel;
+import org.ballerinax.kubernetes.models.istio.IstioHttpFault;
+import org.ballerinax.kubernetes.models.istio.IstioHttpMatch;
+import org.ballerinax.kubernetes.models.istio.IstioHttpRetry;
 import org.ballerinax.kubernetes.models.istio.IstioHttpRoute;
+import org.ballerinax.kubernetes.models.istio.IstioSubset;
 import org.ballerinax.kubernetes.models.istio.IstioVirtualServiceModel;
 import org.ballerinax.kubernetes.utils.KubernetesUtils;
 
 import java.io.IOException;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
 import static org.ballerinax.kubernetes.KubernetesConstants.ISTIO_VIRTUAL_SERVICE_FILE_POSTFIX;
 import static org.ballerinax.kubernetes.KubernetesConstants.YAML;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.toYaml;
 
 /**
  * Generates istio virtual service artifacts.
@@ -55,7 +69,11 @@ import static org.ballerinax.kubernetes.KubernetesConstants.YAML;
  * @since 0.985.0
  */
 public class IstioVirtualServiceHandler extends AbstractArtifactHandler {
-    
+
+    public IstioVirtualServiceHandler(KubernetesDataHolder dataHolder) {
+        super(dataHolder);
+    }
+
     @Override
     public void createArtifacts() throws KubernetesPluginException {
         Map<String, IstioVirtualServiceModel> istioVSModels = dataHolder.getIstioVirtualServiceModels();
@@ -68,8 +86,7 @@ public class IstioVirtualServiceHandler extends AbstractArtifactHandler {
         for (Map.Entry<String, IstioVirtualServiceModel> vsModel : istioVSModels.entrySet()) {
             count++;
     
-            IstioGatewayModel gwModel =
-                    KubernetesContext.getInstance().getDataHolder().getIstioGatewayModel(vsModel.getKey());
+            IstioGatewayModel gwModel = dataHolder.getIstioGatewayModel(vsModel.getKey());
             if ((null == vsModel.getValue().getGateways() || vsModel.getValue().getGateways().size() == 0) &&
                                                                                                     null != gwModel) {
                 if (null == vsModel.getValue().getGateways()) {
@@ -114,8 +131,8 @@ public class IstioVirtualServiceHandler extends AbstractArtifactHandler {
                     .endSpec()
                     .build();
     
-            String gatewayContent = SerializationUtils.dumpWithoutRuntimeStateAsYaml(virtualService);
-            KubernetesUtils.writeToFile(gatewayContent, ISTIO_VIRTUAL_SERVICE_FILE_POSTFIX + YAML);
+            String gatewayContent = toYaml(dataHolder, virtualService);
+            KubernetesUtils.writeToFile(dataHolder, gatewayContent, ISTIO_VIRTUAL_SERVICE_FILE_POSTFIX + YAML);
         } catch (IOException e) {
             String errorMessage = "error while generating yaml file for istio virtual service: " + vsModel.getName();
             throw new KubernetesPluginException(errorMessage, e);
@@ -128,8 +145,10 @@ public class IstioVirtualServiceHandler extends AbstractArtifactHandler {
      * @param serviceName The name of the service where to route to.
      * @param httpRouteModels        The list of http routes.
      * @return A list of yaml maps.
+     * @throws KubernetesPluginException When a destination refers to an unknown subset.
      */
-    private List<HTTPRoute> populateHttp(String serviceName, List<IstioHttpRoute> httpRouteModels) {
+    private List<HTTPRoute> populateHttp(String serviceName, List<IstioHttpRoute> httpRouteModels)
+            throws KubernetesPluginException {
         if (null == httpRouteModels) {
             httpRouteModels = new LinkedList<>();
         }
@@ -148,11 +167,25 @@ public class IstioVirtualServiceHandler extends AbstractArtifactHandler {
                         .build();
             }
             
+            Destination mirror = null;
+            if (null != httpRouteModel.getMirror()) {
+                mirror = populateDestination(serviceName, httpRouteModel.getMirror());
+            }
+            
             HTTPRoute httpRoute = new HTTPRouteBuilder()
+                    .withMatch(populateMatchList(httpRouteModel.getMatch()))
                     .withRoute(populateRouteList(serviceName, httpRouteModel.getRoute()))
                     .withTimeout(timoutDuration)
+                    .withRetries(populateRetries(httpRouteModel.getRetries()))
+                    .withFault(populateFault(httpRouteModel.getFault()))
+                    .withMirror(mirror)
                     .withAppendHeaders(httpRouteModel.getAppendHeaders())
                     .build();
+            
+            // mirror_percent is newer than the istio model, a mirror without it receives all of the traffic.
+            if (-1 != httpRouteModel.getMirrorPercent()) {
+                httpRoute.setAdditionalProperty("mirror_percent", httpRouteModel.getMirrorPercent());
+            }
     
             httpRoutes.add(httpRoute);
         }
@@ -160,14 +193,111 @@ public class IstioVirtualServiceHandler extends AbstractArtifactHandler {
         return httpRoutes;
     }
     
+    /**
+     * Parse the match conditions of a http route.
+     *
+     * @param matchModels The list of match conditions.
+     * @return A list of match requests or null when there are no conditions.
+     */
+    private List<HTTPMatchRequest> populateMatchList(List<IstioHttpMatch> matchModels) {
+        if (null == matchModels || matchModels.size() == 0) {
+            return null;
+        }
+        
+        List<HTTPMatchRequest> matchRequests = new LinkedList<>();
+        for (IstioHttpMatch matchModel : matchModels) {
+            StringMatch uri = null;
+            if (null != matchModel.getUriPrefix()) {
+                uri = new StringMatchBuilder().withNewPrefixMatchType(matchModel.getUriPrefix()).build();
+            } else if (null != matchModel.getUriRegex()) {
+                uri = new StringMatchBuilder().withNewRegexMatchType(matchModel.getUriRegex()).build();
+            }
+            
+            Map<String, StringMatch> headers = new LinkedHashMap<>();
+            for (Map.Entry<String, String> header : matchModel.getHeaders().entrySet()) {
+                headers.put(header.getKey(), new StringMatchBuilder().withNewExactMatchType(header.getValue()).build());
+            }
+            
+            matchRequests.add(new HTTPMatchRequestBuilder()
+                    .withUri(uri)
+                    .withHeaders(headers.size() > 0 ? headers : null)
+                    .build());
+        }
+        return matchRequests;
+    }
+    
+    /**
+     * Parse the retry policy of a http route.
+     *
+     * @param retryModel The retry model.
+     * @return The http retry or null when not set.
+     */
+    private HTTPRetry populateRetries(IstioHttpRetry retryModel) {
+        if (null == retryModel) {
+            return null;
+        }
+        
+        Duration perTryTimeout = null;
+        if (-1 != retryModel.getPerTryTimeout()) {
+            perTryTimeout = new DurationBuilder()
+                    .withSeconds(retryModel.getPerTryTimeout())
+                    .build();
+        }
+        
+        HTTPRetry retry = new HTTPRetryBuilder()
+                .withAttempts(retryModel.getAttempts())
+                .withPerTryTimeout(perTryTimeout)
+                .build();
+        
+        // retryOn is newer than the istio model.
+        if (null != retryModel.getRetryOn()) {
+            retry.setAdditionalProperty("retryOn", retryModel.getRetryOn());
+        }
+        return retry;
+    }
+    
+    /**
+     * Parse the delay and abort faults of a http route.
+     *
+     * @param faultModel The fault model.
+     * @return The fault injection or null when not set.
+     */
+    private HTTPFaultInjection populateFault(IstioHttpFault faultModel) {
+        if (null == faultModel) {
+            return null;
+        }
+        
+        HTTPFaultInjectionBuilder faultBuilder = new HTTPFaultInjectionBuilder();
+        if (-1 != faultModel.getDelayPercent()) {
+            faultBuilder.withNewDelay()
+                    .withPercent(faultModel.getDelayPercent())
+                    .withNewFixedHttpDelayType()
+                    .withFixedDelay(new DurationBuilder().withSeconds(faultModel.getFixedDelay()).build())
+                    .endFixedHttpDelayType()
+                    .endDelay();
+        }
+        
+        if (-1 != faultModel.getAbortPercent()) {
+            faultBuilder.withNewAbort()
+                    .withPercent(faultModel.getAbortPercent())
+                    .withNewHttpStatusErrorType()
+                    .withHttpStatus(faultModel.getAbortHttpStatus())
+                    .endHttpStatusErrorType()
+                    .endAbort();
+        }
+        return faultBuilder.build();
+    }
+    
     /**
      * Parse an route list to a yaml map.
      *
      * @param serviceName The name of the service.
      * @param routeModels       The list of destination weights
      * @return A list of yaml maps.
+     * @throws KubernetesPluginException When a destination refers to an unknown subset.
      */
-    private List<DestinationWeight> populateRouteList(String serviceName, List<IstioDestinationWeight> routeModels) {
+    private List<DestinationWeight> populateRouteList(String serviceName, List<IstioDestinationWeight> routeModels)
+            throws KubernetesPluginException {
         if (routeModels == null) {
             routeModels = new LinkedList<>();
         }
@@ -194,13 +324,15 @@ public class IstioVirtualServiceHandler extends AbstractArtifactHandler {
      * @param serviceName The name of the service which is routed to.
      * @param destination The destination object.
      * @return A yaml map.
+     * @throws KubernetesPluginException When the destination refers to an unknown subset.
      */
-    private Destination populateDestination(String serviceName, IstioDestination destination) {
+    private Destination populateDestination(String serviceName, IstioDestination destination)
+            throws KubernetesPluginException {
         if (null == destination) {
             destination = new IstioDestination();
         }
     
-        ServiceModel serviceModel = KubernetesContext.getInstance().getDataHolder().getServiceModel(serviceName);
+        ServiceModel serviceModel = dataHolder.getServiceModel(serviceName);
         if (null == destination.getHost()) {
             destination.setHost(serviceModel.getName());
         }
@@ -209,6 +341,8 @@ public class IstioVirtualServiceHandler extends AbstractArtifactHandler {
             destination.setPort(serviceModel.getPort());
         }
         
+        validateSubset(serviceName, serviceModel, destination);
+        
         return new DestinationBuilder()
                 .withHost(destination.getHost())
                 .withSubset(destination.getSubset())
@@ -217,4 +351,36 @@ public class IstioVirtualServiceHandler extends AbstractArtifactHandler {
                     .build())
                 .build();
     }
+    
+    /**
+     * Validate that the subset of a destination is defined by the @istio:DestinationRule{} of the same host.
+     *
+     * @param serviceName  The name of the service which is routed to.
+     * @param serviceModel The kubernetes service model of the service.
+     * @param destination  The destination object.
+     * @throws KubernetesPluginException When the subset is not defined.
+     */
+    private void validateSubset(String serviceName, ServiceModel serviceModel, IstioDestination destination)
+            throws KubernetesPluginException {
+        IstioDestinationRuleModel drModel = dataHolder.getIstioDestinationRuleModel(serviceName);
+        if (null == destination.getSubset() || null == drModel) {
+            return;
+        }
+        
+        String drHost = null != drModel.getHost() ? drModel.getHost() : serviceModel.getName();
+        if (!drHost.equals(destination.getHost())) {
+            return;
+        }
+        
+        if (null != drModel.getSubsets()) {
+            for (IstioSubset subset : drModel.getSubsets()) {
+                if (subset.getName().equals(destination.getSubset())) {
+                    return;
+                }
+            }
+        }
+        throw new KubernetesPluginException("subset '" + destination.getSubset() + "' of istio virtual service " +
+                "destination '" + destination.getHost() + "' is not defined in istio destination rule '" +
+                drModel.getName() + "'.");
+    }
 }
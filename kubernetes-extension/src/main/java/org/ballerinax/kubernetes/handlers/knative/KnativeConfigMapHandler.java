@@ -20,12 +20,12 @@ package org.ballerinax.kubernetes.handlers.knative;
 
 import io.fabric8.kubernetes.api.model.ConfigMap;
 import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
-import io.fabric8.kubernetes.client.internal.SerializationUtils;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.models.knative.ConfigMapModel;
 import org.ballerinax.kubernetes.models.knative.EnvVarValueModel;
 import org.ballerinax.kubernetes.models.knative.ServiceModel;
 import org.ballerinax.kubernetes.utils.KnativeUtils;
+import org.ballerinax.kubernetes.utils.YamlWriter;
 
 import java.io.IOException;
 import java.util.Collection;
@@ -49,7 +49,7 @@ public class KnativeConfigMapHandler extends KnativeAbstractArtifactHandler {
                 .withData(configMapModel.getData())
                 .build();
         try {
-            String configMapContent = SerializationUtils.dumpWithoutRuntimeStateAsYaml(configMap);
+            String configMapContent = YamlWriter.toYaml(configMap);
             KnativeUtils.writeToFile(configMapContent, CONFIG_MAP_FILE_POSTFIX + YAML);
         } catch (IOException e) {
             String errorMessage = "Error while parsing yaml file for config map: " + configMapModel.getName();
@@ -19,12 +19,12 @@ package org.ballerinax.kubernetes.handlers.knative;
 
 //import io.fabric8.kubernetes.api.model.Service;
 //import io.fabric8.kubernetes.api.model.ServiceBuilder;
-//import io.fabric8.kubernetes.client.internal.SerializationUtils;
-import org.ballerinax.kubernetes.KubernetesConstants;
+//import org.ballerinax.kubernetes.KubernetesConstants;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.models.knative.KnativeContainerModel;
 import org.ballerinax.kubernetes.models.knative.KnativeContext;
 import org.ballerinax.kubernetes.models.knative.ServiceModel;
+import org.ballerinax.kubernetes.utils.YamlWriter;
 //import org.ballerinax.kubernetes.utils.KnativeUtils;
 
 //import java.io.IOException;
@@ -68,7 +68,7 @@ public class KnativeContainerHandler extends KnativeAbstractArtifactHandler {
                 .endSpec()
                 .build();
         try {
-            String serviceYAML = SerializationUtils.dumpWithoutRuntimeStateAsYaml(service);
+            String serviceYAML = YamlWriter.toYaml(service);
             KnativeUtils.writeToFile(serviceYAML, SVC_FILE_POSTFIX + YAML);
         } catch (IOException e) {
             String errorMessage = "error while generating yaml file for service: " + serviceModel.getName();
@@ -20,7 +20,12 @@ package org.ballerinax.kubernetes.handlers.knative;
 
 import org.ballerinax.docker.generator.DockerArtifactHandler;
 import org.ballerinax.docker.generator.exceptions.DockerGenException;
+import org.ballerinax.docker.generator.models.DockerModel;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.utils.DockerBuildFingerprint;
+import org.ballerinax.kubernetes.utils.DockerImageBuilder;
+
+import java.nio.file.Path;
 
 /**
  * Wrapper handler for creating docker artifacts.
@@ -29,14 +34,42 @@ public class KnativeDockerHandler extends KnativeAbstractArtifactHandler {
 
     @Override
     public void createArtifacts() throws KubernetesPluginException {
+        DockerModel dockerModel = knativeDataHolder.getDockerModel();
+        boolean buildImage = dockerModel.isBuildImage();
+        boolean push = dockerModel.isPush();
+        // The Dockerfile is always generated, so that the image is built from the rendered build context.
+        dockerModel.setBuildImage(false);
+        dockerModel.setPush(false);
         try {
             // Generate docker artifacts
-            DockerArtifactHandler dockerArtifactHandler = new DockerArtifactHandler(knativeDataHolder.getDockerModel());
+            DockerArtifactHandler dockerArtifactHandler = new DockerArtifactHandler(dockerModel);
             OUT.println();
             dockerArtifactHandler.createArtifacts(OUT, "\t@Knative:Docker \t\t\t", knativeDataHolder.getUberJarPath(),
                     knativeDataHolder.getDockerArtifactOutputPath());
         } catch (DockerGenException e) {
             throw new KubernetesPluginException(e.getMessage(), e);
+        } finally {
+            dockerModel.setBuildImage(buildImage);
+            dockerModel.setPush(push);
+        }
+        if (!buildImage) {
+            return;
+        }
+        Path buildContext = knativeDataHolder.getDockerArtifactOutputPath();
+        DockerImageBuilder imageBuilder = new DockerImageBuilder(dockerModel, OUT, "\t@Knative:Docker \t\t\t");
+        DockerBuildFingerprint buildFingerprint = new DockerBuildFingerprint(dockerModel, buildContext);
+        OUT.println();
+        if (buildFingerprint.isUpToDate()) {
+            OUT.print("\t@Knative:Docker \t\t\t - image " + imageBuilder.getImageName() + " is up to date");
+        } else {
+            imageBuilder.build(buildContext);
+            buildFingerprint.save();
+            OUT.print("\t@Knative:Docker \t\t\t - image " + imageBuilder.getImageName() + " built");
+        }
+        if (push) {
+            imageBuilder.push();
+            OUT.println();
+            OUT.print("\t@Knative:Docker \t\t\t - image " + imageBuilder.getImageName() + " pushed");
         }
     }
 
@@ -22,10 +22,10 @@ import io.fabric8.kubernetes.api.model.Quantity;
 import io.fabric8.kubernetes.api.model.QuantityBuilder;
 import io.fabric8.kubernetes.api.model.ResourceQuota;
 import io.fabric8.kubernetes.api.model.ResourceQuotaBuilder;
-import io.fabric8.kubernetes.client.internal.SerializationUtils;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.models.knative.ResourceQuotaModel;
 import org.ballerinax.kubernetes.utils.KnativeUtils;
+import org.ballerinax.kubernetes.utils.YamlWriter;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -55,7 +55,7 @@ public class KnativeResourceQuotaHandler extends KnativeAbstractArtifactHandler
                 .build();
 
         try {
-            String resourceQuotaContent = SerializationUtils.dumpWithoutRuntimeStateAsYaml(resourceQuota);
+            String resourceQuotaContent = YamlWriter.toYaml(resourceQuota);
             KnativeUtils.writeToFile(resourceQuotaContent, RESOURCE_QUOTA_FILE_POSTFIX + YAML);
         } catch (IOException e) {
             String errorMessage = "error while generating yaml file for resource quotas: " +
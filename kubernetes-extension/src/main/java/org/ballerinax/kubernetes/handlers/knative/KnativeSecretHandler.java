@@ -20,10 +20,10 @@ package org.ballerinax.kubernetes.handlers.knative;
 
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.SecretBuilder;
-import io.fabric8.kubernetes.client.internal.SerializationUtils;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.models.knative.SecretModel;
 import org.ballerinax.kubernetes.utils.KnativeUtils;
+import org.ballerinax.kubernetes.utils.YamlWriter;
 
 import java.io.IOException;
 import java.util.Collection;
@@ -45,7 +45,7 @@ public class KnativeSecretHandler extends KnativeAbstractArtifactHandler {
                 .withData(secretModel.getData())
                 .build();
         try {
-            String secretContent = SerializationUtils.dumpWithoutRuntimeStateAsYaml(secret);
+            String secretContent = YamlWriter.toYaml(secret);
             KnativeUtils.writeToFile(secretContent, SECRET_FILE_POSTFIX +
                     YAML);
         } catch (IOException e) {
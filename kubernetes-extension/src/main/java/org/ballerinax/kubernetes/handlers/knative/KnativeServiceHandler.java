@@ -22,6 +22,10 @@ import io.fabric8.kubernetes.api.model.Container;
 import io.fabric8.kubernetes.api.model.ContainerBuilder;
 import io.fabric8.kubernetes.api.model.ContainerPort;
 import io.fabric8.kubernetes.api.model.ContainerPortBuilder;
+import io.fabric8.kubernetes.api.model.ExecAction;
+import io.fabric8.kubernetes.api.model.ExecActionBuilder;
+import io.fabric8.kubernetes.api.model.HTTPGetAction;
+import io.fabric8.kubernetes.api.model.HTTPGetActionBuilder;
 import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
 import io.fabric8.kubernetes.api.model.Probe;
@@ -32,7 +36,6 @@ import io.fabric8.kubernetes.api.model.Volume;
 import io.fabric8.kubernetes.api.model.VolumeBuilder;
 import io.fabric8.kubernetes.api.model.VolumeMount;
 import io.fabric8.kubernetes.api.model.VolumeMountBuilder;
-import io.fabric8.kubernetes.client.internal.SerializationUtils;
 import org.ballerinax.docker.generator.exceptions.DockerGenException;
 import org.ballerinax.docker.generator.models.DockerModel;
 import org.ballerinax.kubernetes.KubernetesConstants;
@@ -40,24 +43,34 @@ import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.models.knative.ConfigMapModel;
 import org.ballerinax.kubernetes.models.knative.KnativeContext;
 import org.ballerinax.kubernetes.models.knative.KnativeService;
+import org.ballerinax.kubernetes.models.knative.PodAutoscalerModel;
 import org.ballerinax.kubernetes.models.knative.ProbeModel;
+import org.ballerinax.kubernetes.models.knative.ResourceQuotaModel;
 import org.ballerinax.kubernetes.models.knative.SecretModel;
 import org.ballerinax.kubernetes.models.knative.ServiceModel;
+import org.ballerinax.kubernetes.models.knative.TrafficTargetModel;
 import org.ballerinax.kubernetes.specs.KnativePodSpec;
 import org.ballerinax.kubernetes.specs.KnativePodTemplateSpec;
 import org.ballerinax.kubernetes.specs.KnativeServiceSpec;
+import org.ballerinax.kubernetes.specs.KnativeTrafficTarget;
+import org.ballerinax.kubernetes.utils.ContainerResources;
+import org.ballerinax.kubernetes.utils.DependencyReadiness;
 import org.ballerinax.kubernetes.utils.KnativeUtils;
+import org.ballerinax.kubernetes.utils.YamlWriter;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.ballerinax.docker.generator.DockerGenConstants.REGISTRY_SEPARATOR;
 import static org.ballerinax.docker.generator.utils.DockerGenUtils.extractUberJarName;
 import static org.ballerinax.kubernetes.KubernetesConstants.DEPLOYMENT_FILE_POSTFIX;
 import static org.ballerinax.kubernetes.KubernetesConstants.EXECUTABLE_JAR;
+import static org.ballerinax.kubernetes.KubernetesConstants.KNATIVE_AUTOSCALING_PREFIX;
 import static org.ballerinax.kubernetes.KubernetesConstants.YAML;
 import static org.ballerinax.kubernetes.utils.KnativeUtils.populateEnvVar;
 
@@ -65,6 +78,7 @@ import static org.ballerinax.kubernetes.utils.KnativeUtils.populateEnvVar;
  * Generates knative service from annotations.
  */
 public class KnativeServiceHandler extends KnativeAbstractArtifactHandler {
+    private static final int KNATIVE_SERVICE_PORT = 80;
 
     private List<ContainerPort> populatePorts(Set<Integer> ports) {
         List<ContainerPort> containerPorts = new ArrayList<>();
@@ -101,17 +115,21 @@ public class KnativeServiceHandler extends KnativeAbstractArtifactHandler {
 
     private List<Container> generateInitContainer(ServiceModel serviceModel) throws KubernetesPluginException {
         List<Container> initContainers = new ArrayList<>();
+        DependencyReadiness dependencyReadiness = new DependencyReadiness();
         for (String dependsOn : serviceModel.getDependsOn()) {
             String serviceName = KnativeContext.getInstance().getServiceName(dependsOn);
-            List<String> commands = new ArrayList<>();
-            commands.add("sh");
-            commands.add("-c");
-            commands.add("until nslookup " + serviceName + "; do echo waiting for " + serviceName + "; sleep 2; done;");
-            initContainers.add(new ContainerBuilder()
-                    .withName("wait-for-" + serviceName)
-                    .withImage("busybox")
-                    .withCommand(commands)
-                    .build());
+            // Knative routes the requests of a service to its revisions through port 80.
+            ProbeModel readinessProbe = KnativeContext.getInstance().getServiceModelFromListener(dependsOn)
+                    .getReadinessProbe();
+            if (null != readinessProbe && null != readinessProbe.getPath()) {
+                dependencyReadiness.addHttpCheck(serviceName, KNATIVE_SERVICE_PORT, readinessProbe.getPath());
+            } else {
+                dependencyReadiness.addTcpCheck(serviceName, KNATIVE_SERVICE_PORT);
+            }
+        }
+        if (!dependencyReadiness.isEmpty()) {
+            initContainers.add(dependencyReadiness.toInitContainer(serviceModel.getDependsOnTimeoutSeconds(),
+                    serviceModel.getDependsOnMaxBackoffSeconds()));
         }
         return initContainers;
     }
@@ -124,7 +142,7 @@ public class KnativeServiceHandler extends KnativeAbstractArtifactHandler {
             deploymentImageName = dockerRegistry + REGISTRY_SEPARATOR + deploymentImageName;
         }
 
-        return new ContainerBuilder()
+        Container container = new ContainerBuilder()
                 .withName(serviceModel.getName())
                 .withImage(deploymentImageName)
                 .withPorts(containerPorts)
@@ -132,7 +150,14 @@ public class KnativeServiceHandler extends KnativeAbstractArtifactHandler {
                 .withVolumeMounts(populateVolumeMounts(serviceModel))
                 .withLivenessProbe(generateProbe(serviceModel.getLivenessProbe()))
                 .withReadinessProbe(generateProbe(serviceModel.getReadinessProbe()))
+                .withResources(ContainerResources.of(serviceModel).toResourceRequirements())
                 .build();
+        Probe startupProbe = generateProbe(serviceModel.getStartupProbe());
+        if (null != startupProbe) {
+            // The startupProbe field is not available in the kubernetes model of the fabric8 client.
+            container.setAdditionalProperty("startupProbe", startupProbe);
+        }
+        return container;
     }
 
     private List<Volume> populateVolume(ServiceModel serviceModel) {
@@ -162,14 +187,59 @@ public class KnativeServiceHandler extends KnativeAbstractArtifactHandler {
         if (null == probeModel) {
             return null;
         }
-        TCPSocketAction tcpSocketAction = new TCPSocketActionBuilder()
-                .withNewPort(probeModel.getPort())
-                .build();
-        return new ProbeBuilder()
+        ProbeBuilder probeBuilder = new ProbeBuilder()
                 .withInitialDelaySeconds(probeModel.getInitialDelaySeconds())
                 .withPeriodSeconds(probeModel.getPeriodSeconds())
-                .withTcpSocket(tcpSocketAction)
+                .withTimeoutSeconds(getPositiveValue(probeModel.getTimeoutSeconds()))
+                .withSuccessThreshold(getPositiveValue(probeModel.getSuccessThreshold()))
+                .withFailureThreshold(getPositiveValue(probeModel.getFailureThreshold()));
+        if (null != probeModel.getCommand()) {
+            ExecAction execAction = new ExecActionBuilder()
+                    .withCommand(probeModel.getCommand())
+                    .build();
+            return probeBuilder.withExec(execAction).build();
+        }
+        if (null != probeModel.getPath()) {
+            HTTPGetAction httpGetAction = new HTTPGetActionBuilder()
+                    .withPath(probeModel.getPath())
+                    .withNewPort(probeModel.getPort())
+                    .build();
+            return probeBuilder.withHttpGet(httpGetAction).build();
+        }
+        TCPSocketAction tcpSocketAction = new TCPSocketActionBuilder()
+                .withNewPort(probeModel.getPort())
                 .build();
+        return probeBuilder.withTcpSocket(tcpSocketAction).build();
+    }
+
+    private Integer getPositiveValue(int value) {
+        return value > 0 ? value : null;
+    }
+
+    /**
+     * Probe the first port of the service when a port is not given and probe the health check resource of the
+     * service over HTTP when neither a path nor a command is given.
+     *
+     * @param probeModel Probe model.
+     * @param ports      Ports of the service.
+     * @param name       Name of the probe field.
+     * @throws KubernetesPluginException If a liveness or startup probe has a success threshold other than 1.
+     */
+    private void resolveProbe(ProbeModel probeModel, Set<Integer> ports, String name)
+            throws KubernetesPluginException {
+        if (null == probeModel) {
+            return;
+        }
+        if (probeModel.getPort() == 0) {
+            probeModel.setPort(ports.iterator().next());
+        }
+        if (null == probeModel.getPath() && null == probeModel.getCommand()) {
+            probeModel.setPath(knativeDataHolder.getHealthCheckPath());
+        }
+        if (!"readinessProbe".equals(name) && probeModel.getSuccessThreshold() > 1) {
+            throw new KubernetesPluginException("'successThreshold' of the " + name + " in @knative:Service{} " +
+                    "must be 1.");
+        }
     }
 
     /**
@@ -197,13 +267,20 @@ public class KnativeServiceHandler extends KnativeAbstractArtifactHandler {
         knativePodSpec.setInitContainers(generateInitContainer(serviceModel));
         knativePodSpec.setVolumes(populateVolume(serviceModel));
         KnativePodTemplateSpec knativePodTemplateSpec = new KnativePodTemplateSpec();
-        knativePodTemplateSpec.setMetadata(null);
+        Map<String, String> templateAnnotations = getTemplateAnnotations(serviceModel);
+        if (!templateAnnotations.isEmpty() || null != serviceModel.getRevisionName()) {
+            knativePodTemplateSpec.setMetadata(new ObjectMetaBuilder()
+                    .withName(serviceModel.getRevisionName())
+                    .withAnnotations(templateAnnotations.isEmpty() ? null : templateAnnotations)
+                    .build());
+        }
         knativePodTemplateSpec.setSpec(knativePodSpec);
         knativeServiceSpec.setTemplate(knativePodTemplateSpec);
+        knativeServiceSpec.setTraffic(generateTraffic(serviceModel));
         knativeServiceBuild.setSpec(knativeServiceSpec);
 
         try {
-            String deploymentContent = SerializationUtils.dumpWithoutRuntimeStateAsYaml(knativeServiceBuild);
+            String deploymentContent = YamlWriter.toYaml(knativeServiceBuild);
             KnativeUtils.writeToFile(deploymentContent, DEPLOYMENT_FILE_POSTFIX + YAML);
         } catch (IOException e) {
             String errorMessage = "error while generating yaml file for deployment: " + serviceModel.getName();
@@ -211,6 +288,108 @@ public class KnativeServiceHandler extends KnativeAbstractArtifactHandler {
         }
     }
 
+    /**
+     * Generate the traffic targets of the service. Revision names of Knative are prefixed with the service name.
+     *
+     * @param serviceModel Service model.
+     * @return Traffic targets or null to route all traffic to the latest revision.
+     * @throws KubernetesPluginException If a revision name does not belong to the service.
+     */
+    List<KnativeTrafficTarget> generateTraffic(ServiceModel serviceModel) throws KubernetesPluginException {
+        String revisionPrefix = serviceModel.getName() + "-";
+        if (null != serviceModel.getRevisionName() && !serviceModel.getRevisionName().startsWith(revisionPrefix)) {
+            throw new KubernetesPluginException("revisionName of @knative:Service{} should start with '" +
+                    revisionPrefix + "': " + serviceModel.getRevisionName());
+        }
+        if (serviceModel.getTraffic().isEmpty()) {
+            return null;
+        }
+        List<KnativeTrafficTarget> trafficTargets = new ArrayList<>();
+        for (TrafficTargetModel trafficTargetModel : serviceModel.getTraffic()) {
+            String revisionName = trafficTargetModel.getRevisionName();
+            if (null != revisionName && !revisionName.startsWith(revisionPrefix)) {
+                throw new KubernetesPluginException("revisionName of a traffic target of @knative:Service{} should " +
+                        "start with '" + revisionPrefix + "': " + revisionName);
+            }
+            trafficTargets.add(new KnativeTrafficTarget(revisionName,
+                    trafficTargetModel.isLatestRevision() ? Boolean.TRUE : null,
+                    trafficTargetModel.getPercent() >= 0 ? trafficTargetModel.getPercent() : null,
+                    trafficTargetModel.getTag()));
+        }
+        return trafficTargets;
+    }
+
+    /**
+     * Get the annotations of the revision template. The autoscaling annotations of @knative:HPA{} are added to the
+     * pod annotations of the service, since Knative reads them from the revision.
+     *
+     * @param serviceModel Service model.
+     * @return Revision template annotations.
+     */
+    Map<String, String> getTemplateAnnotations(ServiceModel serviceModel) {
+        Map<String, String> annotations = new LinkedHashMap<>();
+        if (null != serviceModel.getPodAnnotations()) {
+            annotations.putAll(serviceModel.getPodAnnotations());
+        }
+        PodAutoscalerModel podAutoscalerModel = serviceModel.getPodAutoscalerModel();
+        if (null == podAutoscalerModel) {
+            return annotations;
+        }
+        if (null != podAutoscalerModel.getAutoscalerClass()) {
+            annotations.put(KNATIVE_AUTOSCALING_PREFIX + "class",
+                    podAutoscalerModel.getAutoscalerClass() + ".autoscaling.knative.dev");
+        }
+        putAutoscalingAnnotation(annotations, "metric", podAutoscalerModel.getMetric());
+        if (podAutoscalerModel.getTarget() > 0) {
+            putAutoscalingAnnotation(annotations, "target", String.valueOf(podAutoscalerModel.getTarget()));
+            if (serviceModel.getContainerConcurrency() > 0 &&
+                    podAutoscalerModel.getTarget() > serviceModel.getContainerConcurrency()) {
+                KnativeUtils.printWarning("target of @knative:HPA{} is greater than the containerConcurrency of " +
+                        serviceModel.getName() + ". the autoscaler will scale on the containerConcurrency.");
+            }
+        }
+        if (podAutoscalerModel.getTargetUtilizationPercentage() > 0) {
+            putAutoscalingAnnotation(annotations, "target-utilization-percentage",
+                    String.valueOf(podAutoscalerModel.getTargetUtilizationPercentage()));
+        }
+        if (podAutoscalerModel.getMinReplicas() >= 0) {
+            putAutoscalingAnnotation(annotations, "minScale", String.valueOf(podAutoscalerModel.getMinReplicas()));
+        }
+        if (podAutoscalerModel.getMaxReplicas() >= 0) {
+            putAutoscalingAnnotation(annotations, "maxScale", String.valueOf(podAutoscalerModel.getMaxReplicas()));
+        }
+        putAutoscalingAnnotation(annotations, "window", podAutoscalerModel.getWindow());
+        putAutoscalingAnnotation(annotations, "scale-to-zero-pod-retention-period",
+                podAutoscalerModel.getScaleToZeroPodRetentionPeriod());
+        return annotations;
+    }
+
+    private void putAutoscalingAnnotation(Map<String, String> annotations, String key, String value) {
+        if (null != value) {
+            annotations.put(KNATIVE_AUTOSCALING_PREFIX + key, value);
+        }
+    }
+
+    /**
+     * Warn when the pods of the service do not fit in the resource quotas declared in the module.
+     *
+     * @param serviceModel Service model.
+     * @throws KubernetesPluginException If a resource quantity is invalid.
+     */
+    private void checkResourceQuotas(ServiceModel serviceModel) throws KubernetesPluginException {
+        ContainerResources resources = ContainerResources.of(serviceModel);
+        int pods = Math.max(1, serviceModel.getReplicas());
+        if (null != serviceModel.getPodAutoscalerModel()) {
+            pods = Math.max(pods, serviceModel.getPodAutoscalerModel().getMaxReplicas());
+        }
+        for (ResourceQuotaModel resourceQuotaModel : knativeDataHolder.getResourceQuotaModels()) {
+            for (String violation : resources.checkQuota(serviceModel.getName(), pods, false,
+                    resourceQuotaModel.getName(), resourceQuotaModel.getHard(), resourceQuotaModel.getScopes())) {
+                KnativeUtils.printWarning(violation);
+            }
+        }
+    }
+
     @Override
     public void createArtifacts() throws KubernetesPluginException {
         try {
@@ -219,16 +398,11 @@ public class KnativeServiceHandler extends KnativeAbstractArtifactHandler {
             serviceModel.setSecretModels(knativeDataHolder.getSecretModelSet());
             serviceModel.setConfigMapModels(knativeDataHolder.getConfigMapModelSet());
             //deploymentModel.setVolumeClaimModels(knativeDataHolder.getVolumeClaimModelSet());
-            if (null != serviceModel.getLivenessProbe() && serviceModel.getLivenessProbe().getPort() == 0) {
-                //set first port as liveness port
-                serviceModel.getLivenessProbe().setPort(serviceModel.getPorts().iterator().next());
-            }
-
-            if (null != serviceModel.getReadinessProbe() && serviceModel.getReadinessProbe().getPort() == 0) {
-                //set first port as readiness port
-                serviceModel.getReadinessProbe().setPort(serviceModel.getPorts().iterator().next());
-            }
+            resolveProbe(serviceModel.getLivenessProbe(), serviceModel.getPorts(), "livenessProbe");
+            resolveProbe(serviceModel.getReadinessProbe(), serviceModel.getPorts(), "readinessProbe");
+            resolveProbe(serviceModel.getStartupProbe(), serviceModel.getPorts(), "startupProbe");
             generate(serviceModel);
+            checkResourceQuotas(serviceModel);
             OUT.println();
             OUT.print("\t@knative:Service \t\t\t - complete 1/1");
             knativeDataHolder.setDockerModel(getDockerModel(serviceModel));
@@ -18,12 +18,11 @@
 
 package org.ballerinax.kubernetes.handlers.openshift;
 
-import io.fabric8.kubernetes.client.internal.SerializationUtils;
 import io.fabric8.openshift.api.model.BuildConfig;
 import io.fabric8.openshift.api.model.BuildConfigBuilder;
-import org.ballerinax.kubernetes.ArtifactManager;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.handlers.AbstractArtifactHandler;
+import org.ballerinax.kubernetes.models.KubernetesDataHolder;
 import org.ballerinax.kubernetes.models.openshift.OpenShiftBuildExtensionModel;
 import org.ballerinax.kubernetes.utils.KubernetesUtils;
 
@@ -36,11 +35,17 @@ import static org.ballerinax.kubernetes.KubernetesConstants.DOCKER;
 import static org.ballerinax.kubernetes.KubernetesConstants.OPENSHIFT;
 import static org.ballerinax.kubernetes.KubernetesConstants.OPENSHIFT_BUILD_CONFIG_FILE_POSTFIX;
 import static org.ballerinax.kubernetes.KubernetesConstants.YAML;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.toYaml;
 
 /**
  * Generates OpenShift's Build Configs.
  */
 public class OpenShiftBuildConfigHandler extends AbstractArtifactHandler {
+
+    public OpenShiftBuildConfigHandler(KubernetesDataHolder dataHolder) {
+        super(dataHolder);
+    }
+
     @Override
     public void createArtifacts() throws KubernetesPluginException {
         OpenShiftBuildExtensionModel buildConfigModel = dataHolder.getOpenShiftBuildExtensionModel();
@@ -49,7 +54,7 @@ public class OpenShiftBuildConfigHandler extends AbstractArtifactHandler {
             OUT.println();
             OUT.print("\t@openshift:BuildConfig \t\t\t - complete 1/1");
     
-            Map<String, String> instructions = ArtifactManager.getInstructions();
+            Map<String, String> instructions = dataHolder.getInstructions();
             instructions.put("\tRun the following command to deploy the OpenShift artifacts: ",
                     "\toc apply -f " + dataHolder.getK8sArtifactOutputPath().resolve(OPENSHIFT).toAbsolutePath());
             if (dataHolder.getK8sArtifactOutputPath().toString().contains("target")) {
@@ -104,8 +109,8 @@ public class OpenShiftBuildConfigHandler extends AbstractArtifactHandler {
                     .endSpec()
                     .build();
             
-            String resourceQuotaContent = SerializationUtils.dumpWithoutRuntimeStateAsYaml(bc);
-            KubernetesUtils.writeToFile(dataHolder.getK8sArtifactOutputPath().resolve(OPENSHIFT),
+            String resourceQuotaContent = toYaml(dataHolder, bc);
+            KubernetesUtils.writeToFile(dataHolder, dataHolder.getK8sArtifactOutputPath().resolve(OPENSHIFT),
                     resourceQuotaContent, OPENSHIFT_BUILD_CONFIG_FILE_POSTFIX + YAML);
             
             // Modify instructions
@@ -18,11 +18,11 @@
 
 package org.ballerinax.kubernetes.handlers.openshift;
 
-import io.fabric8.kubernetes.client.internal.SerializationUtils;
 import io.fabric8.openshift.api.model.ImageStream;
 import io.fabric8.openshift.api.model.ImageStreamBuilder;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.handlers.AbstractArtifactHandler;
+import org.ballerinax.kubernetes.models.KubernetesDataHolder;
 import org.ballerinax.kubernetes.models.openshift.OpenShiftBuildExtensionModel;
 import org.ballerinax.kubernetes.utils.KubernetesUtils;
 
@@ -32,11 +32,17 @@ import java.util.LinkedHashMap;
 import static org.ballerinax.kubernetes.KubernetesConstants.OPENSHIFT;
 import static org.ballerinax.kubernetes.KubernetesConstants.OPENSHIFT_IMAGE_STREAM_TAG_FILE_POSTFIX;
 import static org.ballerinax.kubernetes.KubernetesConstants.YAML;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.toYaml;
 
 /**
  * Generates OpenShift's Image Streams using build configs.
  */
 public class OpenShiftImageStreamHandler extends AbstractArtifactHandler {
+
+    public OpenShiftImageStreamHandler(KubernetesDataHolder dataHolder) {
+        super(dataHolder);
+    }
+
     @Override
     public void createArtifacts() throws KubernetesPluginException {
         OpenShiftBuildExtensionModel buildConfigModel = dataHolder.getOpenShiftBuildExtensionModel();
@@ -66,9 +72,9 @@ public class OpenShiftImageStreamHandler extends AbstractArtifactHandler {
                     .endMetadata()
                     .build();
             
-            String resourceQuotaContent = SerializationUtils.dumpWithoutRuntimeStateAsYaml(is);
-            KubernetesUtils.writeToFile(dataHolder.getK8sArtifactOutputPath().resolve(OPENSHIFT), resourceQuotaContent,
-                    OPENSHIFT_IMAGE_STREAM_TAG_FILE_POSTFIX + YAML);
+            String resourceQuotaContent = toYaml(dataHolder, is);
+            KubernetesUtils.writeToFile(dataHolder, dataHolder.getK8sArtifactOutputPath().resolve(OPENSHIFT),
+                    resourceQuotaContent, OPENSHIFT_IMAGE_STREAM_TAG_FILE_POSTFIX + YAML);
         } catch (IOException e) {
             String errorMessage = "error while generating OpenShift Image Stream yaml file: " +
                                   buildConfigModel.getName();
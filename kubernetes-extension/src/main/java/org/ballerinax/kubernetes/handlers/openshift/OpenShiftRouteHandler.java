@@ -18,12 +18,11 @@
 
 package org.ballerinax.kubernetes.handlers.openshift;
 
-import io.fabric8.kubernetes.client.internal.SerializationUtils;
 import io.fabric8.openshift.api.model.Route;
 import io.fabric8.openshift.api.model.RouteBuilder;
-import org.ballerinax.kubernetes.ArtifactManager;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.handlers.AbstractArtifactHandler;
+import org.ballerinax.kubernetes.models.KubernetesDataHolder;
 import org.ballerinax.kubernetes.models.ServiceModel;
 import org.ballerinax.kubernetes.models.openshift.OpenShiftRouteModel;
 import org.ballerinax.kubernetes.utils.KubernetesUtils;
@@ -34,11 +33,17 @@ import java.util.Map;
 import static org.ballerinax.kubernetes.KubernetesConstants.OPENSHIFT;
 import static org.ballerinax.kubernetes.KubernetesConstants.OPENSHIFT_ROUTE_FILE_POSTFIX;
 import static org.ballerinax.kubernetes.KubernetesConstants.YAML;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.toYaml;
 
 /**
  * Generates OpenShift's Routes.
  */
 public class OpenShiftRouteHandler extends AbstractArtifactHandler {
+
+    public OpenShiftRouteHandler(KubernetesDataHolder dataHolder) {
+        super(dataHolder);
+    }
+
     @Override
     public void createArtifacts() throws KubernetesPluginException {
         Map<String, OpenShiftRouteModel> routeModels = dataHolder.getOpenShiftRouteModels();
@@ -46,7 +51,7 @@ public class OpenShiftRouteHandler extends AbstractArtifactHandler {
         if (size > 0) {
             OUT.println();
             // setting instructions
-            Map<String, String> instructions = ArtifactManager.getInstructions();
+            Map<String, String> instructions = dataHolder.getInstructions();
             instructions.put("\tRun the following command to deploy the OpenShift artifacts: ",
                     "\toc apply -f " + dataHolder.getK8sArtifactOutputPath().resolve(OPENSHIFT).toAbsolutePath());
             instructions.put("\tRun the following command to deploy the Kubernetes artifacts: ",
@@ -103,9 +108,9 @@ public class OpenShiftRouteHandler extends AbstractArtifactHandler {
                     .endSpec()
                     .build();
             
-            String resourceQuotaContent = SerializationUtils.dumpWithoutRuntimeStateAsYaml(route);
-            KubernetesUtils.writeToFile(dataHolder.getK8sArtifactOutputPath().resolve(OPENSHIFT), resourceQuotaContent,
-                    OPENSHIFT_ROUTE_FILE_POSTFIX + YAML);
+            String resourceQuotaContent = toYaml(dataHolder, route);
+            KubernetesUtils.writeToFile(dataHolder, dataHolder.getK8sArtifactOutputPath().resolve(OPENSHIFT),
+                    resourceQuotaContent, OPENSHIFT_ROUTE_FILE_POSTFIX + YAML);
         } catch (IOException e) {
             String errorMessage = "error while generating OpenShift Route yaml file: " +
                                   routeModel.getName();
@@ -17,6 +17,7 @@
  */
 package org.ballerinax.kubernetes.models;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
@@ -25,12 +26,15 @@ import java.util.Objects;
  */
 public class ConfigMapModel extends KubernetesModel {
     private Map<String, String> data;
+    private Map<String, String> binaryData;
     private String mountPath;
     private boolean readOnly;
+    private boolean compress;
     private String ballerinaConf;
 
     public ConfigMapModel() {
         this.readOnly = true;
+        this.binaryData = new HashMap<>();
     }
 
     public Map<String, String> getData() {
@@ -41,6 +45,14 @@ public class ConfigMapModel extends KubernetesModel {
         this.data = data;
     }
 
+    public Map<String, String> getBinaryData() {
+        return binaryData;
+    }
+
+    public void setBinaryData(Map<String, String> binaryData) {
+        this.binaryData = binaryData;
+    }
+
     public String getMountPath() {
         return mountPath;
     }
@@ -57,6 +69,14 @@ public class ConfigMapModel extends KubernetesModel {
         this.readOnly = readOnly;
     }
 
+    public boolean isCompress() {
+        return compress;
+    }
+
+    public void setCompress(boolean compress) {
+        this.compress = compress;
+    }
+
     public String getBallerinaConf() {
         return ballerinaConf;
     }
@@ -20,7 +20,10 @@ package org.ballerinax.kubernetes.models;
 import com.spotify.docker.client.DockerHost;
 import org.ballerinax.docker.generator.models.CopyFileModel;
 import org.ballerinax.kubernetes.KubernetesConstants;
+import org.ballerinax.kubernetes.models.istio.IstioSidecarModel;
+import org.ballerinax.kubernetes.utils.DependencyReadiness;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -37,10 +40,12 @@ public class DeploymentModel extends KubernetesModel {
     private int replicas;
     private ProbeModel livenessProbe;
     private ProbeModel readinessProbe;
+    private ProbeModel startupProbe;
     private String namespace;
     private String imagePullPolicy;
     private String image;
     private boolean buildImage;
+    private boolean layeredImage;
     private String baseImage;
     private Map<String, EnvVarValueModel> env;
     private String username;
@@ -60,6 +65,24 @@ public class DeploymentModel extends KubernetesModel {
     private String commandArgs;
     private boolean singleYAML;
     private String registry;
+    private String cpuRequest;
+    private String cpuLimit;
+    private String memoryRequest;
+    private String memoryLimit;
+    private String ephemeralStorageRequest;
+    private String ephemeralStorageLimit;
+    private String jvmTuningProfile;
+    private DeploymentStrategyModel strategy;
+    private Map<String, String> nodeSelector;
+    private String priorityClassName;
+    private List<NodeAffinityModel> nodeAffinity;
+    private PodAntiAffinityModel podAntiAffinity;
+    private List<TopologySpreadConstraintModel> topologySpreadConstraints;
+    private boolean colocateWithDependencies;
+    private IstioSidecarModel istioSidecar;
+    private StatefulSetModel statefulSet;
+    private int dependsOnTimeoutSeconds;
+    private int dependsOnMaxBackoffSeconds;
     private DeploymentBuildExtension buildExtension;
     private List<PodTolerationModel> podTolerations;
     
@@ -73,6 +96,11 @@ public class DeploymentModel extends KubernetesModel {
         this.env = new LinkedHashMap<>();
         this.imagePullPolicy = KubernetesConstants.ImagePullPolicy.IfNotPresent.name();
         this.dependsOn = new HashSet<>();
+        this.dependsOnTimeoutSeconds = DependencyReadiness.DEFAULT_TIMEOUT_SECONDS;
+        this.dependsOnMaxBackoffSeconds = DependencyReadiness.DEFAULT_MAX_BACKOFF_SECONDS;
+        this.nodeSelector = new LinkedHashMap<>();
+        this.nodeAffinity = new ArrayList<>();
+        this.topologySpreadConstraints = new ArrayList<>();
 
         // Configure Docker Host based on operating system.
         this.setDockerHost(DockerHost.fromEnv().host());
@@ -123,6 +151,29 @@ public class DeploymentModel extends KubernetesModel {
         }
     }
     
+    public ProbeModel getStartupProbe() {
+        return startupProbe;
+    }
+
+    public void setStartupProbe(ProbeModel startupProbe) {
+        this.startupProbe = startupProbe;
+
+        // setting default values
+        if (null != this.startupProbe) {
+            if (this.startupProbe.getInitialDelaySeconds() == -1) {
+                this.startupProbe.setInitialDelaySeconds(0);
+            }
+
+            if (this.startupProbe.getPeriodSeconds() == -1) {
+                this.startupProbe.setPeriodSeconds(5);
+            }
+
+            if (this.startupProbe.getFailureThreshold() == -1) {
+                this.startupProbe.setFailureThreshold(30);
+            }
+        }
+    }
+
     public ProbeModel getReadinessProbe() {
         return readinessProbe;
     }
@@ -214,6 +265,14 @@ public class DeploymentModel extends KubernetesModel {
         this.buildImage = buildImage;
     }
 
+    public boolean isLayeredImage() {
+        return layeredImage;
+    }
+
+    public void setLayeredImage(boolean layeredImage) {
+        this.layeredImage = layeredImage;
+    }
+
     public String getBaseImage() {
         return baseImage;
     }
@@ -354,16 +413,163 @@ public class DeploymentModel extends KubernetesModel {
         this.cmd = cmd;
     }
     
+    public String getCpuRequest() {
+        return cpuRequest;
+    }
+
+    public void setCpuRequest(String cpuRequest) {
+        this.cpuRequest = cpuRequest;
+    }
+
+    public String getCpuLimit() {
+        return cpuLimit;
+    }
+
+    public void setCpuLimit(String cpuLimit) {
+        this.cpuLimit = cpuLimit;
+    }
+
+    public String getMemoryRequest() {
+        return memoryRequest;
+    }
+
+    public void setMemoryRequest(String memoryRequest) {
+        this.memoryRequest = memoryRequest;
+    }
+
+    public String getMemoryLimit() {
+        return memoryLimit;
+    }
+
+    public void setMemoryLimit(String memoryLimit) {
+        this.memoryLimit = memoryLimit;
+    }
+
+    public String getEphemeralStorageRequest() {
+        return ephemeralStorageRequest;
+    }
+
+    public void setEphemeralStorageRequest(String ephemeralStorageRequest) {
+        this.ephemeralStorageRequest = ephemeralStorageRequest;
+    }
+
+    public String getEphemeralStorageLimit() {
+        return ephemeralStorageLimit;
+    }
+
+    public void setEphemeralStorageLimit(String ephemeralStorageLimit) {
+        this.ephemeralStorageLimit = ephemeralStorageLimit;
+    }
+
+    public String getJvmTuningProfile() {
+        return jvmTuningProfile;
+    }
+
+    public void setJvmTuningProfile(String jvmTuningProfile) {
+        this.jvmTuningProfile = jvmTuningProfile;
+    }
+
+    public DeploymentStrategyModel getStrategy() {
+        return strategy;
+    }
+
+    public void setStrategy(DeploymentStrategyModel strategy) {
+        this.strategy = strategy;
+    }
+
+    public Map<String, String> getNodeSelector() {
+        return nodeSelector;
+    }
+
+    public void setNodeSelector(Map<String, String> nodeSelector) {
+        this.nodeSelector = nodeSelector;
+    }
+
+    public String getPriorityClassName() {
+        return priorityClassName;
+    }
+
+    public void setPriorityClassName(String priorityClassName) {
+        this.priorityClassName = priorityClassName;
+    }
+
+    public List<NodeAffinityModel> getNodeAffinity() {
+        return nodeAffinity;
+    }
+
+    public void setNodeAffinity(List<NodeAffinityModel> nodeAffinity) {
+        this.nodeAffinity = nodeAffinity;
+    }
+
+    public PodAntiAffinityModel getPodAntiAffinity() {
+        return podAntiAffinity;
+    }
+
+    public void setPodAntiAffinity(PodAntiAffinityModel podAntiAffinity) {
+        this.podAntiAffinity = podAntiAffinity;
+    }
+
+    public List<TopologySpreadConstraintModel> getTopologySpreadConstraints() {
+        return topologySpreadConstraints;
+    }
+
+    public void setTopologySpreadConstraints(List<TopologySpreadConstraintModel> topologySpreadConstraints) {
+        this.topologySpreadConstraints = topologySpreadConstraints;
+    }
+
+    public boolean isColocateWithDependencies() {
+        return colocateWithDependencies;
+    }
+
+    public void setColocateWithDependencies(boolean colocateWithDependencies) {
+        this.colocateWithDependencies = colocateWithDependencies;
+    }
+
+    public IstioSidecarModel getIstioSidecar() {
+        return istioSidecar;
+    }
+
+    public void setIstioSidecar(IstioSidecarModel istioSidecar) {
+        this.istioSidecar = istioSidecar;
+    }
+
+    public StatefulSetModel getStatefulSet() {
+        return statefulSet;
+    }
+
+    public void setStatefulSet(StatefulSetModel statefulSet) {
+        this.statefulSet = statefulSet;
+    }
+
+    public int getDependsOnTimeoutSeconds() {
+        return dependsOnTimeoutSeconds;
+    }
+
+    public void setDependsOnTimeoutSeconds(int dependsOnTimeoutSeconds) {
+        this.dependsOnTimeoutSeconds = dependsOnTimeoutSeconds;
+    }
+
+    public int getDependsOnMaxBackoffSeconds() {
+        return dependsOnMaxBackoffSeconds;
+    }
+
+    public void setDependsOnMaxBackoffSeconds(int dependsOnMaxBackoffSeconds) {
+        this.dependsOnMaxBackoffSeconds = dependsOnMaxBackoffSeconds;
+    }
+
     @Override
     public String toString() {
         return "DeploymentModel{" +
                "podAnnotations=" + podAnnotations +
                ", replicas=" + replicas +
                ", livenessProbe=" + livenessProbe +
+               ", readinessProbe=" + readinessProbe +
+               ", startupProbe=" + startupProbe +
                ", namespace='" + namespace +
                ", imagePullPolicy='" + imagePullPolicy +
                ", image='" + image +
                ", buildImage=" + buildImage +
+               ", layeredImage=" + layeredImage +
                ", baseImage='" + baseImage +
                ", env=" + env +
                ", username='" + username +
@@ -385,6 +591,24 @@ public class DeploymentModel extends KubernetesModel {
                ", registry='" + registry +
                ", buildExtension=" + buildExtension +
                ", podTolerations=" + podTolerations +
+               ", cpuRequest='" + cpuRequest +
+               ", cpuLimit='" + cpuLimit +
+               ", memoryRequest='" + memoryRequest +
+               ", memoryLimit='" + memoryLimit +
+               ", ephemeralStorageRequest='" + ephemeralStorageRequest +
+               ", ephemeralStorageLimit='" + ephemeralStorageLimit +
+               ", jvmTuningProfile='" + jvmTuningProfile + '\'' +
+               ", strategy=" + strategy +
+               ", nodeSelector=" + nodeSelector +
+               ", priorityClassName='" + priorityClassName + '\'' +
+               ", nodeAffinity=" + nodeAffinity +
+               ", podAntiAffinity=" + podAntiAffinity +
+               ", topologySpreadConstraints=" + topologySpreadConstraints +
+               ", colocateWithDependencies=" + colocateWithDependencies +
+               ", istioSidecar=" + istioSidecar +
+               ", statefulSet=" + statefulSet +
+               ", dependsOnTimeoutSeconds=" + dependsOnTimeoutSeconds +
+               ", dependsOnMaxBackoffSeconds=" + dependsOnMaxBackoffSeconds +
                '}';
     }
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.models;
+
+/**
+ * Update strategy of a kubernetes deployment.
+ */
+public class DeploymentStrategyModel {
+    private String type;
+    private String maxSurge;
+    private String maxUnavailable;
+    private int minReadySeconds = -1;
+    private int progressDeadlineSeconds = -1;
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getMaxSurge() {
+        return maxSurge;
+    }
+
+    public void setMaxSurge(String maxSurge) {
+        this.maxSurge = maxSurge;
+    }
+
+    public String getMaxUnavailable() {
+        return maxUnavailable;
+    }
+
+    public void setMaxUnavailable(String maxUnavailable) {
+        this.maxUnavailable = maxUnavailable;
+    }
+
+    public int getMinReadySeconds() {
+        return minReadySeconds;
+    }
+
+    public void setMinReadySeconds(int minReadySeconds) {
+        this.minReadySeconds = minReadySeconds;
+    }
+
+    public int getProgressDeadlineSeconds() {
+        return progressDeadlineSeconds;
+    }
+
+    public void setProgressDeadlineSeconds(int progressDeadlineSeconds) {
+        this.progressDeadlineSeconds = progressDeadlineSeconds;
+    }
+
+    @Override
+    public String toString() {
+        return "DeploymentStrategyModel{" +
+                "type='" + type + '\'' +
+                ", maxSurge='" + maxSurge + '\'' +
+                ", maxUnavailable='" + maxUnavailable + '\'' +
+                ", minReadySeconds=" + minReadySeconds +
+                ", progressDeadlineSeconds=" + progressDeadlineSeconds +
+                '}';
+    }
+}
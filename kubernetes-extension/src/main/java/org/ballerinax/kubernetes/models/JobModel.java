@@ -53,6 +53,12 @@ public class JobModel extends KubernetesModel {
     private Set<CopyFileModel> copyFiles;
     private boolean singleYAML;
     private String registry;
+    private String cpuRequest;
+    private String cpuLimit;
+    private String memoryRequest;
+    private String memoryLimit;
+    private String ephemeralStorageRequest;
+    private String ephemeralStorageLimit;
     
     public JobModel() {
         this.labels = new HashMap<>();
@@ -232,4 +238,52 @@ public class JobModel extends KubernetesModel {
     public void setCmd(String cmd) {
         this.cmd = cmd;
     }
+
+    public String getCpuRequest() {
+        return cpuRequest;
+    }
+
+    public void setCpuRequest(String cpuRequest) {
+        this.cpuRequest = cpuRequest;
+    }
+
+    public String getCpuLimit() {
+        return cpuLimit;
+    }
+
+    public void setCpuLimit(String cpuLimit) {
+        this.cpuLimit = cpuLimit;
+    }
+
+    public String getMemoryRequest() {
+        return memoryRequest;
+    }
+
+    public void setMemoryRequest(String memoryRequest) {
+        this.memoryRequest = memoryRequest;
+    }
+
+    public String getMemoryLimit() {
+        return memoryLimit;
+    }
+
+    public void setMemoryLimit(String memoryLimit) {
+        this.memoryLimit = memoryLimit;
+    }
+
+    public String getEphemeralStorageRequest() {
+        return ephemeralStorageRequest;
+    }
+
+    public void setEphemeralStorageRequest(String ephemeralStorageRequest) {
+        this.ephemeralStorageRequest = ephemeralStorageRequest;
+    }
+
+    public String getEphemeralStorageLimit() {
+        return ephemeralStorageLimit;
+    }
+
+    public void setEphemeralStorageLimit(String ephemeralStorageLimit) {
+        this.ephemeralStorageLimit = ephemeralStorageLimit;
+    }
 }
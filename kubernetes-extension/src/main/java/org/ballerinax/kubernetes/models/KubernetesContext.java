@@ -23,43 +23,39 @@ import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.wso2.ballerinalang.compiler.util.Names;
 
 import java.nio.file.Path;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.isBlank;
 
 /**
- * Class to hold Kubernetes data holder against package id.
+ * Class to hold Kubernetes data holder against package id. Modules may be compiled concurrently, hence the data
+ * holders are kept in a concurrent map. The data holder of a module is passed explicitly to the processors, the
+ * handlers and the artifact manager working on that module.
  */
 public class KubernetesContext {
-    private static KubernetesContext instance;
+    private static final KubernetesContext INSTANCE = new KubernetesContext();
     private final Map<PackageID, KubernetesDataHolder> packageIDtoDataHolderMap;
-    private PackageID currentPackage;
 
     private KubernetesContext() {
-        packageIDtoDataHolderMap = new HashMap<>();
+        packageIDtoDataHolderMap = new ConcurrentHashMap<>();
     }
 
     public static KubernetesContext getInstance() {
-        synchronized (KubernetesDataHolder.class) {
-            if (instance == null) {
-                instance = new KubernetesContext();
-            }
-        }
-        return instance;
-    }
-
-    public void addDataHolder(PackageID packageID, Path sourcePath) {
-        this.currentPackage = packageID;
-        this.packageIDtoDataHolderMap.put(packageID, new KubernetesDataHolder(sourcePath));
+        return INSTANCE;
     }
 
-    public void setCurrentPackage(PackageID packageID) {
-        this.currentPackage = packageID;
-    }
-
-    public KubernetesDataHolder getDataHolder() {
-        return this.packageIDtoDataHolderMap.get(this.currentPackage);
+    /**
+     * Create a new data holder for a module.
+     *
+     * @param packageID  Module.
+     * @param sourcePath Source root of the module.
+     * @return Data holder of the module.
+     */
+    public KubernetesDataHolder addDataHolder(PackageID packageID, Path sourcePath) {
+        KubernetesDataHolder dataHolder = new KubernetesDataHolder(sourcePath);
+        this.packageIDtoDataHolderMap.put(packageID, dataHolder);
+        return dataHolder;
     }
 
     public KubernetesDataHolder getDataHolder(PackageID packageID) {
@@ -71,11 +67,16 @@ public class KubernetesContext {
     }
 
     public String getServiceName(String dependsOn) throws KubernetesPluginException {
+        return getServiceModel(dependsOn).getName();
+    }
+
+    public ServiceModel getServiceModel(String dependsOn) throws KubernetesPluginException {
         String packageName = dependsOn.substring(0, dependsOn.indexOf(Names.VERSION_SEPARATOR.value));
         String listener = dependsOn.substring(dependsOn.indexOf(Names.VERSION_SEPARATOR.value) + 1);
         for (PackageID packageID : packageIDtoDataHolderMap.keySet()) {
-            if (packageName.equals(packageID.name.value)) {
-                return getDataHolder(packageID).getbListenerToK8sServiceMap().get(listener).getName();
+            if (packageName.equals(packageID.name.value) &&
+                    getDataHolder(packageID).getbListenerToK8sServiceMap().containsKey(listener)) {
+                return getDataHolder(packageID).getbListenerToK8sServiceMap().get(listener);
             }
         }
         throw new KubernetesPluginException("dependent listener " + dependsOn + " is not annotated with " +
@@ -96,4 +97,28 @@ public class KubernetesContext {
         }
         throw new KubernetesPluginException("dependent listener " + dependsOn + " not found.");
     }
+
+    public DeploymentModel getDeploymentModelFromListener(String dependsOn) throws KubernetesPluginException {
+        return getDataHolderFromListener(dependsOn).getDeploymentModel();
+    }
+
+    public KubernetesDataHolder getDataHolderFromListener(String dependsOn) throws KubernetesPluginException {
+        String packageName = dependsOn.substring(0, dependsOn.indexOf(Names.VERSION_SEPARATOR.value));
+        for (PackageID packageID : packageIDtoDataHolderMap.keySet()) {
+            if (packageName.equals(packageID.name.value)) {
+                return getDataHolder(packageID);
+            }
+        }
+        throw new KubernetesPluginException("dependent listener " + dependsOn + " not found.");
+    }
+
+    public String getNamespaceFromListener(String dependsOn) throws KubernetesPluginException {
+        String packageName = dependsOn.substring(0, dependsOn.indexOf(Names.VERSION_SEPARATOR.value));
+        for (PackageID packageID : packageIDtoDataHolderMap.keySet()) {
+            if (packageName.equals(packageID.name.value)) {
+                return getDataHolder(packageID).getNamespace();
+            }
+        }
+        throw new KubernetesPluginException("dependent listener " + dependsOn + " not found.");
+    }
 }
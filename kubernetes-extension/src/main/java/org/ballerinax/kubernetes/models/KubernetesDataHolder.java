@@ -18,13 +18,18 @@
 
 package org.ballerinax.kubernetes.models;
 
+import io.fabric8.kubernetes.api.model.HasMetadata;
 import org.ballerinax.docker.generator.models.DockerModel;
+import org.ballerinax.kubernetes.models.istio.IstioDestinationRuleModel;
 import org.ballerinax.kubernetes.models.istio.IstioGatewayModel;
 import org.ballerinax.kubernetes.models.istio.IstioVirtualServiceModel;
 import org.ballerinax.kubernetes.models.openshift.OpenShiftBuildExtensionModel;
 import org.ballerinax.kubernetes.models.openshift.OpenShiftRouteModel;
+import org.ballerinax.kubernetes.utils.ArtifactSink;
+import org.ballerinax.kubernetes.utils.BuildMetrics;
 
 import java.nio.file.Path;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -39,6 +44,7 @@ public class KubernetesDataHolder {
     private DeploymentModel deploymentModel;
     private DockerModel dockerModel;
     private PodAutoscalerModel podAutoscalerModel;
+    private PodDisruptionBudgetModel podDisruptionBudgetModel;
     private Map<String, ServiceModel> bListenerToK8sServiceMap;
     private Map<String, Set<SecretModel>> bListenerToSecretMap;
     private Set<SecretModel> secretModelSet;
@@ -48,13 +54,21 @@ public class KubernetesDataHolder {
     private Set<ResourceQuotaModel> resourceQuotaModels;
     private Map<String, IstioGatewayModel> istioGatewayModels;
     private Map<String, IstioVirtualServiceModel> istioVirtualServiceModels;
+    private Map<String, IstioDestinationRuleModel> istioDestinationRuleModels;
     private OpenShiftBuildExtensionModel openShiftBuildExtensionModel;
     private Map<String, OpenShiftRouteModel> openShiftRouteModels;
     private JobModel jobModel;
     private Path uberJarPath;
     private Path k8sArtifactOutputPath;
     private Path dockerArtifactOutputPath;
+    private Path generationCachePath;
+    private ArtifactSink artifactSink;
+    private final BuildMetrics buildMetrics;
+    private final Map<String, String> instructions;
+    private final Map<String, HasMetadata> helmResources;
     private String namespace;
+    private final Map<Integer, String> healthCheckPaths;
+    private final Map<String, Integer> listenerPorts;
     private Path sourceRoot;
     private boolean isProject = false;
 
@@ -70,7 +84,13 @@ public class KubernetesDataHolder {
         this.resourceQuotaModels = new HashSet<>();
         this.istioGatewayModels = new LinkedHashMap<>();
         this.istioVirtualServiceModels = new LinkedHashMap<>();
+        this.istioDestinationRuleModels = new LinkedHashMap<>();
         this.openShiftRouteModels = new LinkedHashMap<>();
+        this.buildMetrics = new BuildMetrics();
+        this.instructions = new LinkedHashMap<>();
+        this.helmResources = Collections.synchronizedMap(new LinkedHashMap<>());
+        this.healthCheckPaths = new HashMap<>();
+        this.listenerPorts = new HashMap<>();
     }
     
     public Path getSourceRoot() {
@@ -101,6 +121,14 @@ public class KubernetesDataHolder {
         this.podAutoscalerModel = podAutoscalerModel;
     }
 
+    public PodDisruptionBudgetModel getPodDisruptionBudgetModel() {
+        return podDisruptionBudgetModel;
+    }
+
+    public void setPodDisruptionBudgetModel(PodDisruptionBudgetModel podDisruptionBudgetModel) {
+        this.podDisruptionBudgetModel = podDisruptionBudgetModel;
+    }
+
     public Map<String, Set<SecretModel>> getSecretModels() {
         return bListenerToSecretMap;
     }
@@ -201,6 +229,63 @@ public class KubernetesDataHolder {
         this.dockerArtifactOutputPath = dockerArtifactOutputPath;
     }
     
+    public Path getGenerationCachePath() {
+        return generationCachePath;
+    }
+    
+    public void setGenerationCachePath(Path generationCachePath) {
+        this.generationCachePath = generationCachePath;
+    }
+    
+    public ArtifactSink getArtifactSink() {
+        return artifactSink;
+    }
+    
+    public void setArtifactSink(ArtifactSink artifactSink) {
+        this.artifactSink = artifactSink;
+    }
+    
+    /**
+     * Timings of the build phases of the module.
+     *
+     * @return Build metrics of the module.
+     */
+    public BuildMetrics getBuildMetrics() {
+        return buildMetrics;
+    }
+    
+    /**
+     * Deployment instructions printed once the artifacts of the module are generated. Kept per module so that
+     * modules compiled concurrently do not print each other's instructions.
+     *
+     * @return Instructions of the module keyed by their description.
+     */
+    public Map<String, String> getInstructions() {
+        return instructions;
+    }
+    
+    /**
+     * Record a workload or an autoscaler emitted in this generation pass, so that the Helm templates parameterise
+     * it from the resource instead of reading back its yaml.
+     *
+     * @param document Yaml document the resource is emitted as.
+     * @param resource Emitted resource.
+     */
+    public void addHelmResource(String document, HasMetadata resource) {
+        helmResources.put(document, resource);
+    }
+    
+    /**
+     * Get the resources recorded for the Helm templates in the order they were emitted.
+     *
+     * @return Resources keyed by the yaml document they are emitted as.
+     */
+    public Map<String, HasMetadata> getHelmResources() {
+        synchronized (helmResources) {
+            return new LinkedHashMap<>(helmResources);
+        }
+    }
+    
     public DockerModel getDockerModel() {
         return dockerModel;
     }
@@ -216,6 +301,39 @@ public class KubernetesDataHolder {
     public void setNamespace(String namespace) {
         this.namespace = namespace;
     }
+
+    /**
+     * Get the path of the health check resource served on a port.
+     *
+     * @param port Port of the listener.
+     * @return Path of the health check resource or null if no service on the port has one.
+     */
+    public String getHealthCheckPath(int port) {
+        return healthCheckPaths.get(port);
+    }
+    
+    /**
+     * Record the path of a health check resource served on a port. The first health check found for a port is
+     * kept.
+     *
+     * @param port            Port of the listener.
+     * @param healthCheckPath Path of the health check resource.
+     */
+    public void addHealthCheckPath(int port, String healthCheckPath) {
+        healthCheckPaths.putIfAbsent(port, healthCheckPath);
+    }
+    
+    public Map<Integer, String> getHealthCheckPaths() {
+        return healthCheckPaths;
+    }
+    
+    public Map<String, Integer> getListenerPorts() {
+        return listenerPorts;
+    }
+    
+    public void addListenerPort(String listenerName, int port) {
+        listenerPorts.put(listenerName, port);
+    }
     
     public Map<String, IstioGatewayModel> getIstioGatewayModels() {
         return istioGatewayModels;
@@ -241,6 +359,18 @@ public class KubernetesDataHolder {
         this.istioVirtualServiceModels.put(serviceName, istioVirtualServiceModel);
     }
     
+    public Map<String, IstioDestinationRuleModel> getIstioDestinationRuleModels() {
+        return istioDestinationRuleModels;
+    }
+    
+    public IstioDestinationRuleModel getIstioDestinationRuleModel(String serviceName) {
+        return istioDestinationRuleModels.get(serviceName);
+    }
+    
+    public void addIstioDestinationRuleModel(String serviceName, IstioDestinationRuleModel istioDestinationRuleModel) {
+        this.istioDestinationRuleModels.put(serviceName, istioDestinationRuleModel);
+    }
+    
     public OpenShiftBuildExtensionModel getOpenShiftBuildExtensionModel() {
         return openShiftBuildExtensionModel;
     }
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.models;
+
+import static org.ballerinax.kubernetes.KubernetesConstants.AFFINITY_PREFERRED;
+import static org.ballerinax.kubernetes.KubernetesConstants.TOPOLOGY_KEY_HOSTNAME;
+
+/**
+ * Pod anti-affinity model which spreads the replicas of a deployment.
+ */
+public class PodAntiAffinityModel {
+    private String type = AFFINITY_PREFERRED;
+    private String topologyKey = TOPOLOGY_KEY_HOSTNAME;
+    private int weight = 100;
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getTopologyKey() {
+        return topologyKey;
+    }
+
+    public void setTopologyKey(String topologyKey) {
+        this.topologyKey = topologyKey;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    public void setWeight(int weight) {
+        this.weight = weight;
+    }
+
+    @Override
+    public String toString() {
+        return "PodAntiAffinityModel{" +
+                "type='" + type + '\'' +
+                ", topologyKey='" + topologyKey + '\'' +
+                ", weight=" + weight +
+                '}';
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.models;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Pods, Object or External metric of a horizontal pod autoscaler.
+ */
+public class PodAutoscalerMetricModel {
+    private String type;
+    private String name;
+    private Map<String, String> selector = new LinkedHashMap<>();
+    private String value;
+    private String averageValue;
+    private String objectApiVersion;
+    private String objectKind;
+    private String objectName;
+    
+    public String getType() {
+        return type;
+    }
+    
+    public void setType(String type) {
+        this.type = type;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public void setName(String name) {
+        this.name = name;
+    }
+    
+    public Map<String, String> getSelector() {
+        return selector;
+    }
+    
+    public void setSelector(Map<String, String> selector) {
+        this.selector = selector;
+    }
+    
+    public String getValue() {
+        return value;
+    }
+    
+    public void setValue(String value) {
+        this.value = value;
+    }
+    
+    public String getAverageValue() {
+        return averageValue;
+    }
+    
+    public void setAverageValue(String averageValue) {
+        this.averageValue = averageValue;
+    }
+    
+    public String getObjectApiVersion() {
+        return objectApiVersion;
+    }
+    
+    public void setObjectApiVersion(String objectApiVersion) {
+        this.objectApiVersion = objectApiVersion;
+    }
+    
+    public String getObjectKind() {
+        return objectKind;
+    }
+    
+    public void setObjectKind(String objectKind) {
+        this.objectKind = objectKind;
+    }
+    
+    public String getObjectName() {
+        return objectName;
+    }
+    
+    public void setObjectName(String objectName) {
+        this.objectName = objectName;
+    }
+}
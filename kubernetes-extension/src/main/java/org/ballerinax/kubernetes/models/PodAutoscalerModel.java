@@ -19,6 +19,8 @@
 package org.ballerinax.kubernetes.models;
 
 import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
 
 /**
  * Kubernetes Pod Autoscaler annotations model class.
@@ -27,10 +29,15 @@ public class PodAutoscalerModel extends KubernetesModel {
     private int minReplicas;
     private int maxReplicas;
     private int cpuPercentage;
+    private int memoryPercentage;
+    private List<PodAutoscalerMetricModel> metrics;
+    private PodAutoscalerScalingRulesModel scaleUp;
+    private PodAutoscalerScalingRulesModel scaleDown;
     private String deployment;
 
     public PodAutoscalerModel() {
         this.cpuPercentage = 50;
+        this.metrics = new LinkedList<>();
         labels = new HashMap<>();
     }
 
@@ -58,6 +65,48 @@ public class PodAutoscalerModel extends KubernetesModel {
         this.cpuPercentage = cpuPercentage;
     }
 
+    public int getMemoryPercentage() {
+        return memoryPercentage;
+    }
+
+    public void setMemoryPercentage(int memoryPercentage) {
+        this.memoryPercentage = memoryPercentage;
+    }
+
+    public List<PodAutoscalerMetricModel> getMetrics() {
+        return metrics;
+    }
+
+    public void setMetrics(List<PodAutoscalerMetricModel> metrics) {
+        this.metrics = metrics;
+    }
+
+    public PodAutoscalerScalingRulesModel getScaleUp() {
+        return scaleUp;
+    }
+
+    public void setScaleUp(PodAutoscalerScalingRulesModel scaleUp) {
+        this.scaleUp = scaleUp;
+    }
+
+    public PodAutoscalerScalingRulesModel getScaleDown() {
+        return scaleDown;
+    }
+
+    public void setScaleDown(PodAutoscalerScalingRulesModel scaleDown) {
+        this.scaleDown = scaleDown;
+    }
+
+    /**
+     * Check whether the autoscaler uses more than the cpu utilization metric, which requires the autoscaling/v2
+     * api.
+     *
+     * @return true if memory, custom metrics or scaling behavior is configured.
+     */
+    public boolean isAutoscalingV2() {
+        return memoryPercentage > 0 || !metrics.isEmpty() || null != scaleUp || null != scaleDown;
+    }
+
     public String getDeployment() {
         return deployment;
     }
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.models;
+
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Scale up or scale down rules of the horizontal pod autoscaler behavior.
+ */
+public class PodAutoscalerScalingRulesModel {
+    private int stabilizationWindowSeconds = -1;
+    private String selectPolicy;
+    private List<ScalingPolicy> policies = new LinkedList<>();
+    
+    public int getStabilizationWindowSeconds() {
+        return stabilizationWindowSeconds;
+    }
+    
+    public void setStabilizationWindowSeconds(int stabilizationWindowSeconds) {
+        this.stabilizationWindowSeconds = stabilizationWindowSeconds;
+    }
+    
+    public String getSelectPolicy() {
+        return selectPolicy;
+    }
+    
+    public void setSelectPolicy(String selectPolicy) {
+        this.selectPolicy = selectPolicy;
+    }
+    
+    public List<ScalingPolicy> getPolicies() {
+        return policies;
+    }
+    
+    public void setPolicies(List<ScalingPolicy> policies) {
+        this.policies = policies;
+    }
+    
+    /**
+     * Scaling policy which limits the change of replicas within a period.
+     */
+    public static class ScalingPolicy {
+        private String type;
+        private int value;
+        private int periodSeconds;
+        
+        public String getType() {
+            return type;
+        }
+        
+        public void setType(String type) {
+            this.type = type;
+        }
+        
+        public int getValue() {
+            return value;
+        }
+        
+        public void setValue(int value) {
+            this.value = value;
+        }
+        
+        public int getPeriodSeconds() {
+            return periodSeconds;
+        }
+        
+        public void setPeriodSeconds(int periodSeconds) {
+            this.periodSeconds = periodSeconds;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.models;
+
+import java.util.LinkedHashMap;
+
+/**
+ * Kubernetes pod disruption budget annotations model class.
+ */
+public class PodDisruptionBudgetModel extends KubernetesModel {
+    private String minAvailable;
+    private String maxUnavailable;
+    private String deployment;
+
+    public PodDisruptionBudgetModel() {
+        labels = new LinkedHashMap<>();
+    }
+
+    public String getMinAvailable() {
+        return minAvailable;
+    }
+
+    public void setMinAvailable(String minAvailable) {
+        this.minAvailable = minAvailable;
+    }
+
+    public String getMaxUnavailable() {
+        return maxUnavailable;
+    }
+
+    public void setMaxUnavailable(String maxUnavailable) {
+        this.maxUnavailable = maxUnavailable;
+    }
+
+    public String getDeployment() {
+        return deployment;
+    }
+
+    public void setDeployment(String deployment) {
+        this.deployment = deployment;
+    }
+
+    public void addLabel(String key, String value) {
+        this.labels.put(key, value);
+    }
+
+    @Override
+    public String toString() {
+        return "PodDisruptionBudgetModel{" +
+                "name='" + getName() + '\'' +
+                ", labels=" + getLabels() +
+                ", minAvailable='" + minAvailable + '\'' +
+                ", maxUnavailable='" + maxUnavailable + '\'' +
+                ", deployment='" + deployment + '\'' +
+                '}';
+    }
+}
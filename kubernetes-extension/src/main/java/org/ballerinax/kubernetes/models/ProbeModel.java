@@ -18,6 +18,8 @@
 
 package org.ballerinax.kubernetes.models;
 
+import java.util.List;
+
 /**
  * Probe configuration for kubernetes.
  */
@@ -25,6 +27,11 @@ public class ProbeModel {
     private int port;
     private int initialDelaySeconds = -1;
     private int periodSeconds = -1;
+    private int timeoutSeconds = -1;
+    private int successThreshold = -1;
+    private int failureThreshold = -1;
+    private String path;
+    private List<String> command;
     
     public int getPort() {
         return port;
@@ -49,4 +56,44 @@ public class ProbeModel {
     public void setPeriodSeconds(int periodSeconds) {
         this.periodSeconds = periodSeconds;
     }
+
+    public int getTimeoutSeconds() {
+        return timeoutSeconds;
+    }
+
+    public void setTimeoutSeconds(int timeoutSeconds) {
+        this.timeoutSeconds = timeoutSeconds;
+    }
+
+    public int getSuccessThreshold() {
+        return successThreshold;
+    }
+
+    public void setSuccessThreshold(int successThreshold) {
+        this.successThreshold = successThreshold;
+    }
+
+    public int getFailureThreshold() {
+        return failureThreshold;
+    }
+
+    public void setFailureThreshold(int failureThreshold) {
+        this.failureThreshold = failureThreshold;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public List<String> getCommand() {
+        return command;
+    }
+
+    public void setCommand(List<String> command) {
+        this.command = command;
+    }
 }
@@ -27,6 +27,7 @@ public class SecretModel extends KubernetesModel {
     private Map<String, String> data;
     private String mountPath;
     private boolean readOnly;
+    private boolean compress;
 
     public SecretModel() {
         this.readOnly = true;
@@ -56,6 +57,14 @@ public class SecretModel extends KubernetesModel {
         this.readOnly = readOnly;
     }
 
+    public boolean isCompress() {
+        return compress;
+    }
+
+    public void setCompress(boolean compress) {
+        this.compress = compress;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.models;
+
+/**
+ * StatefulSet mode of a kubernetes deployment. Each replica gets its own persistent volume claims and a stable
+ * network identity through a headless service.
+ */
+public class StatefulSetModel {
+    private String serviceName;
+    private String podManagementPolicy;
+    private int partition = -1;
+
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    public void setServiceName(String serviceName) {
+        this.serviceName = serviceName;
+    }
+
+    public String getPodManagementPolicy() {
+        return podManagementPolicy;
+    }
+
+    public void setPodManagementPolicy(String podManagementPolicy) {
+        this.podManagementPolicy = podManagementPolicy;
+    }
+
+    public int getPartition() {
+        return partition;
+    }
+
+    public void setPartition(int partition) {
+        this.partition = partition;
+    }
+
+    @Override
+    public String toString() {
+        return "StatefulSetModel{" +
+                "serviceName='" + serviceName + '\'' +
+                ", podManagementPolicy='" + podManagementPolicy + '\'' +
+                ", partition=" + partition +
+                '}';
+    }
+}
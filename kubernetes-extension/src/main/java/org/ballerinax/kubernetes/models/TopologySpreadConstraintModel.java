@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.models;
+
+import static org.ballerinax.kubernetes.KubernetesConstants.TOPOLOGY_KEY_HOSTNAME;
+
+/**
+ * Topology spread constraint model.
+ */
+public class TopologySpreadConstraintModel {
+    private String topologyKey = TOPOLOGY_KEY_HOSTNAME;
+    private int maxSkew = 1;
+    private String whenUnsatisfiable = "ScheduleAnyway";
+
+    public String getTopologyKey() {
+        return topologyKey;
+    }
+
+    public void setTopologyKey(String topologyKey) {
+        this.topologyKey = topologyKey;
+    }
+
+    public int getMaxSkew() {
+        return maxSkew;
+    }
+
+    public void setMaxSkew(int maxSkew) {
+        this.maxSkew = maxSkew;
+    }
+
+    public String getWhenUnsatisfiable() {
+        return whenUnsatisfiable;
+    }
+
+    public void setWhenUnsatisfiable(String whenUnsatisfiable) {
+        this.whenUnsatisfiable = whenUnsatisfiable;
+    }
+
+    @Override
+    public String toString() {
+        return "TopologySpreadConstraintModel{" +
+                "topologyKey='" + topologyKey + '\'' +
+                ", maxSkew=" + maxSkew +
+                ", whenUnsatisfiable='" + whenUnsatisfiable + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.models.istio;
+
+/**
+ * Istio destination rule annotation's consistent hash load balancer model class.
+ *
+ * @since 1.0.1
+ */
+public class IstioConsistentHash {
+    private String httpHeaderName;
+    private String httpCookieName;
+    private long httpCookieTtl = -1;
+    private boolean useSourceIp;
+    private int minimumRingSize = -1;
+    
+    public String getHttpHeaderName() {
+        return httpHeaderName;
+    }
+    
+    public void setHttpHeaderName(String httpHeaderName) {
+        this.httpHeaderName = httpHeaderName;
+    }
+    
+    public String getHttpCookieName() {
+        return httpCookieName;
+    }
+    
+    public void setHttpCookieName(String httpCookieName) {
+        this.httpCookieName = httpCookieName;
+    }
+    
+    public long getHttpCookieTtl() {
+        return httpCookieTtl;
+    }
+    
+    public void setHttpCookieTtl(long httpCookieTtl) {
+        this.httpCookieTtl = httpCookieTtl;
+    }
+    
+    public boolean isUseSourceIp() {
+        return useSourceIp;
+    }
+    
+    public void setUseSourceIp(boolean useSourceIp) {
+        this.useSourceIp = useSourceIp;
+    }
+    
+    public int getMinimumRingSize() {
+        return minimumRingSize;
+    }
+    
+    public void setMinimumRingSize(int minimumRingSize) {
+        this.minimumRingSize = minimumRingSize;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.models.istio;
+
+import org.ballerinax.kubernetes.models.KubernetesModel;
+
+import java.util.List;
+
+/**
+ * Istio destination rule annotation model class.
+ *
+ * @since 1.0.1
+ */
+public class IstioDestinationRuleModel extends KubernetesModel {
+    private String host;
+    private String loadBalancer;
+    private IstioConsistentHash consistentHash;
+    private IstioConnectionPool connectionPool;
+    private IstioOutlierDetection outlierDetection;
+    private List<IstioSubset> subsets;
+    
+    public String getHost() {
+        return host;
+    }
+    
+    public void setHost(String host) {
+        this.host = host;
+    }
+    
+    public String getLoadBalancer() {
+        return loadBalancer;
+    }
+    
+    public void setLoadBalancer(String loadBalancer) {
+        this.loadBalancer = loadBalancer;
+    }
+    
+    public IstioConsistentHash getConsistentHash() {
+        return consistentHash;
+    }
+    
+    public void setConsistentHash(IstioConsistentHash consistentHash) {
+        this.consistentHash = consistentHash;
+    }
+    
+    public IstioConnectionPool getConnectionPool() {
+        return connectionPool;
+    }
+    
+    public void setConnectionPool(IstioConnectionPool connectionPool) {
+        this.connectionPool = connectionPool;
+    }
+    
+    public IstioOutlierDetection getOutlierDetection() {
+        return outlierDetection;
+    }
+    
+    public void setOutlierDetection(IstioOutlierDetection outlierDetection) {
+        this.outlierDetection = outlierDetection;
+    }
+    
+    public List<IstioSubset> getSubsets() {
+        return subsets;
+    }
+    
+    public void setSubsets(List<IstioSubset> subsets) {
+        this.subsets = subsets;
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.models.istio;
+
+/**
+ * Istio virtual service annotation's http fault injection model class.
+ *
+ * @since 1.0.1
+ */
+public class IstioHttpFault {
+    private int delayPercent = -1;
+    private long fixedDelay = -1;
+    private int abortPercent = -1;
+    private int abortHttpStatus = -1;
+    
+    public int getDelayPercent() {
+        return delayPercent;
+    }
+    
+    public void setDelayPercent(int delayPercent) {
+        this.delayPercent = delayPercent;
+    }
+    
+    public long getFixedDelay() {
+        return fixedDelay;
+    }
+    
+    public void setFixedDelay(long fixedDelay) {
+        this.fixedDelay = fixedDelay;
+    }
+    
+    public int getAbortPercent() {
+        return abortPercent;
+    }
+    
+    public void setAbortPercent(int abortPercent) {
+        this.abortPercent = abortPercent;
+    }
+    
+    public int getAbortHttpStatus() {
+        return abortHttpStatus;
+    }
+    
+    public void setAbortHttpStatus(int abortHttpStatus) {
+        this.abortHttpStatus = abortHttpStatus;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.models.istio;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Istio virtual service annotation's http match request model class.
+ *
+ * @since 1.0.1
+ */
+public class IstioHttpMatch {
+    private String uriPrefix;
+    private String uriRegex;
+    private Map<String, String> headers = new LinkedHashMap<>();
+    
+    public String getUriPrefix() {
+        return uriPrefix;
+    }
+    
+    public void setUriPrefix(String uriPrefix) {
+        this.uriPrefix = uriPrefix;
+    }
+    
+    public String getUriRegex() {
+        return uriRegex;
+    }
+    
+    public void setUriRegex(String uriRegex) {
+        this.uriRegex = uriRegex;
+    }
+    
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+    
+    public void setHeaders(Map<String, String> headers) {
+        this.headers = headers;
+    }
+}
@@ -28,10 +28,23 @@ import java.util.Map;
  * @since 0.985.0
  */
 public class IstioHttpRoute {
+    private List<IstioHttpMatch> match;
     private List<IstioDestinationWeight> route;
     private long timeout = -1;
+    private IstioHttpRetry retries;
+    private IstioHttpFault fault;
+    private IstioDestination mirror;
+    private int mirrorPercent = -1;
     private Map<String, String> appendHeaders = new LinkedHashMap<>();
     
+    public List<IstioHttpMatch> getMatch() {
+        return match;
+    }
+    
+    public void setMatch(List<IstioHttpMatch> match) {
+        this.match = match;
+    }
+    
     public List<IstioDestinationWeight> getRoute() {
         return route;
     }
@@ -48,6 +61,38 @@ public class IstioHttpRoute {
         this.timeout = timeout;
     }
     
+    public IstioHttpRetry getRetries() {
+        return retries;
+    }
+    
+    public void setRetries(IstioHttpRetry retries) {
+        this.retries = retries;
+    }
+    
+    public IstioHttpFault getFault() {
+        return fault;
+    }
+    
+    public void setFault(IstioHttpFault fault) {
+        this.fault = fault;
+    }
+    
+    public IstioDestination getMirror() {
+        return mirror;
+    }
+    
+    public void setMirror(IstioDestination mirror) {
+        this.mirror = mirror;
+    }
+    
+    public int getMirrorPercent() {
+        return mirrorPercent;
+    }
+    
+    public void setMirrorPercent(int mirrorPercent) {
+        this.mirrorPercent = mirrorPercent;
+    }
+    
     public Map<String, String> getAppendHeaders() {
         return appendHeaders;
     }
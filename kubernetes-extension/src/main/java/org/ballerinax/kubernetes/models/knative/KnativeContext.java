@@ -95,4 +95,13 @@ public class KnativeContext {
         throw new KubernetesPluginException("dependent listener " + dependsOn + " not found.");
     }
 
+    public ServiceModel getServiceModelFromListener(String dependsOn) throws KubernetesPluginException {
+        String packageName = dependsOn.substring(0, dependsOn.indexOf(Names.VERSION_SEPARATOR.value));
+        for (PackageID packageID : packageIDtoDataHolderMap.keySet()) {
+            if (packageName.equals(packageID.name.value)) {
+                return getDataHolder(packageID).getServiceModel();
+            }
+        }
+        throw new KubernetesPluginException("dependent listener " + dependsOn + " not found.");
+    }
 }
@@ -44,6 +44,7 @@ public class KnativeDataHolder {
     private Path k8sArtifactOutputPath;
     private Path dockerArtifactOutputPath;
     private String namespace;
+    private String healthCheckPath;
     private Path sourceRoot;
     private boolean isProject = false;
 
@@ -180,4 +181,12 @@ public class KnativeDataHolder {
         this.namespace = namespace;
     }
 
+    public String getHealthCheckPath() {
+        return healthCheckPath;
+    }
+
+    public void setHealthCheckPath(String healthCheckPath) {
+        this.healthCheckPath = healthCheckPath;
+    }
+
 }
@@ -29,9 +29,19 @@ public class PodAutoscalerModel extends KnativeModel {
     private int minReplicas;
     private int maxReplicas;
     private String deployment;
+    private String autoscalerClass;
+    private String metric;
+    private int target;
+    private int targetUtilizationPercentage;
+    private String window;
+    private String scaleToZeroPodRetentionPeriod;
 
     public PodAutoscalerModel() {
         labels = new HashMap<>();
+        minReplicas = -1;
+        maxReplicas = -1;
+        target = -1;
+        targetUtilizationPercentage = -1;
     }
 
     public int getMinReplicas() {
@@ -58,7 +68,69 @@ public class PodAutoscalerModel extends KnativeModel {
         this.deployment = deployment;
     }
 
+    public String getAutoscalerClass() {
+        return autoscalerClass;
+    }
+
+    public void setAutoscalerClass(String autoscalerClass) {
+        this.autoscalerClass = autoscalerClass;
+    }
+
+    public String getMetric() {
+        return metric;
+    }
+
+    public void setMetric(String metric) {
+        this.metric = metric;
+    }
+
+    public int getTarget() {
+        return target;
+    }
+
+    public void setTarget(int target) {
+        this.target = target;
+    }
+
+    public int getTargetUtilizationPercentage() {
+        return targetUtilizationPercentage;
+    }
+
+    public void setTargetUtilizationPercentage(int targetUtilizationPercentage) {
+        this.targetUtilizationPercentage = targetUtilizationPercentage;
+    }
+
+    public String getWindow() {
+        return window;
+    }
+
+    public void setWindow(String window) {
+        this.window = window;
+    }
+
+    public String getScaleToZeroPodRetentionPeriod() {
+        return scaleToZeroPodRetentionPeriod;
+    }
+
+    public void setScaleToZeroPodRetentionPeriod(String scaleToZeroPodRetentionPeriod) {
+        this.scaleToZeroPodRetentionPeriod = scaleToZeroPodRetentionPeriod;
+    }
+
     public void addLabel(String key, String value) {
         this.labels.put(key, value);
     }
+
+    @Override
+    public String toString() {
+        return "PodAutoscalerModel{" +
+                "minReplicas=" + minReplicas +
+                ", maxReplicas=" + maxReplicas +
+                ", autoscalerClass='" + autoscalerClass + '\'' +
+                ", metric='" + metric + '\'' +
+                ", target=" + target +
+                ", targetUtilizationPercentage=" + targetUtilizationPercentage +
+                ", window='" + window + '\'' +
+                ", scaleToZeroPodRetentionPeriod='" + scaleToZeroPodRetentionPeriod + '\'' +
+                '}';
+    }
 }
@@ -3,7 +3,9 @@ package org.ballerinax.kubernetes.models.knative;
 import com.spotify.docker.client.DockerHost;
 import org.ballerinax.docker.generator.models.CopyFileModel;
 import org.ballerinax.kubernetes.KubernetesConstants;
+import org.ballerinax.kubernetes.utils.DependencyReadiness;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -21,6 +23,7 @@ public class ServiceModel extends KnativeModel {
     private int replicas;
     private ProbeModel livenessProbe;
     private ProbeModel readinessProbe;
+    private ProbeModel startupProbe;
     private String namespace;
     private String imagePullPolicy;
     private String image;
@@ -40,10 +43,20 @@ public class ServiceModel extends KnativeModel {
     private Set<ConfigMapModel> configMapModels;
     private Set<CopyFileModel> copyFiles;
     private Set<String> dependsOn;
+    private int dependsOnTimeoutSeconds;
+    private int dependsOnMaxBackoffSeconds;
+    private String revisionName;
+    private List<TrafficTargetModel> traffic;
     private Set<String> imagePullSecrets;
     private String commandArgs;
     private boolean singleYAML;
     private String registry;
+    private String cpuRequest;
+    private String cpuLimit;
+    private String memoryRequest;
+    private String memoryLimit;
+    private String ephemeralStorageRequest;
+    private String ephemeralStorageLimit;
     private List<PodTolerationModel> podTolerations;
     private int containerConcurrency;
     private int timeoutSeconds;
@@ -58,6 +71,9 @@ public class ServiceModel extends KnativeModel {
         this.env = new LinkedHashMap<>();
         this.imagePullPolicy = KubernetesConstants.ImagePullPolicy.IfNotPresent.name();
         this.dependsOn = new HashSet<>();
+        this.traffic = new ArrayList<>();
+        this.dependsOnTimeoutSeconds = DependencyReadiness.DEFAULT_TIMEOUT_SECONDS;
+        this.dependsOnMaxBackoffSeconds = DependencyReadiness.DEFAULT_MAX_BACKOFF_SECONDS;
         // Configure Docker Host based on operating system.
         this.setDockerHost(DockerHost.fromEnv().host());
         this.setDockerCertPath(DockerHost.fromEnv().dockerCertPath());
@@ -116,6 +132,29 @@ public class ServiceModel extends KnativeModel {
         }
     }
 
+    public ProbeModel getStartupProbe() {
+        return startupProbe;
+    }
+
+    public void setStartupProbe(ProbeModel startupProbe) {
+        this.startupProbe = startupProbe;
+
+        // setting default values
+        if (null != this.startupProbe) {
+            if (this.startupProbe.getInitialDelaySeconds() == -1) {
+                this.startupProbe.setInitialDelaySeconds(0);
+            }
+
+            if (this.startupProbe.getPeriodSeconds() == -1) {
+                this.startupProbe.setPeriodSeconds(5);
+            }
+
+            if (this.startupProbe.getFailureThreshold() == -1) {
+                this.startupProbe.setFailureThreshold(30);
+            }
+        }
+    }
+
     public org.ballerinax.kubernetes.models.knative.ProbeModel getReadinessProbe() {
         return readinessProbe;
     }
@@ -295,6 +334,38 @@ public class ServiceModel extends KnativeModel {
         this.dependsOn = dependsOn;
     }
 
+    public int getDependsOnTimeoutSeconds() {
+        return dependsOnTimeoutSeconds;
+    }
+
+    public void setDependsOnTimeoutSeconds(int dependsOnTimeoutSeconds) {
+        this.dependsOnTimeoutSeconds = dependsOnTimeoutSeconds;
+    }
+
+    public int getDependsOnMaxBackoffSeconds() {
+        return dependsOnMaxBackoffSeconds;
+    }
+
+    public void setDependsOnMaxBackoffSeconds(int dependsOnMaxBackoffSeconds) {
+        this.dependsOnMaxBackoffSeconds = dependsOnMaxBackoffSeconds;
+    }
+
+    public String getRevisionName() {
+        return revisionName;
+    }
+
+    public void setRevisionName(String revisionName) {
+        this.revisionName = revisionName;
+    }
+
+    public List<TrafficTargetModel> getTraffic() {
+        return traffic;
+    }
+
+    public void setTraffic(List<TrafficTargetModel> traffic) {
+        this.traffic = traffic;
+    }
+
     public Set<String> getImagePullSecrets() {
         return imagePullSecrets;
     }
@@ -346,6 +417,54 @@ public class ServiceModel extends KnativeModel {
         this.timeoutSeconds = timeoutSeconds;
     }
 
+    public String getCpuRequest() {
+        return cpuRequest;
+    }
+
+    public void setCpuRequest(String cpuRequest) {
+        this.cpuRequest = cpuRequest;
+    }
+
+    public String getCpuLimit() {
+        return cpuLimit;
+    }
+
+    public void setCpuLimit(String cpuLimit) {
+        this.cpuLimit = cpuLimit;
+    }
+
+    public String getMemoryRequest() {
+        return memoryRequest;
+    }
+
+    public void setMemoryRequest(String memoryRequest) {
+        this.memoryRequest = memoryRequest;
+    }
+
+    public String getMemoryLimit() {
+        return memoryLimit;
+    }
+
+    public void setMemoryLimit(String memoryLimit) {
+        this.memoryLimit = memoryLimit;
+    }
+
+    public String getEphemeralStorageRequest() {
+        return ephemeralStorageRequest;
+    }
+
+    public void setEphemeralStorageRequest(String ephemeralStorageRequest) {
+        this.ephemeralStorageRequest = ephemeralStorageRequest;
+    }
+
+    public String getEphemeralStorageLimit() {
+        return ephemeralStorageLimit;
+    }
+
+    public void setEphemeralStorageLimit(String ephemeralStorageLimit) {
+        this.ephemeralStorageLimit = ephemeralStorageLimit;
+    }
+
     @Override
     public String toString() {
         return "DeploymentModel{" +
@@ -370,12 +489,22 @@ public class ServiceModel extends KnativeModel {
                 ", configMapModels=" + configMapModels +
                 ", copyFiles=" + copyFiles +
                 ", dependsOn=" + dependsOn +
+                ", dependsOnTimeoutSeconds=" + dependsOnTimeoutSeconds +
+                ", dependsOnMaxBackoffSeconds=" + dependsOnMaxBackoffSeconds +
+                ", revisionName='" + revisionName + '\'' +
+                ", traffic=" + traffic +
                 ", imagePullSecrets=" + imagePullSecrets +
                 ", commandArgs='" + commandArgs +
                 ", singleYAML=" + singleYAML +
                 ", registry='" + registry +
                 ", podTolerations=" + podTolerations +
                 ", containerConcurrency" + containerConcurrency +
+                ", cpuRequest='" + cpuRequest +
+                ", cpuLimit='" + cpuLimit +
+                ", memoryRequest='" + memoryRequest +
+                ", memoryLimit='" + memoryLimit +
+                ", ephemeralStorageRequest='" + ephemeralStorageRequest +
+                ", ephemeralStorageLimit='" + ephemeralStorageLimit +
                 '}';
     }
 
@@ -22,12 +22,25 @@ import org.ballerinalang.model.tree.FunctionNode;
 import org.ballerinalang.model.tree.ServiceNode;
 import org.ballerinalang.model.tree.SimpleVariableNode;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.models.KubernetesDataHolder;
 
 /**
  * Abstract Annotation processor class.
  */
 public abstract class AbstractAnnotationProcessor implements AnnotationProcessor {
 
+    protected KubernetesDataHolder dataHolder;
+
+    public AbstractAnnotationProcessor(KubernetesDataHolder dataHolder) {
+        this.dataHolder = dataHolder;
+    }
+
+    /**
+     * Constructor for processors which keep their state outside of a {@link KubernetesDataHolder}.
+     */
+    protected AbstractAnnotationProcessor() {
+    }
+
     @Override
     public void processAnnotation(ServiceNode serviceNode, AnnotationAttachmentNode attachmentNode) throws
             KubernetesPluginException {
@@ -19,7 +19,8 @@
 package org.ballerinax.kubernetes.processors;
 
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
-import org.ballerinax.kubernetes.models.KubernetesContext;
+import org.ballerinax.kubernetes.models.KubernetesDataHolder;
+import org.ballerinax.kubernetes.processors.istio.IstioDestinationRuleAnnotationProcessor;
 import org.ballerinax.kubernetes.processors.istio.IstioGatewayAnnotationProcessor;
 import org.ballerinax.kubernetes.processors.istio.IstioVirtualServiceAnnotationProcessor;
 import org.ballerinax.kubernetes.processors.openshift.OpenShiftRouteProcessor;
@@ -29,37 +30,50 @@ import org.ballerinax.kubernetes.processors.openshift.OpenShiftRouteProcessor;
  */
 public class AnnotationProcessorFactory {
 
-    public static AnnotationProcessor getAnnotationProcessorInstance(String type) throws KubernetesPluginException {
+    /**
+     * Get the processor of an annotation.
+     *
+     * @param type       Name of the annotation.
+     * @param dataHolder Data holder of the module which owns the annotated construct.
+     * @return Annotation processor which populates the data holder.
+     * @throws KubernetesPluginException If the annotation is not supported.
+     */
+    public static AnnotationProcessor getAnnotationProcessorInstance(String type, KubernetesDataHolder dataHolder)
+            throws KubernetesPluginException {
         // set can process to true so that this value can be accessed from code generated method.
-        KubernetesContext.getInstance().getDataHolder().setCanProcess(true);
+        dataHolder.setCanProcess(true);
         KubernetesAnnotation kubernetesAnnotation = KubernetesAnnotation.valueOf(type);
         switch (kubernetesAnnotation) {
             case Service:
-                return new ServiceAnnotationProcessor();
+                return new ServiceAnnotationProcessor(dataHolder);
             case Ingress:
-                return new IngressAnnotationProcessor();
+                return new IngressAnnotationProcessor(dataHolder);
             case HPA:
-                return new HPAAnnotationProcessor();
+                return new HPAAnnotationProcessor(dataHolder);
+            case PodDisruptionBudget:
+                return new PodDisruptionBudgetAnnotationProcessor(dataHolder);
             case Deployment:
-                return new DeploymentAnnotationProcessor();
+                return new DeploymentAnnotationProcessor(dataHolder);
             case Secret:
-                return new SecretAnnotationProcessor();
+                return new SecretAnnotationProcessor(dataHolder);
             case ConfigMap:
-                return new ConfigMapAnnotationProcessor();
+                return new ConfigMapAnnotationProcessor(dataHolder);
             case PersistentVolumeClaim:
-                return new VolumeClaimAnnotationProcessor();
+                return new VolumeClaimAnnotationProcessor(dataHolder);
             case Job:
-                return new JobAnnotationProcessor();
+                return new JobAnnotationProcessor(dataHolder);
             case ResourceQuota:
-                return new ResourceQuotaAnnotationPreprocessor();
+                return new ResourceQuotaAnnotationPreprocessor(dataHolder);
             case Gateway:
-                return new IstioGatewayAnnotationProcessor();
+                return new IstioGatewayAnnotationProcessor(dataHolder);
             case VirtualService:
-                return new IstioVirtualServiceAnnotationProcessor();
+                return new IstioVirtualServiceAnnotationProcessor(dataHolder);
+            case DestinationRule:
+                return new IstioDestinationRuleAnnotationProcessor(dataHolder);
             case Route:
-                return new OpenShiftRouteProcessor();
+                return new OpenShiftRouteProcessor(dataHolder);
             default:
-                KubernetesContext.getInstance().getDataHolder().setCanProcess(false);
+                dataHolder.setCanProcess(false);
                 throw new KubernetesPluginException("error while getting annotation processor for type: " + type);
         }
     }
@@ -68,6 +82,7 @@ public class AnnotationProcessorFactory {
         Service,
         Ingress,
         HPA,
+        PodDisruptionBudget,
         Deployment,
         Secret,
         ConfigMap,
@@ -76,6 +91,7 @@ public class AnnotationProcessorFactory {
         ResourceQuota,
         Gateway,
         VirtualService,
+        DestinationRule,
         Route
     }
 }
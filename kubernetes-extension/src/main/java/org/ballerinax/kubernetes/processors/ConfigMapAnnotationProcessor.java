@@ -18,13 +18,14 @@
 
 package org.ballerinax.kubernetes.processors;
 
+import org.apache.commons.codec.binary.Base64;
 import org.ballerinalang.model.tree.AnnotationAttachmentNode;
 import org.ballerinalang.model.tree.FunctionNode;
 import org.ballerinalang.model.tree.IdentifierNode;
 import org.ballerinalang.model.tree.ServiceNode;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.models.ConfigMapModel;
-import org.ballerinax.kubernetes.models.KubernetesContext;
+import org.ballerinax.kubernetes.models.KubernetesDataHolder;
 import org.ballerinax.kubernetes.utils.KubernetesUtils;
 import org.wso2.ballerinalang.compiler.tree.BLangAnnotationAttachment;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangExpression;
@@ -52,12 +53,17 @@ import static org.ballerinax.kubernetes.utils.KubernetesUtils.getMap;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.getStringValue;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.getValidName;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.isBlank;
+import static org.ballerinax.kubernetes.utils.PayloadDecompression.GZIP_EXTENSION;
 
 /**
  * ConfigMap annotation processor.
  */
 public class ConfigMapAnnotationProcessor extends AbstractAnnotationProcessor {
 
+    public ConfigMapAnnotationProcessor(KubernetesDataHolder dataHolder) {
+        super(dataHolder);
+    }
+
     @Override
     public void processAnnotation(ServiceNode serviceNode, AnnotationAttachmentNode attachmentNode) throws
             KubernetesPluginException {
@@ -87,6 +93,7 @@ public class ConfigMapAnnotationProcessor extends AbstractAnnotationProcessor {
                     List<BLangExpression> configAnnotation = ((BLangListConstructorExpr) keyValue.valueExpr).exprs;
                     for (BLangExpression bLangExpression : configAnnotation) {
                         ConfigMapModel configMapModel = new ConfigMapModel();
+                        List<BLangExpression> data = null;
                         List<BLangRecordLiteral.BLangRecordKeyValue> annotationValues =
                                 ((BLangRecordLiteral) bLangExpression).getKeyValuePairs();
                         for (BLangRecordLiteral.BLangRecordKeyValue annotation : annotationValues) {
@@ -126,13 +133,14 @@ public class ConfigMapAnnotationProcessor extends AbstractAnnotationProcessor {
                                     configMapModel.setMountPath(getStringValue(annotation.getValue()));
                                     break;
                                 case data:
-                                    List<BLangExpression> data =
-                                            ((BLangListConstructorExpr) annotation.valueExpr).exprs;
-                                    configMapModel.setData(getDataForConfigMap(data));
+                                    data = ((BLangListConstructorExpr) annotation.valueExpr).exprs;
                                     break;
                                 case readOnly:
                                     configMapModel.setReadOnly(getBooleanValue(annotation.getValue()));
                                     break;
+                                case compress:
+                                    configMapModel.setCompress(getBooleanValue(annotation.getValue()));
+                                    break;
                                 default:
                                     break;
                             }
@@ -140,7 +148,12 @@ public class ConfigMapAnnotationProcessor extends AbstractAnnotationProcessor {
                         if (isBlank(configMapModel.getName())) {
                             configMapModel.setName(getValidName(nodeID.getValue()) + CONFIG_MAP_POSTFIX);
                         }
-                        if (configMapModel.getData() != null && configMapModel.getData().size() > 0) {
+                        if (data != null) {
+                            // files are read once the compress option is known.
+                            populateDataForConfigMap(configMapModel, data);
+                        }
+                        if ((configMapModel.getData() != null && configMapModel.getData().size() > 0) ||
+                                configMapModel.getBinaryData().size() > 0) {
                             configMapModels.add(configMapModel);
                         }
                     }
@@ -154,21 +167,34 @@ public class ConfigMapAnnotationProcessor extends AbstractAnnotationProcessor {
 
             }
         }
-        KubernetesContext.getInstance().getDataHolder().addConfigMaps(configMapModels);
+        dataHolder.addConfigMaps(configMapModels);
     }
 
-    private Map<String, String> getDataForConfigMap(List<BLangExpression> data) throws KubernetesPluginException {
+    private void populateDataForConfigMap(ConfigMapModel configMapModel, List<BLangExpression> data)
+            throws KubernetesPluginException {
         Map<String, String> dataMap = new HashMap<>();
+        Map<String, String> binaryDataMap = new HashMap<>();
         for (BLangExpression bLangExpression : data) {
             Path dataFilePath = Paths.get(((BLangLiteral) bLangExpression).getValue().toString());
             if (!dataFilePath.isAbsolute()) {
-                dataFilePath = KubernetesContext.getInstance().getDataHolder().getSourceRoot().resolve(dataFilePath);
+                dataFilePath = dataHolder.getSourceRoot().resolve(dataFilePath);
             }
             String key = String.valueOf(dataFilePath.getFileName());
-            String content = new String(KubernetesUtils.readFileContent(dataFilePath), StandardCharsets.UTF_8);
-            dataMap.put(key, content);
+            byte[] content = KubernetesUtils.readFileContent(dataFilePath);
+            if (configMapModel.isCompress()) {
+                binaryDataMap.put(key + GZIP_EXTENSION, Base64.encodeBase64String(KubernetesUtils.gzip(content)));
+                continue;
+            }
+            String text = KubernetesUtils.decodeUtf8(content);
+            if (text != null) {
+                dataMap.put(key, text);
+            } else {
+                // binary files would be corrupted when decoded as UTF-8.
+                binaryDataMap.put(key, Base64.encodeBase64String(content));
+            }
         }
-        return dataMap;
+        configMapModel.setData(dataMap);
+        configMapModel.setBinaryData(binaryDataMap);
     }
 
     private ConfigMapModel getBallerinaConfConfigMap(String configFilePath, String serviceName) throws
@@ -179,7 +205,7 @@ public class ConfigMapAnnotationProcessor extends AbstractAnnotationProcessor {
         configMapModel.setMountPath(BALLERINA_CONF_MOUNT_PATH);
         Path dataFilePath = Paths.get(configFilePath);
         if (!dataFilePath.isAbsolute()) {
-            dataFilePath = KubernetesContext.getInstance().getDataHolder().getSourceRoot().resolve(dataFilePath)
+            dataFilePath = dataHolder.getSourceRoot().resolve(dataFilePath)
                     .normalize();
         }
         String content = new String(KubernetesUtils.readFileContent(dataFilePath), StandardCharsets.UTF_8);
@@ -200,6 +226,7 @@ public class ConfigMapAnnotationProcessor extends AbstractAnnotationProcessor {
         annotations,
         mountPath,
         readOnly,
-        data
+        data,
+        compress
     }
 }
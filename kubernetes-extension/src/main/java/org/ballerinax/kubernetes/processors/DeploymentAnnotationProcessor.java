@@ -23,9 +23,17 @@ import org.ballerinalang.model.tree.ServiceNode;
 import org.ballerinalang.model.tree.SimpleVariableNode;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.models.DeploymentModel;
-import org.ballerinax.kubernetes.models.KubernetesContext;
+import org.ballerinax.kubernetes.models.DeploymentStrategyModel;
+import org.ballerinax.kubernetes.models.KubernetesDataHolder;
+import org.ballerinax.kubernetes.models.NodeAffinityModel;
+import org.ballerinax.kubernetes.models.PodAntiAffinityModel;
 import org.ballerinax.kubernetes.models.PodTolerationModel;
 import org.ballerinax.kubernetes.models.ProbeModel;
+import org.ballerinax.kubernetes.models.StatefulSetModel;
+import org.ballerinax.kubernetes.models.TopologySpreadConstraintModel;
+import org.ballerinax.kubernetes.models.istio.IstioSidecarModel;
+import org.ballerinax.kubernetes.utils.ContainerResources;
+import org.ballerinax.kubernetes.utils.JvmErgonomics;
 import org.wso2.ballerinalang.compiler.tree.BLangAnnotationAttachment;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangExpression;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangListConstructorExpr;
@@ -38,14 +46,22 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
 
+import static org.ballerinax.kubernetes.KubernetesConstants.AFFINITY_PREFERRED;
+import static org.ballerinax.kubernetes.KubernetesConstants.AFFINITY_REQUIRED;
 import static org.ballerinax.kubernetes.KubernetesConstants.DOCKER_CERT_PATH;
 import static org.ballerinax.kubernetes.KubernetesConstants.DOCKER_HOST;
 import static org.ballerinax.kubernetes.KubernetesConstants.MAIN_FUNCTION_NAME;
+import static org.ballerinax.kubernetes.KubernetesConstants.POD_MANAGEMENT_POLICY_ORDERED_READY;
+import static org.ballerinax.kubernetes.KubernetesConstants.POD_MANAGEMENT_POLICY_PARALLEL;
+import static org.ballerinax.kubernetes.KubernetesConstants.RECREATE_STRATEGY;
+import static org.ballerinax.kubernetes.KubernetesConstants.ROLLING_UPDATE_STRATEGY;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.getBooleanValue;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.getEnvVarMap;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.getExternalFileMap;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.getImagePullSecrets;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.getIntOrPercentage;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.getIntValue;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.getList;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.getMap;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.getStringValue;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.getValidName;
@@ -57,6 +73,10 @@ import static org.ballerinax.kubernetes.utils.KubernetesUtils.parseBuildExtensio
  */
 public class DeploymentAnnotationProcessor extends AbstractAnnotationProcessor {
 
+    public DeploymentAnnotationProcessor(KubernetesDataHolder dataHolder) {
+        super(dataHolder);
+    }
+
     @Override
     public void processAnnotation(ServiceNode entityName, AnnotationAttachmentNode attachmentNode) throws
             KubernetesPluginException {
@@ -121,6 +141,9 @@ public class DeploymentAnnotationProcessor extends AbstractAnnotationProcessor {
                 case buildImage:
                     deploymentModel.setBuildImage(getBooleanValue(keyValue.getValue()));
                     break;
+                case layeredImage:
+                    deploymentModel.setLayeredImage(getBooleanValue(keyValue.getValue()));
+                    break;
                 case push:
                     deploymentModel.setPush(getBooleanValue(keyValue.getValue()));
                     break;
@@ -134,7 +157,7 @@ public class DeploymentAnnotationProcessor extends AbstractAnnotationProcessor {
                     deploymentModel.setSingleYAML(getBooleanValue(keyValue.getValue()));
                     break;
                 case namespace:
-                    KubernetesContext.getInstance().getDataHolder().setNamespace(getStringValue(keyValue.getValue()));
+                    dataHolder.setNamespace(getStringValue(keyValue.getValue()));
                     break;
                 case replicas:
                     deploymentModel.setReplicas(getIntValue(keyValue.getValue()));
@@ -145,6 +168,9 @@ public class DeploymentAnnotationProcessor extends AbstractAnnotationProcessor {
                 case readinessProbe:
                     deploymentModel.setReadinessProbe(parseProbeConfiguration(keyValue.getValue()));
                     break;
+                case startupProbe:
+                    deploymentModel.setStartupProbe(parseProbeConfiguration(keyValue.getValue()));
+                    break;
                 case imagePullPolicy:
                     deploymentModel.setImagePullPolicy(getStringValue(keyValue.getValue()));
                     break;
@@ -163,14 +189,80 @@ public class DeploymentAnnotationProcessor extends AbstractAnnotationProcessor {
                 case dependsOn:
                     deploymentModel.setDependsOn(getDependsOn(keyValue));
                     break;
+                case dependsOnTimeoutSeconds:
+                    deploymentModel.setDependsOnTimeoutSeconds(getIntValue(keyValue.getValue()));
+                    break;
+                case dependsOnMaxBackoffSeconds:
+                    deploymentModel.setDependsOnMaxBackoffSeconds(getIntValue(keyValue.getValue()));
+                    break;
+                case cpuRequest:
+                    deploymentModel.setCpuRequest(getStringValue(keyValue.getValue()));
+                    break;
+                case cpuLimit:
+                    deploymentModel.setCpuLimit(getStringValue(keyValue.getValue()));
+                    break;
+                case memoryRequest:
+                    deploymentModel.setMemoryRequest(getStringValue(keyValue.getValue()));
+                    break;
+                case memoryLimit:
+                    deploymentModel.setMemoryLimit(getStringValue(keyValue.getValue()));
+                    break;
+                case ephemeralStorageRequest:
+                    deploymentModel.setEphemeralStorageRequest(getStringValue(keyValue.getValue()));
+                    break;
+                case ephemeralStorageLimit:
+                    deploymentModel.setEphemeralStorageLimit(getStringValue(keyValue.getValue()));
+                    break;
+                case jvmTuningProfile:
+                    String jvmTuningProfile = getStringValue(keyValue.getValue());
+                    JvmErgonomics.Profile.fromValue(jvmTuningProfile);
+                    deploymentModel.setJvmTuningProfile(jvmTuningProfile);
+                    break;
                 case imagePullSecrets:
                     deploymentModel.setImagePullSecrets(getImagePullSecrets(keyValue));
                     break;
+                case strategy:
+                    deploymentModel.setStrategy(parseStrategyConfiguration(keyValue.getValue()));
+                    break;
+                case nodeSelector:
+                    deploymentModel.setNodeSelector(getMap(keyValue.getValue()));
+                    break;
+                case priorityClassName:
+                    deploymentModel.setPriorityClassName(getStringValue(keyValue.getValue()));
+                    break;
+                case nodeAffinity:
+                    deploymentModel.setNodeAffinity(parseNodeAffinityConfiguration(keyValue.getValue()));
+                    break;
+                case podAntiAffinity:
+                    deploymentModel.setPodAntiAffinity(parsePodAntiAffinityConfiguration(keyValue.getValue()));
+                    break;
+                case topologySpreadConstraints:
+                    deploymentModel.setTopologySpreadConstraints(
+                            parseTopologySpreadConstraintConfiguration(keyValue.getValue()));
+                    break;
+                case colocateWithDependencies:
+                    deploymentModel.setColocateWithDependencies(getBooleanValue(keyValue.getValue()));
+                    break;
+                case istioSidecar:
+                    deploymentModel.setIstioSidecar(parseIstioSidecarConfiguration(keyValue.getValue()));
+                    break;
+                case statefulSet:
+                    deploymentModel.setStatefulSet(parseStatefulSetConfiguration(keyValue.getValue()));
+                    break;
                 default:
                     break;
             }
         }
 
+        ContainerResources.of(deploymentModel).validate("@kubernetes:Deployment{}");
+        if (null != deploymentModel.getStatefulSet() && null != deploymentModel.getStrategy()) {
+            throw new KubernetesPluginException("'strategy' of @kubernetes:Deployment{} cannot be used with " +
+                    "'statefulSet'. use the 'partition' of the statefulSet for staged rolling updates.");
+        }
+        if (deploymentModel.getDependsOnTimeoutSeconds() < 1 || deploymentModel.getDependsOnMaxBackoffSeconds() < 1) {
+            throw new KubernetesPluginException("'dependsOnTimeoutSeconds' and 'dependsOnMaxBackoffSeconds' of " +
+                    "@kubernetes:Deployment{} should be greater than 0.");
+        }
         String dockerHost = System.getenv(DOCKER_HOST);
         if (!isBlank(dockerHost)) {
             deploymentModel.setDockerHost(dockerHost);
@@ -179,7 +271,7 @@ public class DeploymentAnnotationProcessor extends AbstractAnnotationProcessor {
         if (!isBlank(dockerCertPath)) {
             deploymentModel.setDockerCertPath(dockerCertPath);
         }
-        KubernetesContext.getInstance().getDataHolder().setDeploymentModel(deploymentModel);
+        dataHolder.setDeploymentModel(deploymentModel);
     }
 
     /**
@@ -256,17 +348,348 @@ public class DeploymentAnnotationProcessor extends AbstractAnnotationProcessor {
                         case periodSeconds:
                             probeModel.setPeriodSeconds(getIntValue(probeField.getValue()));
                             break;
+                        case timeoutSeconds:
+                            probeModel.setTimeoutSeconds(getIntValue(probeField.getValue()));
+                            break;
+                        case successThreshold:
+                            probeModel.setSuccessThreshold(getIntValue(probeField.getValue()));
+                            break;
+                        case failureThreshold:
+                            probeModel.setFailureThreshold(getIntValue(probeField.getValue()));
+                            break;
+                        case path:
+                            probeModel.setPath(getStringValue(probeField.getValue()));
+                            break;
+                        case command:
+                            probeModel.setCommand(getList(probeField.getValue()));
+                            break;
                         default:
                             throw new KubernetesPluginException("unknown probe field found: " +
                                     probeField.getKey().toString());
                     }
                 }
+                if (null != probeModel.getPath() && null != probeModel.getCommand()) {
+                    throw new KubernetesPluginException("a probe can either have a 'path' or a 'command'.");
+                }
                 return probeModel;
             }
         }
         return null;
     }
 
+    /**
+     * Parse istio sidecar configuration from a record.
+     *
+     * @param sidecarValue Istio sidecar configuration record.
+     * @return Parsed istio sidecar model.
+     * @throws KubernetesPluginException When an unknown field or an invalid value is found.
+     */
+    private IstioSidecarModel parseIstioSidecarConfiguration(BLangExpression sidecarValue)
+            throws KubernetesPluginException {
+        List<BLangRecordLiteral.BLangRecordKeyValue> sidecarFields = ((BLangRecordLiteral) sidecarValue).keyValuePairs;
+        IstioSidecarModel sidecarModel = new IstioSidecarModel();
+        for (BLangRecordLiteral.BLangRecordKeyValue sidecarField : sidecarFields) {
+            IstioSidecarConfiguration sidecarConfiguration =
+                    IstioSidecarConfiguration.valueOf(sidecarField.getKey().toString());
+            switch (sidecarConfiguration) {
+                case cpuRequest:
+                    sidecarModel.setCpuRequest(getStringValue(sidecarField.getValue()));
+                    break;
+                case cpuLimit:
+                    sidecarModel.setCpuLimit(getStringValue(sidecarField.getValue()));
+                    break;
+                case memoryRequest:
+                    sidecarModel.setMemoryRequest(getStringValue(sidecarField.getValue()));
+                    break;
+                case memoryLimit:
+                    sidecarModel.setMemoryLimit(getStringValue(sidecarField.getValue()));
+                    break;
+                case concurrency:
+                    sidecarModel.setConcurrency(getIntValue(sidecarField.getValue()));
+                    if (sidecarModel.getConcurrency() < 0) {
+                        throw new KubernetesPluginException("'concurrency' of the istio sidecar should not be " +
+                                "negative.");
+                    }
+                    break;
+                case egressScope:
+                    sidecarModel.setEgressScope(getBooleanValue(sidecarField.getValue()));
+                    break;
+                default:
+                    throw new KubernetesPluginException("unknown istio sidecar field found: " +
+                            sidecarField.getKey().toString());
+            }
+        }
+        ContainerResources.of(sidecarModel.getCpuRequest(), sidecarModel.getCpuLimit(),
+                sidecarModel.getMemoryRequest(), sidecarModel.getMemoryLimit(), null, null)
+                .validate("istioSidecar of @kubernetes:Deployment{}");
+        return sidecarModel;
+    }
+
+    /**
+     * Parse statefulSet configuration from a record.
+     *
+     * @param statefulSetValue StatefulSet configuration record.
+     * @return Parsed statefulSet model.
+     * @throws KubernetesPluginException When an unknown field or an invalid value is found.
+     */
+    private StatefulSetModel parseStatefulSetConfiguration(BLangExpression statefulSetValue)
+            throws KubernetesPluginException {
+        List<BLangRecordLiteral.BLangRecordKeyValue> statefulSetFields =
+                ((BLangRecordLiteral) statefulSetValue).keyValuePairs;
+        StatefulSetModel statefulSetModel = new StatefulSetModel();
+        statefulSetModel.setPodManagementPolicy(POD_MANAGEMENT_POLICY_PARALLEL);
+        for (BLangRecordLiteral.BLangRecordKeyValue statefulSetField : statefulSetFields) {
+            StatefulSetConfiguration statefulSetConfiguration =
+                    StatefulSetConfiguration.valueOf(statefulSetField.getKey().toString());
+            switch (statefulSetConfiguration) {
+                case serviceName:
+                    statefulSetModel.setServiceName(getValidName(getStringValue(statefulSetField.getValue())));
+                    break;
+                case podManagementPolicy:
+                    statefulSetModel.setPodManagementPolicy(getStringValue(statefulSetField.getValue()));
+                    break;
+                case partition:
+                    statefulSetModel.setPartition(getIntValue(statefulSetField.getValue()));
+                    if (statefulSetModel.getPartition() < 0) {
+                        throw new KubernetesPluginException("'partition' of the statefulSet should not be negative.");
+                    }
+                    break;
+                default:
+                    throw new KubernetesPluginException("unknown statefulSet field found: " +
+                            statefulSetField.getKey().toString());
+            }
+        }
+        String podManagementPolicy = statefulSetModel.getPodManagementPolicy();
+        if (!POD_MANAGEMENT_POLICY_PARALLEL.equals(podManagementPolicy) &&
+                !POD_MANAGEMENT_POLICY_ORDERED_READY.equals(podManagementPolicy)) {
+            throw new KubernetesPluginException("invalid podManagementPolicy '" + podManagementPolicy + "' found. " +
+                    "podManagementPolicy should be either '" + POD_MANAGEMENT_POLICY_PARALLEL + "' or '" +
+                    POD_MANAGEMENT_POLICY_ORDERED_READY + "'.");
+        }
+        return statefulSetModel;
+    }
+
+    /**
+     * Parse deployment strategy configuration from a record.
+     *
+     * @param strategyValue Strategy configuration record.
+     * @return Parsed deployment strategy model.
+     * @throws KubernetesPluginException When an unknown field or an invalid value is found.
+     */
+    private DeploymentStrategyModel parseStrategyConfiguration(BLangExpression strategyValue)
+            throws KubernetesPluginException {
+        List<BLangRecordLiteral.BLangRecordKeyValue> strategyFields =
+                ((BLangRecordLiteral) strategyValue).keyValuePairs;
+        DeploymentStrategyModel strategyModel = new DeploymentStrategyModel();
+        for (BLangRecordLiteral.BLangRecordKeyValue strategyField : strategyFields) {
+            StrategyConfiguration strategyConfiguration =
+                    StrategyConfiguration.valueOf(strategyField.getKey().toString());
+            switch (strategyConfiguration) {
+                case type:
+                    strategyModel.setType(getStringValue(strategyField.getValue()));
+                    break;
+                case maxSurge:
+                    strategyModel.setMaxSurge(getStringValue(strategyField.getValue()));
+                    getIntOrPercentage(strategyModel.getMaxSurge(), "maxSurge");
+                    break;
+                case maxUnavailable:
+                    strategyModel.setMaxUnavailable(getStringValue(strategyField.getValue()));
+                    getIntOrPercentage(strategyModel.getMaxUnavailable(), "maxUnavailable");
+                    break;
+                case minReadySeconds:
+                    strategyModel.setMinReadySeconds(getIntValue(strategyField.getValue()));
+                    break;
+                case progressDeadlineSeconds:
+                    strategyModel.setProgressDeadlineSeconds(getIntValue(strategyField.getValue()));
+                    break;
+                default:
+                    throw new KubernetesPluginException("unknown strategy field found: " +
+                            strategyField.getKey().toString());
+            }
+        }
+        String type = strategyModel.getType();
+        if (null != type && !ROLLING_UPDATE_STRATEGY.equals(type) && !RECREATE_STRATEGY.equals(type)) {
+            throw new KubernetesPluginException("invalid strategy type '" + type + "' found. strategy type should " +
+                    "be either '" + ROLLING_UPDATE_STRATEGY + "' or '" + RECREATE_STRATEGY + "'.");
+        }
+        if (RECREATE_STRATEGY.equals(type) &&
+                (null != strategyModel.getMaxSurge() || null != strategyModel.getMaxUnavailable())) {
+            throw new KubernetesPluginException("'maxSurge' and 'maxUnavailable' cannot be used with the '" +
+                    RECREATE_STRATEGY + "' strategy type.");
+        }
+        if ("0".equals(strategyModel.getMaxSurge()) && "0".equals(strategyModel.getMaxUnavailable())) {
+            throw new KubernetesPluginException("'maxSurge' and 'maxUnavailable' of the strategy cannot both be 0.");
+        }
+        if (strategyModel.getProgressDeadlineSeconds() > 0 &&
+                strategyModel.getProgressDeadlineSeconds() <= strategyModel.getMinReadySeconds()) {
+            throw new KubernetesPluginException("'progressDeadlineSeconds' of the strategy should be greater than " +
+                    "'minReadySeconds'.");
+        }
+        return strategyModel;
+    }
+
+    /**
+     * Parse node affinity terms from a record array.
+     *
+     * @param nodeAffinityValues Node affinity configuration records.
+     * @return Node affinity models.
+     * @throws KubernetesPluginException When an unknown field or an invalid term is found.
+     */
+    private List<NodeAffinityModel> parseNodeAffinityConfiguration(BLangExpression nodeAffinityValues)
+            throws KubernetesPluginException {
+        List<NodeAffinityModel> nodeAffinityModels = new LinkedList<>();
+        for (BLangExpression nodeAffinityFieldsAsExpression : ((BLangListConstructorExpr) nodeAffinityValues).exprs) {
+            List<BLangRecordLiteral.BLangRecordKeyValue> nodeAffinityFields =
+                    ((BLangRecordLiteral) nodeAffinityFieldsAsExpression).keyValuePairs;
+            NodeAffinityModel nodeAffinityModel = new NodeAffinityModel();
+            for (BLangRecordLiteral.BLangRecordKeyValue nodeAffinityField : nodeAffinityFields) {
+                NodeAffinityConfiguration nodeAffinityFieldName =
+                        NodeAffinityConfiguration.valueOf(nodeAffinityField.getKey().toString());
+                switch (nodeAffinityFieldName) {
+                    case key:
+                        nodeAffinityModel.setKey(getStringValue(nodeAffinityField.getValue()));
+                        break;
+                    case operator:
+                        nodeAffinityModel.setOperator(getStringValue(nodeAffinityField.getValue()));
+                        break;
+                    case values:
+                        nodeAffinityModel.setValues(getList(nodeAffinityField.getValue()));
+                        break;
+                    case weight:
+                        nodeAffinityModel.setWeight(getIntValue(nodeAffinityField.getValue()));
+                        break;
+                    default:
+                        throw new KubernetesPluginException("unknown node affinity field found: " +
+                                nodeAffinityField.getKey().toString());
+                }
+            }
+            validateNodeAffinity(nodeAffinityModel);
+            nodeAffinityModels.add(nodeAffinityModel);
+        }
+        return nodeAffinityModels;
+    }
+
+    private void validateNodeAffinity(NodeAffinityModel nodeAffinityModel) throws KubernetesPluginException {
+        if (isBlank(nodeAffinityModel.getKey())) {
+            throw new KubernetesPluginException("'key' is required for a node affinity term.");
+        }
+        if (nodeAffinityModel.getWeight() < 0 || nodeAffinityModel.getWeight() > 100) {
+            throw new KubernetesPluginException("'weight' of the node affinity term " + nodeAffinityModel.getKey() +
+                    " should be between 1 and 100, or 0 for a required term.");
+        }
+        boolean hasValues = null != nodeAffinityModel.getValues() && nodeAffinityModel.getValues().size() > 0;
+        switch (nodeAffinityModel.getOperator()) {
+            case "In":
+            case "NotIn":
+            case "Gt":
+            case "Lt":
+                if (!hasValues) {
+                    throw new KubernetesPluginException("'values' are required for the node affinity term " +
+                            nodeAffinityModel.getKey() + " with the operator " + nodeAffinityModel.getOperator());
+                }
+                break;
+            case "Exists":
+            case "DoesNotExist":
+                if (hasValues) {
+                    throw new KubernetesPluginException("'values' cannot be set for the node affinity term " +
+                            nodeAffinityModel.getKey() + " with the operator " + nodeAffinityModel.getOperator());
+                }
+                break;
+            default:
+                throw new KubernetesPluginException("invalid node affinity operator found: " +
+                        nodeAffinityModel.getOperator());
+        }
+    }
+
+    /**
+     * Parse pod anti-affinity configuration from a boolean or a record.
+     *
+     * @param podAntiAffinityValue Pod anti-affinity configuration.
+     * @return Pod anti-affinity model or null if disabled.
+     * @throws KubernetesPluginException When an unknown field or an invalid value is found.
+     */
+    private PodAntiAffinityModel parsePodAntiAffinityConfiguration(BLangExpression podAntiAffinityValue)
+            throws KubernetesPluginException {
+        if (!(podAntiAffinityValue instanceof BLangRecordLiteral)) {
+            return getBooleanValue(podAntiAffinityValue) ? new PodAntiAffinityModel() : null;
+        }
+        PodAntiAffinityModel podAntiAffinityModel = new PodAntiAffinityModel();
+        for (BLangRecordLiteral.BLangRecordKeyValue podAntiAffinityField :
+                ((BLangRecordLiteral) podAntiAffinityValue).keyValuePairs) {
+            PodAntiAffinityConfiguration podAntiAffinityFieldName =
+                    PodAntiAffinityConfiguration.valueOf(podAntiAffinityField.getKey().toString());
+            switch (podAntiAffinityFieldName) {
+                case type:
+                    podAntiAffinityModel.setType(getStringValue(podAntiAffinityField.getValue()));
+                    break;
+                case topologyKey:
+                    podAntiAffinityModel.setTopologyKey(getStringValue(podAntiAffinityField.getValue()));
+                    break;
+                case weight:
+                    podAntiAffinityModel.setWeight(getIntValue(podAntiAffinityField.getValue()));
+                    break;
+                default:
+                    throw new KubernetesPluginException("unknown pod anti-affinity field found: " +
+                            podAntiAffinityField.getKey().toString());
+            }
+        }
+        if (!AFFINITY_PREFERRED.equals(podAntiAffinityModel.getType()) &&
+                !AFFINITY_REQUIRED.equals(podAntiAffinityModel.getType())) {
+            throw new KubernetesPluginException("invalid pod anti-affinity type '" + podAntiAffinityModel.getType() +
+                    "' found. type should be either '" + AFFINITY_PREFERRED + "' or '" + AFFINITY_REQUIRED + "'.");
+        }
+        if (podAntiAffinityModel.getWeight() < 1 || podAntiAffinityModel.getWeight() > 100) {
+            throw new KubernetesPluginException("'weight' of the pod anti-affinity should be between 1 and 100.");
+        }
+        return podAntiAffinityModel;
+    }
+
+    /**
+     * Parse topology spread constraints from a record array.
+     *
+     * @param constraintValues Topology spread constraint configuration records.
+     * @return Topology spread constraint models.
+     * @throws KubernetesPluginException When an unknown field or an invalid value is found.
+     */
+    private List<TopologySpreadConstraintModel> parseTopologySpreadConstraintConfiguration(
+            BLangExpression constraintValues) throws KubernetesPluginException {
+        List<TopologySpreadConstraintModel> constraintModels = new LinkedList<>();
+        for (BLangExpression constraintFieldsAsExpression : ((BLangListConstructorExpr) constraintValues).exprs) {
+            List<BLangRecordLiteral.BLangRecordKeyValue> constraintFields =
+                    ((BLangRecordLiteral) constraintFieldsAsExpression).keyValuePairs;
+            TopologySpreadConstraintModel constraintModel = new TopologySpreadConstraintModel();
+            for (BLangRecordLiteral.BLangRecordKeyValue constraintField : constraintFields) {
+                TopologySpreadConstraintConfiguration constraintFieldName =
+                        TopologySpreadConstraintConfiguration.valueOf(constraintField.getKey().toString());
+                switch (constraintFieldName) {
+                    case topologyKey:
+                        constraintModel.setTopologyKey(getStringValue(constraintField.getValue()));
+                        break;
+                    case maxSkew:
+                        constraintModel.setMaxSkew(getIntValue(constraintField.getValue()));
+                        break;
+                    case whenUnsatisfiable:
+                        constraintModel.setWhenUnsatisfiable(getStringValue(constraintField.getValue()));
+                        break;
+                    default:
+                        throw new KubernetesPluginException("unknown topology spread constraint field found: " +
+                                constraintField.getKey().toString());
+                }
+            }
+            if (constraintModel.getMaxSkew() < 1) {
+                throw new KubernetesPluginException("'maxSkew' of the topology spread constraint " +
+                        constraintModel.getTopologyKey() + " should be greater than 0.");
+            }
+            if (!"ScheduleAnyway".equals(constraintModel.getWhenUnsatisfiable()) &&
+                    !"DoNotSchedule".equals(constraintModel.getWhenUnsatisfiable())) {
+                throw new KubernetesPluginException("'whenUnsatisfiable' of the topology spread constraint " +
+                        constraintModel.getTopologyKey() + " should be either 'ScheduleAnyway' or 'DoNotSchedule'.");
+            }
+            constraintModels.add(constraintModel);
+        }
+        return constraintModels;
+    }
+
     private Set<String> getDependsOn(BLangRecordLiteral.BLangRecordKeyValue keyValue) {
         Set<String> dependsOnList = new HashSet<>();
         List<BLangExpression> configAnnotation = ((BLangListConstructorExpr) keyValue.valueExpr).exprs;
@@ -292,6 +715,7 @@ public class DeploymentAnnotationProcessor extends AbstractAnnotationProcessor {
         baseImage,
         image,
         buildImage,
+        layeredImage,
         push,
         cmd,
         copyFiles,
@@ -300,19 +724,85 @@ public class DeploymentAnnotationProcessor extends AbstractAnnotationProcessor {
         replicas,
         livenessProbe,
         readinessProbe,
+        startupProbe,
         imagePullPolicy,
         env,
         podAnnotations,
         podTolerations,
         buildExtension,
         dependsOn,
+        dependsOnTimeoutSeconds,
+        dependsOnMaxBackoffSeconds,
         imagePullSecrets,
+        cpuRequest,
+        cpuLimit,
+        memoryRequest,
+        memoryLimit,
+        ephemeralStorageRequest,
+        ephemeralStorageLimit,
+        jvmTuningProfile,
+        strategy,
+        nodeSelector,
+        priorityClassName,
+        nodeAffinity,
+        podAntiAffinity,
+        topologySpreadConstraints,
+        colocateWithDependencies,
+        istioSidecar,
+        statefulSet
     }
 
     private enum ProbeConfiguration {
         port,
         initialDelaySeconds,
-        periodSeconds
+        periodSeconds,
+        timeoutSeconds,
+        successThreshold,
+        failureThreshold,
+        path,
+        command
+    }
+
+    private enum IstioSidecarConfiguration {
+        cpuRequest,
+        cpuLimit,
+        memoryRequest,
+        memoryLimit,
+        concurrency,
+        egressScope
+    }
+
+    private enum StatefulSetConfiguration {
+        serviceName,
+        podManagementPolicy,
+        partition
+    }
+
+    private enum StrategyConfiguration {
+        type,
+        maxSurge,
+        maxUnavailable,
+        minReadySeconds,
+        progressDeadlineSeconds
+    }
+
+    private enum NodeAffinityConfiguration {
+        key,
+        operator,
+        values,
+        weight
+    }
+
+    private enum PodAntiAffinityConfiguration {
+        type,
+        topologyKey,
+        weight
+    }
+
+    private enum TopologySpreadConstraintConfiguration {
+        topologyKey,
+        maxSkew,
+        whenUnsatisfiable
     }
 
     private enum PodTolerationConfiguration {
@@ -22,24 +22,37 @@ import org.ballerinalang.model.tree.AnnotationAttachmentNode;
 import org.ballerinalang.model.tree.FunctionNode;
 import org.ballerinalang.model.tree.ServiceNode;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
-import org.ballerinax.kubernetes.models.KubernetesContext;
+import org.ballerinax.kubernetes.models.KubernetesDataHolder;
+import org.ballerinax.kubernetes.models.PodAutoscalerMetricModel;
 import org.ballerinax.kubernetes.models.PodAutoscalerModel;
+import org.ballerinax.kubernetes.models.PodAutoscalerScalingRulesModel;
 import org.wso2.ballerinalang.compiler.tree.BLangAnnotationAttachment;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangExpression;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangListConstructorExpr;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangRecordLiteral;
 
+import java.util.LinkedList;
 import java.util.List;
 
 import static org.ballerinax.kubernetes.KubernetesConstants.MAIN_FUNCTION_NAME;
+import static org.ballerinax.kubernetes.KubernetesConstants.METRIC_TYPE_EXTERNAL;
+import static org.ballerinax.kubernetes.KubernetesConstants.METRIC_TYPE_OBJECT;
+import static org.ballerinax.kubernetes.KubernetesConstants.METRIC_TYPE_PODS;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.getIntValue;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.getMap;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.getStringValue;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.getValidName;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.isBlank;
 
 /**
  * HPA annotation processor.
  */
 public class HPAAnnotationProcessor extends AbstractAnnotationProcessor {
 
+    public HPAAnnotationProcessor(KubernetesDataHolder dataHolder) {
+        super(dataHolder);
+    }
+
     @Override
     public void processAnnotation(ServiceNode serviceNode, AnnotationAttachmentNode attachmentNode) throws
             KubernetesPluginException {
@@ -63,7 +76,7 @@ public class HPAAnnotationProcessor extends AbstractAnnotationProcessor {
                 ((BLangRecordLiteral) ((BLangAnnotationAttachment) attachmentNode).expr).getKeyValuePairs();
         for (BLangRecordLiteral.BLangRecordKeyValue keyValue : keyValues) {
             PodAutoscalerConfiguration podAutoscalerConfiguration =
-                    PodAutoscalerConfiguration.valueOf(keyValue.getKey().toString());
+                    getConfiguration(PodAutoscalerConfiguration.class, keyValue, "field");
             switch (podAutoscalerConfiguration) {
                 case name:
                     podAutoscalerModel.setName(getValidName(getStringValue(keyValue.getValue())));
@@ -83,11 +96,198 @@ public class HPAAnnotationProcessor extends AbstractAnnotationProcessor {
                 case maxReplicas:
                     podAutoscalerModel.setMaxReplicas(getIntValue(keyValue.getValue()));
                     break;
+                case memoryPercentage:
+                    podAutoscalerModel.setMemoryPercentage(getIntValue(keyValue.getValue()));
+                    break;
+                case metrics:
+                    podAutoscalerModel.setMetrics(parseMetrics(keyValue.getValue()));
+                    break;
+                case behavior:
+                    parseBehavior(podAutoscalerModel, keyValue.getValue());
+                    break;
                 default:
                     break;
             }
         }
-        KubernetesContext.getInstance().getDataHolder().setPodAutoscalerModel(podAutoscalerModel);
+        dataHolder.setPodAutoscalerModel(podAutoscalerModel);
+    }
+
+    /**
+     * Parse Pods, Object and External metrics from a record array.
+     *
+     * @param metricValues Metric configuration records.
+     * @return Metric models.
+     * @throws KubernetesPluginException When an unknown field is found or a required field is missing.
+     */
+    private List<PodAutoscalerMetricModel> parseMetrics(BLangExpression metricValues)
+            throws KubernetesPluginException {
+        List<PodAutoscalerMetricModel> metricModels = new LinkedList<>();
+        for (BLangExpression metricValue : ((BLangListConstructorExpr) metricValues).exprs) {
+            PodAutoscalerMetricModel metricModel = new PodAutoscalerMetricModel();
+            List<BLangRecordLiteral.BLangRecordKeyValue> metricFields =
+                    ((BLangRecordLiteral) metricValue).keyValuePairs;
+            for (BLangRecordLiteral.BLangRecordKeyValue metricField : metricFields) {
+                MetricConfiguration metricConfiguration =
+                        getConfiguration(MetricConfiguration.class, metricField, "metric field");
+                switch (metricConfiguration) {
+                    case type:
+                        metricModel.setType(getStringValue(metricField.getValue()));
+                        break;
+                    case name:
+                        metricModel.setName(getStringValue(metricField.getValue()));
+                        break;
+                    case selector:
+                        metricModel.setSelector(getMap(metricField.getValue()));
+                        break;
+                    case value:
+                        metricModel.setValue(getStringValue(metricField.getValue()));
+                        break;
+                    case averageValue:
+                        metricModel.setAverageValue(getStringValue(metricField.getValue()));
+                        break;
+                    case objectApiVersion:
+                        metricModel.setObjectApiVersion(getStringValue(metricField.getValue()));
+                        break;
+                    case objectKind:
+                        metricModel.setObjectKind(getStringValue(metricField.getValue()));
+                        break;
+                    case objectName:
+                        metricModel.setObjectName(getStringValue(metricField.getValue()));
+                        break;
+                    default:
+                        throw new KubernetesPluginException("unknown autoscaler metric field found: " +
+                                metricField.getKey().toString());
+                }
+            }
+            validateMetric(metricModel);
+            metricModels.add(metricModel);
+        }
+        return metricModels;
+    }
+
+    private void validateMetric(PodAutoscalerMetricModel metricModel) throws KubernetesPluginException {
+        if (isBlank(metricModel.getName())) {
+            throw new KubernetesPluginException("@kubernetes:HPA{} metric name is required.");
+        }
+        if (isBlank(metricModel.getValue()) && isBlank(metricModel.getAverageValue())) {
+            throw new KubernetesPluginException("@kubernetes:HPA{} metric " + metricModel.getName() +
+                    " requires a value or an averageValue target.");
+        }
+        if (METRIC_TYPE_PODS.equals(metricModel.getType())) {
+            if (isBlank(metricModel.getAverageValue())) {
+                throw new KubernetesPluginException("@kubernetes:HPA{} Pods metric " + metricModel.getName() +
+                        " requires an averageValue target.");
+            }
+        } else if (METRIC_TYPE_OBJECT.equals(metricModel.getType())) {
+            if (isBlank(metricModel.getObjectKind()) || isBlank(metricModel.getObjectName())) {
+                throw new KubernetesPluginException("@kubernetes:HPA{} Object metric " + metricModel.getName() +
+                        " requires objectKind and objectName.");
+            }
+        } else if (!METRIC_TYPE_EXTERNAL.equals(metricModel.getType())) {
+            throw new KubernetesPluginException("@kubernetes:HPA{} metric type should be one of " +
+                    METRIC_TYPE_PODS + ", " + METRIC_TYPE_OBJECT + " or " + METRIC_TYPE_EXTERNAL + ": " +
+                    metricModel.getType());
+        }
+    }
+
+    /**
+     * Parse the scale up and scale down rules of the autoscaler behavior.
+     *
+     * @param podAutoscalerModel Pod autoscaler model.
+     * @param behaviorValue      Behavior configuration record.
+     * @throws KubernetesPluginException When an unknown field is found.
+     */
+    private void parseBehavior(PodAutoscalerModel podAutoscalerModel, BLangExpression behaviorValue)
+            throws KubernetesPluginException {
+        List<BLangRecordLiteral.BLangRecordKeyValue> behaviorFields =
+                ((BLangRecordLiteral) behaviorValue).keyValuePairs;
+        for (BLangRecordLiteral.BLangRecordKeyValue behaviorField : behaviorFields) {
+            String direction = behaviorField.getKey().toString();
+            if ("scaleUp".equals(direction)) {
+                podAutoscalerModel.setScaleUp(parseScalingRules(behaviorField.getValue()));
+            } else if ("scaleDown".equals(direction)) {
+                podAutoscalerModel.setScaleDown(parseScalingRules(behaviorField.getValue()));
+            } else {
+                throw new KubernetesPluginException("unknown autoscaler behavior field found: " + direction);
+            }
+        }
+    }
+
+    private PodAutoscalerScalingRulesModel parseScalingRules(BLangExpression scalingRulesValue)
+            throws KubernetesPluginException {
+        PodAutoscalerScalingRulesModel scalingRulesModel = new PodAutoscalerScalingRulesModel();
+        List<BLangRecordLiteral.BLangRecordKeyValue> rulesFields =
+                ((BLangRecordLiteral) scalingRulesValue).keyValuePairs;
+        for (BLangRecordLiteral.BLangRecordKeyValue rulesField : rulesFields) {
+            ScalingRulesConfiguration rulesConfiguration =
+                    getConfiguration(ScalingRulesConfiguration.class, rulesField, "scaling rule field");
+            switch (rulesConfiguration) {
+                case stabilizationWindowSeconds:
+                    scalingRulesModel.setStabilizationWindowSeconds(getIntValue(rulesField.getValue()));
+                    break;
+                case selectPolicy:
+                    scalingRulesModel.setSelectPolicy(getStringValue(rulesField.getValue()));
+                    break;
+                case policies:
+                    scalingRulesModel.setPolicies(parseScalingPolicies(rulesField.getValue()));
+                    break;
+                default:
+                    throw new KubernetesPluginException("unknown autoscaler scaling rule field found: " +
+                            rulesField.getKey().toString());
+            }
+        }
+        return scalingRulesModel;
+    }
+
+    private List<PodAutoscalerScalingRulesModel.ScalingPolicy> parseScalingPolicies(BLangExpression policyValues)
+            throws KubernetesPluginException {
+        List<PodAutoscalerScalingRulesModel.ScalingPolicy> policies = new LinkedList<>();
+        for (BLangExpression policyValue : ((BLangListConstructorExpr) policyValues).exprs) {
+            PodAutoscalerScalingRulesModel.ScalingPolicy policy = new PodAutoscalerScalingRulesModel.ScalingPolicy();
+            List<BLangRecordLiteral.BLangRecordKeyValue> policyFields =
+                    ((BLangRecordLiteral) policyValue).keyValuePairs;
+            for (BLangRecordLiteral.BLangRecordKeyValue policyField : policyFields) {
+                ScalingPolicyConfiguration policyConfiguration =
+                        getConfiguration(ScalingPolicyConfiguration.class, policyField, "scaling policy field");
+                switch (policyConfiguration) {
+                    case type:
+                        policy.setType(getStringValue(policyField.getValue()));
+                        break;
+                    case value:
+                        policy.setValue(getIntValue(policyField.getValue()));
+                        break;
+                    case periodSeconds:
+                        policy.setPeriodSeconds(getIntValue(policyField.getValue()));
+                        break;
+                    default:
+                        throw new KubernetesPluginException("unknown autoscaler scaling policy field found: " +
+                                policyField.getKey().toString());
+                }
+            }
+            policies.add(policy);
+        }
+        return policies;
+    }
+
+    /**
+     * Resolve the configuration of an annotation field.
+     *
+     * @param configurationType Enum of the supported fields.
+     * @param field             Annotation field.
+     * @param fieldType         Description of the field used in the error message.
+     * @param <T>               Type of the configuration.
+     * @return Configuration of the field.
+     * @throws KubernetesPluginException When the field is not supported.
+     */
+    private static <T extends Enum<T>> T getConfiguration(Class<T> configurationType,
+                                                          BLangRecordLiteral.BLangRecordKeyValue field,
+                                                          String fieldType) throws KubernetesPluginException {
+        try {
+            return Enum.valueOf(configurationType, field.getKey().toString());
+        } catch (IllegalArgumentException e) {
+            throw new KubernetesPluginException("unknown autoscaler " + fieldType + " found: " +
+                    field.getKey().toString());
+        }
     }
 
     /**
@@ -99,6 +299,32 @@ public class HPAAnnotationProcessor extends AbstractAnnotationProcessor {
         annotations,
         minReplicas,
         maxReplicas,
-        cpuPercentage
+        cpuPercentage,
+        memoryPercentage,
+        metrics,
+        behavior
+    }
+
+    private enum MetricConfiguration {
+        type,
+        name,
+        selector,
+        value,
+        averageValue,
+        objectApiVersion,
+        objectKind,
+        objectName
+    }
+
+    private enum ScalingRulesConfiguration {
+        stabilizationWindowSeconds,
+        selectPolicy,
+        policies
+    }
+
+    private enum ScalingPolicyConfiguration {
+        type,
+        value,
+        periodSeconds
     }
 }
@@ -24,7 +24,7 @@ import org.ballerinalang.model.tree.ServiceNode;
 import org.ballerinalang.model.tree.SimpleVariableNode;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.models.IngressModel;
-import org.ballerinax.kubernetes.models.KubernetesContext;
+import org.ballerinax.kubernetes.models.KubernetesDataHolder;
 import org.ballerinax.kubernetes.models.SecretModel;
 import org.ballerinax.kubernetes.utils.KubernetesUtils;
 import org.wso2.ballerinalang.compiler.tree.BLangAnnotationAttachment;
@@ -60,6 +60,10 @@ import static org.ballerinax.kubernetes.utils.KubernetesUtils.isBlank;
  */
 public class IngressAnnotationProcessor extends AbstractAnnotationProcessor {
 
+    public IngressAnnotationProcessor(KubernetesDataHolder dataHolder) {
+        super(dataHolder);
+    }
+
     @Override
     public void processAnnotation(SimpleVariableNode variableNode, AnnotationAttachmentNode attachmentNode) throws
             KubernetesPluginException {
@@ -88,7 +92,7 @@ public class IngressAnnotationProcessor extends AbstractAnnotationProcessor {
             }
         }
 
-        KubernetesContext.getInstance().getDataHolder().addIngressModel(ingressModel);
+        dataHolder.addIngressModel(ingressModel);
     }
 
     /**
@@ -236,8 +240,8 @@ public class IngressAnnotationProcessor extends AbstractAnnotationProcessor {
                 List<BLangRecordLiteral.BLangRecordKeyValue> sslKeyValues =
                         ((BLangRecordLiteral) keyValue.valueExpr).getKeyValuePairs();
                 Set<SecretModel> secretModels = processSecureSocketAnnotation(listenerName, sslKeyValues);
-                KubernetesContext.getInstance().getDataHolder().addListenerSecret(listenerName, secretModels);
-                KubernetesContext.getInstance().getDataHolder().addSecrets(secretModels);
+                dataHolder.addListenerSecret(listenerName, secretModels);
+                dataHolder.addSecrets(secretModels);
             }
         }
     }
@@ -279,7 +283,7 @@ public class IngressAnnotationProcessor extends AbstractAnnotationProcessor {
             }
         }
 
-        KubernetesContext.getInstance().getDataHolder().addIngressModel(ingressModel);
+        dataHolder.addIngressModel(ingressModel);
 
     }
 
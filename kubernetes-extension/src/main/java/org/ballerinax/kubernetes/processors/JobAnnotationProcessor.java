@@ -21,7 +21,8 @@ import org.ballerinalang.model.tree.FunctionNode;
 import org.ballerinax.kubernetes.KubernetesConstants;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.models.JobModel;
-import org.ballerinax.kubernetes.models.KubernetesContext;
+import org.ballerinax.kubernetes.models.KubernetesDataHolder;
+import org.ballerinax.kubernetes.utils.ContainerResources;
 import org.wso2.ballerinalang.compiler.tree.BLangAnnotationAttachment;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangRecordLiteral;
 
@@ -44,6 +45,10 @@ import static org.ballerinax.kubernetes.utils.KubernetesUtils.isBlank;
  */
 public class JobAnnotationProcessor extends AbstractAnnotationProcessor {
 
+    public JobAnnotationProcessor(KubernetesDataHolder dataHolder) {
+        super(dataHolder);
+    }
+
     public void processAnnotation(FunctionNode functionNode, AnnotationAttachmentNode attachmentNode) throws
             KubernetesPluginException {
         JobModel jobModel = new JobModel();
@@ -57,7 +62,7 @@ public class JobAnnotationProcessor extends AbstractAnnotationProcessor {
                     jobModel.setName(getValidName(getStringValue(keyValue.getValue())));
                     break;
                 case namespace:
-                    KubernetesContext.getInstance().getDataHolder().setNamespace(getStringValue(keyValue.getValue()));
+                    dataHolder.setNamespace(getStringValue(keyValue.getValue()));
                     break;
                 case labels:
                     jobModel.setLabels(getMap(keyValue.getValue()));
@@ -120,6 +125,24 @@ public class JobAnnotationProcessor extends AbstractAnnotationProcessor {
                 case imagePullSecrets:
                     jobModel.setImagePullSecrets(getImagePullSecrets(keyValue));
                     break;
+                case cpuRequest:
+                    jobModel.setCpuRequest(getStringValue(keyValue.getValue()));
+                    break;
+                case cpuLimit:
+                    jobModel.setCpuLimit(getStringValue(keyValue.getValue()));
+                    break;
+                case memoryRequest:
+                    jobModel.setMemoryRequest(getStringValue(keyValue.getValue()));
+                    break;
+                case memoryLimit:
+                    jobModel.setMemoryLimit(getStringValue(keyValue.getValue()));
+                    break;
+                case ephemeralStorageRequest:
+                    jobModel.setEphemeralStorageRequest(getStringValue(keyValue.getValue()));
+                    break;
+                case ephemeralStorageLimit:
+                    jobModel.setEphemeralStorageLimit(getStringValue(keyValue.getValue()));
+                    break;
                 case registry:
                     jobModel.setRegistry(getStringValue(keyValue.getValue()));
                     break;
@@ -127,6 +150,7 @@ public class JobAnnotationProcessor extends AbstractAnnotationProcessor {
                     break;
             }
         }
+        ContainerResources.of(jobModel).validate("@kubernetes:Job{}");
         String dockerHost = System.getenv(DOCKER_HOST);
         if (!isBlank(dockerHost)) {
             jobModel.setDockerHost(dockerHost);
@@ -135,7 +159,7 @@ public class JobAnnotationProcessor extends AbstractAnnotationProcessor {
         if (!isBlank(dockerCertPath)) {
             jobModel.setDockerCertPath(dockerCertPath);
         }
-        KubernetesContext.getInstance().getDataHolder().setJobModel(jobModel);
+        dataHolder.setJobModel(jobModel);
     }
 
 
@@ -166,6 +190,12 @@ public class JobAnnotationProcessor extends AbstractAnnotationProcessor {
         singleYAML,
         dependsOn,
         imagePullSecrets,
-        registry
+        registry,
+        cpuRequest,
+        cpuLimit,
+        memoryRequest,
+        memoryLimit,
+        ephemeralStorageRequest,
+        ephemeralStorageLimit
     }
 }
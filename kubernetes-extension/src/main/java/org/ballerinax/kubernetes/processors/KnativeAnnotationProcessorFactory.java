@@ -21,6 +21,7 @@ package org.ballerinax.kubernetes.processors;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.models.knative.KnativeContext;
 import org.ballerinax.kubernetes.processors.knative.KnativeConfigMapAnnotationProcessor;
+import org.ballerinax.kubernetes.processors.knative.KnativePodAutoscalerAnnotationProcessor;
 import org.ballerinax.kubernetes.processors.knative.KnativeSecretAnnotationProcesser;
 import org.ballerinax.kubernetes.processors.knative.KnativeServiceAnnotationProcessor;
 
@@ -37,6 +38,8 @@ public class KnativeAnnotationProcessorFactory {
         switch (knativeAnnotation) {
             case Service:
                 return new KnativeServiceAnnotationProcessor();
+            case HPA:
+                return new KnativePodAutoscalerAnnotationProcessor();
             case Secret:
                 return new KnativeSecretAnnotationProcesser();
             case ConfigMap:
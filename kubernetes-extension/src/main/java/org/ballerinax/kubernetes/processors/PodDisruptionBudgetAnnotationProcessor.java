@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.processors;
+
+import org.ballerinalang.model.tree.AnnotationAttachmentNode;
+import org.ballerinalang.model.tree.FunctionNode;
+import org.ballerinalang.model.tree.ServiceNode;
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.models.KubernetesDataHolder;
+import org.ballerinax.kubernetes.models.PodDisruptionBudgetModel;
+import org.wso2.ballerinalang.compiler.tree.BLangAnnotationAttachment;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangRecordLiteral;
+
+import java.util.List;
+
+import static org.ballerinax.kubernetes.KubernetesConstants.MAIN_FUNCTION_NAME;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.getIntOrPercentage;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.getMap;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.getStringValue;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.getValidName;
+
+/**
+ * Pod disruption budget annotation processor.
+ */
+public class PodDisruptionBudgetAnnotationProcessor extends AbstractAnnotationProcessor {
+
+    public PodDisruptionBudgetAnnotationProcessor(KubernetesDataHolder dataHolder) {
+        super(dataHolder);
+    }
+
+    @Override
+    public void processAnnotation(ServiceNode serviceNode, AnnotationAttachmentNode attachmentNode) throws
+            KubernetesPluginException {
+        processPodDisruptionBudget(attachmentNode);
+    }
+
+    @Override
+    public void processAnnotation(FunctionNode functionNode, AnnotationAttachmentNode attachmentNode) throws
+            KubernetesPluginException {
+        if (!MAIN_FUNCTION_NAME.equals(functionNode.getName().getValue())) {
+            throw new KubernetesPluginException("@kubernetes:PodDisruptionBudget{} annotation cannot be attached to " +
+                    "a non main function.");
+        }
+
+        processPodDisruptionBudget(attachmentNode);
+    }
+
+    private void processPodDisruptionBudget(AnnotationAttachmentNode attachmentNode)
+            throws KubernetesPluginException {
+        PodDisruptionBudgetModel podDisruptionBudgetModel = new PodDisruptionBudgetModel();
+        List<BLangRecordLiteral.BLangRecordKeyValue> keyValues =
+                ((BLangRecordLiteral) ((BLangAnnotationAttachment) attachmentNode).expr).getKeyValuePairs();
+        for (BLangRecordLiteral.BLangRecordKeyValue keyValue : keyValues) {
+            PodDisruptionBudgetConfiguration podDisruptionBudgetConfiguration =
+                    PodDisruptionBudgetConfiguration.valueOf(keyValue.getKey().toString());
+            switch (podDisruptionBudgetConfiguration) {
+                case name:
+                    podDisruptionBudgetModel.setName(getValidName(getStringValue(keyValue.getValue())));
+                    break;
+                case labels:
+                    podDisruptionBudgetModel.setLabels(getMap(keyValue.getValue()));
+                    break;
+                case annotations:
+                    podDisruptionBudgetModel.setAnnotations(getMap(keyValue.getValue()));
+                    break;
+                case minAvailable:
+                    podDisruptionBudgetModel.setMinAvailable(getStringValue(keyValue.getValue()));
+                    getIntOrPercentage(podDisruptionBudgetModel.getMinAvailable(), "minAvailable");
+                    break;
+                case maxUnavailable:
+                    podDisruptionBudgetModel.setMaxUnavailable(getStringValue(keyValue.getValue()));
+                    getIntOrPercentage(podDisruptionBudgetModel.getMaxUnavailable(), "maxUnavailable");
+                    break;
+                default:
+                    break;
+            }
+        }
+        if (null != podDisruptionBudgetModel.getMinAvailable() &&
+                null != podDisruptionBudgetModel.getMaxUnavailable()) {
+            throw new KubernetesPluginException("@kubernetes:PodDisruptionBudget{} can either have 'minAvailable' " +
+                    "or 'maxUnavailable'.");
+        }
+        dataHolder.setPodDisruptionBudgetModel(podDisruptionBudgetModel);
+    }
+
+    /**
+     * Enum class for pod disruption budget configurations.
+     */
+    private enum PodDisruptionBudgetConfiguration {
+        name,
+        labels,
+        annotations,
+        minAvailable,
+        maxUnavailable
+    }
+}
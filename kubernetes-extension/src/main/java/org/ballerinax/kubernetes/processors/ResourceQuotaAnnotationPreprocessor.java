@@ -23,7 +23,7 @@ import org.ballerinalang.model.tree.FunctionNode;
 import org.ballerinalang.model.tree.ServiceNode;
 import org.ballerinalang.model.tree.SimpleVariableNode;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
-import org.ballerinax.kubernetes.models.KubernetesContext;
+import org.ballerinax.kubernetes.models.KubernetesDataHolder;
 import org.ballerinax.kubernetes.models.ResourceQuotaModel;
 import org.wso2.ballerinalang.compiler.tree.BLangAnnotationAttachment;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangExpression;
@@ -45,6 +45,10 @@ import static org.ballerinax.kubernetes.utils.KubernetesUtils.getValidName;
  */
 public class ResourceQuotaAnnotationPreprocessor extends AbstractAnnotationProcessor {
 
+    public ResourceQuotaAnnotationPreprocessor(KubernetesDataHolder dataHolder) {
+        super(dataHolder);
+    }
+
     @Override
     public void processAnnotation(ServiceNode serviceNode, AnnotationAttachmentNode attachmentNode)
             throws KubernetesPluginException {
@@ -105,7 +109,7 @@ public class ResourceQuotaAnnotationPreprocessor extends AbstractAnnotationProce
                 resourceQuotaModels.add(resourceQuotaModel);
             }
         }
-        KubernetesContext.getInstance().getDataHolder().setResourceQuotaModels(resourceQuotaModels);
+        dataHolder.setResourceQuotaModels(resourceQuotaModels);
     }
 
     /**
@@ -24,7 +24,7 @@ import org.ballerinalang.model.tree.FunctionNode;
 import org.ballerinalang.model.tree.IdentifierNode;
 import org.ballerinalang.model.tree.ServiceNode;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
-import org.ballerinax.kubernetes.models.KubernetesContext;
+import org.ballerinax.kubernetes.models.KubernetesDataHolder;
 import org.ballerinax.kubernetes.models.SecretModel;
 import org.ballerinax.kubernetes.utils.KubernetesUtils;
 import org.wso2.ballerinalang.compiler.tree.BLangAnnotationAttachment;
@@ -47,12 +47,17 @@ import static org.ballerinax.kubernetes.utils.KubernetesUtils.getMap;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.getStringValue;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.getValidName;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.isBlank;
+import static org.ballerinax.kubernetes.utils.PayloadDecompression.GZIP_EXTENSION;
 
 /**
  * Secrets annotation processor.
  */
 public class SecretAnnotationProcessor extends AbstractAnnotationProcessor {
 
+    public SecretAnnotationProcessor(KubernetesDataHolder dataHolder) {
+        super(dataHolder);
+    }
+
     @Override
     public void processAnnotation(ServiceNode serviceNode, AnnotationAttachmentNode attachmentNode) throws
             KubernetesPluginException {
@@ -79,6 +84,7 @@ public class SecretAnnotationProcessor extends AbstractAnnotationProcessor {
             List<BLangExpression> secretAnnotation = ((BLangListConstructorExpr) keyValue.valueExpr).exprs;
             for (BLangExpression bLangExpression : secretAnnotation) {
                 SecretModel secretModel = new SecretModel();
+                List<BLangExpression> data = null;
                 List<BLangRecordLiteral.BLangRecordKeyValue> annotationValues =
                         ((BLangRecordLiteral) bLangExpression).getKeyValuePairs();
                 for (BLangRecordLiteral.BLangRecordKeyValue annotation : annotationValues) {
@@ -98,32 +104,43 @@ public class SecretAnnotationProcessor extends AbstractAnnotationProcessor {
                             secretModel.setMountPath(getStringValue(annotation.getValue()));
                             break;
                         case data:
-                            List<BLangExpression> data = ((BLangListConstructorExpr) annotation.valueExpr).exprs;
-                            secretModel.setData(getDataForSecret(data));
+                            data = ((BLangListConstructorExpr) annotation.valueExpr).exprs;
                             break;
                         case readOnly:
                             secretModel.setReadOnly(getBooleanValue(annotation.getValue()));
                             break;
+                        case compress:
+                            secretModel.setCompress(getBooleanValue(annotation.getValue()));
+                            break;
                         default:
                             break;
                     }
                 }
+                if (data != null) {
+                    // files are read once the compress option is known.
+                    secretModel.setData(getDataForSecret(data, secretModel.isCompress()));
+                }
                 if (isBlank(secretModel.getName())) {
                     secretModel.setName(getValidName(nodeID.getValue()) + SECRET_POSTFIX);
                 }
                 secrets.add(secretModel);
             }
         }
-        KubernetesContext.getInstance().getDataHolder().addSecrets(secrets);
+        dataHolder.addSecrets(secrets);
     }
 
-    private Map<String, String> getDataForSecret(List<BLangExpression> data) throws KubernetesPluginException {
+    private Map<String, String> getDataForSecret(List<BLangExpression> data, boolean compress)
+            throws KubernetesPluginException {
         Map<String, String> dataMap = new HashMap<>();
         for (BLangExpression bLangExpression : data) {
             Path dataFilePath = Paths.get(getStringValue(bLangExpression));
             String key = String.valueOf(dataFilePath.getFileName());
-            String content = Base64.encodeBase64String(KubernetesUtils.readFileContent(dataFilePath));
-            dataMap.put(key, content);
+            byte[] content = KubernetesUtils.readFileContent(dataFilePath);
+            if (compress) {
+                dataMap.put(key + GZIP_EXTENSION, Base64.encodeBase64String(KubernetesUtils.gzip(content)));
+            } else {
+                dataMap.put(key, Base64.encodeBase64String(content));
+            }
         }
         return dataMap;
     }
@@ -137,6 +154,7 @@ public class SecretAnnotationProcessor extends AbstractAnnotationProcessor {
         annotations,
         mountPath,
         readOnly,
-        data
+        data,
+        compress
     }
 }
@@ -23,7 +23,7 @@ import org.ballerinalang.model.tree.ServiceNode;
 import org.ballerinalang.model.tree.SimpleVariableNode;
 import org.ballerinax.kubernetes.KubernetesConstants;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
-import org.ballerinax.kubernetes.models.KubernetesContext;
+import org.ballerinax.kubernetes.models.KubernetesDataHolder;
 import org.ballerinax.kubernetes.models.ServiceModel;
 import org.wso2.ballerinalang.compiler.tree.BLangAnnotationAttachment;
 import org.wso2.ballerinalang.compiler.tree.BLangIdentifier;
@@ -49,6 +49,10 @@ import static org.ballerinax.kubernetes.utils.KubernetesUtils.isBlank;
  */
 public class ServiceAnnotationProcessor extends AbstractAnnotationProcessor {
 
+    public ServiceAnnotationProcessor(KubernetesDataHolder dataHolder) {
+        super(dataHolder);
+    }
+
     @Override
     public void processAnnotation(ServiceNode serviceNode, AnnotationAttachmentNode attachmentNode) throws
             KubernetesPluginException {
@@ -81,8 +85,7 @@ public class ServiceAnnotationProcessor extends AbstractAnnotationProcessor {
 
         setServiceProtocol(serviceModel, bListener);
 
-        KubernetesContext.getInstance().getDataHolder().addBListenerToK8sServiceMap(serviceNode.getName().getValue(),
-                serviceModel);
+        dataHolder.addBListenerToK8sServiceMap(serviceNode.getName().getValue(), serviceModel);
     }
 
     @Override
@@ -108,8 +111,7 @@ public class ServiceAnnotationProcessor extends AbstractAnnotationProcessor {
 
         setServiceProtocol(serviceModel, bListener);
 
-        KubernetesContext.getInstance().getDataHolder().addBListenerToK8sServiceMap(variableNode.getName().getValue()
-                , serviceModel);
+        dataHolder.addBListenerToK8sServiceMap(variableNode.getName().getValue(), serviceModel);
     }
 
     private int extractPort(BLangTypeInit bListener) throws KubernetesPluginException {
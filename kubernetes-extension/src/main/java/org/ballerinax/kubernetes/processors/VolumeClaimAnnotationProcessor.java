@@ -22,7 +22,7 @@ import org.ballerinalang.model.tree.AnnotationAttachmentNode;
 import org.ballerinalang.model.tree.FunctionNode;
 import org.ballerinalang.model.tree.ServiceNode;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
-import org.ballerinax.kubernetes.models.KubernetesContext;
+import org.ballerinax.kubernetes.models.KubernetesDataHolder;
 import org.ballerinax.kubernetes.models.PersistentVolumeClaimModel;
 import org.wso2.ballerinalang.compiler.tree.BLangAnnotationAttachment;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangExpression;
@@ -44,6 +44,10 @@ import static org.ballerinax.kubernetes.utils.KubernetesUtils.getValidName;
  */
 public class VolumeClaimAnnotationProcessor extends AbstractAnnotationProcessor {
 
+    public VolumeClaimAnnotationProcessor(KubernetesDataHolder dataHolder) {
+        super(dataHolder);
+    }
+
     /**
      * Process PersistentVolumeClaim annotations for services.
      *
@@ -122,7 +126,7 @@ public class VolumeClaimAnnotationProcessor extends AbstractAnnotationProcessor
                 volumeClaimModels.add(claimModel);
             }
         }
-        KubernetesContext.getInstance().getDataHolder().addPersistentVolumeClaims(volumeClaimModels);
+        dataHolder.addPersistentVolumeClaims(volumeClaimModels);
     }
 
     /**
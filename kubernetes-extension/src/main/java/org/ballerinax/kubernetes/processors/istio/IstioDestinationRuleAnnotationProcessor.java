@@ -0,0 +1,410 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.processors.istio;
+
+import org.ballerinalang.model.tree.AnnotationAttachmentNode;
+import org.ballerinalang.model.tree.ServiceNode;
+import org.ballerinalang.model.tree.SimpleVariableNode;
+import org.ballerinalang.model.tree.expressions.ExpressionNode;
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.models.KubernetesDataHolder;
+import org.ballerinax.kubernetes.models.istio.IstioConnectionPool;
+import org.ballerinax.kubernetes.models.istio.IstioConsistentHash;
+import org.ballerinax.kubernetes.models.istio.IstioDestinationRuleModel;
+import org.ballerinax.kubernetes.models.istio.IstioOutlierDetection;
+import org.ballerinax.kubernetes.models.istio.IstioSubset;
+import org.ballerinax.kubernetes.processors.AbstractAnnotationProcessor;
+import org.wso2.ballerinalang.compiler.tree.BLangAnnotationAttachment;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangListConstructorExpr;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangRecordLiteral;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.ballerinax.kubernetes.KubernetesConstants.ISTIO_DESTINATION_RULE_POSTFIX;
+import static org.ballerinax.kubernetes.KubernetesConstants.ISTIO_SUBSET_VERSION_LABEL;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.getBooleanValue;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.getIntValue;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.getLongValue;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.getMap;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.getStringValue;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.getValidName;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.isBlank;
+
+/**
+ * Istio destination rule annotation processor.
+ *
+ * @since 1.0.1
+ */
+public class IstioDestinationRuleAnnotationProcessor extends AbstractAnnotationProcessor {
+
+    public IstioDestinationRuleAnnotationProcessor(KubernetesDataHolder dataHolder) {
+        super(dataHolder);
+    }
+
+    @Override
+    public void processAnnotation(ServiceNode serviceNode, AnnotationAttachmentNode attachmentNode)
+            throws KubernetesPluginException {
+        List<BLangRecordLiteral.BLangRecordKeyValue> keyValues =
+                ((BLangRecordLiteral) ((BLangAnnotationAttachment) attachmentNode).expr).getKeyValuePairs();
+
+        IstioDestinationRuleModel drModel = this.processIstioDRAnnotation(keyValues);
+        if (isBlank(drModel.getName())) {
+            drModel.setName(getValidName(serviceNode.getName().getValue()) + ISTIO_DESTINATION_RULE_POSTFIX);
+        }
+
+        dataHolder.addIstioDestinationRuleModel(serviceNode.getName().getValue(), drModel);
+    }
+
+    @Override
+    public void processAnnotation(SimpleVariableNode variableNode, AnnotationAttachmentNode attachmentNode)
+            throws KubernetesPluginException {
+        List<BLangRecordLiteral.BLangRecordKeyValue> keyValues =
+                ((BLangRecordLiteral) ((BLangAnnotationAttachment) attachmentNode).expr).getKeyValuePairs();
+
+        IstioDestinationRuleModel drModel = this.processIstioDRAnnotation(keyValues);
+        if (isBlank(drModel.getName())) {
+            drModel.setName(getValidName(variableNode.getName().getValue()) + ISTIO_DESTINATION_RULE_POSTFIX);
+        }
+
+        dataHolder.addIstioDestinationRuleModel(variableNode.getName().getValue(), drModel);
+    }
+
+    /**
+     * Process @istio:DestinationRule annotation.
+     *
+     * @param drFields Fields of the destination rule annotation.
+     * @return Destination rule model.
+     * @throws KubernetesPluginException Unable to process annotations.
+     */
+    private IstioDestinationRuleModel processIstioDRAnnotation(List<BLangRecordLiteral.BLangRecordKeyValue> drFields)
+            throws KubernetesPluginException {
+        IstioDestinationRuleModel drModel = new IstioDestinationRuleModel();
+        for (BLangRecordLiteral.BLangRecordKeyValue drField : drFields) {
+            switch (DRConfig.valueOf(drField.getKey().toString())) {
+                case name:
+                    drModel.setName(getValidName(getStringValue(drField.getValue())));
+                    break;
+                case labels:
+                    drModel.setLabels(getMap(drField.getValue()));
+                    break;
+                case annotations:
+                    drModel.setAnnotations(getMap(drField.getValue()));
+                    break;
+                case host:
+                    drModel.setHost(getStringValue(drField.getValue()));
+                    break;
+                case loadBalancer:
+                    drModel.setLoadBalancer(processLoadBalancer(getStringValue(drField.getValue())));
+                    break;
+                case consistentHash:
+                    drModel.setConsistentHash(processConsistentHashAnnotation((BLangRecordLiteral) drField.getValue()));
+                    break;
+                case connectionPool:
+                    drModel.setConnectionPool(processConnectionPoolAnnotation((BLangRecordLiteral) drField.getValue()));
+                    break;
+                case outlierDetection:
+                    drModel.setOutlierDetection(
+                            processOutlierDetectionAnnotation((BLangRecordLiteral) drField.getValue()));
+                    break;
+                case subsets:
+                    drModel.setSubsets(processSubsetsAnnotation((BLangListConstructorExpr) drField.getValue()));
+                    break;
+                default:
+                    throw new KubernetesPluginException("unknown field found for istio destination rule: " +
+                            drField.getKey().toString());
+            }
+        }
+
+        if (null != drModel.getLoadBalancer() && null != drModel.getConsistentHash()) {
+            throw new KubernetesPluginException("istio destination rule '" + drModel.getName() + "' can have either " +
+                    "a loadBalancer or a consistentHash.");
+        }
+        return drModel;
+    }
+
+    /**
+     * Validate the simple load balancer of the destination rule annotation. LEAST_REQUEST is accepted as the name
+     * used by the newer istio versions for the LEAST_CONN policy, which both map to the envoy least request balancer.
+     *
+     * @param loadBalancer The load balancer.
+     * @return The istio load balancer.
+     * @throws KubernetesPluginException When the load balancer is not supported.
+     */
+    private String processLoadBalancer(String loadBalancer) throws KubernetesPluginException {
+        try {
+            LoadBalancerConfig loadBalancerConfig = LoadBalancerConfig.valueOf(loadBalancer);
+            if (loadBalancerConfig == LoadBalancerConfig.LEAST_REQUEST) {
+                return LoadBalancerConfig.LEAST_CONN.name();
+            }
+            return loadBalancerConfig.name();
+        } catch (IllegalArgumentException e) {
+            throw new KubernetesPluginException("invalid loadBalancer '" + loadBalancer + "' found for istio " +
+                    "destination rule. Use ROUND_ROBIN, LEAST_REQUEST, LEAST_CONN, RANDOM or PASSTHROUGH.");
+        }
+    }
+
+    /**
+     * Process consistent hash of the destination rule annotation to a model.
+     *
+     * @param hashFields The consistent hash fields.
+     * @return A istio consistent hash model.
+     * @throws KubernetesPluginException When an unknown field is found or the hash key is invalid.
+     */
+    private IstioConsistentHash processConsistentHashAnnotation(BLangRecordLiteral hashFields)
+            throws KubernetesPluginException {
+        IstioConsistentHash consistentHash = new IstioConsistentHash();
+        for (BLangRecordLiteral.BLangRecordKeyValue hashField : hashFields.getKeyValuePairs()) {
+            switch (ConsistentHashConfig.valueOf(hashField.getKey().toString())) {
+                case httpHeaderName:
+                    consistentHash.setHttpHeaderName(getStringValue(hashField.getValue()));
+                    break;
+                case httpCookieName:
+                    consistentHash.setHttpCookieName(getStringValue(hashField.getValue()));
+                    break;
+                case httpCookieTtl:
+                    consistentHash.setHttpCookieTtl(getNonNegativeLong(hashField));
+                    break;
+                case useSourceIp:
+                    consistentHash.setUseSourceIp(getBooleanValue(hashField.getValue()));
+                    break;
+                case minimumRingSize:
+                    consistentHash.setMinimumRingSize(getPositiveInt(hashField));
+                    break;
+                default:
+                    throw new KubernetesPluginException("unknown field found for istio destination rule: " +
+                            hashField.getKey().toString());
+            }
+        }
+
+        int hashKeys = (null != consistentHash.getHttpHeaderName() ? 1 : 0) +
+                       (null != consistentHash.getHttpCookieName() ? 1 : 0) +
+                       (consistentHash.isUseSourceIp() ? 1 : 0);
+        if (hashKeys != 1) {
+            throw new KubernetesPluginException("consistentHash of istio destination rule should have exactly one " +
+                    "of httpHeaderName, httpCookieName or useSourceIp.");
+        }
+        if (null != consistentHash.getHttpCookieName() && -1 == consistentHash.getHttpCookieTtl()) {
+            throw new KubernetesPluginException("httpCookieTtl is required when hashing on httpCookieName in istio " +
+                    "destination rule.");
+        }
+        return consistentHash;
+    }
+
+    /**
+     * Process connection pool of the destination rule annotation to a model.
+     *
+     * @param poolFields The connection pool fields.
+     * @return A istio connection pool model.
+     * @throws KubernetesPluginException When an unknown field or an invalid limit is found.
+     */
+    private IstioConnectionPool processConnectionPoolAnnotation(BLangRecordLiteral poolFields)
+            throws KubernetesPluginException {
+        IstioConnectionPool connectionPool = new IstioConnectionPool();
+        for (BLangRecordLiteral.BLangRecordKeyValue poolField : poolFields.getKeyValuePairs()) {
+            switch (ConnectionPoolConfig.valueOf(poolField.getKey().toString())) {
+                case maxConnections:
+                    connectionPool.setMaxConnections(getPositiveInt(poolField));
+                    break;
+                case connectTimeout:
+                    connectionPool.setConnectTimeout(getNonNegativeLong(poolField));
+                    break;
+                case http1MaxPendingRequests:
+                    connectionPool.setHttp1MaxPendingRequests(getPositiveInt(poolField));
+                    break;
+                case http2MaxRequests:
+                    connectionPool.setHttp2MaxRequests(getPositiveInt(poolField));
+                    break;
+                case maxRequestsPerConnection:
+                    connectionPool.setMaxRequestsPerConnection(getPositiveInt(poolField));
+                    break;
+                case maxRetries:
+                    connectionPool.setMaxRetries(getNonNegativeInt(poolField));
+                    break;
+                default:
+                    throw new KubernetesPluginException("unknown field found for istio destination rule: " +
+                            poolField.getKey().toString());
+            }
+        }
+        return connectionPool;
+    }
+
+    /**
+     * Process outlier detection of the destination rule annotation to a model.
+     *
+     * @param outlierFields The outlier detection fields.
+     * @return A istio outlier detection model.
+     * @throws KubernetesPluginException When an unknown field or an invalid value is found.
+     */
+    private IstioOutlierDetection processOutlierDetectionAnnotation(BLangRecordLiteral outlierFields)
+            throws KubernetesPluginException {
+        IstioOutlierDetection outlierDetection = new IstioOutlierDetection();
+        for (BLangRecordLiteral.BLangRecordKeyValue outlierField : outlierFields.getKeyValuePairs()) {
+            switch (OutlierDetectionConfig.valueOf(outlierField.getKey().toString())) {
+                case consecutiveErrors:
+                    outlierDetection.setConsecutiveErrors(getPositiveInt(outlierField));
+                    break;
+                case interval:
+                    outlierDetection.setInterval(getNonNegativeLong(outlierField));
+                    break;
+                case baseEjectionTime:
+                    outlierDetection.setBaseEjectionTime(getNonNegativeLong(outlierField));
+                    break;
+                case maxEjectionPercent:
+                    int maxEjectionPercent = getNonNegativeInt(outlierField);
+                    if (maxEjectionPercent > 100) {
+                        throw new KubernetesPluginException("maxEjectionPercent of istio destination rule should " +
+                                "be between 0 and 100.");
+                    }
+                    outlierDetection.setMaxEjectionPercent(maxEjectionPercent);
+                    break;
+                default:
+                    throw new KubernetesPluginException("unknown field found for istio destination rule: " +
+                            outlierField.getKey().toString());
+            }
+        }
+        return outlierDetection;
+    }
+
+    /**
+     * Process subsets of the destination rule annotation to a model. A subset without labels selects the pods whose
+     * version label matches the name of the subset.
+     *
+     * @param subsetArray The list of subsets.
+     * @return A list of istio subset models.
+     * @throws KubernetesPluginException When an unknown field is found or a subset is not unique.
+     */
+    private List<IstioSubset> processSubsetsAnnotation(BLangListConstructorExpr subsetArray)
+            throws KubernetesPluginException {
+        List<IstioSubset> subsets = new LinkedList<>();
+        Set<String> subsetNames = new HashSet<>();
+        for (ExpressionNode expression : subsetArray.getExpressions()) {
+            BLangRecordLiteral subsetFields = (BLangRecordLiteral) expression;
+            IstioSubset subset = new IstioSubset();
+            for (BLangRecordLiteral.BLangRecordKeyValue subsetField : subsetFields.getKeyValuePairs()) {
+                switch (SubsetConfig.valueOf(subsetField.getKey().toString())) {
+                    case name:
+                        subset.setName(getValidName(getStringValue(subsetField.getValue())));
+                        break;
+                    case labels:
+                        subset.setLabels(getMap(subsetField.getValue()));
+                        break;
+                    default:
+                        throw new KubernetesPluginException("unknown field found for istio destination rule: " +
+                                subsetField.getKey().toString());
+                }
+            }
+
+            if (isBlank(subset.getName())) {
+                throw new KubernetesPluginException("name is required for the subsets of istio destination rule.");
+            }
+            if (!subsetNames.add(subset.getName())) {
+                throw new KubernetesPluginException("duplicate subset '" + subset.getName() + "' found for istio " +
+                        "destination rule.");
+            }
+            if (null == subset.getLabels() || subset.getLabels().size() == 0) {
+                Map<String, String> labels = new LinkedHashMap<>();
+                labels.put(ISTIO_SUBSET_VERSION_LABEL, subset.getName());
+                subset.setLabels(labels);
+            }
+            subsets.add(subset);
+        }
+        return subsets;
+    }
+
+    private int getPositiveInt(BLangRecordLiteral.BLangRecordKeyValue field) throws KubernetesPluginException {
+        int value = getIntValue(field.getValue());
+        if (value <= 0) {
+            throw new KubernetesPluginException(field.getKey().toString() + " of istio destination rule should be " +
+                    "greater than 0.");
+        }
+        return value;
+    }
+
+    private int getNonNegativeInt(BLangRecordLiteral.BLangRecordKeyValue field) throws KubernetesPluginException {
+        int value = getIntValue(field.getValue());
+        if (value < 0) {
+            throw new KubernetesPluginException(field.getKey().toString() + " of istio destination rule should not " +
+                    "be negative.");
+        }
+        return value;
+    }
+
+    private long getNonNegativeLong(BLangRecordLiteral.BLangRecordKeyValue field) throws KubernetesPluginException {
+        long value = getLongValue(field.getValue());
+        if (value < 0) {
+            throw new KubernetesPluginException(field.getKey().toString() + " of istio destination rule should not " +
+                    "be negative.");
+        }
+        return value;
+    }
+
+    private enum SubsetConfig {
+        name,
+        labels
+    }
+
+    private enum OutlierDetectionConfig {
+        consecutiveErrors,
+        interval,
+        baseEjectionTime,
+        maxEjectionPercent
+    }
+
+    private enum ConnectionPoolConfig {
+        maxConnections,
+        connectTimeout,
+        http1MaxPendingRequests,
+        http2MaxRequests,
+        maxRequestsPerConnection,
+        maxRetries
+    }
+
+    private enum ConsistentHashConfig {
+        httpHeaderName,
+        httpCookieName,
+        httpCookieTtl,
+        useSourceIp,
+        minimumRingSize
+    }
+
+    private enum LoadBalancerConfig {
+        ROUND_ROBIN,
+        LEAST_REQUEST,
+        LEAST_CONN,
+        RANDOM,
+        PASSTHROUGH
+    }
+
+    private enum DRConfig {
+        name,
+        labels,
+        annotations,
+        host,
+        loadBalancer,
+        consistentHash,
+        connectionPool,
+        outlierDetection,
+        subsets
+    }
+}
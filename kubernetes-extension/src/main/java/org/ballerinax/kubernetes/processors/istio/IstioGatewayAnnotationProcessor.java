@@ -23,7 +23,7 @@ import org.ballerinalang.model.tree.ServiceNode;
 import org.ballerinalang.model.tree.SimpleVariableNode;
 import org.ballerinalang.model.tree.expressions.ExpressionNode;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
-import org.ballerinax.kubernetes.models.KubernetesContext;
+import org.ballerinax.kubernetes.models.KubernetesDataHolder;
 import org.ballerinax.kubernetes.models.istio.IstioGatewayModel;
 import org.ballerinax.kubernetes.models.istio.IstioPortModel;
 import org.ballerinax.kubernetes.models.istio.IstioServerModel;
@@ -48,6 +48,11 @@ import static org.ballerinax.kubernetes.utils.KubernetesUtils.isBlank;
  * @since 0.985.0
  */
 public class IstioGatewayAnnotationProcessor extends AbstractAnnotationProcessor {
+
+    public IstioGatewayAnnotationProcessor(KubernetesDataHolder dataHolder) {
+        super(dataHolder);
+    }
+
     @Override
     public void processAnnotation(ServiceNode serviceNode, AnnotationAttachmentNode attachmentNode)
             throws KubernetesPluginException {
@@ -60,7 +65,7 @@ public class IstioGatewayAnnotationProcessor extends AbstractAnnotationProcessor
         }
 
         setDefaultValues(gwModel);
-        KubernetesContext.getInstance().getDataHolder().addIstioGatewayModel(serviceNode.getName().getValue(), gwModel);
+        dataHolder.addIstioGatewayModel(serviceNode.getName().getValue(), gwModel);
     }
 
     @Override
@@ -75,8 +80,7 @@ public class IstioGatewayAnnotationProcessor extends AbstractAnnotationProcessor
         }
 
         setDefaultValues(gwModel);
-        KubernetesContext.getInstance().getDataHolder().addIstioGatewayModel(variableNode.getName().getValue(),
-                gwModel);
+        dataHolder.addIstioGatewayModel(variableNode.getName().getValue(), gwModel);
     }
 
     /**
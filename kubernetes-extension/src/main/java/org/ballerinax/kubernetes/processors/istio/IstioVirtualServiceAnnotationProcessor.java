@@ -23,9 +23,12 @@ import org.ballerinalang.model.tree.ServiceNode;
 import org.ballerinalang.model.tree.SimpleVariableNode;
 import org.ballerinalang.model.tree.expressions.ExpressionNode;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
-import org.ballerinax.kubernetes.models.KubernetesContext;
+import org.ballerinax.kubernetes.models.KubernetesDataHolder;
 import org.ballerinax.kubernetes.models.istio.IstioDestination;
 import org.ballerinax.kubernetes.models.istio.IstioDestinationWeight;
+import org.ballerinax.kubernetes.models.istio.IstioHttpFault;
+import org.ballerinax.kubernetes.models.istio.IstioHttpMatch;
+import org.ballerinax.kubernetes.models.istio.IstioHttpRetry;
 import org.ballerinax.kubernetes.models.istio.IstioHttpRoute;
 import org.ballerinax.kubernetes.models.istio.IstioVirtualServiceModel;
 import org.ballerinax.kubernetes.processors.AbstractAnnotationProcessor;
@@ -52,6 +55,10 @@ import static org.ballerinax.kubernetes.utils.KubernetesUtils.isBlank;
  */
 public class IstioVirtualServiceAnnotationProcessor extends AbstractAnnotationProcessor {
 
+    public IstioVirtualServiceAnnotationProcessor(KubernetesDataHolder dataHolder) {
+        super(dataHolder);
+    }
+
     @Override
     public void processAnnotation(ServiceNode serviceNode, AnnotationAttachmentNode attachmentNode)
             throws KubernetesPluginException {
@@ -65,8 +72,7 @@ public class IstioVirtualServiceAnnotationProcessor extends AbstractAnnotationPr
         }
 
         setDefaultValues(vsModel);
-        KubernetesContext.getInstance().getDataHolder().addIstioVirtualServiceModel(serviceNode.getName().getValue(),
-                vsModel);
+        dataHolder.addIstioVirtualServiceModel(serviceNode.getName().getValue(), vsModel);
     }
 
     @Override
@@ -81,8 +87,7 @@ public class IstioVirtualServiceAnnotationProcessor extends AbstractAnnotationPr
         }
 
         setDefaultValues(vsModel);
-        KubernetesContext.getInstance().getDataHolder().addIstioVirtualServiceModel(variableNode.getName().getValue(),
-                vsModel);
+        dataHolder.addIstioVirtualServiceModel(variableNode.getName().getValue(), vsModel);
     }
 
     /**
@@ -152,6 +157,10 @@ public class IstioVirtualServiceAnnotationProcessor extends AbstractAnnotationPr
             IstioHttpRoute httpRoute = new IstioHttpRoute();
             for (BLangRecordLiteral.BLangRecordKeyValue httpField : httpFields.getKeyValuePairs()) {
                 switch (HttpRouteConfig.valueOf(httpField.getKey().toString())) {
+                    case match:
+                        BLangListConstructorExpr matchFields = (BLangListConstructorExpr) httpField.getValue();
+                        httpRoute.setMatch(processMatchAnnotation(matchFields));
+                        break;
                     case route:
                         BLangListConstructorExpr routeFields = (BLangListConstructorExpr)  httpField.getValue();
                         httpRoute.setRoute(processRoutesAnnotation(routeFields));
@@ -159,6 +168,18 @@ public class IstioVirtualServiceAnnotationProcessor extends AbstractAnnotationPr
                     case timeout:
                         httpRoute.setTimeout(getLongValue(httpField.getValue()));
                         break;
+                    case retries:
+                        httpRoute.setRetries(processRetriesAnnotation((BLangRecordLiteral) httpField.getValue()));
+                        break;
+                    case fault:
+                        httpRoute.setFault(processFaultAnnotation((BLangRecordLiteral) httpField.getValue()));
+                        break;
+                    case mirror:
+                        httpRoute.setMirror(processDestinationAnnotation((BLangRecordLiteral) httpField.getValue()));
+                        break;
+                    case mirrorPercent:
+                        httpRoute.setMirrorPercent(getPercentage(httpField));
+                        break;
                     case appendHeaders:
                         httpRoute.setAppendHeaders(getMap(httpField.getValue()));
                         break;
@@ -167,11 +188,139 @@ public class IstioVirtualServiceAnnotationProcessor extends AbstractAnnotationPr
                                 httpField.getKey().toString());
                 }
             }
+            if (-1 != httpRoute.getMirrorPercent() && null == httpRoute.getMirror()) {
+                throw new KubernetesPluginException("mirrorPercent of istio virtual service requires a mirror.");
+            }
             httpRoutes.add(httpRoute);
         }
         return httpRoutes;
     }
 
+    /**
+     * Process match conditions of http annotation to a model.
+     *
+     * @param matchArray The list of match conditions.
+     * @return A list of istio http match models.
+     * @throws KubernetesPluginException When an unknown field is found or the uri has more than one match.
+     */
+    private List<IstioHttpMatch> processMatchAnnotation(BLangListConstructorExpr matchArray)
+            throws KubernetesPluginException {
+        List<IstioHttpMatch> matches = new LinkedList<>();
+        for (ExpressionNode expression : matchArray.getExpressions()) {
+            BLangRecordLiteral matchFields = (BLangRecordLiteral) expression;
+            IstioHttpMatch match = new IstioHttpMatch();
+            for (BLangRecordLiteral.BLangRecordKeyValue matchField : matchFields.getKeyValuePairs()) {
+                switch (HttpMatchConfig.valueOf(matchField.getKey().toString())) {
+                    case uriPrefix:
+                        match.setUriPrefix(getStringValue(matchField.getValue()));
+                        break;
+                    case uriRegex:
+                        match.setUriRegex(getStringValue(matchField.getValue()));
+                        break;
+                    case headers:
+                        match.setHeaders(getMap(matchField.getValue()));
+                        break;
+                    default:
+                        throw new KubernetesPluginException("unknown field found for istio virtual service: " +
+                                matchField.getKey().toString());
+                }
+            }
+            if (null != match.getUriPrefix() && null != match.getUriRegex()) {
+                throw new KubernetesPluginException("match of istio virtual service can have either a uriPrefix " +
+                        "or a uriRegex.");
+            }
+            matches.add(match);
+        }
+        return matches;
+    }
+
+    /**
+     * Process retries of http annotation to a model.
+     *
+     * @param retryFields The retry fields.
+     * @return A istio http retry model.
+     * @throws KubernetesPluginException When an unknown field or an invalid value is found.
+     */
+    private IstioHttpRetry processRetriesAnnotation(BLangRecordLiteral retryFields) throws KubernetesPluginException {
+        IstioHttpRetry retry = new IstioHttpRetry();
+        for (BLangRecordLiteral.BLangRecordKeyValue retryField : retryFields.getKeyValuePairs()) {
+            switch (HttpRetryConfig.valueOf(retryField.getKey().toString())) {
+                case attempts:
+                    retry.setAttempts(getIntValue(retryField.getValue()));
+                    break;
+                case perTryTimeout:
+                    retry.setPerTryTimeout(getLongValue(retryField.getValue()));
+                    break;
+                case retryOn:
+                    retry.setRetryOn(getStringValue(retryField.getValue()));
+                    break;
+                default:
+                    throw new KubernetesPluginException("unknown field found for istio virtual service: " +
+                            retryField.getKey().toString());
+            }
+        }
+        if (retry.getAttempts() <= 0) {
+            throw new KubernetesPluginException("attempts of istio virtual service retries should be greater than 0.");
+        }
+        if (-1 != retry.getPerTryTimeout() && retry.getPerTryTimeout() <= 0) {
+            throw new KubernetesPluginException("perTryTimeout of istio virtual service retries should be greater " +
+                    "than 0.");
+        }
+        return retry;
+    }
+
+    /**
+     * Process fault injection of http annotation to a model.
+     *
+     * @param faultFields The fault fields.
+     * @return A istio http fault model.
+     * @throws KubernetesPluginException When an unknown field or an incomplete fault is found.
+     */
+    private IstioHttpFault processFaultAnnotation(BLangRecordLiteral faultFields) throws KubernetesPluginException {
+        IstioHttpFault fault = new IstioHttpFault();
+        for (BLangRecordLiteral.BLangRecordKeyValue faultField : faultFields.getKeyValuePairs()) {
+            switch (HttpFaultConfig.valueOf(faultField.getKey().toString())) {
+                case delayPercent:
+                    fault.setDelayPercent(getPercentage(faultField));
+                    break;
+                case fixedDelay:
+                    fault.setFixedDelay(getLongValue(faultField.getValue()));
+                    break;
+                case abortPercent:
+                    fault.setAbortPercent(getPercentage(faultField));
+                    break;
+                case abortHttpStatus:
+                    fault.setAbortHttpStatus(getIntValue(faultField.getValue()));
+                    break;
+                default:
+                    throw new KubernetesPluginException("unknown field found for istio virtual service: " +
+                            faultField.getKey().toString());
+            }
+        }
+        if (-1 != fault.getDelayPercent() && fault.getFixedDelay() <= 0) {
+            throw new KubernetesPluginException("fixedDelay is required for the delay fault of istio virtual " +
+                    "service.");
+        }
+        if (-1 != fault.getAbortPercent() && (fault.getAbortHttpStatus() < 200 || fault.getAbortHttpStatus() > 599)) {
+            throw new KubernetesPluginException("a valid abortHttpStatus is required for the abort fault of istio " +
+                    "virtual service.");
+        }
+        if (-1 == fault.getDelayPercent() && -1 == fault.getAbortPercent()) {
+            throw new KubernetesPluginException("fault of istio virtual service should have a delayPercent or an " +
+                    "abortPercent.");
+        }
+        return fault;
+    }
+
+    private int getPercentage(BLangRecordLiteral.BLangRecordKeyValue field) throws KubernetesPluginException {
+        int percentage = getIntValue(field.getValue());
+        if (percentage < 0 || percentage > 100) {
+            throw new KubernetesPluginException(field.getKey().toString() + " of istio virtual service should be " +
+                    "between 0 and 100.");
+        }
+        return percentage;
+    }
+
     /**
      * Process routes of http annotation to a model.
      *
@@ -246,9 +395,33 @@ public class IstioVirtualServiceAnnotationProcessor extends AbstractAnnotationPr
         weight
     }
 
+    private enum HttpMatchConfig {
+        uriPrefix,
+        uriRegex,
+        headers
+    }
+
+    private enum HttpRetryConfig {
+        attempts,
+        perTryTimeout,
+        retryOn
+    }
+
+    private enum HttpFaultConfig {
+        delayPercent,
+        fixedDelay,
+        abortPercent,
+        abortHttpStatus
+    }
+
     private enum HttpRouteConfig {
+        match,
         route,
         timeout,
+        retries,
+        fault,
+        mirror,
+        mirrorPercent,
         appendHeaders
     }
 
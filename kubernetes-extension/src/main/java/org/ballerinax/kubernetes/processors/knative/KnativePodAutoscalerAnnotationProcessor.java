@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.processors.knative;
+
+import org.ballerinalang.model.tree.AnnotationAttachmentNode;
+import org.ballerinalang.model.tree.FunctionNode;
+import org.ballerinalang.model.tree.ServiceNode;
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.models.knative.KnativeContext;
+import org.ballerinax.kubernetes.models.knative.PodAutoscalerModel;
+import org.ballerinax.kubernetes.processors.AbstractAnnotationProcessor;
+import org.wso2.ballerinalang.compiler.tree.BLangAnnotationAttachment;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangRecordLiteral;
+
+import java.util.List;
+
+import static org.ballerinax.kubernetes.KubernetesConstants.KNATIVE_AUTOSCALER_CLASS_HPA;
+import static org.ballerinax.kubernetes.KubernetesConstants.KNATIVE_AUTOSCALER_CLASS_KPA;
+import static org.ballerinax.kubernetes.KubernetesConstants.MAIN_FUNCTION_NAME;
+import static org.ballerinax.kubernetes.utils.KnativeUtils.getIntValue;
+import static org.ballerinax.kubernetes.utils.KnativeUtils.getMap;
+import static org.ballerinax.kubernetes.utils.KnativeUtils.getStringValue;
+import static org.ballerinax.kubernetes.utils.KnativeUtils.getValidName;
+
+/**
+ * Knative pod autoscaler annotation processor.
+ */
+public class KnativePodAutoscalerAnnotationProcessor extends AbstractAnnotationProcessor {
+
+    private static final String DURATION_PATTERN = "\\d+(s|m|h)";
+
+    @Override
+    public void processAnnotation(ServiceNode serviceNode, AnnotationAttachmentNode attachmentNode) throws
+            KubernetesPluginException {
+        processPodAutoscaler(attachmentNode);
+    }
+
+    @Override
+    public void processAnnotation(FunctionNode functionNode, AnnotationAttachmentNode attachmentNode) throws
+            KubernetesPluginException {
+        if (!MAIN_FUNCTION_NAME.equals(functionNode.getName().getValue())) {
+            throw new KubernetesPluginException("@knative:HPA{} annotation cannot be attached to a non main " +
+                    "function.");
+        }
+
+        processPodAutoscaler(attachmentNode);
+    }
+
+    private void processPodAutoscaler(AnnotationAttachmentNode attachmentNode) throws KubernetesPluginException {
+        PodAutoscalerModel podAutoscalerModel = new PodAutoscalerModel();
+        List<BLangRecordLiteral.BLangRecordKeyValue> keyValues =
+                ((BLangRecordLiteral) ((BLangAnnotationAttachment) attachmentNode).expr).getKeyValuePairs();
+        for (BLangRecordLiteral.BLangRecordKeyValue keyValue : keyValues) {
+            PodAutoscalerConfiguration podAutoscalerConfiguration =
+                    PodAutoscalerConfiguration.valueOf(keyValue.getKey().toString());
+            switch (podAutoscalerConfiguration) {
+                case name:
+                    podAutoscalerModel.setName(getValidName(getStringValue(keyValue.getValue())));
+                    break;
+                case labels:
+                    podAutoscalerModel.setLabels(getMap(keyValue.getValue()));
+                    break;
+                case annotations:
+                    podAutoscalerModel.setAnnotations(getMap(keyValue.getValue()));
+                    break;
+                case minReplicas:
+                    podAutoscalerModel.setMinReplicas(getIntValue(keyValue.getValue()));
+                    break;
+                case maxReplicas:
+                    podAutoscalerModel.setMaxReplicas(getIntValue(keyValue.getValue()));
+                    break;
+                case autoscalerClass:
+                    podAutoscalerModel.setAutoscalerClass(getStringValue(keyValue.getValue()));
+                    break;
+                case metric:
+                    podAutoscalerModel.setMetric(getStringValue(keyValue.getValue()));
+                    break;
+                case target:
+                    podAutoscalerModel.setTarget(getIntValue(keyValue.getValue()));
+                    break;
+                case targetUtilizationPercentage:
+                    podAutoscalerModel.setTargetUtilizationPercentage(getIntValue(keyValue.getValue()));
+                    break;
+                case window:
+                    podAutoscalerModel.setWindow(getStringValue(keyValue.getValue()));
+                    break;
+                case scaleToZeroPodRetentionPeriod:
+                    podAutoscalerModel.setScaleToZeroPodRetentionPeriod(getStringValue(keyValue.getValue()));
+                    break;
+                default:
+                    break;
+            }
+        }
+        validate(podAutoscalerModel);
+        KnativeContext.getInstance().getDataHolder().setPodAutoscalerModel(podAutoscalerModel);
+    }
+
+    void validate(PodAutoscalerModel podAutoscalerModel) throws KubernetesPluginException {
+        String autoscalerClass = podAutoscalerModel.getAutoscalerClass();
+        if (null != autoscalerClass && !KNATIVE_AUTOSCALER_CLASS_KPA.equals(autoscalerClass) &&
+                !KNATIVE_AUTOSCALER_CLASS_HPA.equals(autoscalerClass)) {
+            throw new KubernetesPluginException("invalid autoscalerClass '" + autoscalerClass + "' found in " +
+                    "@knative:HPA{}. autoscalerClass should be either 'kpa' or 'hpa'.");
+        }
+        String metric = podAutoscalerModel.getMetric();
+        if (null != metric) {
+            boolean hpaMetric = "cpu".equals(metric) || "memory".equals(metric);
+            boolean kpaMetric = "concurrency".equals(metric) || "rps".equals(metric);
+            if (KNATIVE_AUTOSCALER_CLASS_HPA.equals(autoscalerClass) ? !hpaMetric : !kpaMetric) {
+                throw new KubernetesPluginException("metric '" + metric + "' of @knative:HPA{} is not supported " +
+                        "by the " + (null == autoscalerClass ? KNATIVE_AUTOSCALER_CLASS_KPA : autoscalerClass) +
+                        " autoscaler. kpa supports concurrency and rps, hpa supports cpu and memory.");
+            }
+        }
+        if (KNATIVE_AUTOSCALER_CLASS_HPA.equals(autoscalerClass) && 0 == podAutoscalerModel.getMinReplicas()) {
+            throw new KubernetesPluginException("@knative:HPA{} with the hpa autoscalerClass cannot scale to zero. " +
+                    "minReplicas should be at least 1.");
+        }
+        if (podAutoscalerModel.getMaxReplicas() > 0 &&
+                podAutoscalerModel.getMinReplicas() > podAutoscalerModel.getMaxReplicas()) {
+            throw new KubernetesPluginException("minReplicas of @knative:HPA{} cannot be greater than maxReplicas.");
+        }
+        if (podAutoscalerModel.getTarget() == 0) {
+            throw new KubernetesPluginException("target of @knative:HPA{} should be greater than 0.");
+        }
+        int targetUtilizationPercentage = podAutoscalerModel.getTargetUtilizationPercentage();
+        if (targetUtilizationPercentage == 0 || targetUtilizationPercentage > 100) {
+            throw new KubernetesPluginException("targetUtilizationPercentage of @knative:HPA{} should be between " +
+                    "1 and 100.");
+        }
+        validateDuration(podAutoscalerModel.getWindow(), "window");
+        validateDuration(podAutoscalerModel.getScaleToZeroPodRetentionPeriod(), "scaleToZeroPodRetentionPeriod");
+    }
+
+    private void validateDuration(String duration, String field) throws KubernetesPluginException {
+        if (null != duration && !duration.matches(DURATION_PATTERN)) {
+            throw new KubernetesPluginException(field + " of @knative:HPA{} should be a duration such as \"60s\", " +
+                    "\"5m\" or \"1h\": " + duration);
+        }
+    }
+
+    /**
+     * Enum class for knative pod autoscaler configurations.
+     */
+    private enum PodAutoscalerConfiguration {
+        name,
+        labels,
+        annotations,
+        minReplicas,
+        maxReplicas,
+        autoscalerClass,
+        metric,
+        target,
+        targetUtilizationPercentage,
+        window,
+        scaleToZeroPodRetentionPeriod
+    }
+}
@@ -26,7 +26,9 @@ import org.ballerinax.kubernetes.models.knative.KnativeContext;
 import org.ballerinax.kubernetes.models.knative.PodTolerationModel;
 import org.ballerinax.kubernetes.models.knative.ProbeModel;
 import org.ballerinax.kubernetes.models.knative.ServiceModel;
+import org.ballerinax.kubernetes.models.knative.TrafficTargetModel;
 import org.ballerinax.kubernetes.processors.AbstractAnnotationProcessor;
+import org.ballerinax.kubernetes.utils.ContainerResources;
 import org.ballerinax.kubernetes.utils.KnativeUtils;
 import org.wso2.ballerinalang.compiler.tree.BLangAnnotationAttachment;
 import org.wso2.ballerinalang.compiler.tree.BLangService;
@@ -53,6 +55,7 @@ import static org.ballerinax.kubernetes.utils.KnativeUtils.getEnvVarMap;
 import static org.ballerinax.kubernetes.utils.KnativeUtils.getExternalFileMap;
 import static org.ballerinax.kubernetes.utils.KnativeUtils.getImagePullSecrets;
 import static org.ballerinax.kubernetes.utils.KnativeUtils.getIntValue;
+import static org.ballerinax.kubernetes.utils.KnativeUtils.getList;
 import static org.ballerinax.kubernetes.utils.KnativeUtils.getMap;
 import static org.ballerinax.kubernetes.utils.KnativeUtils.getStringValue;
 import static org.ballerinax.kubernetes.utils.KnativeUtils.getValidName;
@@ -192,6 +195,9 @@ public class KnativeServiceAnnotationProcessor extends AbstractAnnotationProcess
                 case readinessProbe:
                     serviceModel.setReadinessProbe(parseProbeConfiguration(keyValue.getValue()));
                     break;
+                case startupProbe:
+                    serviceModel.setStartupProbe(parseProbeConfiguration(keyValue.getValue()));
+                    break;
                 case imagePullPolicy:
                     serviceModel.setImagePullPolicy(getStringValue(keyValue.getValue()));
                     break;
@@ -207,20 +213,55 @@ public class KnativeServiceAnnotationProcessor extends AbstractAnnotationProcess
                 case dependsOn:
                     serviceModel.setDependsOn(getDependsOn(keyValue));
                     break;
+                case dependsOnTimeoutSeconds:
+                    serviceModel.setDependsOnTimeoutSeconds(getIntValue(keyValue.getValue()));
+                    break;
+                case dependsOnMaxBackoffSeconds:
+                    serviceModel.setDependsOnMaxBackoffSeconds(getIntValue(keyValue.getValue()));
+                    break;
                 case imagePullSecrets:
                     serviceModel.setImagePullSecrets(getImagePullSecrets(keyValue));
                     break;
                 case containerConcurrency:
                     serviceModel.setContainerConcurrency(getIntValue(keyValue.getValue()));
                     break;
+                case cpuRequest:
+                    serviceModel.setCpuRequest(getStringValue(keyValue.getValue()));
+                    break;
+                case cpuLimit:
+                    serviceModel.setCpuLimit(getStringValue(keyValue.getValue()));
+                    break;
+                case memoryRequest:
+                    serviceModel.setMemoryRequest(getStringValue(keyValue.getValue()));
+                    break;
+                case memoryLimit:
+                    serviceModel.setMemoryLimit(getStringValue(keyValue.getValue()));
+                    break;
+                case ephemeralStorageRequest:
+                    serviceModel.setEphemeralStorageRequest(getStringValue(keyValue.getValue()));
+                    break;
+                case ephemeralStorageLimit:
+                    serviceModel.setEphemeralStorageLimit(getStringValue(keyValue.getValue()));
+                    break;
                 case timeoutSeconds:
                     serviceModel.setTimeoutSeconds(getIntValue(keyValue.getValue()));
                     break;
+                case revisionName:
+                    serviceModel.setRevisionName(getValidName(getStringValue(keyValue.getValue())));
+                    break;
+                case traffic:
+                    serviceModel.setTraffic(parseTrafficConfiguration(keyValue.getValue()));
+                    break;
                 default:
                     break;
             }
         }
 
+        ContainerResources.of(serviceModel).validate("@knative:Service{}");
+        if (serviceModel.getDependsOnTimeoutSeconds() < 1 || serviceModel.getDependsOnMaxBackoffSeconds() < 1) {
+            throw new KubernetesPluginException("'dependsOnTimeoutSeconds' and 'dependsOnMaxBackoffSeconds' of " +
+                    "@knative:Service{} should be greater than 0.");
+        }
         String dockerHost = System.getenv(DOCKER_HOST);
         if (!isBlank(dockerHost)) {
             serviceModel.setDockerHost(dockerHost);
@@ -307,17 +348,106 @@ public class KnativeServiceAnnotationProcessor extends AbstractAnnotationProcess
                         case periodSeconds:
                             probeModel.setPeriodSeconds(getIntValue(probeField.getValue()));
                             break;
+                        case timeoutSeconds:
+                            probeModel.setTimeoutSeconds(getIntValue(probeField.getValue()));
+                            break;
+                        case successThreshold:
+                            probeModel.setSuccessThreshold(getIntValue(probeField.getValue()));
+                            break;
+                        case failureThreshold:
+                            probeModel.setFailureThreshold(getIntValue(probeField.getValue()));
+                            break;
+                        case path:
+                            probeModel.setPath(getStringValue(probeField.getValue()));
+                            break;
+                        case command:
+                            probeModel.setCommand(getList(probeField.getValue()));
+                            break;
                         default:
                             throw new KubernetesPluginException("unknown probe field found: " +
                                     probeField.getKey().toString());
                     }
                 }
+                if (null != probeModel.getPath() && null != probeModel.getCommand()) {
+                    throw new KubernetesPluginException("a probe can either have a 'path' or a 'command'.");
+                }
                 return probeModel;
             }
         }
         return null;
     }
 
+    /**
+     * Parse traffic targets from a record array.
+     *
+     * @param trafficValues Traffic target configuration records.
+     * @return Traffic target models.
+     * @throws KubernetesPluginException When an unknown field is found or the targets are invalid.
+     */
+    private List<TrafficTargetModel> parseTrafficConfiguration(BLangExpression trafficValues)
+            throws KubernetesPluginException {
+        List<TrafficTargetModel> trafficTargetModels = new LinkedList<>();
+        for (BLangExpression trafficFieldsAsExpression : ((BLangListConstructorExpr) trafficValues).exprs) {
+            List<BLangRecordLiteral.BLangRecordKeyValue> trafficFields =
+                    ((BLangRecordLiteral) trafficFieldsAsExpression).keyValuePairs;
+            TrafficTargetModel trafficTargetModel = new TrafficTargetModel();
+            for (BLangRecordLiteral.BLangRecordKeyValue trafficField : trafficFields) {
+                TrafficTargetConfiguration trafficFieldName =
+                        TrafficTargetConfiguration.valueOf(trafficField.getKey().toString());
+                switch (trafficFieldName) {
+                    case revisionName:
+                        trafficTargetModel.setRevisionName(getValidName(getStringValue(trafficField.getValue())));
+                        break;
+                    case latestRevision:
+                        trafficTargetModel.setLatestRevision(getBooleanValue(trafficField.getValue()));
+                        break;
+                    case percent:
+                        trafficTargetModel.setPercent(getIntValue(trafficField.getValue()));
+                        break;
+                    case tag:
+                        trafficTargetModel.setTag(getStringValue(trafficField.getValue()));
+                        break;
+                    default:
+                        throw new KubernetesPluginException("unknown traffic target field found: " +
+                                trafficField.getKey().toString());
+                }
+            }
+            trafficTargetModels.add(trafficTargetModel);
+        }
+        validateTraffic(trafficTargetModels);
+        return trafficTargetModels;
+    }
+
+    /**
+     * Validate the traffic targets of a service.
+     *
+     * @param trafficTargetModels Traffic target models.
+     * @throws KubernetesPluginException When a target does not refer to exactly one revision, a tag is repeated or
+     *                                   the percentages do not add up to 100.
+     */
+    void validateTraffic(List<TrafficTargetModel> trafficTargetModels) throws KubernetesPluginException {
+        Set<String> tags = new HashSet<>();
+        int totalPercent = 0;
+        for (TrafficTargetModel trafficTargetModel : trafficTargetModels) {
+            if (trafficTargetModel.isLatestRevision() == (null != trafficTargetModel.getRevisionName())) {
+                throw new KubernetesPluginException("a traffic target of @knative:Service{} should either have a " +
+                        "'revisionName' or set 'latestRevision' to true.");
+            }
+            if (trafficTargetModel.getPercent() > 100) {
+                throw new KubernetesPluginException("'percent' of a traffic target should be between 0 and 100.");
+            }
+            if (null != trafficTargetModel.getTag() && !tags.add(trafficTargetModel.getTag())) {
+                throw new KubernetesPluginException("duplicate traffic target tag found: " +
+                        trafficTargetModel.getTag());
+            }
+            totalPercent += Math.max(0, trafficTargetModel.getPercent());
+        }
+        if (!trafficTargetModels.isEmpty() && totalPercent != 100) {
+            throw new KubernetesPluginException("'percent' of the traffic targets of @knative:Service{} should add " +
+                    "up to 100 but found " + totalPercent + ".");
+        }
+    }
+
     private Set<String> getDependsOn(BLangRecordLiteral.BLangRecordKeyValue keyValue) {
         Set<String> dependsOnList = new HashSet<>();
         List<BLangExpression> configAnnotation = ((BLangListConstructorExpr) keyValue.valueExpr).exprs;
@@ -359,21 +489,44 @@ public class KnativeServiceAnnotationProcessor extends AbstractAnnotationProcess
         replicas,
         livenessProbe,
         readinessProbe,
+        startupProbe,
         imagePullPolicy,
         env,
         podAnnotations,
         podTolerations,
         buildExtension,
         dependsOn,
+        dependsOnTimeoutSeconds,
+        dependsOnMaxBackoffSeconds,
         imagePullSecrets,
         containerConcurrency,
-        timeoutSeconds
+        timeoutSeconds,
+        cpuRequest,
+        cpuLimit,
+        memoryRequest,
+        memoryLimit,
+        ephemeralStorageRequest,
+        ephemeralStorageLimit,
+        revisionName,
+        traffic
     }
 
     private enum ProbeConfiguration {
         port,
         initialDelaySeconds,
-        periodSeconds
+        periodSeconds,
+        timeoutSeconds,
+        successThreshold,
+        failureThreshold,
+        path,
+        command
+    }
+
+    private enum TrafficTargetConfiguration {
+        revisionName,
+        latestRevision,
+        percent,
+        tag
     }
 
     private enum PodTolerationConfiguration {
@@ -24,7 +24,7 @@ import org.ballerinalang.model.tree.NodeKind;
 import org.ballerinalang.model.tree.ServiceNode;
 import org.ballerinalang.model.tree.SimpleVariableNode;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
-import org.ballerinax.kubernetes.models.KubernetesContext;
+import org.ballerinax.kubernetes.models.KubernetesDataHolder;
 import org.ballerinax.kubernetes.models.openshift.OpenShiftRouteModel;
 import org.ballerinax.kubernetes.processors.AbstractAnnotationProcessor;
 import org.wso2.ballerinalang.compiler.tree.BLangAnnotationAttachment;
@@ -42,6 +42,11 @@ import static org.ballerinax.kubernetes.utils.KubernetesUtils.isBlank;
  * Annotation processor for OpenShift's Route.
  */
 public class OpenShiftRouteProcessor extends AbstractAnnotationProcessor {
+
+    public OpenShiftRouteProcessor(KubernetesDataHolder dataHolder) {
+        super(dataHolder);
+    }
+
     @Override
     public void processAnnotation(ServiceNode serviceNode, AnnotationAttachmentNode attachmentNode)
             throws KubernetesPluginException {
@@ -96,8 +101,7 @@ public class OpenShiftRouteProcessor extends AbstractAnnotationProcessor {
             openShiftRoute.setName(getValidName(identifierNode.getValue()) + OPENSHIFT_ROUTE_POSTFIX);
         }
 
-        KubernetesContext.getInstance().getDataHolder().addOpenShiftRouteModel(identifierNode.getValue(),
-                openShiftRoute);
+        dataHolder.addOpenShiftRouteModel(identifierNode.getValue(), openShiftRoute);
     }
 
     private enum OpenShiftRouteFields {
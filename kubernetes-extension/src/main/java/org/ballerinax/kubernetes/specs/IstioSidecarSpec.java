@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.specs;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.api.model.KubernetesResource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Istio sidecar spec. The istio model predates the Sidecar resource.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"workloadSelector", "egress"})
+@JsonDeserialize(using = JsonDeserializer.None.class)
+public class IstioSidecarSpec implements KubernetesResource {
+
+    private static final long serialVersionUID = 2916325842071862743L;
+
+    @JsonProperty("workloadSelector")
+    private WorkloadSelector workloadSelector;
+    @JsonProperty("egress")
+    private List<EgressListener> egress = new ArrayList<>();
+
+    @JsonProperty("workloadSelector")
+    public WorkloadSelector getWorkloadSelector() {
+        return workloadSelector;
+    }
+
+    @JsonProperty("workloadSelector")
+    public void setWorkloadSelector(WorkloadSelector workloadSelector) {
+        this.workloadSelector = workloadSelector;
+    }
+
+    @JsonProperty("egress")
+    public List<EgressListener> getEgress() {
+        return egress;
+    }
+
+    @JsonProperty("egress")
+    public void setEgress(List<EgressListener> egress) {
+        this.egress = egress;
+    }
+
+    @Override
+    public String toString() {
+        return "IstioSidecarSpec(workloadSelector=" + workloadSelector + ", egress=" + egress + ")";
+    }
+
+    /**
+     * Labels of the pods the sidecar configuration applies to.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class WorkloadSelector implements KubernetesResource {
+
+        private static final long serialVersionUID = -4262436451927396361L;
+
+        @JsonProperty("labels")
+        private Map<String, String> labels;
+
+        public WorkloadSelector() {
+        }
+
+        public WorkloadSelector(Map<String, String> labels) {
+            this.labels = labels;
+        }
+
+        @JsonProperty("labels")
+        public Map<String, String> getLabels() {
+            return labels;
+        }
+
+        @JsonProperty("labels")
+        public void setLabels(Map<String, String> labels) {
+            this.labels = labels;
+        }
+
+        @Override
+        public String toString() {
+            return "WorkloadSelector(labels=" + labels + ")";
+        }
+    }
+
+    /**
+     * Hosts in "namespace/dnsName" format which the sidecar can reach.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class EgressListener implements KubernetesResource {
+
+        private static final long serialVersionUID = 5304853021736385184L;
+
+        @JsonProperty("hosts")
+        private List<String> hosts;
+
+        public EgressListener() {
+        }
+
+        public EgressListener(List<String> hosts) {
+            this.hosts = hosts;
+        }
+
+        @JsonProperty("hosts")
+        public List<String> getHosts() {
+            return hosts;
+        }
+
+        @JsonProperty("hosts")
+        public void setHosts(List<String> hosts) {
+            this.hosts = hosts;
+        }
+
+        @Override
+        public String toString() {
+            return "EgressListener(hosts=" + hosts + ")";
+        }
+    }
+}
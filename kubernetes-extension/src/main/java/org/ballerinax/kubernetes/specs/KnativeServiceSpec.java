@@ -30,6 +30,7 @@ import io.fabric8.kubernetes.api.model.KubernetesResource;
 import io.fabric8.kubernetes.api.model.LabelSelector;
 import io.fabric8.kubernetes.api.model.apps.DeploymentStrategy;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import javax.annotation.Generated;
 import javax.validation.Valid;
@@ -51,7 +52,8 @@ import javax.validation.Valid;
         "revisionHistoryLimit",
         "selector",
         "strategy",
-        "template"
+        "template",
+        "traffic"
 })
 @JsonDeserialize(using = com.fasterxml.jackson.databind.JsonDeserializer.None.class)
 /*@ToString
@@ -114,6 +116,13 @@ public class KnativeServiceSpec implements KubernetesResource {
     @JsonProperty("template")
     @Valid
     private KnativePodTemplateSpec template;
+    /**
+     * Knative service annotations model class.
+     * Knative ServiceSpec
+     */
+    @JsonProperty("traffic")
+    @Valid
+    private List<KnativeTrafficTarget> traffic;
     @JsonIgnore
     private Map<String, Object> additionalProperties = new HashMap<String, Object>();
 
@@ -285,6 +294,24 @@ public class KnativeServiceSpec implements KubernetesResource {
         this.template = template;
     }
 
+    /**
+     * Knative service annotations model class.
+     * Knative ServiceSpec
+     */
+    @JsonProperty("traffic")
+    public List<KnativeTrafficTarget> getTraffic() {
+        return traffic;
+    }
+
+    /**
+     * Knative service annotations model class.
+     * Knative ServiceSpec
+     */
+    @JsonProperty("traffic")
+    public void setTraffic(List<KnativeTrafficTarget> traffic) {
+        this.traffic = traffic;
+    }
+
     @JsonAnyGetter
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties;
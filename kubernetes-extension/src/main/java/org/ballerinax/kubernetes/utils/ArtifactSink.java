@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.utils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.ballerinax.kubernetes.KubernetesConstants.YAML;
+
+/**
+ * Receives the yaml documents emitted by the artifact handlers during a generation pass. A file backed sink keeps
+ * one buffered writer open per artifact file until the sink is closed, replacing the content the file had before the
+ * pass, while an in-memory sink only keeps the content. Both keep the emitted content so that it can be read back
+ * without listing the output directory.
+ */
+public class ArtifactSink implements Closeable {
+    private static final String DOCUMENT_SEPARATOR = "---";
+
+    private final String artifactName;
+    private final boolean singleYAML;
+    private final boolean inMemory;
+    private final Map<Path, StringBuilder> artifacts = new LinkedHashMap<>();
+    private final Map<Path, Writer> writers = new LinkedHashMap<>();
+
+    private ArtifactSink(String artifactName, boolean singleYAML, boolean inMemory) {
+        this.artifactName = artifactName;
+        this.singleYAML = singleYAML;
+        this.inMemory = inMemory;
+    }
+
+    /**
+     * Create a sink which writes the artifacts to files.
+     *
+     * @param artifactName Name used as the prefix of the artifact files.
+     * @param singleYAML   Whether all the documents of a directory are written to a single file.
+     * @return Artifact sink.
+     */
+    public static ArtifactSink toFiles(String artifactName, boolean singleYAML) {
+        return new ArtifactSink(artifactName, singleYAML, false);
+    }
+
+    /**
+     * Create a sink which keeps the artifacts in memory.
+     *
+     * @param artifactName Name used as the prefix of the artifact files.
+     * @param singleYAML   Whether all the documents of a directory are written to a single file.
+     * @return Artifact sink.
+     */
+    public static ArtifactSink inMemory(String artifactName, boolean singleYAML) {
+        return new ArtifactSink(artifactName, singleYAML, true);
+    }
+
+    /**
+     * Get the file an artifact is written to.
+     *
+     * @param outputDir  Artifact output directory.
+     * @param fileSuffix Suffix of the artifact file.
+     * @return Path of the artifact file.
+     */
+    public Path getArtifactPath(Path outputDir, String fileSuffix) {
+        return outputDir.resolve(artifactName + (singleYAML ? YAML : fileSuffix));
+    }
+
+    /**
+     * Append yaml documents to an artifact file, starting with a document separator.
+     *
+     * @param artifactPath Path of the artifact file.
+     * @param documents    Yaml documents.
+     * @throws IOException If an error occurs while writing to the file.
+     */
+    public synchronized void write(Path artifactPath, String documents) throws IOException {
+        String content = documents.startsWith(DOCUMENT_SEPARATOR) ? documents :
+                DOCUMENT_SEPARATOR + "\n" + documents;
+        artifacts.computeIfAbsent(artifactPath, path -> new StringBuilder()).append(content);
+        if (inMemory) {
+            return;
+        }
+        Writer writer = writers.get(artifactPath);
+        if (null == writer) {
+            Files.createDirectories(artifactPath.getParent());
+            writer = Files.newBufferedWriter(artifactPath, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+            writers.put(artifactPath, writer);
+        }
+        writer.write(content);
+    }
+
+    /**
+     * Get the content emitted to the yaml files of a directory.
+     *
+     * @param outputDir Artifact output directory.
+     * @return Content against each yaml file directly under the directory.
+     */
+    public synchronized Map<Path, String> getArtifacts(Path outputDir) {
+        Map<Path, String> directoryArtifacts = new LinkedHashMap<>();
+        for (Map.Entry<Path, StringBuilder> artifact : artifacts.entrySet()) {
+            Path artifactPath = artifact.getKey();
+            if (outputDir.equals(artifactPath.getParent()) && artifactPath.getFileName().toString().endsWith(YAML)) {
+                directoryArtifacts.put(artifactPath, artifact.getValue().toString());
+            }
+        }
+        return directoryArtifacts;
+    }
+
+    /**
+     * Flush and close the artifact files.
+     *
+     * @throws IOException If an error occurs while writing to a file.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        IOException failure = null;
+        for (Writer writer : writers.values()) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                failure = null == failure ? e : failure;
+            }
+        }
+        writers.clear();
+        if (null != failure) {
+            throw failure;
+        }
+    }
+}
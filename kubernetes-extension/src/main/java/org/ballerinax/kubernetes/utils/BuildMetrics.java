@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timings of the build phases of a module and counters of the work done in them. Phases may be timed from the
+ * parallel generation threads, hence all updates are synchronized.
+ */
+public class BuildMetrics {
+    public static final String ANNOTATION_PHASE = "annotation:";
+    public static final String HANDLER_PHASE = "handler:";
+    public static final String GENERATION_PHASE = "generation";
+    public static final String YAML_SERIALIZATION_PHASE = "yaml:serialize";
+    public static final String DOCKER_BUILD_PHASE = "docker:build";
+    public static final String YAML_DOCUMENTS = "yaml.documents";
+    public static final String YAML_BYTES = "yaml.bytes";
+    public static final String FILE_WRITES = "io.writes";
+    public static final String FILE_BYTES = "io.bytes";
+    public static final String DOCKER_BUILDS_SKIPPED = "docker.buildsSkipped";
+    public static final String GENERATION_CACHE_HITS = "generation.cacheHits";
+    private static final ObjectMapper REPORT_MAPPER = new ObjectMapper()
+            .enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final long startTime = System.nanoTime();
+    private final Map<String, Phase> phases = new LinkedHashMap<>();
+    private final Map<String, Long> counters = new LinkedHashMap<>();
+
+    /**
+     * Start timing a phase. The elapsed time is recorded when the returned timer is closed, hence the timer is
+     * expected to be used in a try-with-resources block.
+     *
+     * @param phase Name of the phase.
+     * @return Timer of the phase.
+     */
+    public Timer time(String phase) {
+        return new Timer(phase);
+    }
+
+    public synchronized void record(String phase, long elapsedNanos) {
+        phases.computeIfAbsent(phase, name -> new Phase()).add(elapsedNanos);
+    }
+
+    public synchronized void increment(String counter, long delta) {
+        counters.merge(counter, delta, Long::sum);
+    }
+
+    /**
+     * Get the report of the phases and counters recorded so far.
+     *
+     * @param module Name of the module.
+     * @return Report as a json compatible map.
+     */
+    public synchronized Map<String, Object> toReport(String module) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("module", module);
+        report.put("totalMillis", toMillis(System.nanoTime() - startTime));
+        Map<String, Object> phaseReport = new LinkedHashMap<>();
+        for (Map.Entry<String, Phase> phase : phases.entrySet()) {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("count", phase.getValue().count);
+            stats.put("totalMillis", toMillis(phase.getValue().totalNanos));
+            stats.put("maxMillis", toMillis(phase.getValue().maxNanos));
+            phaseReport.put(phase.getKey(), stats);
+        }
+        report.put("phases", phaseReport);
+        report.put("counters", new LinkedHashMap<>(counters));
+        return report;
+    }
+
+    /**
+     * Write the report of the phases and counters recorded so far as json.
+     *
+     * @param reportFile Path to the report file.
+     * @param module     Name of the module.
+     * @throws IOException If the report cannot be written.
+     */
+    public void writeReport(Path reportFile, String module) throws IOException {
+        Path parent = reportFile.toAbsolutePath().getParent();
+        if (null != parent) {
+            Files.createDirectories(parent);
+        }
+        Files.write(reportFile, REPORT_MAPPER.writeValueAsBytes(toReport(module)));
+    }
+
+    /**
+     * Get the number of bytes of the UTF-8 encoding of the given content without encoding it.
+     *
+     * @param content Content.
+     * @return Encoded length.
+     */
+    public static long utf8Length(CharSequence content) {
+        long length = 0;
+        for (int i = 0; i < content.length(); i++) {
+            char ch = content.charAt(i);
+            if (ch < 0x80) {
+                length++;
+            } else if (ch < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(ch) && i + 1 < content.length()
+                    && Character.isLowSurrogate(content.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Elapsed time of a single run of a phase.
+     */
+    public class Timer implements AutoCloseable {
+        private final String phase;
+        private final long start;
+
+        private Timer(String phase) {
+            this.phase = phase;
+            this.start = System.nanoTime();
+        }
+
+        @Override
+        public void close() {
+            record(phase, System.nanoTime() - start);
+        }
+    }
+
+    private static class Phase {
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+
+        private void add(long elapsedNanos) {
+            count++;
+            totalNanos += elapsedNanos;
+            maxNanos = Math.max(maxNanos, elapsedNanos);
+        }
+    }
+}
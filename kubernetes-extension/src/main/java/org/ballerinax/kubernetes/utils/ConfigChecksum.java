@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.utils;
+
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Computes a digest of the content of the config maps or the secrets mounted by a workload. The digest is set as a
+ * pod template annotation so that the pods are rolled when the mounted content changes, and only then. The entries
+ * are digested in name and key order, hence the digest does not depend on the order the models were processed.
+ */
+public class ConfigChecksum {
+    private static final byte SEPARATOR = 0;
+
+    private final Map<String, Map<String, String>> payloads = new TreeMap<>();
+
+    /**
+     * Add the content of a config map or a secret.
+     *
+     * @param name       Name of the config map or the secret.
+     * @param data       Text or base64 encoded entries, may be null.
+     * @param binaryData Base64 encoded binary entries, may be null.
+     */
+    public void addPayload(String name, Map<String, String> data, Map<String, String> binaryData) {
+        Map<String, String> entries = payloads.computeIfAbsent(name, key -> new TreeMap<>());
+        if (null != data) {
+            data.forEach((key, value) -> entries.put("data/" + key, value));
+        }
+        if (null != binaryData) {
+            binaryData.forEach((key, value) -> entries.put("binaryData/" + key, value));
+        }
+    }
+
+    public boolean isEmpty() {
+        return payloads.isEmpty();
+    }
+
+    /**
+     * Get the SHA-256 digest of the added content.
+     *
+     * @return Hex encoded digest.
+     */
+    public String getChecksum() {
+        MessageDigest digest = DigestUtils.getSha256Digest();
+        for (Map.Entry<String, Map<String, String>> payload : payloads.entrySet()) {
+            update(digest, payload.getKey());
+            for (Map.Entry<String, String> entry : payload.getValue().entrySet()) {
+                update(digest, entry.getKey());
+                update(digest, entry.getValue());
+            }
+        }
+        return Hex.encodeHexString(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update(SEPARATOR);
+    }
+}
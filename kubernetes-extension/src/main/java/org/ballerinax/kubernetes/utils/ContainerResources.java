@@ -0,0 +1,321 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.utils;
+
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.ResourceRequirements;
+import io.fabric8.kubernetes.api.model.ResourceRequirementsBuilder;
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.models.DeploymentModel;
+import org.ballerinax.kubernetes.models.JobModel;
+import org.ballerinax.kubernetes.models.knative.ServiceModel;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.isBlank;
+
+/**
+ * Compute resource requests and limits of a container. Values are kubernetes quantities such as "500m" or "128Mi".
+ */
+public class ContainerResources {
+    public static final String CPU = "cpu";
+    public static final String MEMORY = "memory";
+    public static final String EPHEMERAL_STORAGE = "ephemeral-storage";
+
+    private static final String REQUESTS_PREFIX = "requests.";
+    private static final String LIMITS_PREFIX = "limits.";
+    private static final String SCOPE_TERMINATING = "Terminating";
+    private static final String SCOPE_NOT_TERMINATING = "NotTerminating";
+    private static final String SCOPE_BEST_EFFORT = "BestEffort";
+    private static final String SCOPE_NOT_BEST_EFFORT = "NotBestEffort";
+    private static final Pattern QUANTITY_PATTERN = Pattern.compile(
+            "([+-]?(?:\\d+(?:\\.\\d*)?|\\.\\d+))(?:([eE][+-]?\\d+)|(Ki|Mi|Gi|Ti|Pi|Ei|[numkMGTPE]))?");
+
+    private final Map<String, String> requests = new LinkedHashMap<>();
+    private final Map<String, String> limits = new LinkedHashMap<>();
+
+    private ContainerResources() {
+    }
+
+    /**
+     * Create the resources of a container from the annotation values. Blank values are ignored.
+     *
+     * @param cpuRequest              Requested cpu.
+     * @param cpuLimit                Cpu limit.
+     * @param memoryRequest           Requested memory.
+     * @param memoryLimit             Memory limit.
+     * @param ephemeralStorageRequest Requested ephemeral storage.
+     * @param ephemeralStorageLimit   Ephemeral storage limit.
+     * @return Container resources.
+     */
+    public static ContainerResources of(String cpuRequest, String cpuLimit, String memoryRequest, String memoryLimit,
+                                        String ephemeralStorageRequest, String ephemeralStorageLimit) {
+        ContainerResources resources = new ContainerResources();
+        resources.put(resources.requests, CPU, cpuRequest);
+        resources.put(resources.requests, MEMORY, memoryRequest);
+        resources.put(resources.requests, EPHEMERAL_STORAGE, ephemeralStorageRequest);
+        resources.put(resources.limits, CPU, cpuLimit);
+        resources.put(resources.limits, MEMORY, memoryLimit);
+        resources.put(resources.limits, EPHEMERAL_STORAGE, ephemeralStorageLimit);
+        return resources;
+    }
+
+    /**
+     * Create the resources of a deployment container.
+     *
+     * @param deploymentModel Deployment model.
+     * @return Container resources.
+     */
+    public static ContainerResources of(DeploymentModel deploymentModel) {
+        return of(deploymentModel.getCpuRequest(), deploymentModel.getCpuLimit(), deploymentModel.getMemoryRequest(),
+                deploymentModel.getMemoryLimit(), deploymentModel.getEphemeralStorageRequest(),
+                deploymentModel.getEphemeralStorageLimit());
+    }
+
+    /**
+     * Create the resources of a job container.
+     *
+     * @param jobModel Job model.
+     * @return Container resources.
+     */
+    public static ContainerResources of(JobModel jobModel) {
+        return of(jobModel.getCpuRequest(), jobModel.getCpuLimit(), jobModel.getMemoryRequest(),
+                jobModel.getMemoryLimit(), jobModel.getEphemeralStorageRequest(), jobModel.getEphemeralStorageLimit());
+    }
+
+    /**
+     * Create the resources of a knative service container.
+     *
+     * @param serviceModel Knative service model.
+     * @return Container resources.
+     */
+    public static ContainerResources of(ServiceModel serviceModel) {
+        return of(serviceModel.getCpuRequest(), serviceModel.getCpuLimit(), serviceModel.getMemoryRequest(),
+                serviceModel.getMemoryLimit(), serviceModel.getEphemeralStorageRequest(),
+                serviceModel.getEphemeralStorageLimit());
+    }
+
+    private void put(Map<String, String> quantities, String resource, String value) {
+        if (!isBlank(value)) {
+            quantities.put(resource, value.trim());
+        }
+    }
+
+    public boolean isEmpty() {
+        return requests.isEmpty() && limits.isEmpty();
+    }
+
+    /**
+     * Get the effective request of a resource. Kubernetes defaults a missing request to the limit.
+     *
+     * @param resource Resource name.
+     * @return Requested quantity or null if neither a request nor a limit is set.
+     */
+    public String getRequest(String resource) {
+        return requests.containsKey(resource) ? requests.get(resource) : limits.get(resource);
+    }
+
+    public String getLimit(String resource) {
+        return limits.get(resource);
+    }
+
+    /**
+     * Validate the quantities and check that no request exceeds its limit.
+     *
+     * @param annotation Name of the annotation the values are declared in.
+     * @throws KubernetesPluginException If a quantity is invalid or a request exceeds its limit.
+     */
+    public void validate(String annotation) throws KubernetesPluginException {
+        for (Map.Entry<String, String> request : requests.entrySet()) {
+            BigDecimal requested = parseQuantity(annotation, request.getValue());
+            String limit = limits.get(request.getKey());
+            if (null != limit && requested.compareTo(parseQuantity(annotation, limit)) > 0) {
+                throw new KubernetesPluginException(request.getKey() + " request '" + request.getValue() +
+                        "' in " + annotation + " exceeds the " + request.getKey() + " limit '" + limit + "'");
+            }
+        }
+        for (String limit : limits.values()) {
+            parseQuantity(annotation, limit);
+        }
+    }
+
+    /**
+     * Generate the resource requirements of the container.
+     *
+     * @return Resource requirements or null if no resources are set.
+     */
+    public ResourceRequirements toResourceRequirements() {
+        if (isEmpty()) {
+            return null;
+        }
+        return new ResourceRequirementsBuilder()
+                .withRequests(requests.isEmpty() ? null : toQuantities(requests))
+                .withLimits(limits.isEmpty() ? null : toQuantities(limits))
+                .build();
+    }
+
+    private static Map<String, Quantity> toQuantities(Map<String, String> values) {
+        Map<String, Quantity> quantities = new LinkedHashMap<>();
+        for (Map.Entry<String, String> value : values.entrySet()) {
+            quantities.put(value.getKey(), new Quantity(value.getValue()));
+        }
+        return quantities;
+    }
+
+    /**
+     * Check the resources of the pods of a workload against the hard limits of a resource quota of the namespace.
+     * Quotas with scopes the workload does not match are ignored.
+     *
+     * @param workload    Name of the workload.
+     * @param pods        Maximum number of pods the workload runs.
+     * @param terminating Whether the pods have an active deadline.
+     * @param quotaName   Name of the resource quota.
+     * @param hard        Hard limits of the resource quota.
+     * @param scopes      Scopes of the resource quota.
+     * @return Messages describing the violations of the quota.
+     * @throws KubernetesPluginException If a quantity is invalid.
+     */
+    public List<String> checkQuota(String workload, int pods, boolean terminating, String quotaName,
+                                   Map<String, String> hard, Set<String> scopes) throws KubernetesPluginException {
+        List<String> violations = new ArrayList<>();
+        if (null == hard || !matchesScopes(terminating, scopes)) {
+            return violations;
+        }
+        String quotaAnnotation = "@kubernetes:ResourceQuota{name: " + quotaName + "}";
+        for (Map.Entry<String, String> hardLimit : hard.entrySet()) {
+            String key = hardLimit.getKey();
+            String resource;
+            String perPod;
+            if (key.startsWith(LIMITS_PREFIX)) {
+                resource = key.substring(LIMITS_PREFIX.length());
+                perPod = getLimit(resource);
+            } else {
+                resource = key.startsWith(REQUESTS_PREFIX) ? key.substring(REQUESTS_PREFIX.length()) : key;
+                perPod = getRequest(resource);
+            }
+            if (!CPU.equals(resource) && !MEMORY.equals(resource) && !EPHEMERAL_STORAGE.equals(resource)) {
+                continue;
+            }
+            if (null == perPod) {
+                violations.add("pods of " + workload + " do not set '" + key + "' which is required by " +
+                        quotaAnnotation + " and will be rejected");
+                continue;
+            }
+            BigDecimal total = parseQuantity(workload, perPod).multiply(BigDecimal.valueOf(pods));
+            if (total.compareTo(parseQuantity(quotaAnnotation, hardLimit.getValue())) > 0) {
+                violations.add(pods + " pod(s) of " + workload + " need " + key + " of " +
+                        total.stripTrailingZeros().toPlainString() + " (" + perPod + " each) which exceeds the " +
+                        "hard limit of " + hardLimit.getValue() + " in " + quotaAnnotation);
+            }
+        }
+        return violations;
+    }
+
+    private boolean matchesScopes(boolean terminating, Set<String> scopes) {
+        if (null == scopes) {
+            return true;
+        }
+        for (String scope : scopes) {
+            switch (scope) {
+                case SCOPE_TERMINATING:
+                    if (!terminating) {
+                        return false;
+                    }
+                    break;
+                case SCOPE_NOT_TERMINATING:
+                    if (terminating) {
+                        return false;
+                    }
+                    break;
+                case SCOPE_BEST_EFFORT:
+                    if (!isEmpty()) {
+                        return false;
+                    }
+                    break;
+                case SCOPE_NOT_BEST_EFFORT:
+                    if (isEmpty()) {
+                        return false;
+                    }
+                    break;
+                default:
+                    // Scopes such as PriorityClass cannot be resolved from the annotations.
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parse a kubernetes quantity.
+     *
+     * @param source   Where the quantity is declared, used in the error message.
+     * @param quantity Quantity such as "250m", "1.5", "64Mi" or "1e3".
+     * @return Numeric value of the quantity.
+     * @throws KubernetesPluginException If the quantity is invalid.
+     */
+    public static BigDecimal parseQuantity(String source, String quantity) throws KubernetesPluginException {
+        Matcher matcher = QUANTITY_PATTERN.matcher(null == quantity ? "" : quantity.trim());
+        if (!matcher.matches()) {
+            throw new KubernetesPluginException("invalid resource quantity '" + quantity + "' found in " + source);
+        }
+        BigDecimal number = new BigDecimal(matcher.group(1));
+        if (null != matcher.group(2)) {
+            return number.scaleByPowerOfTen(Integer.parseInt(matcher.group(2).substring(1)));
+        }
+        String suffix = matcher.group(3);
+        if (null == suffix) {
+            return number;
+        }
+        if (suffix.endsWith("i")) {
+            int power = "KMGTPE".indexOf(suffix.charAt(0)) + 1;
+            return number.multiply(BigDecimal.valueOf(2).pow(10 * power));
+        }
+        return number.scaleByPowerOfTen(getDecimalExponent(suffix.charAt(0)));
+    }
+
+    private static int getDecimalExponent(char suffix) {
+        switch (suffix) {
+            case 'n':
+                return -9;
+            case 'u':
+                return -6;
+            case 'm':
+                return -3;
+            case 'k':
+                return 3;
+            case 'M':
+                return 6;
+            case 'G':
+                return 9;
+            case 'T':
+                return 12;
+            case 'P':
+                return 15;
+            default:
+                return 18;
+        }
+    }
+}
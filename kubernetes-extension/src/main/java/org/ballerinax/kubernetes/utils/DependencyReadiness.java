@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.utils;
+
+import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.ContainerBuilder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Builds a single init container which waits until all the services a workload depends on are serving. The
+ * dependencies are checked in parallel with an exponential backoff. A dependency with an http readiness probe is
+ * ready when its probe path responds successfully, any other dependency when its port accepts connections.
+ */
+public class DependencyReadiness {
+    public static final String INIT_CONTAINER_NAME = "wait-for-dependencies";
+    public static final int DEFAULT_TIMEOUT_SECONDS = 300;
+    public static final int DEFAULT_MAX_BACKOFF_SECONDS = 16;
+
+    private static final String IMAGE = "busybox";
+    private static final int CHECK_TIMEOUT_SECONDS = 2;
+
+    private final List<String> dependencies = new ArrayList<>();
+
+    /**
+     * Wait for the port of a dependency to accept connections.
+     *
+     * @param host Service name of the dependency.
+     * @param port Service port of the dependency.
+     */
+    public void addTcpCheck(String host, int port) {
+        dependencies.add(host + " " + port + " ''");
+    }
+
+    /**
+     * Wait for the readiness path of a dependency to respond successfully.
+     *
+     * @param host Service name of the dependency.
+     * @param port Service port of the dependency.
+     * @param path Readiness probe path of the dependency.
+     */
+    public void addHttpCheck(String host, int port, String path) {
+        // the path is passed to the script single quoted, hence a quote in the path closes the quoting, adds an
+        // escaped quote and reopens it.
+        String quotedPath = (path.startsWith("/") ? path : "/" + path).replace("'", "'\\''");
+        dependencies.add(host + " " + port + " '" + quotedPath + "'");
+    }
+
+    public boolean isEmpty() {
+        return dependencies.isEmpty();
+    }
+
+    /**
+     * Get the init container which waits for the dependencies.
+     *
+     * @param timeoutSeconds    Seconds after which the init container fails if a dependency is not ready.
+     * @param maxBackoffSeconds Upper bound of the delay between two checks of a dependency.
+     * @return Init container.
+     */
+    public Container toInitContainer(int timeoutSeconds, int maxBackoffSeconds) {
+        return new ContainerBuilder()
+                .withName(INIT_CONTAINER_NAME)
+                .withImage(IMAGE)
+                .withCommand(Arrays.asList("sh", "-c", getScript(timeoutSeconds, maxBackoffSeconds)))
+                .build();
+    }
+
+    String getScript(int timeoutSeconds, int maxBackoffSeconds) {
+        StringBuilder script = new StringBuilder()
+                .append("deadline=$(($(date +%s) + ").append(timeoutSeconds).append("))\n")
+                .append("check() { if [ -n \"$3\" ]; then wget -q -T ").append(CHECK_TIMEOUT_SECONDS)
+                .append(" -O /dev/null \"http://$1:$2$3\"; else nc -z -w ").append(CHECK_TIMEOUT_SECONDS)
+                .append(" \"$1\" \"$2\"; fi; }\n")
+                .append("wait_for() { delay=1; until check \"$1\" \"$2\" \"$3\"; do ")
+                .append("if [ \"$(date +%s)\" -ge \"$deadline\" ]; then echo \"timed out waiting for $1:$2\"; ")
+                .append("exit 1; fi; echo \"waiting for $1:$2\"; sleep $delay; delay=$((delay * 2)); ")
+                .append("if [ $delay -gt ").append(maxBackoffSeconds).append(" ]; then delay=")
+                .append(maxBackoffSeconds).append("; fi; done; echo \"$1:$2 is ready\"; }\n");
+        for (String dependency : dependencies) {
+            script.append("wait_for ").append(dependency).append(" & pids=\"$pids $!\"\n");
+        }
+        script.append("for pid in $pids; do wait $pid || exit 1; done\n");
+        return script.toString();
+    }
+}
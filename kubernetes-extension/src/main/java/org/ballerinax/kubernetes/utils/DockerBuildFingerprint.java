@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.utils;
+
+import com.spotify.docker.client.DockerClient;
+import com.spotify.docker.client.exceptions.DockerCertificateException;
+import com.spotify.docker.client.exceptions.DockerException;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.ballerinax.docker.generator.models.DockerModel;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import static org.ballerinax.kubernetes.KubernetesConstants.DOCKER_FINGERPRINT_FILE_NAME;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.createDockerClient;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.getDockerImageName;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.printDebug;
+
+/**
+ * Fingerprint of the build context of a docker image. A build is skipped when the fingerprint of the previous build
+ * matches and the image it produced is still available in the local docker registry.
+ */
+public class DockerBuildFingerprint {
+    private static final String FINGERPRINT_KEY = "fingerprint";
+    private static final String IMAGE_ID_KEY = "imageId";
+    private static final String JAR_FILE_SUFFIX = ".jar";
+
+    private final DockerModel dockerModel;
+    private final Path fingerprintFile;
+    private final String fingerprint;
+
+    /**
+     * Compute the fingerprint of a docker build from the image name and the rendered build context, which holds the
+     * generated Dockerfile, the uber jar and the files copied to the image.
+     *
+     * @param dockerModel  Docker model used to generate the Dockerfile.
+     * @param buildContext Docker artifact output path the image is built from.
+     */
+    public DockerBuildFingerprint(DockerModel dockerModel, Path buildContext) {
+        this.dockerModel = dockerModel;
+        this.fingerprintFile = buildContext.resolve(DOCKER_FINGERPRINT_FILE_NAME);
+        this.fingerprint = computeFingerprint(buildContext);
+    }
+
+    private String computeFingerprint(Path buildContext) {
+        MessageDigest digest = DigestUtils.getSha256Digest();
+        updateDigest(digest, getImageName());
+        try {
+            List<Path> files;
+            try (Stream<Path> walk = Files.walk(buildContext)) {
+                files = walk.filter(Files::isRegularFile)
+                        .filter(file -> !file.equals(fingerprintFile))
+                        .sorted(Comparator.naturalOrder())
+                        .collect(Collectors.toList());
+            }
+            for (Path file : files) {
+                updateDigest(digest, buildContext.relativize(file).toString());
+                if (file.getFileName().toString().endsWith(JAR_FILE_SUFFIX)) {
+                    updateJarDigest(digest, file);
+                } else {
+                    try (InputStream inputStream = Files.newInputStream(file)) {
+                        DigestUtils.updateDigest(digest, inputStream);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            printDebug("unable to fingerprint docker build context: " + e.getMessage());
+            return null;
+        }
+        return Hex.encodeHexString(digest.digest());
+    }
+
+    /**
+     * Jars are fingerprinted on the names and the contents of their entries, as the modification times stored in
+     * the archive change on every build of an unchanged module.
+     */
+    private static void updateJarDigest(MessageDigest digest, Path jar) throws IOException {
+        try (ZipFile zipFile = new ZipFile(jar.toFile())) {
+            List<ZipEntry> entries = zipFile.stream()
+                    .sorted(Comparator.comparing(ZipEntry::getName))
+                    .collect(Collectors.toList());
+            for (ZipEntry entry : entries) {
+                updateDigest(digest, entry.getName());
+                try (InputStream inputStream = zipFile.getInputStream(entry)) {
+                    DigestUtils.updateDigest(digest, inputStream);
+                }
+            }
+        }
+    }
+
+    private static void updateDigest(MessageDigest digest, String value) {
+        // Separate the values so that adjacent values cannot be shifted in to each other.
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    /**
+     * Get the fingerprint of the build context.
+     *
+     * @return Fingerprint or null if the build context cannot be read.
+     */
+    String getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Check whether the image built in the previous build can be reused.
+     *
+     * @return true if the fingerprint matches the previous build and its image is available locally.
+     */
+    public boolean isUpToDate() {
+        if (null == fingerprint || !Files.exists(fingerprintFile)) {
+            return false;
+        }
+        Properties previousBuild = new Properties();
+        try (Reader reader = Files.newBufferedReader(fingerprintFile, StandardCharsets.UTF_8)) {
+            previousBuild.load(reader);
+        } catch (IOException e) {
+            printDebug("unable to read docker build fingerprint: " + e.getMessage());
+            return false;
+        }
+        if (!fingerprint.equals(previousBuild.getProperty(FINGERPRINT_KEY))) {
+            return false;
+        }
+        String imageId = getImageId();
+        return null != imageId && imageId.equals(previousBuild.getProperty(IMAGE_ID_KEY));
+    }
+
+    /**
+     * Record the fingerprint along with the id of the image that was built.
+     */
+    public void save() {
+        String imageId = getImageId();
+        if (null == fingerprint || null == imageId) {
+            return;
+        }
+        Properties build = new Properties();
+        build.setProperty(FINGERPRINT_KEY, fingerprint);
+        build.setProperty(IMAGE_ID_KEY, imageId);
+        try {
+            Files.createDirectories(fingerprintFile.getParent());
+            try (Writer writer = Files.newBufferedWriter(fingerprintFile, StandardCharsets.UTF_8)) {
+                build.store(writer, getImageName());
+            }
+        } catch (IOException e) {
+            printDebug("unable to write docker build fingerprint: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Get the name of the image including the registry and the tag.
+     *
+     * @return Image name.
+     */
+    public String getImageName() {
+        return getDockerImageName(dockerModel);
+    }
+
+    private String getImageId() {
+        try (DockerClient dockerClient = createDockerClient(dockerModel)) {
+            return dockerClient.inspectImage(getImageName()).id();
+        } catch (DockerException | DockerCertificateException e) {
+            printDebug("unable to inspect docker image " + getImageName() + ": " + e.getMessage());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.utils;
+
+import com.spotify.docker.client.DockerClient;
+import com.spotify.docker.client.ProgressHandler;
+import com.spotify.docker.client.exceptions.DockerCertificateException;
+import com.spotify.docker.client.exceptions.DockerException;
+import com.spotify.docker.client.messages.ProgressMessage;
+import com.spotify.docker.client.messages.RegistryAuth;
+import org.ballerinax.docker.generator.models.DockerModel;
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.createDockerClient;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.getDockerImageName;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.isBlank;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.printDebug;
+
+/**
+ * Builds and pushes the docker image of a generated Dockerfile, printing the progress reported by the docker daemon.
+ */
+public class DockerImageBuilder {
+    private static final Pattern BUILD_STEP = Pattern.compile("^Step (\\d+/\\d+)");
+    private static final String PREPARING_LAYER_STATUS = "Preparing";
+    private static final Set<String> PUSHED_LAYER_STATUSES = new HashSet<>();
+
+    static {
+        PUSHED_LAYER_STATUSES.add("Pushed");
+        PUSHED_LAYER_STATUSES.add("Layer already exists");
+    }
+
+    private final DockerModel dockerModel;
+    private final String imageName;
+    private final PrintStream out;
+    private final String logAppender;
+
+    /**
+     * Create a builder of the image of a docker model.
+     *
+     * @param dockerModel Docker model of the image.
+     * @param out         Stream the progress is printed to.
+     * @param logAppender Prefix of the progress lines.
+     */
+    public DockerImageBuilder(DockerModel dockerModel, PrintStream out, String logAppender) {
+        this.dockerModel = dockerModel;
+        this.imageName = getDockerImageName(dockerModel);
+        this.out = out;
+        this.logAppender = logAppender;
+    }
+
+    /**
+     * Build the image from the Dockerfile in the given build context.
+     *
+     * @param buildContext Directory containing the Dockerfile and the files copied to the image.
+     * @throws KubernetesPluginException If an error occurs while building the image.
+     */
+    public void build(Path buildContext) throws KubernetesPluginException {
+        try (DockerClient dockerClient = createDockerClient(dockerModel)) {
+            String imageId = dockerClient.build(buildContext, imageName, new BuildProgressHandler(),
+                    DockerClient.BuildParam.forceRm());
+            if (null == imageId) {
+                throw new KubernetesPluginException("unable to build docker image " + imageName + ": " +
+                        "image id is not reported by the docker daemon");
+            }
+        } catch (DockerException | DockerCertificateException | IOException e) {
+            throw new KubernetesPluginException("unable to build docker image " + imageName + ": " +
+                    e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KubernetesPluginException("interrupted while building docker image " + imageName, e);
+        }
+    }
+
+    /**
+     * Push the image to its registry.
+     *
+     * @throws KubernetesPluginException If an error occurs while pushing the image.
+     */
+    public void push() throws KubernetesPluginException {
+        try (DockerClient dockerClient = createDockerClient(dockerModel)) {
+            if (isBlank(dockerModel.getUsername())) {
+                dockerClient.push(imageName, new PushProgressHandler());
+            } else {
+                RegistryAuth registryAuth = RegistryAuth.builder()
+                        .username(dockerModel.getUsername())
+                        .password(dockerModel.getPassword())
+                        .serverAddress(dockerModel.getRegistry())
+                        .build();
+                dockerClient.push(imageName, new PushProgressHandler(), registryAuth);
+            }
+        } catch (DockerException | DockerCertificateException e) {
+            throw new KubernetesPluginException("unable to push docker image " + imageName + ": " +
+                    e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KubernetesPluginException("interrupted while pushing docker image " + imageName, e);
+        }
+    }
+
+    /**
+     * Get the name of the image including the registry and the tag.
+     *
+     * @return Image name.
+     */
+    public String getImageName() {
+        return imageName;
+    }
+
+    private static void checkError(ProgressMessage message) throws DockerException {
+        if (null != message.error()) {
+            throw new DockerException(message.error());
+        }
+    }
+
+    /**
+     * Prints the step of the Dockerfile being built.
+     */
+    private class BuildProgressHandler implements ProgressHandler {
+        @Override
+        public void progress(ProgressMessage message) throws DockerException {
+            checkError(message);
+            String stream = message.stream();
+            if (null == stream) {
+                return;
+            }
+            printDebug(stream.trim());
+            Matcher step = BUILD_STEP.matcher(stream);
+            if (step.find()) {
+                out.print(logAppender + " - building " + imageName + " step " + step.group(1) + "\r");
+            }
+        }
+    }
+
+    /**
+     * Prints the number of layers pushed out of the layers of the image.
+     */
+    private class PushProgressHandler implements ProgressHandler {
+        private final Set<String> layers = new HashSet<>();
+        private final Set<String> pushedLayers = new HashSet<>();
+
+        @Override
+        public void progress(ProgressMessage message) throws DockerException {
+            checkError(message);
+            String layer = message.id();
+            String status = message.status();
+            if (null == layer || null == status) {
+                return;
+            }
+            if (PREPARING_LAYER_STATUS.equals(status)) {
+                layers.add(layer);
+            } else if (PUSHED_LAYER_STATUSES.contains(status)) {
+                pushedLayers.add(layer);
+            } else {
+                return;
+            }
+            out.print(logAppender + " - pushing " + imageName + " " + pushedLayers.size() + "/" + layers.size() +
+                    " layers\r");
+        }
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.utils;
+
+import org.ballerinax.docker.generator.models.CopyFileModel;
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.stream.Collectors;
+
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.deleteDirectory;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.isBlank;
+
+/**
+ * Splits the uber jar of a docker image in to layers. Third party dependencies, ballerina standard library modules
+ * and the application modules are copied to the image as separate files of the docker model, so that the Dockerfile
+ * copies them with separate COPY instructions and a change in the application only invalidates the small
+ * application layer. The uber jar is replaced by a launcher jar which only has a manifest referring to the layers, so
+ * that the image is started with the same command as an image of the uber jar.
+ */
+public class DockerImageLayers {
+    private static final String CLASSPATH_DIR = "/home/ballerina/app/";
+    private static final String CLASS_FILE_SUFFIX = ".class";
+    private static final String MANIFEST_FILE = "META-INF/MANIFEST.MF";
+    private static final List<String> BALLERINA_ORGS = Arrays.asList("ballerina", "ballerinax");
+
+    private final Path uberJarPath;
+    private final Path stagingPath;
+
+    /**
+     * Image layers ordered from the least to the most frequently changed.
+     */
+    private enum Layer {
+        dependencies,
+        ballerina,
+        application
+    }
+
+    /**
+     * Create the layers of an uber jar.
+     *
+     * @param uberJarPath Path to the uber jar.
+     * @param stagingPath Directory the layers and the launcher jar are created in, outside the docker build context.
+     */
+    public DockerImageLayers(Path uberJarPath, Path stagingPath) {
+        this.uberJarPath = uberJarPath;
+        this.stagingPath = stagingPath;
+    }
+
+    /**
+     * Explode the uber jar in to layer directories and create the launcher jar.
+     *
+     * @param uberJarFileName File name of the uber jar referred in the Dockerfile.
+     * @return Path to the launcher jar, which is copied to the image in place of the uber jar.
+     * @throws KubernetesPluginException If an error occurs while creating the layers.
+     */
+    public Path createArtifacts(String uberJarFileName) throws KubernetesPluginException {
+        try {
+            deleteDirectory(stagingPath);
+            String mainClass = explodeUberJar();
+            return createLauncherJar(uberJarFileName, mainClass);
+        } catch (IOException e) {
+            throw new KubernetesPluginException("error while creating layered docker image artifacts: " +
+                    e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Get the files copied to the image, starting with the layers.
+     *
+     * @param copyFiles External files copied to the image.
+     * @return Layers followed by the external files.
+     */
+    public Set<CopyFileModel> getCopyFiles(Set<CopyFileModel> copyFiles) {
+        Set<CopyFileModel> layeredCopyFiles = new LinkedHashSet<>();
+        for (Layer layer : Layer.values()) {
+            CopyFileModel layerCopyFile = new CopyFileModel();
+            layerCopyFile.setSource(stagingPath.resolve(layer.name()).toString());
+            layerCopyFile.setTarget(CLASSPATH_DIR + layer.name());
+            layeredCopyFiles.add(layerCopyFile);
+        }
+        if (null != copyFiles) {
+            layeredCopyFiles.addAll(copyFiles);
+        }
+        return layeredCopyFiles;
+    }
+
+    /**
+     * Delete the layers copied to a docker build context by a previous build, so that classes removed from the
+     * application are not copied to the image.
+     *
+     * @param buildContext Docker artifact output path.
+     * @throws KubernetesPluginException If an error occurs while deleting the layers.
+     */
+    public static void deleteLayers(Path buildContext) throws KubernetesPluginException {
+        for (Layer layer : Layer.values()) {
+            deleteDirectory(buildContext.resolve(layer.name()));
+        }
+    }
+
+    /**
+     * Delete the layers and the launcher jar created by {@link #createArtifacts(String)}.
+     *
+     * @throws KubernetesPluginException If an error occurs while deleting the staging directory.
+     */
+    public void cleanUp() throws KubernetesPluginException {
+        deleteDirectory(stagingPath);
+    }
+
+    private String explodeUberJar() throws IOException, KubernetesPluginException {
+        for (Layer layer : Layer.values()) {
+            Files.createDirectories(stagingPath.resolve(layer.name()));
+        }
+        try (JarFile uberJar = new JarFile(uberJarPath.toFile())) {
+            Manifest manifest = uberJar.getManifest();
+            String mainClass = null == manifest ? null :
+                    manifest.getMainAttributes().getValue(Attributes.Name.MAIN_CLASS);
+            if (isBlank(mainClass)) {
+                throw new KubernetesPluginException("unable to find the main class of " + uberJarPath.getFileName());
+            }
+            String applicationRoot = mainClass.contains(".") ? mainClass.substring(0, mainClass.indexOf('.')) : null;
+            Enumeration<JarEntry> entries = uberJar.entries();
+            while (entries.hasMoreElements()) {
+                JarEntry entry = entries.nextElement();
+                if (entry.isDirectory() || MANIFEST_FILE.equals(entry.getName())) {
+                    continue;
+                }
+                Path layerPath = stagingPath.resolve(getLayer(entry.getName(), applicationRoot).name());
+                Path target = layerPath.resolve(entry.getName()).normalize();
+                if (!target.startsWith(layerPath)) {
+                    throw new KubernetesPluginException("invalid entry found in " + uberJarPath.getFileName() +
+                            ": " + entry.getName());
+                }
+                Files.createDirectories(target.getParent());
+                try (InputStream inputStream = uberJar.getInputStream(entry)) {
+                    Files.copy(inputStream, target, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            return mainClass;
+        }
+    }
+
+    private static Layer getLayer(String entryName, String applicationRoot) {
+        int separator = entryName.indexOf('/');
+        if (separator < 0) {
+            // Modules of single bal files are not packaged under an organization.
+            return null == applicationRoot && entryName.endsWith(CLASS_FILE_SUFFIX) ?
+                    Layer.application : Layer.dependencies;
+        }
+        String root = entryName.substring(0, separator);
+        if (root.equals(applicationRoot)) {
+            return Layer.application;
+        }
+        if (BALLERINA_ORGS.contains(root)) {
+            return Layer.ballerina;
+        }
+        return Layer.dependencies;
+    }
+
+    /**
+     * Create a jar with the same name as the uber jar, whose manifest adds the layers to the class path.
+     */
+    private Path createLauncherJar(String uberJarFileName, String mainClass) throws IOException {
+        Manifest manifest = new Manifest();
+        Attributes attributes = manifest.getMainAttributes();
+        attributes.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        attributes.put(Attributes.Name.MAIN_CLASS, mainClass);
+        attributes.put(Attributes.Name.CLASS_PATH, Arrays.stream(Layer.values())
+                .map(layer -> CLASSPATH_DIR + layer.name() + "/")
+                .collect(Collectors.joining(" ")));
+        Path launcherJar = stagingPath.resolve(uberJarFileName);
+        try (OutputStream outputStream = Files.newOutputStream(launcherJar);
+             JarOutputStream jarOutputStream = new JarOutputStream(outputStream)) {
+            // the manifest entry has a fixed time so that an unchanged launcher jar is identical across builds.
+            JarEntry manifestEntry = new JarEntry(MANIFEST_FILE);
+            manifestEntry.setTime(0L);
+            jarOutputStream.putNextEntry(manifestEntry);
+            manifest.write(jarOutputStream);
+            jarOutputStream.closeEntry();
+        }
+        return launcherJar;
+    }
+}
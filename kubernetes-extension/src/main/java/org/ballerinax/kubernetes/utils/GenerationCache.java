@@ -0,0 +1,319 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.utils;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.printDebug;
+
+/**
+ * On-disk cache of the artifacts generated for a module. Keeps the yaml content and the progress of the artifact
+ * handlers against a fingerprint of the model fields and files they use, so that the handlers are skipped while
+ * those are unchanged. As the cache is stored in plain text, only the names of the files are kept for handlers
+ * writing secret data, and their fields are only kept as part of the fingerprint digest.
+ */
+public class GenerationCache {
+    private static final String TASK_FINGERPRINT_SUFFIX = ".fingerprint";
+    private static final String TASK_PROGRESS_SUFFIX = ".progress";
+    private static final String TASK_FRAGMENT_INFIX = ".fragment.";
+    private static final String TASK_FILE_INFIX = ".file.";
+    private static final String TASK_DIRECTORY_INFIX = ".directory.";
+    private static final String IMPLEMENTATION_VERSION =
+            String.valueOf(GenerationCache.class.getPackage().getImplementationVersion());
+
+    private final Path cacheFile;
+    private final Path outputDir;
+    private final Properties previousEntries;
+    private final Properties entries = new Properties();
+
+    private GenerationCache(Path cacheFile, Path outputDir, Properties previousEntries) {
+        this.cacheFile = cacheFile;
+        this.outputDir = outputDir;
+        this.previousEntries = previousEntries;
+    }
+
+    /**
+     * Load the generation cache of a module. An empty cache is returned if the cache file does not exist or cannot
+     * be read.
+     *
+     * @param cacheFile Path to the cache file.
+     * @param outputDir Artifact output directory of the module.
+     * @return Generation cache.
+     */
+    public static GenerationCache load(Path cacheFile, Path outputDir) {
+        Properties entries = new Properties();
+        if (Files.exists(cacheFile)) {
+            try (Reader reader = Files.newBufferedReader(cacheFile, StandardCharsets.UTF_8)) {
+                entries.load(reader);
+            } catch (IOException | IllegalArgumentException e) {
+                printDebug("ignoring unreadable generation cache " + cacheFile + ": " + e.getMessage());
+                entries.clear();
+            }
+        }
+        return new GenerationCache(cacheFile, outputDir, entries);
+    }
+
+    /**
+     * Compute a fingerprint of the model fields a handler uses. Only strings, numbers, booleans, enums and paths,
+     * along with collections and maps of them, are accepted so that each cached handler lists the fields it depends
+     * on. Collections and maps are fingerprinted in their iteration order, which is the order they are written in.
+     *
+     * @param fields Model fields used by the handler.
+     * @return SHA-256 digest of the fields and the version of the plugin.
+     * @throws IllegalArgumentException If a field is of an unsupported type.
+     */
+    public static String fingerprint(Object... fields) {
+        StringBuilder encodedFields = new StringBuilder();
+        encode(encodedFields, IMPLEMENTATION_VERSION);
+        for (Object field : fields) {
+            encode(encodedFields, field);
+        }
+        return DigestUtils.sha256Hex(encodedFields.toString());
+    }
+
+    private static void encode(StringBuilder encodedFields, Object field) {
+        if (null == field) {
+            encodedFields.append('~');
+        } else if (field instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) field;
+            encodedFields.append('{').append(map.size()).append(':');
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                encode(encodedFields, entry.getKey());
+                encode(encodedFields, entry.getValue());
+            }
+        } else if (field instanceof Collection) {
+            Collection<?> collection = (Collection<?>) field;
+            encodedFields.append('[').append(collection.size()).append(':');
+            for (Object element : collection) {
+                encode(encodedFields, element);
+            }
+        } else if (field instanceof String || field instanceof Number || field instanceof Boolean ||
+                   field instanceof Enum || field instanceof Path) {
+            // values are length prefixed so that adjacent values cannot be shifted in to each other.
+            String value = field.toString();
+            encodedFields.append('"').append(value.length()).append(':').append(value);
+        } else {
+            throw new IllegalArgumentException("unsupported field type for generation cache fingerprint: " +
+                    field.getClass().getName());
+        }
+    }
+
+    /**
+     * Compute a digest of the content of a file, or of the files of a directory, so that handlers reading files
+     * can be fingerprinted by the content of those files.
+     *
+     * @param path Path to the file or directory.
+     * @return SHA-256 digest of the content or null if the path does not exist.
+     * @throws IOException If an error occurs while reading the files.
+     */
+    public static String digest(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return null;
+        }
+        if (!Files.isDirectory(path)) {
+            try (InputStream content = Files.newInputStream(path)) {
+                return DigestUtils.sha256Hex(content);
+            }
+        }
+        Map<String, String> fileDigests = new LinkedHashMap<>();
+        try (Stream<Path> files = Files.walk(path)) {
+            for (Path file : files.filter(Files::isRegularFile).sorted().collect(Collectors.toList())) {
+                fileDigests.put(path.relativize(file).toString(), digest(file));
+            }
+        }
+        return fingerprint(fileDigests);
+    }
+
+    /**
+     * Whether the cache was written by a previous generation. The files in the output directory are only known
+     * when it was.
+     *
+     * @return True if the cache has entries of a previous generation.
+     */
+    public synchronized boolean hasPreviousGeneration() {
+        return !previousEntries.isEmpty();
+    }
+
+    /**
+     * Get the output a handler produced in the previous generation, if the fingerprint of its fields is unchanged.
+     *
+     * @param task        Name of the handler.
+     * @param fingerprint Fingerprint of the fields used by the handler.
+     * @return Output of the handler or null if it has to be generated.
+     */
+    public synchronized CachedOutput get(String task, String fingerprint) {
+        if (!fingerprint.equals(previousEntries.getProperty(task + TASK_FINGERPRINT_SUFFIX))) {
+            return null;
+        }
+        return getPrevious(task);
+    }
+
+    /**
+     * Get the output each handler produced in the previous generation regardless of its fingerprint, so that the
+     * files of the handlers which are generated again can be removed.
+     *
+     * @return Output against the name of each handler.
+     */
+    public synchronized Map<String, CachedOutput> getPreviousOutputs() {
+        Map<String, CachedOutput> outputs = new LinkedHashMap<>();
+        for (String key : previousEntries.stringPropertyNames()) {
+            if (key.endsWith(TASK_PROGRESS_SUFFIX)) {
+                String task = key.substring(0, key.length() - TASK_PROGRESS_SUFFIX.length());
+                CachedOutput output = getPrevious(task);
+                if (null != output) {
+                    outputs.put(task, output);
+                }
+            }
+        }
+        return outputs;
+    }
+
+    private CachedOutput getPrevious(String task) {
+        Map<Path, StringBuilder> fragments = new LinkedHashMap<>();
+        Set<Path> directories = new LinkedHashSet<>();
+        String fragmentPrefix = task + TASK_FRAGMENT_INFIX;
+        String filePrefix = task + TASK_FILE_INFIX;
+        String directoryPrefix = task + TASK_DIRECTORY_INFIX;
+        for (String key : previousEntries.stringPropertyNames()) {
+            if (key.startsWith(fragmentPrefix)) {
+                fragments.put(outputDir.resolve(key.substring(fragmentPrefix.length())),
+                        new StringBuilder(previousEntries.getProperty(key)));
+            } else if (key.startsWith(filePrefix)) {
+                fragments.put(outputDir.resolve(key.substring(filePrefix.length())), null);
+            } else if (key.startsWith(directoryPrefix)) {
+                directories.add(outputDir.resolve(key.substring(directoryPrefix.length())));
+            }
+        }
+        byte[] progress;
+        try {
+            progress = Base64.getDecoder().decode(previousEntries.getProperty(task + TASK_PROGRESS_SUFFIX, ""));
+        } catch (IllegalArgumentException e) {
+            printDebug("ignoring unreadable generation cache entry " + task + ": " + e.getMessage());
+            return null;
+        }
+        return new CachedOutput(fragments, directories, progress);
+    }
+
+    /**
+     * Record the output of a handler along with the fingerprint of its fields.
+     *
+     * @param task         Name of the handler.
+     * @param fingerprint  Fingerprint of the fields used by the handler, or null if the handler is not cached and
+     *                     only its files are recorded.
+     * @param output       Output of the handler.
+     * @param storeContent Whether the content of the files is kept, so that the output can be replayed.
+     */
+    public synchronized void put(String task, String fingerprint, CachedOutput output, boolean storeContent) {
+        for (Map.Entry<Path, StringBuilder> fragment : output.getFragments().entrySet()) {
+            String file = outputDir.relativize(fragment.getKey()).toString();
+            if (storeContent && null != fragment.getValue()) {
+                entries.setProperty(task + TASK_FRAGMENT_INFIX + file, fragment.getValue().toString());
+            } else {
+                entries.setProperty(task + TASK_FILE_INFIX + file, "");
+            }
+        }
+        for (Path directory : output.getDirectories()) {
+            entries.setProperty(task + TASK_DIRECTORY_INFIX + outputDir.relativize(directory), "");
+        }
+        entries.setProperty(task + TASK_PROGRESS_SUFFIX, Base64.getEncoder().encodeToString(output.getProgress()));
+        if (null != fingerprint) {
+            entries.setProperty(task + TASK_FINGERPRINT_SUFFIX, fingerprint);
+        }
+    }
+
+    /**
+     * Write the cache to disk. Only the output recorded in this generation is kept.
+     *
+     * @throws KubernetesPluginException If an error occurs while writing the cache file.
+     */
+    public synchronized void save() throws KubernetesPluginException {
+        try {
+            Files.createDirectories(cacheFile.getParent());
+            try (Writer writer = Files.newBufferedWriter(cacheFile, StandardCharsets.UTF_8)) {
+                entries.store(writer, null);
+            }
+        } catch (IOException e) {
+            throw new KubernetesPluginException("error while writing generation cache: " + cacheFile, e);
+        }
+    }
+
+    /**
+     * Content a handler wrote against each artifact file, along with the directories it wrote outside the artifact
+     * files and the progress it printed. The content of a file is null if it was not kept in the cache.
+     */
+    public static class CachedOutput {
+        private final Map<Path, StringBuilder> fragments;
+        private final Set<Path> directories;
+        private final byte[] progress;
+
+        public CachedOutput(Map<Path, StringBuilder> fragments, Set<Path> directories, byte[] progress) {
+            this.fragments = fragments;
+            this.directories = directories;
+            this.progress = progress;
+        }
+
+        public Map<Path, StringBuilder> getFragments() {
+            return fragments;
+        }
+
+        public Set<Path> getDirectories() {
+            return directories;
+        }
+
+        public byte[] getProgress() {
+            return progress;
+        }
+
+        /**
+         * Whether the content of all the files is kept, so that the output can be written again.
+         *
+         * @return True if the output can be replayed.
+         */
+        public boolean isReplayable() {
+            return !fragments.containsValue(null);
+        }
+
+        /**
+         * Whether the files and directories of the output still exist.
+         *
+         * @return True if none of them were removed since they were generated.
+         */
+        public boolean isAvailable() {
+            return Stream.concat(fragments.keySet().stream(), directories.stream()).allMatch(Files::exists);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.utils;
+
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Derives JVM options from a tuning profile and the resources of the container so that the heap, the garbage
+ * collector and the number of threads the JVM sizes itself for follow the pod limits instead of the node.
+ */
+public class JvmErgonomics {
+    public static final String JAVA_OPTS = "JAVA_OPTS";
+    public static final String JAVA_OPTS_CMD = "CMD java $" + JAVA_OPTS + " -jar ${APP}";
+
+    private static final BigDecimal MI = BigDecimal.valueOf(1024L * 1024L);
+    private static final long SMALL_CONTAINER_MI = 512;
+    private static final long TINY_CONTAINER_MI = 256;
+    private static final long LARGE_CONTAINER_MI = 1024;
+
+    /**
+     * JVM tuning profiles.
+     */
+    public enum Profile {
+        throughput("throughput", "-XX:+UseParallelGC", 75),
+        latency("latency", "-XX:+UseG1GC -XX:MaxGCPauseMillis=100", 70),
+        lowMemory("low-memory", "-XX:+UseSerialGC", 60);
+
+        private final String value;
+        private final String gcOptions;
+        private final int maxRamPercentage;
+
+        Profile(String value, String gcOptions, int maxRamPercentage) {
+            this.value = value;
+            this.gcOptions = gcOptions;
+            this.maxRamPercentage = maxRamPercentage;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        /**
+         * Get the profile of an annotation value.
+         *
+         * @param value Annotation value such as "low-memory".
+         * @return Tuning profile.
+         * @throws KubernetesPluginException If the value is not a known profile.
+         */
+        public static Profile fromValue(String value) throws KubernetesPluginException {
+            for (Profile profile : values()) {
+                if (profile.value.equals(value)) {
+                    return profile;
+                }
+            }
+            throw new KubernetesPluginException("invalid jvmTuningProfile '" + value + "' found in " +
+                    "@kubernetes:Deployment{}. supported profiles are throughput, latency and low-memory.");
+        }
+    }
+
+    private JvmErgonomics() {
+    }
+
+    /**
+     * Compute the JVM options of a tuning profile.
+     *
+     * @param profile   Tuning profile.
+     * @param resources Resources of the container.
+     * @return JVM options separated by spaces.
+     * @throws KubernetesPluginException If a resource quantity is invalid.
+     */
+    public static String getJavaOpts(Profile profile, ContainerResources resources) throws KubernetesPluginException {
+        List<String> options = new ArrayList<>();
+        String memory = null != resources.getLimit(ContainerResources.MEMORY) ?
+                resources.getLimit(ContainerResources.MEMORY) : resources.getRequest(ContainerResources.MEMORY);
+        long memoryMi = null == memory ? -1 :
+                ContainerResources.parseQuantity("@kubernetes:Deployment{}", memory)
+                        .divide(MI, 0, RoundingMode.DOWN).longValue();
+
+        // Metaspace, thread stacks and code cache take a larger share of small containers.
+        int maxRamPercentage = profile.maxRamPercentage;
+        if (memoryMi >= 0 && memoryMi < SMALL_CONTAINER_MI) {
+            maxRamPercentage = Math.min(maxRamPercentage, 50);
+        }
+        options.add("-XX:MaxRAMPercentage=" + maxRamPercentage + ".0");
+        options.add(profile.gcOptions);
+
+        String cpu = null != resources.getLimit(ContainerResources.CPU) ?
+                resources.getLimit(ContainerResources.CPU) : resources.getRequest(ContainerResources.CPU);
+        if (null != cpu) {
+            int processors = ContainerResources.parseQuantity("@kubernetes:Deployment{}", cpu)
+                    .setScale(0, RoundingMode.CEILING).max(BigDecimal.ONE).intValue();
+            options.add("-XX:ActiveProcessorCount=" + processors);
+        }
+
+        if (profile == Profile.lowMemory || (memoryMi >= 0 && memoryMi < TINY_CONTAINER_MI)) {
+            options.add("-Xss256k");
+            options.add("-XX:ReservedCodeCacheSize=32m");
+        } else if (memoryMi >= 0 && memoryMi < LARGE_CONTAINER_MI) {
+            options.add("-Xss512k");
+        }
+        return String.join(" ", options);
+    }
+}
@@ -18,12 +18,18 @@
 
 package org.ballerinax.kubernetes.utils;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.spotify.docker.client.DefaultDockerClient;
+import com.spotify.docker.client.DockerCertificates;
+import com.spotify.docker.client.DockerClient;
+import com.spotify.docker.client.exceptions.DockerCertificateException;
 import io.fabric8.kubernetes.api.model.ConfigMapKeySelector;
 import io.fabric8.kubernetes.api.model.ConfigMapKeySelectorBuilder;
 import io.fabric8.kubernetes.api.model.EnvVar;
 import io.fabric8.kubernetes.api.model.EnvVarBuilder;
 import io.fabric8.kubernetes.api.model.EnvVarSource;
 import io.fabric8.kubernetes.api.model.EnvVarSourceBuilder;
+import io.fabric8.kubernetes.api.model.IntOrString;
 import io.fabric8.kubernetes.api.model.ObjectFieldSelector;
 import io.fabric8.kubernetes.api.model.ObjectFieldSelectorBuilder;
 import io.fabric8.kubernetes.api.model.ResourceFieldSelector;
@@ -31,46 +37,63 @@ import io.fabric8.kubernetes.api.model.ResourceFieldSelectorBuilder;
 import io.fabric8.kubernetes.api.model.SecretKeySelector;
 import io.fabric8.kubernetes.api.model.SecretKeySelectorBuilder;
 import org.apache.commons.io.FileUtils;
+import org.ballerinalang.model.elements.PackageID;
+import org.ballerinalang.model.tree.AnnotationAttachmentNode;
+import org.ballerinalang.model.tree.FunctionNode;
 import org.ballerinalang.model.tree.NodeKind;
+import org.ballerinalang.model.tree.ServiceNode;
 import org.ballerinalang.model.tree.expressions.ExpressionNode;
 import org.ballerinax.docker.generator.models.CopyFileModel;
+import org.ballerinax.docker.generator.models.DockerModel;
 import org.ballerinax.kubernetes.KubernetesConstants;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.models.DeploymentBuildExtension;
 import org.ballerinax.kubernetes.models.DeploymentModel;
 import org.ballerinax.kubernetes.models.EnvVarValueModel;
 import org.ballerinax.kubernetes.models.JobModel;
-import org.ballerinax.kubernetes.models.KubernetesContext;
 import org.ballerinax.kubernetes.models.KubernetesDataHolder;
 import org.ballerinax.kubernetes.models.openshift.OpenShiftBuildExtensionModel;
 import org.ballerinax.kubernetes.processors.openshift.OpenShiftBuildExtensionProcessor;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BAnnotationSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BConstantSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BFiniteType;
+import org.wso2.ballerinalang.compiler.tree.BLangAnnotationAttachment;
+import org.wso2.ballerinalang.compiler.tree.BLangService;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangExpression;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangListConstructorExpr;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangLiteral;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangRecordLiteral;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangSimpleVarRef;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangTypeInit;
+import org.wso2.ballerinalang.compiler.util.Names;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.zip.GZIPOutputStream;
 
+import static org.ballerinax.docker.generator.DockerGenConstants.REGISTRY_SEPARATOR;
 import static org.ballerinax.docker.generator.utils.DockerGenUtils.extractUberJarName;
 import static org.ballerinax.kubernetes.KubernetesConstants.YAML;
 
@@ -81,30 +104,63 @@ public class KubernetesUtils {
 
     private static final boolean DEBUG_ENABLED = "true".equals(System.getenv(KubernetesConstants.ENABLE_DEBUG_LOGS));
     private static final PrintStream ERR = System.err;
-    private static final PrintStream OUT = System.out;
+    private static final PrintStream OUT = ProgressReporter.getStream();
+    private static final ThreadLocal<Map<Path, StringBuilder>> PENDING_WRITES = new ThreadLocal<>();
+    private static final String HTTP_PACKAGE_NAME = "http";
+    private static final String HTTP_SERVICE_CONFIG = "ServiceConfig";
+    private static final String HTTP_RESOURCE_CONFIG = "ResourceConfig";
+    private static final List<String> HEALTH_CHECK_NAMES = Arrays.asList("health", "healthz", "healthcheck", "ready",
+            "readyz", "readiness", "live", "livez", "liveness");
+
+    /**
+     * Serialize a kubernetes resource to yaml with the shared {@link YamlWriter}, leaving out its runtime state.
+     *
+     * @param dataHolder Data holder of the module the resource belongs to.
+     * @param resource   Resource to be serialized.
+     * @return Yaml content of the resource.
+     * @throws JsonProcessingException If the resource cannot be serialized.
+     */
+    public static String toYaml(KubernetesDataHolder dataHolder, Object resource) throws JsonProcessingException {
+        BuildMetrics buildMetrics = dataHolder.getBuildMetrics();
+        String content;
+        try (BuildMetrics.Timer ignored = buildMetrics.time(BuildMetrics.YAML_SERIALIZATION_PHASE)) {
+            content = YamlWriter.toYaml(resource);
+        }
+        buildMetrics.increment(BuildMetrics.YAML_DOCUMENTS, 1);
+        buildMetrics.increment(BuildMetrics.YAML_BYTES, BuildMetrics.utf8Length(content));
+        return content;
+    }
 
     /**
      * Write content to a File. Create the required directories if they don't not exists.
      *
+     * @param dataHolder     Data holder of the module
      * @param context        context of the file
      * @param outputFileName target file path
      * @throws IOException If an error occurs when writing to a file
      */
-    public static void writeToFile(String context, String outputFileName) throws IOException {
-        KubernetesDataHolder dataHolder = KubernetesContext.getInstance().getDataHolder();
-        writeToFile(dataHolder.getK8sArtifactOutputPath(), context, outputFileName);
+    public static void writeToFile(KubernetesDataHolder dataHolder, String context, String outputFileName)
+            throws IOException {
+        writeToFile(dataHolder, dataHolder.getK8sArtifactOutputPath(), context, outputFileName);
     }
 
     /**
      * Write content to a File. Create the required directories if they don't not exists.
      *
+     * @param dataHolder Data holder of the module.
      * @param outputDir  Artifact output path.
      * @param context    Context of the file
      * @param fileSuffix Suffix for artifact.
      * @throws IOException If an error occurs when writing to a file
      */
-    public static void writeToFile(Path outputDir, String context, String fileSuffix) throws IOException {
-        KubernetesDataHolder dataHolder = KubernetesContext.getInstance().getDataHolder();
+    public static void writeToFile(KubernetesDataHolder dataHolder, Path outputDir, String context, String fileSuffix)
+            throws IOException {
+        ArtifactSink artifactSink = dataHolder.getArtifactSink();
+        if (null != artifactSink) {
+            // artifact file names are resolved once per generation pass by the sink.
+            write(dataHolder, artifactSink, artifactSink.getArtifactPath(outputDir, fileSuffix), context);
+            return;
+        }
         Path artifactFileName = outputDir.resolve(extractUberJarName(dataHolder.getUberJarPath()) + fileSuffix);
         DeploymentModel deploymentModel = dataHolder.getDeploymentModel();
         JobModel jobModel = dataHolder.getJobModel();
@@ -115,6 +171,72 @@ public class KubernetesUtils {
             artifactFileName = outputDir.resolve(extractUberJarName(dataHolder.getUberJarPath()) + YAML);
 
         }
+        write(dataHolder, null, artifactFileName, context);
+    }
+
+    /**
+     * Start buffering the artifact writes made through {@link #writeToFile(KubernetesDataHolder, Path, String, String)}
+     * on the current thread. Used when handlers run concurrently so that files shared between handlers are written in
+     * a deterministic order.
+     *
+     * @return The buffer which was active on the current thread, if any.
+     */
+    public static Map<Path, StringBuilder> startBufferedWrites() {
+        Map<Path, StringBuilder> previousWrites = PENDING_WRITES.get();
+        PENDING_WRITES.set(new LinkedHashMap<>());
+        return previousWrites;
+    }
+
+    /**
+     * Stop buffering artifact writes on the current thread.
+     *
+     * @param previousWrites The buffer returned by {@link #startBufferedWrites()}, which becomes active again.
+     * @return The content buffered against each artifact file since {@link #startBufferedWrites()}.
+     */
+    public static Map<Path, StringBuilder> endBufferedWrites(Map<Path, StringBuilder> previousWrites) {
+        Map<Path, StringBuilder> pendingWrites = PENDING_WRITES.get();
+        if (previousWrites == null) {
+            PENDING_WRITES.remove();
+        } else {
+            PENDING_WRITES.set(previousWrites);
+        }
+        return pendingWrites == null ? new LinkedHashMap<>() : pendingWrites;
+    }
+
+    /**
+     * Write buffered content to the artifact files, or to the buffer active on the current thread.
+     *
+     * @param dataHolder    Data holder of the module the content belongs to.
+     * @param pendingWrites Content returned by {@link #endBufferedWrites(Map)}.
+     * @throws IOException If an error occurs when writing to a file
+     */
+    public static void flushBufferedWrites(KubernetesDataHolder dataHolder, Map<Path, StringBuilder> pendingWrites)
+            throws IOException {
+        ArtifactSink artifactSink = dataHolder.getArtifactSink();
+        for (Map.Entry<Path, StringBuilder> pendingWrite : pendingWrites.entrySet()) {
+            write(dataHolder, artifactSink, pendingWrite.getKey(), pendingWrite.getValue().toString());
+        }
+    }
+
+    private static void write(KubernetesDataHolder dataHolder, ArtifactSink artifactSink, Path artifactFileName,
+                              String context) throws IOException {
+        Map<Path, StringBuilder> pendingWrites = PENDING_WRITES.get();
+        if (pendingWrites != null) {
+            // defer the write until the buffered handler is flushed in order.
+            pendingWrites.computeIfAbsent(artifactFileName, path -> new StringBuilder()).append(context);
+            return;
+        }
+        BuildMetrics buildMetrics = dataHolder.getBuildMetrics();
+        buildMetrics.increment(BuildMetrics.FILE_WRITES, 1);
+        buildMetrics.increment(BuildMetrics.FILE_BYTES, BuildMetrics.utf8Length(context));
+        if (null != artifactSink) {
+            artifactSink.write(artifactFileName, context);
+            return;
+        }
+        writeOrAppend(artifactFileName, context);
+    }
+
+    private static void writeOrAppend(Path artifactFileName, String context) throws IOException {
         File newFile = artifactFileName.toFile();
         // append if file exists
         if (newFile.exists()) {
@@ -149,6 +271,41 @@ public class KubernetesUtils {
         throw new KubernetesPluginException("unable to read contents of the file " + targetFilePath);
     }
 
+    /**
+     * Decode the content of a file as UTF-8.
+     *
+     * @param content Content of the file.
+     * @return Decoded content or null if the content is not valid UTF-8, such as the content of a binary file.
+     */
+    public static String decodeUtf8(byte[] content) {
+        try {
+            return StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT)
+                    .decode(ByteBuffer.wrap(content))
+                    .toString();
+        } catch (CharacterCodingException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Compress content with gzip.
+     *
+     * @param content Content to be compressed.
+     * @return Compressed content.
+     * @throws KubernetesPluginException If the content cannot be compressed.
+     */
+    public static byte[] gzip(byte[] content) throws KubernetesPluginException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(content.length / 2 + 64);
+        try (GZIPOutputStream gzipStream = new GZIPOutputStream(compressed)) {
+            gzipStream.write(content);
+        } catch (IOException e) {
+            throw new KubernetesPluginException("unable to compress content", e);
+        }
+        return compressed.toByteArray();
+    }
+
     /**
      * Copy file or directory.
      *
@@ -246,6 +403,49 @@ public class KubernetesUtils {
 
     }
 
+    /**
+     * Get the name of a docker image including the registry and the tag.
+     *
+     * @param dockerModel Docker model of the image.
+     * @return Image name.
+     */
+    public static String getDockerImageName(DockerModel dockerModel) {
+        String imageName = dockerModel.getName();
+        if (!imageName.contains(":")) {
+            imageName = imageName + ":" + dockerModel.getTag();
+        }
+        String registry = dockerModel.getRegistry();
+        if (!isBlank(registry) && !imageName.startsWith(registry + REGISTRY_SEPARATOR)) {
+            imageName = registry + REGISTRY_SEPARATOR + imageName;
+        }
+        return imageName;
+    }
+
+    /**
+     * Create a client for the docker daemon configured in the docker model.
+     *
+     * @param dockerModel Docker model of the image.
+     * @return Docker client.
+     * @throws DockerCertificateException If the docker certificates cannot be loaded.
+     */
+    public static DockerClient createDockerClient(DockerModel dockerModel) throws DockerCertificateException {
+        String dockerHost = dockerModel.getDockerHost();
+        String dockerCertPath = dockerModel.getDockerCertPath();
+        if (isBlank(dockerHost)) {
+            return DefaultDockerClient.fromEnv().build();
+        }
+        DefaultDockerClient.Builder builder = DefaultDockerClient.builder();
+        if (dockerHost.startsWith("tcp://")) {
+            String scheme = isBlank(dockerCertPath) ? "http://" : "https://";
+            dockerHost = scheme + dockerHost.substring("tcp://".length());
+        }
+        builder.uri(dockerHost);
+        if (!isBlank(dockerCertPath)) {
+            builder.dockerCertificates(new DockerCertificates(Paths.get(dockerCertPath)));
+        }
+        return builder.build();
+    }
+
     /* Checks if a String is empty ("") or null.
      *
      * @param str the String to check, may be null
@@ -385,6 +585,145 @@ public class KubernetesUtils {
         throw new KubernetesPluginException("unable to parse value: " + expr.toString());
     }
 
+    /**
+     * Find the path of a health check resource of a service. A resource is a health check if its name or the last
+     * segment of its path is one of health, healthz, healthcheck, ready, readyz, readiness, live, livez or liveness
+     * and it accepts GET requests.
+     *
+     * @param serviceNode Service node.
+     * @return Path of the health check resource including the base path of the service or null if not found.
+     * @throws KubernetesPluginException When an annotation value cannot be parsed.
+     */
+    public static String getHealthCheckPath(ServiceNode serviceNode) throws KubernetesPluginException {
+        String basePath = "/" + serviceNode.getName().getValue();
+        BLangRecordLiteral serviceConfig = getHttpAnnotationConfig(serviceNode.getAnnotationAttachments(),
+                HTTP_SERVICE_CONFIG);
+        if (null != serviceConfig) {
+            for (BLangRecordLiteral.BLangRecordKeyValue keyValue : serviceConfig.getKeyValuePairs()) {
+                if ("basePath".equals(keyValue.getKey().toString())) {
+                    basePath = getStringValue(keyValue.getValue());
+                }
+            }
+        }
+        for (FunctionNode resource : serviceNode.getResources()) {
+            String path = "/" + resource.getName().getValue();
+            List<String> methods = new ArrayList<>();
+            BLangRecordLiteral resourceConfig = getHttpAnnotationConfig(resource.getAnnotationAttachments(),
+                    HTTP_RESOURCE_CONFIG);
+            if (null != resourceConfig) {
+                for (BLangRecordLiteral.BLangRecordKeyValue keyValue : resourceConfig.getKeyValuePairs()) {
+                    String key = keyValue.getKey().toString();
+                    if ("path".equals(key)) {
+                        path = getStringValue(keyValue.getValue());
+                    } else if ("methods".equals(key)) {
+                        methods = getList(keyValue.getValue());
+                    }
+                }
+            }
+            String lastSegment = path.substring(path.lastIndexOf('/') + 1);
+            boolean healthCheck = HEALTH_CHECK_NAMES.contains(resource.getName().getValue()) ||
+                    HEALTH_CHECK_NAMES.contains(lastSegment);
+            boolean acceptsGet = methods.isEmpty() || methods.stream().anyMatch("GET"::equalsIgnoreCase);
+            if (healthCheck && acceptsGet && !path.contains("{")) {
+                String healthCheckPath = (basePath.endsWith("/") ? basePath.substring(0, basePath.length() - 1) :
+                        basePath) + (path.startsWith("/") ? path : "/" + path);
+                return healthCheckPath.isEmpty() ? "/" : healthCheckPath;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the ports of the listeners a service is attached to. Listeners declared as module variables are looked up
+     * by name, while anonymous listeners are read from their constructor.
+     *
+     * @param serviceNode   Service node.
+     * @param listenerPorts Ports of the listeners declared in the module against the listener names.
+     * @return Ports the service is served on. Listeners whose port is not a literal are left out.
+     */
+    public static Set<Integer> getServicePorts(ServiceNode serviceNode, Map<String, Integer> listenerPorts) {
+        Set<Integer> ports = new LinkedHashSet<>();
+        for (BLangExpression attachedExpr : ((BLangService) serviceNode).getAttachedExprs()) {
+            Integer port = null;
+            if (attachedExpr instanceof BLangTypeInit) {
+                port = getListenerPort((BLangTypeInit) attachedExpr);
+            } else if (attachedExpr instanceof BLangSimpleVarRef) {
+                port = listenerPorts.get(((BLangSimpleVarRef) attachedExpr).variableName.getValue());
+            }
+            if (null != port) {
+                ports.add(port);
+            }
+        }
+        return ports;
+    }
+    
+    /**
+     * Get the port a listener is constructed with.
+     *
+     * @param listener Listener constructor.
+     * @return Port of the listener or null if the port is not a literal.
+     */
+    public static Integer getListenerPort(BLangTypeInit listener) {
+        if (listener.argsExpr.isEmpty()) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(getStringValue(listener.argsExpr.get(0)));
+        } catch (KubernetesPluginException | NumberFormatException e) {
+            return null;
+        }
+    }
+    
+    private static BLangRecordLiteral getHttpAnnotationConfig(List<? extends AnnotationAttachmentNode> annotations,
+                                                             String annotationName) {
+        for (AnnotationAttachmentNode annotation : annotations) {
+            if (isHttpAnnotation(annotation) && annotationName.equals(annotation.getAnnotationName().getValue()) &&
+                    annotation.getExpression() instanceof BLangRecordLiteral) {
+                return (BLangRecordLiteral) annotation.getExpression();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Check whether an annotation is declared in the ballerina/http module. The module is resolved from the symbol
+     * of the annotation, so that the module can be imported with any alias. The alias is only used when the
+     * annotation is not resolved.
+     *
+     * @param annotation Annotation attachment.
+     * @return True if the annotation belongs to the ballerina/http module.
+     */
+    private static boolean isHttpAnnotation(AnnotationAttachmentNode annotation) {
+        BAnnotationSymbol annotationSymbol = ((BLangAnnotationAttachment) annotation).annotationSymbol;
+        if (null == annotationSymbol || null == annotationSymbol.pkgID) {
+            return HTTP_PACKAGE_NAME.equals(annotation.getPackageAlias().getValue());
+        }
+        PackageID packageID = annotationSymbol.pkgID;
+        return Names.BALLERINA_ORG.equals(packageID.orgName) && HTTP_PACKAGE_NAME.equals(packageID.name.getValue());
+    }
+
+    /**
+     * Convert a pod count or a percentage such as "25%" to an {@link IntOrString}.
+     *
+     * @param value Pod count or percentage.
+     * @param field Name of the annotation field, used in the error message.
+     * @return Integer or percentage value.
+     * @throws KubernetesPluginException If the value is neither a pod count nor a percentage.
+     */
+    public static IntOrString getIntOrPercentage(String value, String field) throws KubernetesPluginException {
+        if (null == value) {
+            return null;
+        }
+        if (value.matches("\\d+")) {
+            return new IntOrString(Integer.parseInt(value));
+        }
+        if (value.matches("\\d+%")) {
+            return new IntOrString(value);
+        }
+        throw new KubernetesPluginException("'" + field + "' should be a number of pods or a percentage such as " +
+                "\"25%\": " + value);
+    }
+
     /**
      * Returns valid kubernetes name.
      *
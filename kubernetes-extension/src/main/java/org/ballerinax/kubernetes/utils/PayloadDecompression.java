@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.utils;
+
+import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.ContainerBuilder;
+import io.fabric8.kubernetes.api.model.VolumeMount;
+import io.fabric8.kubernetes.api.model.VolumeMountBuilder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Builds a single init container which decompresses the gzip compressed entries of config maps and secrets. The
+ * compressed volume is mounted in to the init container only and the decompressed files are written to an empty
+ * dir volume which is mounted in to the mount path of the config map or the secret.
+ */
+public class PayloadDecompression {
+    public static final String INIT_CONTAINER_NAME = "decompress-payloads";
+    public static final String GZIP_EXTENSION = ".gz";
+    public static final String DECOMPRESSED_VOLUME_POSTFIX = "-decompressed-volume";
+
+    private static final String VOLUME_POSTFIX = "-volume";
+    private static final String IMAGE = "busybox";
+    private static final String COMPRESSED_ROOT = "/compressed/";
+    private static final String DECOMPRESSED_ROOT = "/decompressed/";
+
+    private final List<String> payloads = new ArrayList<>();
+
+    /**
+     * Decompress the entries of a config map or a secret.
+     *
+     * @param name Name of the config map or the secret.
+     */
+    public void addPayload(String name) {
+        payloads.add(name);
+    }
+
+    public boolean isEmpty() {
+        return payloads.isEmpty();
+    }
+
+    /**
+     * Get the init container which decompresses the volumes.
+     *
+     * @return Init container.
+     */
+    public Container toInitContainer() {
+        List<VolumeMount> volumeMounts = new ArrayList<>();
+        for (String payload : payloads) {
+            volumeMounts.add(new VolumeMountBuilder()
+                    .withName(payload + VOLUME_POSTFIX)
+                    .withMountPath(COMPRESSED_ROOT + payload)
+                    .withReadOnly(true)
+                    .build());
+            volumeMounts.add(new VolumeMountBuilder()
+                    .withName(payload + DECOMPRESSED_VOLUME_POSTFIX)
+                    .withMountPath(DECOMPRESSED_ROOT + payload)
+                    .build());
+        }
+        return new ContainerBuilder()
+                .withName(INIT_CONTAINER_NAME)
+                .withImage(IMAGE)
+                .withCommand(Arrays.asList("sh", "-c", getScript()))
+                .withVolumeMounts(volumeMounts)
+                .build();
+    }
+
+    String getScript() {
+        StringBuilder script = new StringBuilder()
+                .append("decompress() { for file in ").append(COMPRESSED_ROOT).append("$1/*").append(GZIP_EXTENSION)
+                .append("; do gunzip -c \"$file\" > \"").append(DECOMPRESSED_ROOT)
+                .append("$1/$(basename \"$file\" ").append(GZIP_EXTENSION).append(")\" || exit 1; done; }\n");
+        for (String payload : payloads) {
+            script.append("decompress ").append(payload).append("\n");
+        }
+        return script.toString();
+    }
+}
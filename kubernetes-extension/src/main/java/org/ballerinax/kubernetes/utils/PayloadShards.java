@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.utils;
+
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Splits the payload of a config map or a secret which does not fit in to a single kubernetes object. The artifacts
+ * are applied with {@code kubectl apply}, which copies the whole object as json in to the
+ * {@code kubectl.kubernetes.io/last-applied-configuration} annotation, and the annotations of an object are limited
+ * to 256 KiB. Hence the entries are distributed over several objects which are projected in to the same mount path.
+ * The entries are assigned in key order so that every handler resolves the same shards.
+ */
+public class PayloadShards {
+    // Json encoded size of the entries of a shard. Leaves room for the metadata of the object and the json syntax of
+    // the entries within the 256 KiB limit of the annotations.
+    public static final int MAX_SHARD_BYTES = 200 * 1024;
+
+    private PayloadShards() {
+    }
+
+    /**
+     * Split the entries of a config map or a secret in to shards.
+     *
+     * @param name       Name of the config map or the secret.
+     * @param data       Text entries, may be null.
+     * @param binaryData Base64 encoded entries, may be null.
+     * @return Keys of the entries of each shard.
+     * @throws KubernetesPluginException If a single entry does not fit in to an object.
+     */
+    public static List<List<String>> shard(String name, Map<String, String> data, Map<String, String> binaryData)
+            throws KubernetesPluginException {
+        return shard(name, data, binaryData, MAX_SHARD_BYTES);
+    }
+
+    static List<List<String>> shard(String name, Map<String, String> data, Map<String, String> binaryData,
+                                    int maxShardBytes) throws KubernetesPluginException {
+        Map<String, String> entries = new TreeMap<>();
+        if (null != data) {
+            entries.putAll(data);
+        }
+        if (null != binaryData) {
+            entries.putAll(binaryData);
+        }
+        List<List<String>> shards = new ArrayList<>();
+        List<String> shard = new ArrayList<>();
+        long shardBytes = 0;
+        for (Map.Entry<String, String> entry : entries.entrySet()) {
+            long entryBytes = jsonLength(entry.getKey()) + jsonLength(entry.getValue());
+            if (entryBytes > maxShardBytes) {
+                throw new KubernetesPluginException("data file '" + entry.getKey() + "' of '" + name + "' is larger " +
+                        "than the size limit of a kubernetes object. enable compress or use a volume claim instead.");
+            }
+            if (shardBytes + entryBytes > maxShardBytes) {
+                shards.add(shard);
+                shard = new ArrayList<>();
+                shardBytes = 0;
+            }
+            shard.add(entry.getKey());
+            shardBytes += entryBytes;
+        }
+        shards.add(shard);
+        return shards;
+    }
+
+    /**
+     * Get the size of a string once encoded as a json string by kubectl, excluding the quotes. kubectl escapes the
+     * html characters and the line separators in addition to the control characters.
+     *
+     * @param value String value.
+     * @return Size in bytes.
+     */
+    static long jsonLength(String value) {
+        long length = 0;
+        for (int i = 0; i < value.length(); ) {
+            int codePoint = value.codePointAt(i);
+            i += Character.charCount(codePoint);
+            if (codePoint == '"' || codePoint == '\\' || codePoint == '\n' || codePoint == '\r' || codePoint == '\t') {
+                length += 2;
+            } else if (codePoint < 0x20 || codePoint == '<' || codePoint == '>' || codePoint == '&' ||
+                       codePoint == 0x2028 || codePoint == 0x2029) {
+                length += 6;
+            } else if (codePoint < 0x80) {
+                length += 1;
+            } else if (codePoint < 0x800) {
+                length += 2;
+            } else if (codePoint < 0x10000) {
+                length += 3;
+            } else {
+                length += 4;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Get the name of a shard. A payload which fits in to a single object keeps the name of the config map or the
+     * secret.
+     *
+     * @param name   Name of the config map or the secret.
+     * @param index  Index of the shard.
+     * @param shards Number of shards.
+     * @return Name of the shard.
+     */
+    public static String getShardName(String name, int index, int shards) {
+        return shards == 1 ? name : name + "-" + index;
+    }
+
+    /**
+     * Get the entries of a shard.
+     *
+     * @param entries Entries of the config map or the secret, may be null.
+     * @param keys    Keys of the shard.
+     * @return Entries of the shard or null if none of the keys belong to the given entries.
+     */
+    public static Map<String, String> getShardEntries(Map<String, String> entries, List<String> keys) {
+        if (null == entries) {
+            return null;
+        }
+        Map<String, String> shardEntries = new LinkedHashMap<>();
+        for (String key : keys) {
+            if (entries.containsKey(key)) {
+                shardEntries.put(key, entries.get(key));
+            }
+        }
+        return shardEntries.isEmpty() ? null : shardEntries;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+/**
+ * Reports the progress of the artifact handlers. Progress is printed to the standard output, unless it is captured on
+ * the current thread. Handlers running concurrently capture their progress, which is then reported in the sequential
+ * order of the handlers so that the output is the same as the output of a sequential run.
+ */
+public final class ProgressReporter {
+    private static final ThreadLocal<ByteArrayOutputStream> CAPTURED_OUTPUT = new ThreadLocal<>();
+    private static final PrintStream STREAM = new PrintStream(new OutputStream() {
+        @Override
+        public void write(int b) throws IOException {
+            getTarget().write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            getTarget().write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            getTarget().flush();
+        }
+    }, true);
+
+    private ProgressReporter() {
+    }
+
+    /**
+     * Get the stream the handlers print their progress to.
+     *
+     * @return Progress stream.
+     */
+    public static PrintStream getStream() {
+        return STREAM;
+    }
+
+    /**
+     * Start capturing the progress printed on the current thread.
+     *
+     * @return The capture which was active on the current thread, if any.
+     */
+    public static ByteArrayOutputStream startCapture() {
+        ByteArrayOutputStream previousOutput = CAPTURED_OUTPUT.get();
+        CAPTURED_OUTPUT.set(new ByteArrayOutputStream());
+        return previousOutput;
+    }
+
+    /**
+     * Stop capturing the progress printed on the current thread.
+     *
+     * @param previousOutput The capture returned by {@link #startCapture()}, which becomes active again.
+     * @return The progress printed since {@link #startCapture()}.
+     */
+    public static byte[] endCapture(ByteArrayOutputStream previousOutput) {
+        ByteArrayOutputStream capturedOutput = CAPTURED_OUTPUT.get();
+        if (previousOutput == null) {
+            CAPTURED_OUTPUT.remove();
+        } else {
+            CAPTURED_OUTPUT.set(previousOutput);
+        }
+        return capturedOutput == null ? new byte[0] : capturedOutput.toByteArray();
+    }
+
+    /**
+     * Report progress captured by {@link #endCapture(ByteArrayOutputStream)}.
+     *
+     * @param output Captured progress.
+     */
+    public static void report(byte[] output) {
+        STREAM.write(output, 0, output.length);
+        STREAM.flush();
+    }
+
+    private static OutputStream getTarget() {
+        ByteArrayOutputStream capturedOutput = CAPTURED_OUTPUT.get();
+        // standard output is resolved on each write so that it can be redirected.
+        return capturedOutput == null ? System.out : capturedOutput;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.utils;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.fabric8.kubernetes.api.model.ReplicationController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Yaml writer shared by the artifact handlers of all the modules. The writer is configured once and is immutable,
+ * hence it is safe to be used by the handlers running concurrently. The runtime state of the resources is left out
+ * the same way as {@code SerializationUtils.dumpWithoutRuntimeStateAsYaml} of the kubernetes client.
+ */
+public final class YamlWriter {
+    private static final ObjectMapper MAPPER = new ObjectMapper(new YAMLFactory())
+            .addMixIn(ObjectMeta.class, ObjectMetaMixIn.class)
+            .addMixIn(ReplicationController.class, ReplicationControllerMixIn.class);
+    private static final ObjectWriter WRITER = MAPPER.writer();
+
+    private YamlWriter() {
+    }
+
+    /**
+     * Serialize a resource to yaml.
+     *
+     * @param resource Resource to be serialized.
+     * @return Yaml content of the resource.
+     * @throws JsonProcessingException If the resource cannot be serialized.
+     */
+    public static String toYaml(Object resource) throws JsonProcessingException {
+        return WRITER.writeValueAsString(resource);
+    }
+
+    /**
+     * Convert a resource to the tree of maps and lists it is serialized as.
+     *
+     * @param resource Resource to be converted.
+     * @return Fields of the resource in the order they are serialized.
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> toTree(Object resource) {
+        return MAPPER.convertValue(resource, LinkedHashMap.class);
+    }
+
+    /**
+     * Runtime state of the object metadata, which is set by the cluster.
+     */
+    @JsonIgnoreProperties({"creationTimestamp", "deletionTimestamp", "generation", "resourceVersion", "selfLink",
+            "uid"})
+    private abstract static class ObjectMetaMixIn {
+    }
+
+    /**
+     * Runtime state of a replication controller.
+     */
+    @JsonIgnoreProperties({"status"})
+    private abstract static class ReplicationControllerMixIn {
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes;
+
+import org.ballerinalang.model.elements.PackageID;
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.models.ConfigMapModel;
+import org.ballerinax.kubernetes.models.DeploymentModel;
+import org.ballerinax.kubernetes.models.KubernetesContext;
+import org.ballerinax.kubernetes.models.KubernetesDataHolder;
+import org.ballerinax.kubernetes.models.PersistentVolumeClaimModel;
+import org.ballerinax.kubernetes.models.ResourceQuotaModel;
+import org.ballerinax.kubernetes.models.SecretModel;
+import org.ballerinax.kubernetes.models.ServiceModel;
+import org.ballerinax.kubernetes.utils.BuildMetrics;
+import org.ballerinax.kubernetes.utils.GenerationCache;
+import org.ballerinax.kubernetes.utils.KubernetesUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.compiler.util.Names;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Test the generation of the artifacts of a module by the artifact manager.
+ */
+public class ArtifactManagerTests {
+    private static final Path OUTPUT_PATH = Paths.get("target", "artifact-manager").toAbsolutePath();
+    private static final int LISTENERS = 4;
+    private static final String SECRET_DATA = "a2V5c3RvcmU=";
+    private static final List<String> CACHED_TASKS = Arrays.asList("service", "ingress", "secret", "volumeClaim",
+            "resourceQuota", "configMap", "deployment", "hpa", "podDisruptionBudget", "docker", "helm");
+
+    private final List<PackageID> modules = new ArrayList<>();
+
+    @Test
+    public void testParallelGenerationMatchesSequentialGeneration() throws Exception {
+        Path sequentialPath = OUTPUT_PATH.resolve("sequential");
+        String sequentialOutput = generate("sequential_module", sequentialPath, false);
+        for (int i = 0; i < 3; i++) {
+            Path parallelPath = OUTPUT_PATH.resolve("parallel" + i);
+            String parallelOutput = generate("parallel_module" + i, parallelPath, true);
+            Assert.assertEquals(parallelOutput.replace(parallelPath.toString(), sequentialPath.toString()),
+                    sequentialOutput);
+            List<Path> sequentialFiles = listFiles(sequentialPath);
+            Assert.assertEquals(listFiles(parallelPath), sequentialFiles);
+            for (Path file : sequentialFiles) {
+                Assert.assertEquals(Files.readAllBytes(parallelPath.resolve(file)),
+                        Files.readAllBytes(sequentialPath.resolve(file)), file.toString());
+            }
+        }
+    }
+
+    @Test
+    public void testGenerationCache() throws Exception {
+        Path outputPath = OUTPUT_PATH.resolve("cached");
+        Path cacheFile = OUTPUT_PATH.resolve("cached" + KubernetesConstants.CACHE_FILE_POSTFIX);
+        Path artifactPath = outputPath.resolve(KubernetesConstants.KUBERNETES);
+        Path claimFile = artifactPath.resolve("hello" + KubernetesConstants.VOLUME_CLAIM_FILE_POSTFIX +
+                KubernetesConstants.YAML);
+        Path quotaFile = artifactPath.resolve("hello" + KubernetesConstants.RESOURCE_QUOTA_FILE_POSTFIX +
+                KubernetesConstants.YAML);
+        Path secretFile = artifactPath.resolve("hello" + KubernetesConstants.SECRET_FILE_POSTFIX +
+                KubernetesConstants.YAML);
+
+        // miss: the handlers are executed and their output is recorded.
+        KubernetesDataHolder dataHolder = createCachedModule("cached_module0", outputPath, cacheFile, "1Gi", false);
+        String output = generate(dataHolder, false);
+        Assert.assertEquals(getCacheHits(dataHolder), 0L);
+        Assert.assertTrue(Files.exists(cacheFile));
+        String cache = new String(Files.readAllBytes(cacheFile), StandardCharsets.UTF_8);
+        for (String task : CACHED_TASKS) {
+            Assert.assertTrue(cache.contains(task + ".fingerprint"), task);
+        }
+        Assert.assertFalse(cache.contains(SECRET_DATA));
+        byte[] claims = Files.readAllBytes(claimFile);
+        byte[] quotas = Files.readAllBytes(quotaFile);
+        Path unrelatedFile = Files.write(artifactPath.resolve("unrelated.txt"), new byte[0]);
+
+        // hit: the output is replayed without executing the handlers or touching the output directory.
+        dataHolder = createCachedModule("cached_module1", outputPath, cacheFile, "1Gi", false);
+        Assert.assertEquals(generate(dataHolder, false), output);
+        Assert.assertEquals(getCacheHits(dataHolder), (long) CACHED_TASKS.size());
+        Assert.assertEquals(Files.readAllBytes(claimFile), claims);
+        Assert.assertEquals(Files.readAllBytes(quotaFile), quotas);
+        Assert.assertTrue(Files.exists(unrelatedFile));
+
+        // invalidation: the handlers using the changed field are executed along with the handlers setting their
+        // models and the secret handler, whose output is not kept. Only the files they generated are removed.
+        dataHolder = createCachedModule("cached_module2", outputPath, cacheFile, "2Gi", false);
+        generate(dataHolder, true);
+        Assert.assertEquals(getCacheHits(dataHolder), 2L);
+        Assert.assertTrue(new String(Files.readAllBytes(claimFile), StandardCharsets.UTF_8).contains("2Gi"));
+        Assert.assertEquals(Files.readAllBytes(quotaFile), quotas);
+        Assert.assertTrue(new String(Files.readAllBytes(secretFile), StandardCharsets.UTF_8).contains(SECRET_DATA));
+        Assert.assertTrue(Files.exists(unrelatedFile));
+    }
+
+    @Test
+    public void testGenerationCacheRewritesSharedFiles() throws Exception {
+        Path outputPath = OUTPUT_PATH.resolve("cached_single");
+        Path cacheFile = OUTPUT_PATH.resolve("cached_single" + KubernetesConstants.CACHE_FILE_POSTFIX);
+        Path uncachedPath = OUTPUT_PATH.resolve("uncached_single");
+        Path singleFile = Paths.get(KubernetesConstants.KUBERNETES, "hello" + KubernetesConstants.YAML);
+
+        generate(createCachedModule("cached_single_module0", outputPath, cacheFile, "1Gi", true), false);
+        KubernetesDataHolder dataHolder = createCachedModule("cached_single_module1", outputPath, cacheFile, "2Gi",
+                true);
+        generate(dataHolder, false);
+        Assert.assertEquals(getCacheHits(dataHolder), 2L);
+
+        // the file shared by the skipped and the executed handlers is identical to one generated without a cache.
+        KubernetesDataHolder uncachedDataHolder = createCachedModule("uncached_single_module", uncachedPath, cacheFile,
+                "2Gi", true);
+        uncachedDataHolder.setGenerationCachePath(null);
+        generate(uncachedDataHolder, false);
+        String content = new String(Files.readAllBytes(outputPath.resolve(singleFile)), StandardCharsets.UTF_8);
+        Assert.assertEquals(content, new String(Files.readAllBytes(uncachedPath.resolve(singleFile)),
+                StandardCharsets.UTF_8));
+        Assert.assertTrue(content.contains(SECRET_DATA));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testGenerationCacheRejectsModels() {
+        GenerationCache.fingerprint(Collections.singletonList(new ResourceQuotaModel()));
+    }
+
+    @AfterClass
+    public void tearDown() throws KubernetesPluginException {
+        KubernetesUtils.deleteDirectory(OUTPUT_PATH);
+        modules.forEach(KubernetesContext.getInstance().getPackageIDtoDataHolderMap()::remove);
+    }
+
+    private KubernetesDataHolder createCachedModule(String moduleName, Path outputPath, Path cacheFile,
+                                                    String volumeClaimSize, boolean singleYAML) {
+        KubernetesDataHolder dataHolder = createModule(moduleName, outputPath);
+        dataHolder.setGenerationCachePath(cacheFile);
+        dataHolder.getDeploymentModel().setSingleYAML(singleYAML);
+        PersistentVolumeClaimModel claimModel = new PersistentVolumeClaimModel();
+        claimModel.setName("data-claim");
+        claimModel.setMountPath("/home/ballerina/data");
+        claimModel.setAccessMode("ReadWriteOnce");
+        claimModel.setVolumeClaimSize(volumeClaimSize);
+        dataHolder.addPersistentVolumeClaims(new HashSet<>(Collections.singletonList(claimModel)));
+        ResourceQuotaModel quotaModel = new ResourceQuotaModel();
+        quotaModel.setName("compute-quota");
+        quotaModel.setHard(Collections.singletonMap("cpu", "1"));
+        quotaModel.setScopes(Collections.emptySet());
+        dataHolder.setResourceQuotaModels(new HashSet<>(Collections.singletonList(quotaModel)));
+        return dataHolder;
+    }
+
+    private long getCacheHits(KubernetesDataHolder dataHolder) {
+        Map<?, ?> counters = (Map<?, ?>) dataHolder.getBuildMetrics().toReport("module").get("counters");
+        Object cacheHits = counters.get(BuildMetrics.GENERATION_CACHE_HITS);
+        return null == cacheHits ? 0L : (Long) cacheHits;
+    }
+
+    private String generate(String moduleName, Path outputPath, boolean parallelGeneration)
+            throws KubernetesPluginException {
+        return generate(createModule(moduleName, outputPath), parallelGeneration);
+    }
+
+    /**
+     * Create a module with listeners exposing a service, a secret and a config map each.
+     *
+     * @param moduleName Name of the module.
+     * @param outputPath Directory the kubernetes and docker artifacts are generated to.
+     * @return Data holder of the module.
+     */
+    private KubernetesDataHolder createModule(String moduleName, Path outputPath) {
+        PackageID module = new PackageID(Names.ANON_ORG, new Name(moduleName), Names.DEFAULT_VERSION);
+        modules.add(module);
+        KubernetesDataHolder dataHolder = KubernetesContext.getInstance().addDataHolder(module, outputPath);
+        dataHolder.setUberJarPath(Paths.get("src", "test", "resources", "hello.jar").toAbsolutePath());
+        dataHolder.setK8sArtifactOutputPath(outputPath.resolve(KubernetesConstants.KUBERNETES));
+        dataHolder.setDockerArtifactOutputPath(outputPath.resolve(KubernetesConstants.DOCKER));
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setBuildImage(false);
+        dataHolder.setDeploymentModel(deploymentModel);
+        for (int i = 0; i < LISTENERS; i++) {
+            ServiceModel serviceModel = new ServiceModel();
+            serviceModel.setName("listener" + i + "-svc");
+            serviceModel.setProtocol("http");
+            serviceModel.setPort(9090 + i);
+            serviceModel.setTargetPort(9090 + i);
+            dataHolder.addBListenerToK8sServiceMap("listener" + i, serviceModel);
+
+            SecretModel secretModel = new SecretModel();
+            secretModel.setName("listener" + i + "-secure-socket");
+            secretModel.setMountPath("/home/ballerina/secrets/listener" + i);
+            secretModel.setData(Collections.singletonMap("keystore.p12", SECRET_DATA));
+            dataHolder.addSecrets(new HashSet<>(Collections.singletonList(secretModel)));
+
+            ConfigMapModel configMapModel = new ConfigMapModel();
+            configMapModel.setName("listener" + i + "-config-map");
+            configMapModel.setMountPath("/home/ballerina/conf/listener" + i);
+            configMapModel.setData(Collections.singletonMap("app.toml", "port = " + (9090 + i)));
+            dataHolder.addConfigMaps(new HashSet<>(Collections.singletonList(configMapModel)));
+        }
+        return dataHolder;
+    }
+
+    /**
+     * Generate the artifacts of a module while capturing the progress printed to the standard output.
+     *
+     * @param dataHolder         Data holder of the module.
+     * @param parallelGeneration Whether the handlers are run concurrently.
+     * @return Progress printed while generating the artifacts.
+     * @throws KubernetesPluginException If the artifacts cannot be generated.
+     */
+    private String generate(KubernetesDataHolder dataHolder, boolean parallelGeneration)
+            throws KubernetesPluginException {
+        PrintStream stdout = System.out;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(output, true));
+        try {
+            ArtifactManager artifactManager = new ArtifactManager(dataHolder, parallelGeneration);
+            artifactManager.populateDeploymentModel();
+            artifactManager.createArtifacts();
+        } finally {
+            System.setOut(stdout);
+        }
+        return new String(output.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private List<Path> listFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(Files::isRegularFile)
+                    .map(directory::relativize)
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+}
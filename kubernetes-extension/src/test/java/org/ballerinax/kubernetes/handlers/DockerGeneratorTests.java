@@ -20,12 +20,21 @@ package org.ballerinax.kubernetes.handlers;
 
 import org.ballerinax.docker.generator.models.DockerModel;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.models.DeploymentModel;
+import org.ballerinax.kubernetes.models.KubernetesDataHolder;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
 
 
 /**
@@ -47,14 +56,48 @@ public class DockerGeneratorTests extends HandlerTestSuite {
         dockerModel.setBaseImage("ballerina/ballerina-runtime" + ":latest");
         dockerModel.setDebugPort(5005);
         dockerModel.setBuildImage(false);
-        KubernetesContext context = KubernetesContext.getInstance();
-        KubernetesDataHolder dataHolder = context.getDataHolder();
+        KubernetesDataHolder dataHolder = getDataHolder();
         dataHolder.setDockerModel(dockerModel);
-        new DockerHandler().createArtifacts();
+        new DockerHandler(getDataHolder()).createArtifacts();
         File dockerfile = new File("target/docker/" + module.name.toString() + "/");
         dockerfile.mkdirs();
         dockerfile = new File("target/docker/" + module.name.toString() + "/Dockerfile");
         Assert.assertTrue(dockerfile.exists());
         dockerfile.deleteOnExit();
     }
+
+    @Test
+    public void testLayeredDockerGenerate() throws KubernetesPluginException, IOException {
+        DockerModel dockerModel = new DockerModel();
+        dockerModel.setPorts(Collections.singleton(9090));
+        dockerModel.setService(true);
+        dockerModel.setUberJarFileName("hello.jar");
+        dockerModel.setCmd("CMD java -Xmx256m -jar hello.jar");
+        dockerModel.setBuildImage(false);
+        KubernetesDataHolder dataHolder = getDataHolder();
+        dataHolder.setDockerModel(dockerModel);
+        DeploymentModel deploymentModel = dataHolder.getDeploymentModel();
+        deploymentModel.setLayeredImage(true);
+        try {
+            new DockerHandler(dataHolder).createArtifacts();
+        } finally {
+            deploymentModel.setLayeredImage(false);
+        }
+        Path buildContext = dataHolder.getDockerArtifactOutputPath();
+        String dockerfile = new String(Files.readAllBytes(buildContext.resolve("Dockerfile")), StandardCharsets.UTF_8);
+        // the custom command is kept as it is, as the launcher jar adds the layers to the class path.
+        Assert.assertTrue(dockerfile.contains("CMD java -Xmx256m -jar hello.jar"));
+        int dependencies = dockerfile.indexOf("/home/ballerina/app/dependencies");
+        int ballerina = dockerfile.indexOf("/home/ballerina/app/ballerina");
+        int application = dockerfile.indexOf("/home/ballerina/app/application");
+        Assert.assertTrue(dependencies > 0 && dependencies < ballerina && ballerina < application);
+        Assert.assertTrue(Files.exists(buildContext.resolve("application").resolve("___init.class")));
+        try (JarFile launcherJar = new JarFile(buildContext.resolve("hello.jar").toFile())) {
+            Attributes attributes = launcherJar.getManifest().getMainAttributes();
+            Assert.assertEquals(attributes.getValue(Attributes.Name.MAIN_CLASS), "___init");
+            Assert.assertTrue(attributes.getValue(Attributes.Name.CLASS_PATH)
+                    .contains("/home/ballerina/app/application/"));
+            Assert.assertEquals(launcherJar.size(), 1);
+        }
+    }
 }
@@ -19,6 +19,9 @@
 package org.ballerinax.kubernetes.handlers;
 
 import org.ballerinalang.model.elements.PackageID;
+import org.ballerinax.kubernetes.models.DeploymentModel;
+import org.ballerinax.kubernetes.models.KubernetesContext;
+import org.ballerinax.kubernetes.models.KubernetesDataHolder;
 import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeSuite;
 import org.wso2.ballerinalang.compiler.util.Name;
@@ -35,9 +38,7 @@ public class HandlerTestSuite {
 
     @BeforeSuite
     public static void setUp() {
-        KubernetesContext context = KubernetesContext.getInstance();
-        context.addDataHolder(module, Paths.get("target"));
-        KubernetesDataHolder dataHolder = context.getDataHolder();
+        KubernetesDataHolder dataHolder = KubernetesContext.getInstance().addDataHolder(module, Paths.get("target"));
         dataHolder.setK8sArtifactOutputPath(Paths.get("target").resolve(KUBERNETES).resolve(module.name.toString()));
         dataHolder.setDockerArtifactOutputPath(Paths.get("target").resolve(DOCKER).resolve(module.name.toString()));
         Path resourcesDirectory = Paths.get("src").resolve("test").resolve("resources");
@@ -47,6 +48,15 @@ public class HandlerTestSuite {
         dataHolder.setUberJarPath(resourcesDirectory.toAbsolutePath().resolve("hello.jar"));
     }
 
+    /**
+     * Get the data holder of the module the handlers are tested with.
+     *
+     * @return Data holder of the test module.
+     */
+    static KubernetesDataHolder getDataHolder() {
+        return KubernetesContext.getInstance().getDataHolder(module);
+    }
+
     @AfterSuite
     public static void tearDown() {
     }
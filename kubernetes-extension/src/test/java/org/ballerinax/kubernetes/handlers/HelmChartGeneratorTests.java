@@ -17,16 +17,34 @@
  */
 package org.ballerinax.kubernetes.handlers;
 
+import org.apache.commons.io.FileUtils;
+import org.ballerinalang.model.elements.PackageID;
 import org.ballerinax.docker.generator.models.DockerModel;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.models.DeploymentModel;
+import org.ballerinax.kubernetes.models.EnvVarValueModel;
+import org.ballerinax.kubernetes.models.KubernetesContext;
+import org.ballerinax.kubernetes.models.KubernetesDataHolder;
+import org.ballerinax.kubernetes.models.PodAutoscalerModel;
+import org.ballerinax.kubernetes.utils.ArtifactSink;
 import org.testng.Assert;
 import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.compiler.util.Names;
+import org.yaml.snakeyaml.Yaml;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import static org.ballerinax.docker.generator.DockerGenConstants.OPENJDK_8_JRE_ALPINE_BASE_IMAGE;
+import static org.ballerinax.kubernetes.KubernetesConstants.KUBERNETES;
 
 /**
  * Helm chart generator tests.
@@ -47,14 +65,82 @@ public class HelmChartGeneratorTests extends HandlerTestSuite {
         dockerModel.setBaseImage(OPENJDK_8_JRE_ALPINE_BASE_IMAGE);
         dockerModel.setDebugPort(5005);
         dockerModel.setBuildImage(false);
-        KubernetesContext context = KubernetesContext.getInstance();
-        KubernetesDataHolder dataHolder = context.getDataHolder();
+        KubernetesDataHolder dataHolder = getDataHolder();
         dataHolder.setDockerModel(dockerModel);
-        new DockerHandler().createArtifacts();
-        new HelmChartHandler().createArtifacts();
+        new DockerHandler(getDataHolder()).createArtifacts();
+        new HelmChartHandler(getDataHolder()).createArtifacts();
         File charYaml = new File("target/kubernetes/" + module.name.toString() + "/hello-deployment/Chart.yaml");
         Assert.assertTrue(charYaml.exists());
         charYaml.deleteOnExit();
+        File valuesYaml = new File("target/kubernetes/" + module.name.toString() + "/hello-deployment/values.yaml");
+        Assert.assertTrue(valuesYaml.exists());
+        valuesYaml.deleteOnExit();
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testHelmValuesFromGeneratedResources() throws IOException, KubernetesPluginException {
+        PackageID helmModule = new PackageID(Names.ANON_ORG, new Name("helm_chart"), Names.DEFAULT_VERSION);
+        KubernetesDataHolder dataHolder = KubernetesContext.getInstance().addDataHolder(helmModule,
+                Paths.get("target"));
+        Path outputDir = Paths.get("target").resolve(KUBERNETES).resolve(helmModule.name.toString());
+        try {
+            dataHolder.setK8sArtifactOutputPath(outputDir);
+            dataHolder.setUberJarPath(Paths.get("src", "test", "resources", "hello.jar").toAbsolutePath());
+            dataHolder.setArtifactSink(ArtifactSink.inMemory("hello", false));
+            DeploymentModel deploymentModel = new DeploymentModel();
+            deploymentModel.setName("helm-deployment");
+            deploymentModel.setLabels(Collections.singletonMap("app", "hello"));
+            deploymentModel.addPort(9090);
+            deploymentModel.setImage("example.com/hello:1.2.0");
+            deploymentModel.setImagePullPolicy("Always");
+            deploymentModel.setReplicas(3);
+            deploymentModel.setSingleYAML(false);
+            deploymentModel.setEnv(Collections.singletonMap("LOG_LEVEL", new EnvVarValueModel("DEBUG")));
+            dataHolder.setDeploymentModel(deploymentModel);
+            PodAutoscalerModel podAutoscalerModel = new PodAutoscalerModel();
+            podAutoscalerModel.setCpuPercentage(70);
+            podAutoscalerModel.setMinReplicas(2);
+            podAutoscalerModel.setMaxReplicas(6);
+            dataHolder.setPodAutoscalerModel(podAutoscalerModel);
+
+            new DeploymentHandler(dataHolder).createArtifacts();
+            new HPAHandler(dataHolder).createArtifacts();
+            new HelmChartHandler(dataHolder).createArtifacts();
+
+            Path chartDir = outputDir.resolve("helm-deployment");
+            Map<String, Object> values = new Yaml().load(FileUtils.readFileToString(
+                    chartDir.resolve("values.yaml").toFile(), StandardCharsets.UTF_8));
+            Assert.assertEquals(values.get("replicaCount"), 3);
+            Map<String, Object> image = (Map<String, Object>) values.get("image");
+            Assert.assertEquals(image.get("repository"), "example.com/hello");
+            Assert.assertEquals(image.get("tag"), "1.2.0");
+            Assert.assertEquals(image.get("pullPolicy"), "Always");
+            Assert.assertEquals(values.get("env"), Collections.singletonMap("LOG_LEVEL", "DEBUG"));
+            Map<String, Object> autoscaling = (Map<String, Object>) values.get("autoscaling");
+            Assert.assertEquals(autoscaling.get("minReplicas"), 2);
+            Assert.assertEquals(autoscaling.get("maxReplicas"), 6);
+            Assert.assertEquals(autoscaling.get("targetCPUUtilizationPercentage"), 70);
+
+            String deploymentTemplate = FileUtils.readFileToString(
+                    chartDir.resolve("templates").resolve("hello_deployment.yaml").toFile(), StandardCharsets.UTF_8);
+            Assert.assertTrue(deploymentTemplate.contains("replicas: {{ .Values.replicaCount }}"));
+            Assert.assertTrue(deploymentTemplate.contains(
+                    "image: \"{{ .Values.image.repository }}:{{ .Values.image.tag }}\""));
+            Assert.assertTrue(deploymentTemplate.contains("imagePullPolicy: {{ .Values.image.pullPolicy }}"));
+            Assert.assertTrue(deploymentTemplate.contains("{{- toYaml .Values.resources | nindent "));
+            Assert.assertTrue(deploymentTemplate.contains("value: {{ index .Values.env \"LOG_LEVEL\" | quote }}"));
+            Assert.assertFalse(deploymentTemplate.contains("example.com/hello"));
+            String autoscalerTemplate = FileUtils.readFileToString(
+                    chartDir.resolve("templates").resolve("hello_hpa.yaml").toFile(), StandardCharsets.UTF_8);
+            Assert.assertTrue(autoscalerTemplate.contains("minReplicas: {{ .Values.autoscaling.minReplicas }}"));
+            Assert.assertTrue(autoscalerTemplate.contains("maxReplicas: {{ .Values.autoscaling.maxReplicas }}"));
+            Assert.assertTrue(autoscalerTemplate.contains(
+                    "{{ .Values.autoscaling.targetCPUUtilizationPercentage }}"));
+        } finally {
+            KubernetesContext.getInstance().getPackageIDtoDataHolderMap().remove(helmModule);
+            FileUtils.deleteQuietly(outputDir.toFile());
+        }
     }
     
 }
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.handlers;
+
+import me.snowdrop.istio.api.networking.v1alpha3.DestinationRule;
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.handlers.istio.IstioDestinationRuleHandler;
+import org.ballerinax.kubernetes.models.istio.IstioConnectionPool;
+import org.ballerinax.kubernetes.models.istio.IstioDestinationRuleModel;
+import org.ballerinax.kubernetes.models.istio.IstioOutlierDetection;
+import org.ballerinax.kubernetes.models.istio.IstioSubset;
+import org.ballerinax.kubernetes.utils.Utils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import static org.ballerinax.kubernetes.KubernetesConstants.ISTIO_DESTINATION_RULE_FILE_POSTFIX;
+import static org.ballerinax.kubernetes.KubernetesConstants.ISTIO_SUBSET_VERSION_LABEL;
+import static org.ballerinax.kubernetes.KubernetesConstants.YAML;
+
+/**
+ * Unit test cases for istio destination rule models.
+ *
+ * @since 1.0.1
+ */
+public class IstioDestinationRuleGeneratorTests extends HandlerTestSuite {
+    @Test
+    public void testDestinationRule() {
+        IstioDestinationRuleModel drModel = new IstioDestinationRuleModel();
+        drModel.setName("reviews-dr");
+        drModel.setHost("reviews");
+        drModel.setLoadBalancer("LEAST_CONN");
+        
+        IstioConnectionPool connectionPool = new IstioConnectionPool();
+        connectionPool.setMaxConnections(100);
+        connectionPool.setHttp2MaxRequests(1000);
+        connectionPool.setMaxRequestsPerConnection(10);
+        drModel.setConnectionPool(connectionPool);
+        
+        IstioOutlierDetection outlierDetection = new IstioOutlierDetection();
+        outlierDetection.setConsecutiveErrors(5);
+        outlierDetection.setInterval(10);
+        outlierDetection.setBaseEjectionTime(30);
+        outlierDetection.setMaxEjectionPercent(50);
+        drModel.setOutlierDetection(outlierDetection);
+        
+        List<IstioSubset> subsets = new LinkedList<>();
+        IstioSubset subset = new IstioSubset();
+        subset.setName("v1");
+        subset.getLabels().put(ISTIO_SUBSET_VERSION_LABEL, "v1");
+        subsets.add(subset);
+        drModel.setSubsets(subsets);
+        
+        getDataHolder().addIstioDestinationRuleModel("reviews-svc", drModel);
+        try {
+            new IstioDestinationRuleHandler(getDataHolder()).createArtifacts();
+            File drYaml = Paths.get("target", "kubernetes", module.name.toString(), "hello" +
+                                                            ISTIO_DESTINATION_RULE_FILE_POSTFIX + YAML).toFile();
+            DestinationRule destinationRule = Utils.loadYaml(drYaml);
+            
+            Assert.assertNotNull(destinationRule.getMetadata());
+            Assert.assertEquals(destinationRule.getMetadata().getName(), "reviews-dr");
+            Assert.assertEquals(destinationRule.getSpec().getHost(), "reviews");
+            
+            Assert.assertNotNull(destinationRule.getSpec().getTrafficPolicy().getLoadBalancer());
+            Assert.assertEquals(destinationRule.getSpec().getTrafficPolicy().getConnectionPool().getTcp()
+                    .getMaxConnections().intValue(), 100);
+            Assert.assertEquals(destinationRule.getSpec().getTrafficPolicy().getConnectionPool().getHttp()
+                    .getHttp2MaxRequests().intValue(), 1000);
+            Assert.assertEquals(destinationRule.getSpec().getTrafficPolicy().getConnectionPool().getHttp()
+                    .getMaxRequestsPerConnection().intValue(), 10);
+            
+            Assert.assertEquals(destinationRule.getSpec().getTrafficPolicy().getOutlierDetection()
+                    .getConsecutiveErrors().intValue(), 5);
+            Assert.assertEquals(destinationRule.getSpec().getTrafficPolicy().getOutlierDetection()
+                    .getBaseEjectionTime().getSeconds().longValue(), 30L);
+            Assert.assertEquals(destinationRule.getSpec().getTrafficPolicy().getOutlierDetection()
+                    .getMaxEjectionPercent().intValue(), 50);
+            
+            Assert.assertEquals(destinationRule.getSpec().getSubsets().size(), 1);
+            Assert.assertEquals(destinationRule.getSpec().getSubsets().get(0).getName(), "v1");
+            Assert.assertEquals(destinationRule.getSpec().getSubsets().get(0).getLabels()
+                    .get(ISTIO_SUBSET_VERSION_LABEL), "v1");
+            
+            drYaml.deleteOnExit();
+        } catch (IOException e) {
+            Assert.fail("Unable to write to file: " + e.getMessage());
+        } catch (KubernetesPluginException e) {
+            Assert.fail("Unable to generate yaml: " + e.getMessage());
+        }
+    }
+    
+    @Test
+    public void testDestinationRuleWithTcpConnectionPool() throws IOException, KubernetesPluginException {
+        IstioDestinationRuleModel drModel = new IstioDestinationRuleModel();
+        drModel.setName("ratings-dr");
+        drModel.setHost("ratings");
+        IstioConnectionPool connectionPool = new IstioConnectionPool();
+        connectionPool.setMaxConnections(50);
+        drModel.setConnectionPool(connectionPool);
+        
+        Map<String, IstioDestinationRuleModel> drModels =
+                getDataHolder().getIstioDestinationRuleModels();
+        Map<String, IstioDestinationRuleModel> existingModels = new LinkedHashMap<>(drModels);
+        drModels.clear();
+        drModels.put("ratings-svc", drModel);
+        Path drYaml = Paths.get("target", "kubernetes", module.name.toString(), "hello" +
+                                                        ISTIO_DESTINATION_RULE_FILE_POSTFIX + YAML);
+        Files.deleteIfExists(drYaml);
+        try {
+            new IstioDestinationRuleHandler(getDataHolder()).createArtifacts();
+            DestinationRule destinationRule = Utils.loadYaml(drYaml.toFile());
+            
+            Assert.assertEquals(destinationRule.getSpec().getTrafficPolicy().getConnectionPool().getTcp()
+                    .getMaxConnections().intValue(), 50);
+            Assert.assertNull(destinationRule.getSpec().getTrafficPolicy().getConnectionPool().getHttp());
+        } finally {
+            drModels.clear();
+            drModels.putAll(existingModels);
+            Files.deleteIfExists(drYaml);
+        }
+    }
+}
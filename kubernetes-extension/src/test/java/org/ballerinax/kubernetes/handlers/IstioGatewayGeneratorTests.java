@@ -75,9 +75,9 @@ public class IstioGatewayGeneratorTests extends HandlerTestSuite {
         
         istioGatewayModel.setServers(serverModels);
         
-        KubernetesContext.getInstance().getDataHolder().addIstioGatewayModel("sample-svc", istioGatewayModel);
+        getDataHolder().addIstioGatewayModel("sample-svc", istioGatewayModel);
         try {
-            new IstioGatewayHandler().createArtifacts();
+            new IstioGatewayHandler(getDataHolder()).createArtifacts();
             File gwYaml = Paths.get("target", "kubernetes", module.name.toString(), "hello" +
                                                             ISTIO_GATEWAY_FILE_POSTFIX + YAML).toFile();
             Gateway gateway = Utils.loadYaml(gwYaml);
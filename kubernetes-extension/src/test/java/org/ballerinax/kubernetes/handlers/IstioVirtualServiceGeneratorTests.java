@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.handlers;
+
+import me.snowdrop.istio.api.networking.v1alpha3.HTTPRoute;
+import me.snowdrop.istio.api.networking.v1alpha3.VirtualService;
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.handlers.istio.IstioVirtualServiceHandler;
+import org.ballerinax.kubernetes.models.KubernetesDataHolder;
+import org.ballerinax.kubernetes.models.ServiceModel;
+import org.ballerinax.kubernetes.models.istio.IstioDestination;
+import org.ballerinax.kubernetes.models.istio.IstioHttpFault;
+import org.ballerinax.kubernetes.models.istio.IstioHttpMatch;
+import org.ballerinax.kubernetes.models.istio.IstioHttpRetry;
+import org.ballerinax.kubernetes.models.istio.IstioHttpRoute;
+import org.ballerinax.kubernetes.models.istio.IstioVirtualServiceModel;
+import org.ballerinax.kubernetes.utils.Utils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.ballerinax.kubernetes.KubernetesConstants.ISTIO_VIRTUAL_SERVICE_FILE_POSTFIX;
+import static org.ballerinax.kubernetes.KubernetesConstants.YAML;
+
+/**
+ * Unit test cases for istio virtual service models.
+ *
+ * @since 1.0.1
+ */
+public class IstioVirtualServiceGeneratorTests extends HandlerTestSuite {
+    @Test
+    public void testVirtualServiceWithResilienceRules() {
+        KubernetesDataHolder dataHolder = getDataHolder();
+        ServiceModel serviceModel = new ServiceModel();
+        serviceModel.setName("hello-svc");
+        serviceModel.setPort(9090);
+        dataHolder.addBListenerToK8sServiceMap("helloEP", serviceModel);
+        
+        IstioHttpMatch match = new IstioHttpMatch();
+        match.setUriPrefix("/hello");
+        match.getHeaders().put("x-canary", "true");
+        
+        IstioHttpRetry retry = new IstioHttpRetry();
+        retry.setAttempts(3);
+        retry.setPerTryTimeout(2);
+        retry.setRetryOn("5xx,connect-failure");
+        
+        IstioHttpFault fault = new IstioHttpFault();
+        fault.setAbortPercent(10);
+        fault.setAbortHttpStatus(503);
+        
+        IstioDestination mirror = new IstioDestination();
+        mirror.setSubset("v2");
+        
+        IstioHttpRoute httpRoute = new IstioHttpRoute();
+        httpRoute.setMatch(Collections.singletonList(match));
+        httpRoute.setRetries(retry);
+        httpRoute.setFault(fault);
+        httpRoute.setMirror(mirror);
+        httpRoute.setMirrorPercent(20);
+        List<IstioHttpRoute> httpRoutes = new LinkedList<>();
+        httpRoutes.add(httpRoute);
+        
+        IstioVirtualServiceModel vsModel = new IstioVirtualServiceModel();
+        vsModel.setName("hello-vs");
+        vsModel.setHosts(Collections.singletonList("*"));
+        vsModel.setHttp(httpRoutes);
+        dataHolder.addIstioVirtualServiceModel("helloEP", vsModel);
+        try {
+            new IstioVirtualServiceHandler(getDataHolder()).createArtifacts();
+            File vsYaml = Paths.get("target", "kubernetes", module.name.toString(), "hello" +
+                                                            ISTIO_VIRTUAL_SERVICE_FILE_POSTFIX + YAML).toFile();
+            VirtualService virtualService = Utils.loadYaml(vsYaml);
+            
+            Assert.assertEquals(virtualService.getMetadata().getName(), "hello-vs");
+            Assert.assertEquals(virtualService.getSpec().getHttp().size(), 1);
+            HTTPRoute route = virtualService.getSpec().getHttp().get(0);
+            
+            Assert.assertEquals(route.getMatch().size(), 1);
+            Assert.assertNotNull(route.getMatch().get(0).getUri());
+            Assert.assertEquals(route.getMatch().get(0).getHeaders().size(), 1);
+            
+            Assert.assertEquals(route.getRetries().getAttempts().intValue(), 3);
+            Assert.assertEquals(route.getRetries().getPerTryTimeout().getSeconds().longValue(), 2L);
+            Assert.assertEquals(route.getRetries().getAdditionalProperties().get("retryOn"), "5xx,connect-failure");
+            
+            Assert.assertEquals(route.getFault().getAbort().getPercent().intValue(), 10);
+            Assert.assertNull(route.getFault().getDelay());
+            
+            Assert.assertEquals(route.getMirror().getHost(), "hello-svc");
+            Assert.assertEquals(route.getMirror().getSubset(), "v2");
+            Assert.assertEquals(route.getAdditionalProperties().get("mirror_percent"), 20);
+            
+            Assert.assertEquals(route.getRoute().get(0).getDestination().getHost(), "hello-svc");
+            
+            vsYaml.deleteOnExit();
+        } catch (IOException e) {
+            Assert.fail("Unable to write to file: " + e.getMessage());
+        } catch (KubernetesPluginException e) {
+            Assert.fail("Unable to generate yaml: " + e.getMessage());
+        }
+    }
+}
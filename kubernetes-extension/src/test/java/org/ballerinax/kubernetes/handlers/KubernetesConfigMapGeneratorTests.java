@@ -54,9 +54,9 @@ public class KubernetesConfigMapGeneratorTests extends HandlerTestSuite {
         configMapModel.setData(data);
         Set<ConfigMapModel> configMapModels = new HashSet<>();
         configMapModels.add(configMapModel);
-        KubernetesContext.getInstance().getDataHolder().addConfigMaps(configMapModels);
+        getDataHolder().addConfigMaps(configMapModels);
         try {
-            new ConfigMapHandler().createArtifacts();
+            new ConfigMapHandler(getDataHolder()).createArtifacts();
             File tempFile = Paths.get("target", "kubernetes", module.name.toString(), "hello_config_map.yaml").toFile();
             Assert.assertTrue(tempFile.exists());
             assertGeneratedYAML(tempFile);
@@ -19,17 +19,51 @@
 package org.ballerinax.kubernetes.handlers;
 
 import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.EnvVar;
+import io.fabric8.kubernetes.api.model.NodeAffinity;
+import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
+import io.fabric8.kubernetes.api.model.PodAffinityTerm;
+import io.fabric8.kubernetes.api.model.PodSpec;
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.ServicePort;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import org.apache.commons.io.FileUtils;
+import org.ballerinalang.model.elements.PackageID;
 import org.ballerinax.kubernetes.KubernetesConstants;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.handlers.istio.IstioSidecarHandler;
+import org.ballerinax.kubernetes.models.ConfigMapModel;
+import org.ballerinax.kubernetes.models.DeploymentModel;
+import org.ballerinax.kubernetes.models.DeploymentStrategyModel;
+import org.ballerinax.kubernetes.models.EnvVarValueModel;
+import org.ballerinax.kubernetes.models.KubernetesContext;
+import org.ballerinax.kubernetes.models.KubernetesDataHolder;
+import org.ballerinax.kubernetes.models.NodeAffinityModel;
+import org.ballerinax.kubernetes.models.PersistentVolumeClaimModel;
+import org.ballerinax.kubernetes.models.PodAntiAffinityModel;
+import org.ballerinax.kubernetes.models.ProbeModel;
+import org.ballerinax.kubernetes.models.ServiceModel;
+import org.ballerinax.kubernetes.models.StatefulSetModel;
+import org.ballerinax.kubernetes.models.TopologySpreadConstraintModel;
+import org.ballerinax.kubernetes.models.istio.IstioSidecarModel;
 import org.ballerinax.kubernetes.utils.Utils;
 import org.testng.Assert;
 import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.compiler.util.Names;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -64,9 +98,9 @@ public class KubernetesDeploymentGeneratorTests extends HandlerTestSuite {
         env.put("ENV_VAR", testEnvVar);
         deploymentModel.setEnv(env);
         deploymentModel.setReplicas(replicas);
-        KubernetesContext.getInstance().getDataHolder().setDeploymentModel(deploymentModel);
+        getDataHolder().setDeploymentModel(deploymentModel);
         try {
-            new DeploymentHandler().createArtifacts();
+            new DeploymentHandler(getDataHolder()).createArtifacts();
             File tempFile = Paths.get("target", "kubernetes", module.name.toString(), "hello_deployment.yaml").toFile();
             Assert.assertTrue(tempFile.exists());
             testGeneratedYAML(tempFile);
@@ -78,6 +112,552 @@ public class KubernetesDeploymentGeneratorTests extends HandlerTestSuite {
         }
     }
 
+    @Test
+    public void testDeploymentGenerationWithResources() throws IOException, KubernetesPluginException {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName(deploymentName);
+        Map<String, String> labels = new HashMap<>();
+        labels.put(KubernetesConstants.KUBERNETES_SELECTOR_KEY, selector);
+        deploymentModel.addPort(9090);
+        deploymentModel.setLabels(labels);
+        deploymentModel.setImage(imageName);
+        deploymentModel.setSingleYAML(false);
+        deploymentModel.setCpuRequest("500m");
+        deploymentModel.setCpuLimit("1500m");
+        deploymentModel.setMemoryLimit("384Mi");
+        deploymentModel.setJvmTuningProfile("latency");
+        getDataHolder().setDeploymentModel(deploymentModel);
+        File tempFile = Paths.get("target", "kubernetes", module.name.toString(), "hello_deployment.yaml").toFile();
+        tempFile.delete();
+        new DeploymentHandler(getDataHolder()).createArtifacts();
+        Assert.assertTrue(tempFile.exists());
+
+        Deployment deployment = Utils.loadYaml(tempFile);
+        Container container = deployment.getSpec().getTemplate().getSpec().getContainers().get(0);
+        Assert.assertEquals(container.getResources().getRequests().get("cpu").getAmount(), "500m");
+        Assert.assertEquals(container.getResources().getLimits().get("cpu").getAmount(), "1500m");
+        Assert.assertEquals(container.getResources().getLimits().get("memory").getAmount(), "384Mi");
+        Assert.assertNull(container.getResources().getRequests().get("memory"));
+
+        Assert.assertEquals(container.getEnv().size(), 1);
+        EnvVar javaOpts = container.getEnv().get(0);
+        Assert.assertEquals(javaOpts.getName(), "JAVA_OPTS");
+        Assert.assertEquals(javaOpts.getValue(), "-XX:MaxRAMPercentage=50.0 -XX:+UseG1GC -XX:MaxGCPauseMillis=100 " +
+                "-XX:ActiveProcessorCount=2 -Xss512k");
+        Assert.assertEquals(deploymentModel.getCmd(), "CMD java $JAVA_OPTS -jar ${APP}");
+        tempFile.deleteOnExit();
+    }
+
+    @Test
+    public void testDeploymentGenerationWithProbes() throws IOException, KubernetesPluginException {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName(deploymentName);
+        Map<String, String> labels = new HashMap<>();
+        labels.put(KubernetesConstants.KUBERNETES_SELECTOR_KEY, selector);
+        deploymentModel.addPort(9090);
+        deploymentModel.setLabels(labels);
+        deploymentModel.setImage(imageName);
+        deploymentModel.setSingleYAML(false);
+        ProbeModel livenessProbe = new ProbeModel();
+        livenessProbe.setCommand(Arrays.asList("cat", "/tmp/healthy"));
+        livenessProbe.setTimeoutSeconds(2);
+        deploymentModel.setLivenessProbe(livenessProbe);
+        ProbeModel readinessProbe = new ProbeModel();
+        readinessProbe.setSuccessThreshold(2);
+        readinessProbe.setFailureThreshold(4);
+        deploymentModel.setReadinessProbe(readinessProbe);
+        deploymentModel.setStartupProbe(new ProbeModel());
+        PackageID probeModule = new PackageID(Names.ANON_ORG, new Name("probe_health"), Names.DEFAULT_VERSION);
+        KubernetesDataHolder dataHolder = createModule(probeModule, deploymentModel);
+        dataHolder.addHealthCheckPath(9090, "/hello/health");
+        Deployment deployment;
+        try {
+            deployment = generateDeployment(dataHolder);
+        } finally {
+            removeModule(probeModule);
+        }
+        Container container = deployment.getSpec().getTemplate().getSpec().getContainers().get(0);
+        Assert.assertEquals(container.getLivenessProbe().getExec().getCommand(), Arrays.asList("cat", "/tmp/healthy"));
+        Assert.assertEquals(container.getLivenessProbe().getTimeoutSeconds().intValue(), 2);
+        Assert.assertNull(container.getLivenessProbe().getTcpSocket());
+        Assert.assertEquals(container.getReadinessProbe().getHttpGet().getPath(), "/hello/health");
+        Assert.assertEquals(container.getReadinessProbe().getHttpGet().getPort().getIntVal().intValue(), 9090);
+        Assert.assertEquals(container.getReadinessProbe().getSuccessThreshold().intValue(), 2);
+        Assert.assertEquals(container.getReadinessProbe().getFailureThreshold().intValue(), 4);
+        Assert.assertNull(container.getReadinessProbe().getTimeoutSeconds());
+
+        Map<?, ?> startupProbe = (Map<?, ?>) container.getAdditionalProperties().get("startupProbe");
+        Assert.assertNotNull(startupProbe);
+        Assert.assertEquals(startupProbe.get("failureThreshold"), 30);
+        Assert.assertEquals(((Map<?, ?>) startupProbe.get("httpGet")).get("path"), "/hello/health");
+    }
+
+    @Test
+    public void testProbesOfMultiListenerModule() throws IOException, KubernetesPluginException {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName(deploymentName);
+        deploymentModel.setLabels(Collections.singletonMap(KubernetesConstants.KUBERNETES_SELECTOR_KEY, selector));
+        deploymentModel.addPort(9090);
+        deploymentModel.addPort(9091);
+        deploymentModel.setImage(imageName);
+        deploymentModel.setSingleYAML(false);
+        ProbeModel livenessProbe = new ProbeModel();
+        livenessProbe.setPort(9091);
+        deploymentModel.setLivenessProbe(livenessProbe);
+        ProbeModel readinessProbe = new ProbeModel();
+        readinessProbe.setPort(9090);
+        deploymentModel.setReadinessProbe(readinessProbe);
+        PackageID probeModule = new PackageID(Names.ANON_ORG, new Name("probe_listeners"), Names.DEFAULT_VERSION);
+        KubernetesDataHolder dataHolder = createModule(probeModule, deploymentModel);
+        // only the service on the listener of port 9090 has a health check resource.
+        dataHolder.addHealthCheckPath(9090, "/hello/health");
+        Deployment deployment;
+        try {
+            deployment = generateDeployment(dataHolder);
+        } finally {
+            removeModule(probeModule);
+        }
+        Container container = deployment.getSpec().getTemplate().getSpec().getContainers().get(0);
+        Assert.assertNull(container.getLivenessProbe().getHttpGet());
+        Assert.assertEquals(container.getLivenessProbe().getTcpSocket().getPort().getIntVal().intValue(), 9091);
+        Assert.assertNull(container.getReadinessProbe().getTcpSocket());
+        Assert.assertEquals(container.getReadinessProbe().getHttpGet().getPath(), "/hello/health");
+        Assert.assertEquals(container.getReadinessProbe().getHttpGet().getPort().getIntVal().intValue(), 9090);
+    }
+
+    @Test
+    public void testProbesWithoutHealthCheckResource() throws IOException, KubernetesPluginException {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName(deploymentName);
+        deploymentModel.setLabels(Collections.singletonMap(KubernetesConstants.KUBERNETES_SELECTOR_KEY, selector));
+        deploymentModel.addPort(9090);
+        deploymentModel.setImage(imageName);
+        deploymentModel.setSingleYAML(false);
+        deploymentModel.setLivenessProbe(new ProbeModel());
+        deploymentModel.setReadinessProbe(new ProbeModel());
+        PackageID probeModule = new PackageID(Names.ANON_ORG, new Name("probe_tcp"), Names.DEFAULT_VERSION);
+        KubernetesDataHolder dataHolder = createModule(probeModule, deploymentModel);
+        Deployment deployment;
+        try {
+            deployment = generateDeployment(dataHolder);
+        } finally {
+            removeModule(probeModule);
+        }
+        Container container = deployment.getSpec().getTemplate().getSpec().getContainers().get(0);
+        Assert.assertNull(container.getLivenessProbe().getHttpGet());
+        Assert.assertEquals(container.getLivenessProbe().getTcpSocket().getPort().getIntVal().intValue(), 9090);
+        Assert.assertNull(container.getReadinessProbe().getHttpGet());
+        Assert.assertEquals(container.getReadinessProbe().getTcpSocket().getPort().getIntVal().intValue(), 9090);
+    }
+
+    @Test
+    public void testDependencyReadinessBeforeDependencyGenerated() throws IOException, KubernetesPluginException {
+        PackageID backendModule = new PackageID(Names.ANON_ORG, new Name("dep_backend"), Names.DEFAULT_VERSION);
+        PackageID quotedModule = new PackageID(Names.ANON_ORG, new Name("dep_quoted"), Names.DEFAULT_VERSION);
+        PackageID frontendModule = new PackageID(Names.ANON_ORG, new Name("dep_frontend"), Names.DEFAULT_VERSION);
+        try {
+            // the readiness probe of the backend defaults to the health check resource on its first port.
+            DeploymentModel backend = new DeploymentModel();
+            backend.setName("backend-deployment");
+            backend.addPort(9090);
+            backend.setReadinessProbe(new ProbeModel());
+            KubernetesDataHolder backendDataHolder = createModule(backendModule, backend);
+            backendDataHolder.addHealthCheckPath(9090, "/status/health");
+            backendDataHolder.addBListenerToK8sServiceMap("backendEP", createServiceModel("backend-svc", 80, 9090));
+            DeploymentModel quoted = new DeploymentModel();
+            quoted.setName("quoted-deployment");
+            quoted.addPort(8080);
+            ProbeModel quotedProbe = new ProbeModel();
+            quotedProbe.setPath("/it's/ready");
+            quoted.setReadinessProbe(quotedProbe);
+            createModule(quotedModule, quoted)
+                    .addBListenerToK8sServiceMap("quotedEP", createServiceModel("quoted-svc", 8080, 8080));
+
+            // the dependent is generated before the deployments of its dependencies.
+            DeploymentModel frontend = new DeploymentModel();
+            frontend.setName(deploymentName);
+            frontend.setLabels(Collections.singletonMap(KubernetesConstants.KUBERNETES_SELECTOR_KEY, selector));
+            frontend.addPort(9090);
+            frontend.setImage(imageName);
+            frontend.setSingleYAML(false);
+            frontend.setDependsOn(new HashSet<>(Arrays.asList("dep_backend:backendEP", "dep_quoted:quotedEP")));
+            Deployment deployment = generateDeployment(createModule(frontendModule, frontend));
+            List<Container> initContainers = deployment.getSpec().getTemplate().getSpec().getInitContainers();
+            Assert.assertEquals(initContainers.size(), 1);
+            String script = initContainers.get(0).getCommand().get(2);
+            Assert.assertTrue(script.contains("wait_for backend-svc 80 '/status/health' & "));
+            Assert.assertTrue(script.contains("wait_for quoted-svc 8080 '/it'\\''s/ready' & "));
+        } finally {
+            removeModule(backendModule);
+            removeModule(quotedModule);
+            removeModule(frontendModule);
+        }
+    }
+
+    @Test
+    public void testDeploymentGenerationWithStrategy() throws IOException, KubernetesPluginException {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName(deploymentName);
+        Map<String, String> labels = new HashMap<>();
+        labels.put(KubernetesConstants.KUBERNETES_SELECTOR_KEY, selector);
+        deploymentModel.setLabels(labels);
+        deploymentModel.setImage(imageName);
+        deploymentModel.setSingleYAML(false);
+        DeploymentStrategyModel strategyModel = new DeploymentStrategyModel();
+        strategyModel.setMaxSurge("25%");
+        strategyModel.setMaxUnavailable("0");
+        strategyModel.setMinReadySeconds(10);
+        strategyModel.setProgressDeadlineSeconds(300);
+        deploymentModel.setStrategy(strategyModel);
+        getDataHolder().setDeploymentModel(deploymentModel);
+        File tempFile = Paths.get("target", "kubernetes", module.name.toString(), "hello_deployment.yaml").toFile();
+        tempFile.delete();
+        new DeploymentHandler(getDataHolder()).createArtifacts();
+        Assert.assertTrue(tempFile.exists());
+
+        Deployment deployment = Utils.loadYaml(tempFile);
+        Assert.assertEquals(deployment.getSpec().getStrategy().getType(), "RollingUpdate");
+        Assert.assertEquals(deployment.getSpec().getStrategy().getRollingUpdate().getMaxSurge().getStrVal(), "25%");
+        Assert.assertEquals(deployment.getSpec().getStrategy().getRollingUpdate().getMaxUnavailable().getIntVal()
+                .intValue(), 0);
+        Assert.assertEquals(deployment.getSpec().getMinReadySeconds().intValue(), 10);
+        Assert.assertEquals(deployment.getSpec().getProgressDeadlineSeconds().intValue(), 300);
+        tempFile.deleteOnExit();
+    }
+
+    @Test
+    public void testDeploymentGenerationWithIstioSidecar() throws IOException, KubernetesPluginException {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName(deploymentName);
+        Map<String, String> labels = new HashMap<>();
+        labels.put(KubernetesConstants.KUBERNETES_SELECTOR_KEY, selector);
+        deploymentModel.setLabels(labels);
+        deploymentModel.setImage(imageName);
+        deploymentModel.setSingleYAML(false);
+        IstioSidecarModel sidecarModel = new IstioSidecarModel();
+        sidecarModel.setCpuRequest("50m");
+        sidecarModel.setMemoryRequest("64Mi");
+        sidecarModel.setMemoryLimit("128Mi");
+        sidecarModel.setConcurrency(2);
+        sidecarModel.setEgressScope(true);
+        deploymentModel.setIstioSidecar(sidecarModel);
+        getDataHolder().setDeploymentModel(deploymentModel);
+        File tempFile = Paths.get("target", "kubernetes", module.name.toString(), "hello_deployment.yaml").toFile();
+        File sidecarFile = Paths.get("target", "kubernetes", module.name.toString(), "hello_istio_sidecar.yaml")
+                .toFile();
+        tempFile.delete();
+        sidecarFile.delete();
+        new DeploymentHandler(getDataHolder()).createArtifacts();
+        new IstioSidecarHandler(getDataHolder()).createArtifacts();
+        Assert.assertTrue(tempFile.exists());
+        Assert.assertTrue(sidecarFile.exists());
+
+        Deployment deployment = Utils.loadYaml(tempFile);
+        Map<String, String> podAnnotations = deployment.getSpec().getTemplate().getMetadata().getAnnotations();
+        Assert.assertEquals(podAnnotations.get(KubernetesConstants.ISTIO_PROXY_CPU_ANNOTATION), "50m");
+        Assert.assertEquals(podAnnotations.get(KubernetesConstants.ISTIO_PROXY_MEMORY_ANNOTATION), "64Mi");
+        Assert.assertEquals(podAnnotations.get(KubernetesConstants.ISTIO_PROXY_MEMORY_LIMIT_ANNOTATION), "128Mi");
+        Assert.assertFalse(podAnnotations.containsKey(KubernetesConstants.ISTIO_PROXY_CPU_LIMIT_ANNOTATION));
+        Assert.assertEquals(podAnnotations.get(KubernetesConstants.ISTIO_PROXY_CONFIG_ANNOTATION), "concurrency: 2");
+
+        String sidecar = FileUtils.readFileToString(sidecarFile, StandardCharsets.UTF_8);
+        Assert.assertTrue(sidecar.contains("Sidecar"));
+        Assert.assertTrue(sidecar.contains("istio-system/*"));
+        Assert.assertTrue(sidecar.contains(selector));
+        tempFile.deleteOnExit();
+        sidecarFile.deleteOnExit();
+    }
+
+    @Test
+    public void testIstioSidecarEgressWithoutNamespace() throws IOException, KubernetesPluginException {
+        PackageID backendModule = new PackageID(Names.ANON_ORG, new Name("sidecar_backend"), Names.DEFAULT_VERSION);
+        PackageID frontendModule = new PackageID(Names.ANON_ORG, new Name("sidecar_frontend"), Names.DEFAULT_VERSION);
+        PrintStream stdout = System.out;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try {
+            createModule(backendModule, new DeploymentModel())
+                    .addBListenerToK8sServiceMap("backendEP", createServiceModel("backend-svc", 80, 9090));
+            DeploymentModel frontend = new DeploymentModel();
+            frontend.setName(deploymentName);
+            frontend.setLabels(Collections.singletonMap(KubernetesConstants.KUBERNETES_SELECTOR_KEY, selector));
+            frontend.setSingleYAML(false);
+            frontend.setDependsOn(new HashSet<>(Collections.singletonList("sidecar_backend:backendEP")));
+            IstioSidecarModel sidecarModel = new IstioSidecarModel();
+            sidecarModel.setEgressScope(true);
+            frontend.setIstioSidecar(sidecarModel);
+            KubernetesDataHolder frontendDataHolder = createModule(frontendModule, frontend);
+            File sidecarFile = new File(frontendDataHolder.getK8sArtifactOutputPath().toFile(),
+                    "hello_istio_sidecar.yaml");
+            sidecarFile.delete();
+
+            System.setOut(new PrintStream(output, true));
+            new IstioSidecarHandler(frontendDataHolder).createArtifacts();
+            System.setOut(stdout);
+
+            // the egress is widened to the namespace the dependency is deployed to along with the deployment.
+            String sidecar = FileUtils.readFileToString(sidecarFile, StandardCharsets.UTF_8);
+            Assert.assertTrue(sidecar.contains("./*"));
+            Assert.assertTrue(sidecar.contains("istio-system/*"));
+            String warning = new String(output.toByteArray(), StandardCharsets.UTF_8);
+            Assert.assertTrue(warning.contains("warning [k8s plugin]: istio sidecar egress of '" + deploymentName +
+                    "' allows every host in its namespace"));
+            Assert.assertTrue(warning.contains("sidecar_backend:backendEP"));
+            sidecarFile.deleteOnExit();
+        } finally {
+            System.setOut(stdout);
+            removeModule(backendModule);
+            removeModule(frontendModule);
+        }
+    }
+
+    @Test
+    public void testDeploymentGenerationWithScheduling() throws IOException, KubernetesPluginException {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName(deploymentName);
+        Map<String, String> labels = new HashMap<>();
+        labels.put(KubernetesConstants.KUBERNETES_SELECTOR_KEY, selector);
+        deploymentModel.setLabels(labels);
+        deploymentModel.setImage(imageName);
+        deploymentModel.setSingleYAML(false);
+        deploymentModel.getNodeSelector().put("disktype", "ssd");
+        deploymentModel.setPriorityClassName("high-priority");
+        NodeAffinityModel zoneAffinity = new NodeAffinityModel();
+        zoneAffinity.setKey("topology.kubernetes.io/zone");
+        zoneAffinity.setValues(Arrays.asList("zone-a", "zone-b"));
+        NodeAffinityModel instanceAffinity = new NodeAffinityModel();
+        instanceAffinity.setKey("node.kubernetes.io/instance-type");
+        instanceAffinity.setValues(Collections.singletonList("c5.xlarge"));
+        instanceAffinity.setWeight(50);
+        deploymentModel.setNodeAffinity(Arrays.asList(zoneAffinity, instanceAffinity));
+        deploymentModel.setPodAntiAffinity(new PodAntiAffinityModel());
+        TopologySpreadConstraintModel constraintModel = new TopologySpreadConstraintModel();
+        constraintModel.setTopologyKey("topology.kubernetes.io/zone");
+        deploymentModel.setTopologySpreadConstraints(Collections.singletonList(constraintModel));
+        getDataHolder().setDeploymentModel(deploymentModel);
+        File tempFile = Paths.get("target", "kubernetes", module.name.toString(), "hello_deployment.yaml").toFile();
+        tempFile.delete();
+        new DeploymentHandler(getDataHolder()).createArtifacts();
+        Assert.assertTrue(tempFile.exists());
+
+        Deployment deployment = Utils.loadYaml(tempFile);
+        PodSpec podSpec = deployment.getSpec().getTemplate().getSpec();
+        Assert.assertEquals(podSpec.getNodeSelector().get("disktype"), "ssd");
+        Assert.assertEquals(podSpec.getPriorityClassName(), "high-priority");
+        NodeAffinity nodeAffinity = podSpec.getAffinity().getNodeAffinity();
+        Assert.assertEquals(nodeAffinity.getRequiredDuringSchedulingIgnoredDuringExecution().getNodeSelectorTerms()
+                .get(0).getMatchExpressions().get(0).getValues(), Arrays.asList("zone-a", "zone-b"));
+        Assert.assertEquals(nodeAffinity.getPreferredDuringSchedulingIgnoredDuringExecution().get(0).getWeight()
+                .intValue(), 50);
+        PodAffinityTerm antiAffinityTerm = podSpec.getAffinity().getPodAntiAffinity()
+                .getPreferredDuringSchedulingIgnoredDuringExecution().get(0).getPodAffinityTerm();
+        Assert.assertEquals(antiAffinityTerm.getTopologyKey(), "kubernetes.io/hostname");
+        Assert.assertEquals(antiAffinityTerm.getLabelSelector().getMatchLabels().get(KubernetesConstants
+                .KUBERNETES_SELECTOR_KEY), selector);
+        Assert.assertNull(podSpec.getAffinity().getPodAffinity());
+        List<?> constraints = (List<?>) podSpec.getAdditionalProperties().get("topologySpreadConstraints");
+        Assert.assertEquals(constraints.size(), 1);
+        Map<?, ?> constraint = (Map<?, ?>) constraints.get(0);
+        Assert.assertEquals(constraint.get("maxSkew"), 1);
+        Assert.assertEquals(constraint.get("topologyKey"), "topology.kubernetes.io/zone");
+        Assert.assertEquals(constraint.get("whenUnsatisfiable"), "ScheduleAnyway");
+        tempFile.deleteOnExit();
+    }
+
+    @Test
+    public void testStatefulSetGeneration() throws IOException, KubernetesPluginException {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName(deploymentName);
+        Map<String, String> labels = new HashMap<>();
+        labels.put(KubernetesConstants.KUBERNETES_SELECTOR_KEY, selector);
+        deploymentModel.setLabels(labels);
+        deploymentModel.setImage(imageName);
+        deploymentModel.setSingleYAML(false);
+        deploymentModel.setReplicas(3);
+        StatefulSetModel statefulSetModel = new StatefulSetModel();
+        statefulSetModel.setPodManagementPolicy(KubernetesConstants.POD_MANAGEMENT_POLICY_PARALLEL);
+        statefulSetModel.setPartition(1);
+        deploymentModel.setStatefulSet(statefulSetModel);
+        PersistentVolumeClaimModel volumeClaimModel = new PersistentVolumeClaimModel();
+        volumeClaimModel.setName("data");
+        volumeClaimModel.setMountPath("/data");
+        volumeClaimModel.setAccessMode("ReadWriteOnce");
+        volumeClaimModel.setVolumeClaimSize("1Gi");
+        KubernetesDataHolder dataHolder = getDataHolder();
+        dataHolder.addPersistentVolumeClaims(Collections.singleton(volumeClaimModel));
+        dataHolder.setDeploymentModel(deploymentModel);
+        File statefulSetFile = Paths.get("target", "kubernetes", module.name.toString(), "hello_statefulset.yaml")
+                .toFile();
+        File serviceFile = Paths.get("target", "kubernetes", module.name.toString(), "hello_svc.yaml").toFile();
+        statefulSetFile.delete();
+        serviceFile.delete();
+        try {
+            new DeploymentHandler(getDataHolder()).createArtifacts();
+            Assert.assertTrue(statefulSetFile.exists());
+            Assert.assertTrue(serviceFile.exists());
+
+            StatefulSet statefulSet = Utils.loadYaml(statefulSetFile);
+            Assert.assertEquals(statefulSet.getMetadata().getName(), deploymentName);
+            Assert.assertEquals(statefulSet.getSpec().getReplicas().intValue(), 3);
+            Assert.assertEquals(statefulSet.getSpec().getServiceName(), "hello-headless-svc");
+            Assert.assertEquals(statefulSet.getSpec().getPodManagementPolicy(), "Parallel");
+            Assert.assertEquals(statefulSet.getSpec().getUpdateStrategy().getType(), "RollingUpdate");
+            Assert.assertEquals(statefulSet.getSpec().getUpdateStrategy().getRollingUpdate().getPartition()
+                    .intValue(), 1);
+            List<PersistentVolumeClaim> claimTemplates = statefulSet.getSpec().getVolumeClaimTemplates();
+            Assert.assertEquals(claimTemplates.size(), 1);
+            Assert.assertEquals(claimTemplates.get(0).getMetadata().getName(), "data");
+            Assert.assertNull(claimTemplates.get(0).getMetadata().getNamespace());
+            PodSpec podSpec = statefulSet.getSpec().getTemplate().getSpec();
+            Assert.assertTrue(podSpec.getVolumes().isEmpty());
+            Assert.assertEquals(podSpec.getContainers().get(0).getVolumeMounts().get(0).getName(), "data");
+
+            Service service = Utils.loadYaml(serviceFile);
+            Assert.assertEquals(service.getMetadata().getName(), "hello-headless-svc");
+            Assert.assertEquals(service.getSpec().getClusterIP(), "None");
+            Assert.assertEquals(service.getSpec().getSelector().get(KubernetesConstants.KUBERNETES_SELECTOR_KEY),
+                    selector);
+        } finally {
+            // the data holder is shared with the other handler tests.
+            dataHolder.getVolumeClaimModelSet().remove(volumeClaimModel);
+            dataHolder.setDeploymentModel(new DeploymentModel());
+            dataHolder.getDeploymentModel().setSingleYAML(false);
+            statefulSetFile.delete();
+            serviceFile.delete();
+        }
+    }
+
+    @Test
+    public void testStatefulSetHeadlessServiceWithTwoPorts() throws IOException, KubernetesPluginException {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName(deploymentName);
+        Map<String, String> labels = new HashMap<>();
+        labels.put(KubernetesConstants.KUBERNETES_SELECTOR_KEY, selector);
+        deploymentModel.setLabels(labels);
+        deploymentModel.setImage(imageName);
+        deploymentModel.setSingleYAML(false);
+        deploymentModel.setStatefulSet(new StatefulSetModel());
+        KubernetesDataHolder dataHolder = getDataHolder();
+        dataHolder.setDeploymentModel(deploymentModel);
+        Map<String, ServiceModel> serviceModels = dataHolder.getbListenerToK8sServiceMap();
+        Map<String, ServiceModel> existingServiceModels = new HashMap<>(serviceModels);
+        serviceModels.clear();
+        // the port names are left to their defaults, as the service handler has not run.
+        ServiceModel httpService = new ServiceModel();
+        httpService.setName("hello-svc");
+        httpService.setProtocol("http");
+        httpService.setPort(9090);
+        httpService.setTargetPort(9090);
+        serviceModels.put("helloEP", httpService);
+        ServiceModel adminService = new ServiceModel();
+        adminService.setName("admin-svc");
+        adminService.setProtocol("http");
+        adminService.setPort(9091);
+        adminService.setTargetPort(9091);
+        serviceModels.put("adminEP", adminService);
+        File statefulSetFile = Paths.get("target", "kubernetes", module.name.toString(), "hello_statefulset.yaml")
+                .toFile();
+        File serviceFile = Paths.get("target", "kubernetes", module.name.toString(), "hello_svc.yaml").toFile();
+        statefulSetFile.delete();
+        serviceFile.delete();
+        try {
+            new DeploymentHandler(getDataHolder()).createArtifacts();
+            Service service = Utils.loadYaml(serviceFile);
+            List<ServicePort> ports = service.getSpec().getPorts();
+            Assert.assertEquals(ports.size(), 2);
+            Map<Integer, String> portNames = new HashMap<>();
+            for (ServicePort port : ports) {
+                portNames.put(port.getPort(), port.getName());
+            }
+            Assert.assertEquals(portNames.get(9090), "http-hello-svc");
+            Assert.assertEquals(portNames.get(9091), "http-admin-svc");
+        } finally {
+            serviceModels.clear();
+            serviceModels.putAll(existingServiceModels);
+            dataHolder.setDeploymentModel(new DeploymentModel());
+            dataHolder.getDeploymentModel().setSingleYAML(false);
+            statefulSetFile.delete();
+            serviceFile.delete();
+        }
+    }
+
+    @Test
+    public void testDeploymentGenerationWithConfigChecksum() throws IOException, KubernetesPluginException {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName(deploymentName);
+        Map<String, String> labels = new HashMap<>();
+        labels.put(KubernetesConstants.KUBERNETES_SELECTOR_KEY, selector);
+        deploymentModel.setLabels(labels);
+        deploymentModel.setImage(imageName);
+        deploymentModel.setSingleYAML(false);
+        ConfigMapModel configMapModel = new ConfigMapModel();
+        configMapModel.setName("checksum-config-map");
+        configMapModel.setMountPath("/checksum");
+        configMapModel.setData(Collections.singletonMap("app.properties", "mode=fast"));
+        KubernetesDataHolder dataHolder = getDataHolder();
+        dataHolder.addConfigMaps(Collections.singleton(configMapModel));
+        dataHolder.setDeploymentModel(deploymentModel);
+        File tempFile = Paths.get("target", "kubernetes", module.name.toString(), "hello_deployment.yaml").toFile();
+        tempFile.delete();
+        try {
+            new DeploymentHandler(getDataHolder()).createArtifacts();
+            Deployment deployment = Utils.loadYaml(tempFile);
+            Map<String, String> annotations = deployment.getSpec().getTemplate().getMetadata().getAnnotations();
+            String checksum = annotations.get(KubernetesConstants.CONFIG_MAP_CHECKSUM_ANNOTATION);
+            Assert.assertNotNull(checksum);
+            Assert.assertEquals(checksum.length(), 64);
+
+            // the pod template changes only when the mounted content changes.
+            tempFile.delete();
+            configMapModel.setData(Collections.singletonMap("app.properties", "mode=safe"));
+            new DeploymentHandler(getDataHolder()).createArtifacts();
+            deployment = Utils.loadYaml(tempFile);
+            Assert.assertNotEquals(deployment.getSpec().getTemplate().getMetadata().getAnnotations()
+                    .get(KubernetesConstants.CONFIG_MAP_CHECKSUM_ANNOTATION), checksum);
+        } finally {
+            // the data holder is shared with the other handler tests.
+            dataHolder.getConfigMapModelSet().remove(configMapModel);
+            tempFile.delete();
+        }
+    }
+
+    /**
+     * Create the data holder of a module of its own, so that the health check resources of the module are not seen
+     * by the other tests.
+     */
+    private KubernetesDataHolder createModule(PackageID moduleID, DeploymentModel deploymentModel) {
+        KubernetesDataHolder dataHolder = KubernetesContext.getInstance().addDataHolder(moduleID, Paths.get("target"));
+        dataHolder.setK8sArtifactOutputPath(Paths.get("target", "kubernetes", moduleID.name.toString()));
+        dataHolder.setUberJarPath(getDataHolder().getUberJarPath());
+        dataHolder.setDeploymentModel(deploymentModel);
+        return dataHolder;
+    }
+
+    private ServiceModel createServiceModel(String name, int port, int targetPort) {
+        ServiceModel serviceModel = new ServiceModel();
+        serviceModel.setName(name);
+        serviceModel.setPort(port);
+        serviceModel.setTargetPort(targetPort);
+        return serviceModel;
+    }
+
+    private Deployment generateDeployment(KubernetesDataHolder dataHolder) throws IOException,
+            KubernetesPluginException {
+        File outputDir = dataHolder.getK8sArtifactOutputPath().toFile();
+        FileUtils.deleteQuietly(outputDir);
+        new DeploymentHandler(dataHolder).createArtifacts();
+        File deploymentFile = new File(outputDir, "hello_deployment.yaml");
+        Assert.assertTrue(deploymentFile.exists());
+        try {
+            return Utils.loadYaml(deploymentFile);
+        } finally {
+            FileUtils.deleteQuietly(outputDir);
+        }
+    }
+
+    private void removeModule(PackageID moduleID) {
+        KubernetesContext.getInstance().getPackageIDtoDataHolderMap().remove(moduleID);
+    }
+
     private void testGeneratedYAML(File yamlFile) throws IOException {
         Deployment deployment = Utils.loadYaml(yamlFile);
         Assert.assertEquals(deploymentName, deployment.getMetadata().getName());
@@ -19,16 +19,25 @@
 package org.ballerinax.kubernetes.handlers;
 
 import io.fabric8.kubernetes.api.model.HorizontalPodAutoscaler;
+import org.apache.commons.io.FileUtils;
 import org.ballerinax.kubernetes.KubernetesConstants;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.models.DeploymentModel;
+import org.ballerinax.kubernetes.models.EnvVarValueModel;
+import org.ballerinax.kubernetes.models.PodAutoscalerMetricModel;
+import org.ballerinax.kubernetes.models.PodAutoscalerModel;
+import org.ballerinax.kubernetes.models.PodAutoscalerScalingRulesModel;
+import org.ballerinax.kubernetes.models.ProbeModel;
 import org.ballerinax.kubernetes.utils.Utils;
 import org.testng.Assert;
 import org.testng.annotations.Test;
+import org.yaml.snakeyaml.Yaml;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Paths;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -71,10 +80,10 @@ public class KubernetesHPAGeneratorTests extends HandlerTestSuite {
         podAutoscalerModel.setDeployment(deploymentName);
         podAutoscalerModel.setLabels(labels);
         deploymentModel.setPodAutoscalerModel(podAutoscalerModel);
-        KubernetesContext.getInstance().getDataHolder().setPodAutoscalerModel(podAutoscalerModel);
-        KubernetesContext.getInstance().getDataHolder().setDeploymentModel(deploymentModel);
+        getDataHolder().setPodAutoscalerModel(podAutoscalerModel);
+        getDataHolder().setDeploymentModel(deploymentModel);
         try {
-            new HPAHandler().createArtifacts();
+            new HPAHandler(getDataHolder()).createArtifacts();
             File tempFile = Paths.get("target", "kubernetes", module.name.toString(), "hello_hpa.yaml").toFile();
             Assert.assertTrue(tempFile.exists());
             assertGeneratedYAML(tempFile);
@@ -86,6 +95,52 @@ public class KubernetesHPAGeneratorTests extends HandlerTestSuite {
         }
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testHPAGenerateWithCustomMetrics() throws IOException, KubernetesPluginException {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName(deploymentName);
+        deploymentModel.setSingleYAML(false);
+        PodAutoscalerModel podAutoscalerModel = new PodAutoscalerModel();
+        podAutoscalerModel.setName(hpaName);
+        podAutoscalerModel.setCpuPercentage(0);
+        podAutoscalerModel.setMemoryPercentage(80);
+        podAutoscalerModel.setMaxReplicas(maxReplicas);
+        podAutoscalerModel.setMinReplicas(minReplicas);
+        PodAutoscalerMetricModel requestsPerSecond = new PodAutoscalerMetricModel();
+        requestsPerSecond.setType("Pods");
+        requestsPerSecond.setName("http_requests_per_second");
+        requestsPerSecond.setAverageValue("100");
+        podAutoscalerModel.getMetrics().add(requestsPerSecond);
+        PodAutoscalerScalingRulesModel scaleDown = new PodAutoscalerScalingRulesModel();
+        scaleDown.setStabilizationWindowSeconds(300);
+        PodAutoscalerScalingRulesModel.ScalingPolicy policy = new PodAutoscalerScalingRulesModel.ScalingPolicy();
+        policy.setType("Percent");
+        policy.setValue(10);
+        policy.setPeriodSeconds(60);
+        scaleDown.getPolicies().add(policy);
+        podAutoscalerModel.setScaleDown(scaleDown);
+        deploymentModel.setPodAutoscalerModel(podAutoscalerModel);
+        getDataHolder().setDeploymentModel(deploymentModel);
+        File tempFile = Paths.get("target", "kubernetes", module.name.toString(), "hello_hpa.yaml").toFile();
+        FileUtils.deleteQuietly(tempFile);
+        new HPAHandler(getDataHolder()).createArtifacts();
+        Assert.assertTrue(tempFile.exists());
+        Map<String, Object> podAutoscaler = new Yaml().load(FileUtils.readFileToString(tempFile));
+        Assert.assertEquals(podAutoscaler.get("apiVersion"), "autoscaling/v2");
+        Map<String, Object> spec = (Map<String, Object>) podAutoscaler.get("spec");
+        List<Map<String, Object>> metrics = (List<Map<String, Object>>) spec.get("metrics");
+        Assert.assertEquals(metrics.size(), 2);
+        Assert.assertEquals(metrics.get(0).get("type"), "Resource");
+        Assert.assertEquals(metrics.get(1).get("type"), "Pods");
+        Map<String, Object> pods = (Map<String, Object>) metrics.get(1).get("pods");
+        Assert.assertEquals(((Map<String, Object>) pods.get("metric")).get("name"), "http_requests_per_second");
+        Assert.assertEquals(((Map<String, Object>) pods.get("target")).get("averageValue"), "100");
+        Map<String, Object> behavior = (Map<String, Object>) spec.get("behavior");
+        Assert.assertEquals(((Map<String, Object>) behavior.get("scaleDown")).get("stabilizationWindowSeconds"), 300);
+        FileUtils.deleteQuietly(tempFile);
+    }
+
     private void assertGeneratedYAML(File yamlFile) throws IOException {
         HorizontalPodAutoscaler podAutoscaler = Utils.loadYaml(yamlFile);
         Assert.assertEquals(podAutoscaler.getMetadata().getName(), hpaName);
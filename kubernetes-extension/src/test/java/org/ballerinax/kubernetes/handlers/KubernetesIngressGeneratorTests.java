@@ -59,17 +59,17 @@ public class KubernetesIngressGeneratorTests extends HandlerTestSuite {
         Map<String, String> labels = new HashMap<>();
         labels.put(KubernetesConstants.KUBERNETES_SELECTOR_KEY, selector);
         ingressModel.setLabels(labels);
-        KubernetesContext.getInstance().getDataHolder().addIngressModel(ingressModel);
+        getDataHolder().addIngressModel(ingressModel);
         ServiceModel serviceModel = new ServiceModel();
         serviceModel.setName(serviceName);
         serviceModel.setPort(9090);
         serviceModel.setServiceType("NodePort");
         serviceModel.setSelector(selector);
         serviceModel.setLabels(labels);
-        KubernetesContext.getInstance().getDataHolder().addBListenerToK8sServiceMap("HelloWorldService", serviceModel);
+        getDataHolder().addBListenerToK8sServiceMap("HelloWorldService", serviceModel);
 
         try {
-            new IngressHandler().createArtifacts();
+            new IngressHandler(getDataHolder()).createArtifacts();
             File tempFile = Paths.get("target", "kubernetes", module.name.toString(), "hello_ingress.yaml").toFile();
             Assert.assertTrue(tempFile.exists());
             assertGeneratedYAML(tempFile);
@@ -56,10 +56,10 @@ public class KubernetesJobGeneratorTests extends HandlerTestSuite {
         EnvVarValueModel testEnvVar = new EnvVarValueModel("ENV");
         env.put("ENV_VAR", testEnvVar);
         jobModel.setEnv(env);
-        KubernetesContext.getInstance().getDataHolder().setJobModel(jobModel);
+        getDataHolder().setJobModel(jobModel);
 
         try {
-            new JobHandler().createArtifacts();
+            new JobHandler(getDataHolder()).createArtifacts();
             File tempFile = Paths.get("target", "kubernetes", module.name.toString(), "hello_job.yaml").toFile();
             Assert.assertTrue(tempFile.exists());
             assertGeneratedYAML(tempFile);
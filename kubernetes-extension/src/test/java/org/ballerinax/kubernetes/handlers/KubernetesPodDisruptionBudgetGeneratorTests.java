@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.handlers;
+
+import io.fabric8.kubernetes.api.model.policy.PodDisruptionBudget;
+import org.apache.commons.io.FileUtils;
+import org.ballerinax.kubernetes.KubernetesConstants;
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.models.DeploymentModel;
+import org.ballerinax.kubernetes.models.PodDisruptionBudgetModel;
+import org.ballerinax.kubernetes.utils.Utils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Test kubernetes pod disruption budget generation.
+ */
+public class KubernetesPodDisruptionBudgetGeneratorTests extends HandlerTestSuite {
+
+    private final String pdbName = "MyPDB";
+    private final String deploymentName = "MyDeployment";
+    private final String selector = "hello";
+
+    @AfterMethod
+    public void cleanUp() {
+        getDataHolder().setPodDisruptionBudgetModel(null);
+    }
+
+    @Test
+    public void testPodDisruptionBudgetGenerate() throws IOException, KubernetesPluginException {
+        PodDisruptionBudgetModel podDisruptionBudgetModel = new PodDisruptionBudgetModel();
+        podDisruptionBudgetModel.setName(pdbName);
+        podDisruptionBudgetModel.setMinAvailable("50%");
+        getDataHolder().setPodDisruptionBudgetModel(podDisruptionBudgetModel);
+        getDataHolder().setDeploymentModel(createDeploymentModel());
+        File tempFile = Paths.get("target", "kubernetes", module.name.toString(), "hello_pdb.yaml").toFile();
+        FileUtils.deleteQuietly(tempFile);
+        new PodDisruptionBudgetHandler(getDataHolder()).createArtifacts();
+        Assert.assertTrue(tempFile.exists());
+        PodDisruptionBudget podDisruptionBudget = Utils.loadYaml(tempFile);
+        Assert.assertEquals(podDisruptionBudget.getMetadata().getName(), pdbName);
+        Assert.assertEquals(podDisruptionBudget.getMetadata().getLabels().get(KubernetesConstants
+                .KUBERNETES_SELECTOR_KEY), selector);
+        Assert.assertEquals(podDisruptionBudget.getSpec().getMinAvailable().getStrVal(), "50%");
+        Assert.assertNull(podDisruptionBudget.getSpec().getMaxUnavailable());
+        Assert.assertEquals(podDisruptionBudget.getSpec().getSelector().getMatchLabels().get(KubernetesConstants
+                .KUBERNETES_SELECTOR_KEY), selector);
+        FileUtils.deleteQuietly(tempFile);
+    }
+
+    @Test
+    public void testPodDisruptionBudgetDefaults() throws IOException, KubernetesPluginException {
+        getDataHolder().setPodDisruptionBudgetModel(new PodDisruptionBudgetModel());
+        getDataHolder().setDeploymentModel(createDeploymentModel());
+        File tempFile = Paths.get("target", "kubernetes", module.name.toString(), "hello_pdb.yaml").toFile();
+        FileUtils.deleteQuietly(tempFile);
+        new PodDisruptionBudgetHandler(getDataHolder()).createArtifacts();
+        Assert.assertTrue(tempFile.exists());
+        PodDisruptionBudget podDisruptionBudget = Utils.loadYaml(tempFile);
+        Assert.assertEquals(podDisruptionBudget.getMetadata().getName(), "hello-pdb");
+        Assert.assertNull(podDisruptionBudget.getSpec().getMinAvailable());
+        Assert.assertEquals(podDisruptionBudget.getSpec().getMaxUnavailable().getIntVal().intValue(), 1);
+        FileUtils.deleteQuietly(tempFile);
+    }
+
+    private DeploymentModel createDeploymentModel() {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName(deploymentName);
+        deploymentModel.setReplicas(3);
+        deploymentModel.setSingleYAML(false);
+        Map<String, String> labels = new HashMap<>();
+        labels.put(KubernetesConstants.KUBERNETES_SELECTOR_KEY, selector);
+        deploymentModel.setLabels(labels);
+        return deploymentModel;
+    }
+}
@@ -57,9 +57,9 @@ public class KubernetesResourceQuotaGeneratorTests extends HandlerTestSuite {
     
         Set<ResourceQuotaModel> resourceQuotaModels = new LinkedHashSet<>();
         resourceQuotaModels.add(resourceQuotaModel);
-        KubernetesContext.getInstance().getDataHolder().setResourceQuotaModels(resourceQuotaModels);
+        getDataHolder().setResourceQuotaModels(resourceQuotaModels);
         try {
-            new ResourceQuotaHandler().createArtifacts();
+            new ResourceQuotaHandler(getDataHolder()).createArtifacts();
             File yamlFile = Paths.get("target", "kubernetes", module.name.toString(), "hello" +
                                                                           RESOURCE_QUOTA_FILE_POSTFIX + YAML).toFile();
             Assert.assertTrue(yamlFile.exists(), "Generated file not found.");
@@ -53,9 +53,9 @@ public class KubernetesSecretGeneratorTests extends HandlerTestSuite {
         secretModel.setData(data);
         Set<SecretModel> secretModels = new HashSet<>();
         secretModels.add(secretModel);
-        KubernetesContext.getInstance().getDataHolder().addSecrets(secretModels);
+        getDataHolder().addSecrets(secretModels);
         try {
-            new SecretHandler().createArtifacts();
+            new SecretHandler(getDataHolder()).createArtifacts();
             File tempFile = Paths.get("target", "kubernetes", module.name.toString(), "hello_secret.yaml").toFile();
             Assert.assertTrue(tempFile.exists());
             assertGeneratedYAML(tempFile);
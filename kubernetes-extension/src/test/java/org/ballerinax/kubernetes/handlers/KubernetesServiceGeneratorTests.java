@@ -53,9 +53,9 @@ public class KubernetesServiceGeneratorTests extends HandlerTestSuite {
         Map<String, String> labels = new HashMap<>();
         labels.put(KubernetesConstants.KUBERNETES_SELECTOR_KEY, selector);
         serviceModel.setLabels(labels);
-        KubernetesContext.getInstance().getDataHolder().addBListenerToK8sServiceMap("HelloWorldService", serviceModel);
+        getDataHolder().addBListenerToK8sServiceMap("HelloWorldService", serviceModel);
         try {
-            new ServiceHandler().createArtifacts();
+            new ServiceHandler(getDataHolder()).createArtifacts();
             File tempFile = Paths.get("target", "kubernetes", module.name.toString(), "hello_svc.yaml").toFile();
             Assert.assertTrue(tempFile.exists());
             assertGeneratedYAML(tempFile);
@@ -54,9 +54,9 @@ public class KubernetesVolumeClaimGeneratorTests extends HandlerTestSuite {
         volumeClaimModel.setAnnotations(annotations);
         Set<PersistentVolumeClaimModel> claimModles = new HashSet<>();
         claimModles.add(volumeClaimModel);
-        KubernetesContext.getInstance().getDataHolder().addPersistentVolumeClaims(claimModles);
+        getDataHolder().addPersistentVolumeClaims(claimModles);
         try {
-            new PersistentVolumeClaimHandler().createArtifacts();
+            new PersistentVolumeClaimHandler(getDataHolder()).createArtifacts();
             File tempFile = Paths.get("target", "kubernetes", module.name.toString(), "hello_volume_claim.yaml")
                     .toFile();
             Assert.assertTrue(tempFile.exists());
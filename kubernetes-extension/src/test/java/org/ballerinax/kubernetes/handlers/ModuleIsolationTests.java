@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.handlers;
+
+import org.ballerinalang.model.elements.PackageID;
+import org.ballerinax.kubernetes.models.ConfigMapModel;
+import org.ballerinax.kubernetes.models.DeploymentModel;
+import org.ballerinax.kubernetes.models.KubernetesContext;
+import org.ballerinax.kubernetes.models.KubernetesDataHolder;
+import org.ballerinax.kubernetes.models.ServiceModel;
+import org.ballerinax.kubernetes.utils.ArtifactSink;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.compiler.util.Names;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.ballerinax.kubernetes.KubernetesConstants.KUBERNETES;
+
+/**
+ * Test that the handlers of a module only work on the data holder they are created with.
+ */
+public class ModuleIsolationTests {
+
+    @Test
+    public void testConcurrentModules() throws Exception {
+        PackageID moduleA = new PackageID(Names.ANON_ORG, new Name("isolated_a"), Names.DEFAULT_VERSION);
+        PackageID moduleB = new PackageID(Names.ANON_ORG, new Name("isolated_b"), Names.DEFAULT_VERSION);
+        KubernetesDataHolder dataHolderA = createDataHolder(moduleA);
+        KubernetesDataHolder dataHolderB = createDataHolder(moduleB);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        try {
+            Future<?> generationA = executor.submit(() -> {
+                barrier.await();
+                new ServiceHandler(dataHolderA).createArtifacts();
+                new ConfigMapHandler(dataHolderA).createArtifacts();
+                return null;
+            });
+            Future<?> generationB = executor.submit(() -> {
+                barrier.await();
+                new ServiceHandler(dataHolderB).createArtifacts();
+                new ConfigMapHandler(dataHolderB).createArtifacts();
+                return null;
+            });
+            generationA.get();
+            generationB.get();
+            assertArtifacts(dataHolderA, "isolated_a", "isolated_b");
+            assertArtifacts(dataHolderB, "isolated_b", "isolated_a");
+        } finally {
+            executor.shutdown();
+            KubernetesContext.getInstance().getPackageIDtoDataHolderMap().remove(moduleA);
+            KubernetesContext.getInstance().getPackageIDtoDataHolderMap().remove(moduleB);
+        }
+    }
+
+    @Test
+    public void testModuleAcrossThreads() throws Exception {
+        PackageID module = new PackageID(Names.ANON_ORG, new Name("isolated_c"), Names.DEFAULT_VERSION);
+        // the models are populated on the current thread while the handlers run on other threads.
+        KubernetesDataHolder dataHolder = createDataHolder(module);
+        ExecutorService serviceExecutor = Executors.newSingleThreadExecutor();
+        ExecutorService configMapExecutor = Executors.newSingleThreadExecutor();
+        try {
+            serviceExecutor.submit(() -> {
+                new ServiceHandler(dataHolder).createArtifacts();
+                return null;
+            }).get();
+            configMapExecutor.submit(() -> {
+                new ConfigMapHandler(dataHolder).createArtifacts();
+                return null;
+            }).get();
+            assertArtifacts(dataHolder, "isolated_c", "isolated_a");
+            Assert.assertEquals(dataHolder.getDeploymentModel().getPorts(), Collections.singleton(9090));
+        } finally {
+            serviceExecutor.shutdown();
+            configMapExecutor.shutdown();
+            KubernetesContext.getInstance().getPackageIDtoDataHolderMap().remove(module);
+        }
+    }
+
+    private KubernetesDataHolder createDataHolder(PackageID module) {
+        String moduleName = module.name.toString();
+        KubernetesDataHolder dataHolder = KubernetesContext.getInstance().addDataHolder(module, Paths.get("target"));
+        dataHolder.setK8sArtifactOutputPath(Paths.get("target").resolve(KUBERNETES).resolve(moduleName));
+        dataHolder.setUberJarPath(Paths.get("src", "test", "resources", "hello.jar").toAbsolutePath());
+        dataHolder.setDeploymentModel(new DeploymentModel());
+        dataHolder.setArtifactSink(ArtifactSink.inMemory("hello", false));
+        ServiceModel serviceModel = new ServiceModel();
+        serviceModel.setName(moduleName + "-svc");
+        serviceModel.setPort(9090);
+        serviceModel.setTargetPort(9090);
+        dataHolder.addBListenerToK8sServiceMap(moduleName + "Listener", serviceModel);
+        ConfigMapModel configMapModel = new ConfigMapModel();
+        configMapModel.setName(moduleName + "-config");
+        configMapModel.setData(Collections.singletonMap("module", moduleName));
+        dataHolder.addConfigMaps(new HashSet<>(Collections.singletonList(configMapModel)));
+        return dataHolder;
+    }
+
+    private void assertArtifacts(KubernetesDataHolder dataHolder, String moduleName, String otherModuleName) {
+        Path outputDir = dataHolder.getK8sArtifactOutputPath();
+        Map<Path, String> artifacts = dataHolder.getArtifactSink().getArtifacts(outputDir);
+        String service = artifacts.get(outputDir.resolve("hello_svc.yaml"));
+        String configMap = artifacts.get(outputDir.resolve("hello_config_map.yaml"));
+        Assert.assertNotNull(service);
+        Assert.assertNotNull(configMap);
+        Assert.assertTrue(service.contains("name: \"" + moduleName + "-svc\""));
+        Assert.assertTrue(configMap.contains("name: \"" + moduleName + "-config\""));
+        Assert.assertFalse(service.contains(otherModuleName));
+        Assert.assertFalse(configMap.contains(otherModuleName));
+    }
+}
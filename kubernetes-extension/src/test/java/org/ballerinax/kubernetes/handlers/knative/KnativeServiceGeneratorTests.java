@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinax.kubernetes.handlers.knative;
+
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.models.knative.PodAutoscalerModel;
+import org.ballerinax.kubernetes.models.knative.ServiceModel;
+import org.ballerinax.kubernetes.models.knative.TrafficTargetModel;
+import org.ballerinax.kubernetes.utils.YamlWriter;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test the knative service generation.
+ */
+public class KnativeServiceGeneratorTests {
+
+    private final KnativeServiceHandler handler = new KnativeServiceHandler();
+
+    @Test
+    public void autoscalingAnnotationsTest() {
+        ServiceModel serviceModel = new ServiceModel();
+        serviceModel.setName("hello");
+        serviceModel.setPodAnnotations(Collections.singletonMap("team", "payments"));
+        PodAutoscalerModel podAutoscalerModel = new PodAutoscalerModel();
+        podAutoscalerModel.setAutoscalerClass("kpa");
+        podAutoscalerModel.setMetric("concurrency");
+        podAutoscalerModel.setTarget(50);
+        podAutoscalerModel.setTargetUtilizationPercentage(70);
+        podAutoscalerModel.setMinReplicas(0);
+        podAutoscalerModel.setMaxReplicas(5);
+        podAutoscalerModel.setWindow("60s");
+        podAutoscalerModel.setScaleToZeroPodRetentionPeriod("1m");
+        serviceModel.setPodAutoscalerModel(podAutoscalerModel);
+
+        Map<String, String> expected = new LinkedHashMap<>();
+        expected.put("team", "payments");
+        expected.put("autoscaling.knative.dev/class", "kpa.autoscaling.knative.dev");
+        expected.put("autoscaling.knative.dev/metric", "concurrency");
+        expected.put("autoscaling.knative.dev/target", "50");
+        expected.put("autoscaling.knative.dev/target-utilization-percentage", "70");
+        expected.put("autoscaling.knative.dev/minScale", "0");
+        expected.put("autoscaling.knative.dev/maxScale", "5");
+        expected.put("autoscaling.knative.dev/window", "60s");
+        expected.put("autoscaling.knative.dev/scale-to-zero-pod-retention-period", "1m");
+        Assert.assertEquals(handler.getTemplateAnnotations(serviceModel), expected);
+    }
+
+    @Test
+    public void defaultAutoscalingAnnotationsTest() {
+        ServiceModel serviceModel = new ServiceModel();
+        serviceModel.setName("hello");
+        Assert.assertTrue(handler.getTemplateAnnotations(serviceModel).isEmpty());
+        // fields which are not set are left to the defaults of knative.
+        serviceModel.setPodAutoscalerModel(new PodAutoscalerModel());
+        Assert.assertTrue(handler.getTemplateAnnotations(serviceModel).isEmpty());
+
+        PodAutoscalerModel hpa = new PodAutoscalerModel();
+        hpa.setAutoscalerClass("hpa");
+        hpa.setMetric("cpu");
+        hpa.setMinReplicas(1);
+        serviceModel.setPodAutoscalerModel(hpa);
+        Map<String, String> expected = new LinkedHashMap<>();
+        expected.put("autoscaling.knative.dev/class", "hpa.autoscaling.knative.dev");
+        expected.put("autoscaling.knative.dev/metric", "cpu");
+        expected.put("autoscaling.knative.dev/minScale", "1");
+        Assert.assertEquals(handler.getTemplateAnnotations(serviceModel), expected);
+    }
+
+    @Test
+    public void trafficTest() throws KubernetesPluginException, IOException {
+        ServiceModel serviceModel = new ServiceModel();
+        serviceModel.setName("hello");
+        // all the traffic is routed to the latest revision by default.
+        Assert.assertNull(handler.generateTraffic(serviceModel));
+
+        TrafficTargetModel stable = new TrafficTargetModel();
+        stable.setRevisionName("hello-v1");
+        stable.setPercent(90);
+        TrafficTargetModel canary = new TrafficTargetModel();
+        canary.setLatestRevision(true);
+        canary.setPercent(10);
+        canary.setTag("canary");
+        serviceModel.setTraffic(Arrays.asList(stable, canary));
+        serviceModel.setRevisionName("hello-v2");
+
+        List<Object> traffic = new Yaml().load(YamlWriter.toYaml(handler.generateTraffic(serviceModel)));
+        Map<String, Object> stableTarget = new LinkedHashMap<>();
+        stableTarget.put("revisionName", "hello-v1");
+        stableTarget.put("percent", 90);
+        Map<String, Object> canaryTarget = new LinkedHashMap<>();
+        canaryTarget.put("latestRevision", true);
+        canaryTarget.put("percent", 10);
+        canaryTarget.put("tag", "canary");
+        Assert.assertEquals(traffic, Arrays.asList(stableTarget, canaryTarget));
+    }
+
+    @Test
+    public void trafficRevisionNameTest() {
+        ServiceModel serviceModel = new ServiceModel();
+        serviceModel.setName("hello");
+        serviceModel.setRevisionName("world-v2");
+        assertTrafficRejected(serviceModel, "revisionName of @knative:Service{} should start with 'hello-': world-v2");
+
+        TrafficTargetModel trafficTargetModel = new TrafficTargetModel();
+        trafficTargetModel.setRevisionName("world-v1");
+        trafficTargetModel.setPercent(100);
+        serviceModel.setRevisionName(null);
+        serviceModel.setTraffic(Collections.singletonList(trafficTargetModel));
+        assertTrafficRejected(serviceModel, "revisionName of a traffic target of @knative:Service{} should start " +
+                "with 'hello-': world-v1");
+    }
+
+    private void assertTrafficRejected(ServiceModel serviceModel, String message) {
+        try {
+            handler.generateTraffic(serviceModel);
+            Assert.fail("expected the traffic to be rejected: " + message);
+        } catch (KubernetesPluginException e) {
+            Assert.assertEquals(e.getMessage(), message);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinax.kubernetes.processors.knative;
+
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.models.knative.PodAutoscalerModel;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test the validation of the @knative:HPA{} annotation.
+ */
+public class KnativePodAutoscalerAnnotationProcessorTest {
+
+    private final KnativePodAutoscalerAnnotationProcessor processor = new KnativePodAutoscalerAnnotationProcessor();
+
+    @Test
+    public void validAutoscalerTest() throws KubernetesPluginException {
+        // defaults are left to knative.
+        processor.validate(new PodAutoscalerModel());
+
+        PodAutoscalerModel kpa = new PodAutoscalerModel();
+        kpa.setMetric("rps");
+        kpa.setTarget(150);
+        kpa.setMinReplicas(0);
+        kpa.setMaxReplicas(10);
+        kpa.setWindow("60s");
+        kpa.setScaleToZeroPodRetentionPeriod("5m");
+        processor.validate(kpa);
+
+        PodAutoscalerModel hpa = new PodAutoscalerModel();
+        hpa.setAutoscalerClass("hpa");
+        hpa.setMetric("cpu");
+        hpa.setTarget(80);
+        hpa.setMinReplicas(1);
+        hpa.setTargetUtilizationPercentage(100);
+        processor.validate(hpa);
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = "invalid autoscalerClass 'vpa'.*")
+    public void invalidAutoscalerClassTest() throws KubernetesPluginException {
+        PodAutoscalerModel podAutoscalerModel = new PodAutoscalerModel();
+        podAutoscalerModel.setAutoscalerClass("vpa");
+        processor.validate(podAutoscalerModel);
+    }
+
+    @Test
+    public void unsupportedMetricTest() {
+        PodAutoscalerModel kpa = new PodAutoscalerModel();
+        kpa.setMetric("cpu");
+        assertRejected(kpa, "metric 'cpu' of @knative:HPA{} is not supported by the kpa autoscaler.");
+        PodAutoscalerModel hpa = new PodAutoscalerModel();
+        hpa.setAutoscalerClass("hpa");
+        hpa.setMinReplicas(1);
+        hpa.setMetric("concurrency");
+        assertRejected(hpa, "metric 'concurrency' of @knative:HPA{} is not supported by the hpa autoscaler.");
+    }
+
+    @Test
+    public void invalidReplicasTest() {
+        PodAutoscalerModel hpa = new PodAutoscalerModel();
+        hpa.setAutoscalerClass("hpa");
+        hpa.setMinReplicas(0);
+        assertRejected(hpa, "@knative:HPA{} with the hpa autoscalerClass cannot scale to zero.");
+        PodAutoscalerModel podAutoscalerModel = new PodAutoscalerModel();
+        podAutoscalerModel.setMinReplicas(5);
+        podAutoscalerModel.setMaxReplicas(2);
+        assertRejected(podAutoscalerModel, "minReplicas of @knative:HPA{} cannot be greater than maxReplicas.");
+    }
+
+    @Test
+    public void invalidTargetTest() {
+        PodAutoscalerModel podAutoscalerModel = new PodAutoscalerModel();
+        podAutoscalerModel.setTarget(0);
+        assertRejected(podAutoscalerModel, "target of @knative:HPA{} should be greater than 0.");
+        podAutoscalerModel.setTarget(100);
+        podAutoscalerModel.setTargetUtilizationPercentage(0);
+        assertRejected(podAutoscalerModel, "targetUtilizationPercentage of @knative:HPA{} should be between 1");
+        podAutoscalerModel.setTargetUtilizationPercentage(101);
+        assertRejected(podAutoscalerModel, "targetUtilizationPercentage of @knative:HPA{} should be between 1");
+    }
+
+    @Test
+    public void invalidDurationTest() {
+        PodAutoscalerModel podAutoscalerModel = new PodAutoscalerModel();
+        podAutoscalerModel.setWindow("60");
+        assertRejected(podAutoscalerModel, "window of @knative:HPA{} should be a duration");
+        podAutoscalerModel.setWindow("1m");
+        podAutoscalerModel.setScaleToZeroPodRetentionPeriod("1d");
+        assertRejected(podAutoscalerModel, "scaleToZeroPodRetentionPeriod of @knative:HPA{} should be a duration");
+    }
+
+    private void assertRejected(PodAutoscalerModel podAutoscalerModel, String messagePrefix) {
+        try {
+            processor.validate(podAutoscalerModel);
+            Assert.fail("expected the autoscaler to be rejected: " + messagePrefix);
+        } catch (KubernetesPluginException e) {
+            Assert.assertTrue(e.getMessage().startsWith(messagePrefix), e.getMessage());
+        }
+    }
+}
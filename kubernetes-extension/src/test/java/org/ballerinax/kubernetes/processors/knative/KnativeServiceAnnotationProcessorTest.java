@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinax.kubernetes.processors.knative;
+
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.models.knative.TrafficTargetModel;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Test the validation of the traffic targets of the @knative:Service{} annotation.
+ */
+public class KnativeServiceAnnotationProcessorTest {
+
+    private final KnativeServiceAnnotationProcessor processor = new KnativeServiceAnnotationProcessor();
+
+    @Test
+    public void validTrafficTest() throws KubernetesPluginException {
+        processor.validateTraffic(Collections.emptyList());
+        processor.validateTraffic(Arrays.asList(revision("hello-v1", 90, null), latestRevision(10, "canary")));
+        processor.validateTraffic(Collections.singletonList(latestRevision(100, null)));
+    }
+
+    @Test
+    public void trafficPercentSumTest() {
+        assertRejected(Arrays.asList(revision("hello-v1", 50, null), latestRevision(30, null)),
+                "'percent' of the traffic targets of @knative:Service{} should add up to 100 but found 80.");
+        assertRejected(Arrays.asList(revision("hello-v1", 60, null), latestRevision(60, null)),
+                "'percent' of the traffic targets of @knative:Service{} should add up to 100 but found 120.");
+        // a target without a percent does not receive traffic.
+        assertRejected(Collections.singletonList(latestRevision(-1, "next")),
+                "'percent' of the traffic targets of @knative:Service{} should add up to 100 but found 0.");
+        assertRejected(Collections.singletonList(latestRevision(101, null)),
+                "'percent' of a traffic target should be between 0 and 100.");
+    }
+
+    @Test
+    public void invalidTrafficTargetTest() {
+        TrafficTargetModel bothRevisions = revision("hello-v1", 100, null);
+        bothRevisions.setLatestRevision(true);
+        assertRejected(Collections.singletonList(bothRevisions),
+                "a traffic target of @knative:Service{} should either have a 'revisionName' or set 'latestRevision' " +
+                        "to true.");
+        assertRejected(Collections.singletonList(revision(null, 100, null)),
+                "a traffic target of @knative:Service{} should either have a 'revisionName' or set 'latestRevision' " +
+                        "to true.");
+        assertRejected(Arrays.asList(revision("hello-v1", 50, "stable"), latestRevision(50, "stable")),
+                "duplicate traffic target tag found: stable");
+    }
+
+    private TrafficTargetModel revision(String revisionName, int percent, String tag) {
+        TrafficTargetModel trafficTargetModel = new TrafficTargetModel();
+        trafficTargetModel.setRevisionName(revisionName);
+        trafficTargetModel.setPercent(percent);
+        trafficTargetModel.setTag(tag);
+        return trafficTargetModel;
+    }
+
+    private TrafficTargetModel latestRevision(int percent, String tag) {
+        TrafficTargetModel trafficTargetModel = revision(null, percent, tag);
+        trafficTargetModel.setLatestRevision(true);
+        return trafficTargetModel;
+    }
+
+    private void assertRejected(List<TrafficTargetModel> trafficTargetModels, String message) {
+        try {
+            processor.validateTraffic(trafficTargetModels);
+            Assert.fail("expected the traffic targets to be rejected: " + message);
+        } catch (KubernetesPluginException e) {
+            Assert.assertEquals(e.getMessage(), message);
+        }
+    }
+}
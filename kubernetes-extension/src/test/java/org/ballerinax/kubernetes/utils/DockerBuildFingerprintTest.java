@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.utils;
+
+import org.apache.commons.io.FileUtils;
+import org.ballerinax.docker.generator.models.DockerModel;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.ballerinax.kubernetes.KubernetesConstants.DOCKER_FINGERPRINT_FILE_NAME;
+
+/**
+ * Test the fingerprint of the build context of a docker image.
+ */
+public class DockerBuildFingerprintTest {
+    private static final String DOCKERFILE = "FROM ballerina/jre8:v1\nCOPY hello.jar /home/ballerina/jars/\n" +
+            "CMD java -jar hello.jar\n";
+
+    private Path buildContext;
+    private DockerModel dockerModel;
+
+    @BeforeClass
+    public void setUp() throws IOException {
+        buildContext = Files.createTempDirectory("ballerinax-docker-fingerprint-");
+        dockerModel = new DockerModel();
+        dockerModel.setName("hello");
+        dockerModel.setTag("1.0.0");
+    }
+
+    @Test
+    public void testJarTimestampsAreIgnored() throws IOException {
+        writeBuildContext(DOCKERFILE, 1000L, "hello");
+        String fingerprint = fingerprint();
+        Assert.assertNotNull(fingerprint);
+        writeBuildContext(DOCKERFILE, 2000000L, "hello");
+        Assert.assertEquals(fingerprint(), fingerprint);
+    }
+
+    @Test
+    public void testJarContentChangesFingerprint() throws IOException {
+        writeBuildContext(DOCKERFILE, 1000L, "hello");
+        String fingerprint = fingerprint();
+        writeBuildContext(DOCKERFILE, 1000L, "hello world");
+        Assert.assertNotEquals(fingerprint(), fingerprint);
+    }
+
+    @Test
+    public void testDockerfileChangesFingerprint() throws IOException {
+        writeBuildContext(DOCKERFILE, 1000L, "hello");
+        String fingerprint = fingerprint();
+        writeBuildContext(DOCKERFILE + "EXPOSE 9090\n", 1000L, "hello");
+        Assert.assertNotEquals(fingerprint(), fingerprint);
+    }
+
+    @Test
+    public void testImageNameChangesFingerprint() throws IOException {
+        writeBuildContext(DOCKERFILE, 1000L, "hello");
+        String fingerprint = fingerprint();
+        dockerModel.setTag("2.0.0");
+        try {
+            Assert.assertNotEquals(fingerprint(), fingerprint);
+        } finally {
+            dockerModel.setTag("1.0.0");
+        }
+    }
+
+    @Test
+    public void testFingerprintFileIsIgnored() throws IOException {
+        writeBuildContext(DOCKERFILE, 1000L, "hello");
+        String fingerprint = fingerprint();
+        Files.write(buildContext.resolve(DOCKER_FINGERPRINT_FILE_NAME),
+                "fingerprint=previous".getBytes(StandardCharsets.UTF_8));
+        try {
+            Assert.assertEquals(fingerprint(), fingerprint);
+        } finally {
+            Files.delete(buildContext.resolve(DOCKER_FINGERPRINT_FILE_NAME));
+        }
+    }
+
+    private String fingerprint() {
+        return new DockerBuildFingerprint(dockerModel, buildContext).getFingerprint();
+    }
+
+    private void writeBuildContext(String dockerfile, long entryTime, String content) throws IOException {
+        Files.write(buildContext.resolve("Dockerfile"), dockerfile.getBytes(StandardCharsets.UTF_8));
+        try (OutputStream outputStream = Files.newOutputStream(buildContext.resolve("hello.jar"));
+             JarOutputStream jarOutputStream = new JarOutputStream(outputStream)) {
+            JarEntry entry = new JarEntry("hello/main.txt");
+            entry.setTime(entryTime);
+            jarOutputStream.putNextEntry(entry);
+            jarOutputStream.write(content.getBytes(StandardCharsets.UTF_8));
+            jarOutputStream.closeEntry();
+        }
+    }
+
+    @AfterClass
+    public void cleanUp() {
+        FileUtils.deleteQuietly(buildContext.toFile());
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.utils;
+
+import org.apache.commons.io.FileUtils;
+import org.ballerinax.docker.generator.models.CopyFileModel;
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+/**
+ * Test splitting an uber jar in to docker image layers.
+ */
+public class DockerImageLayersTest {
+    private Path tempDirectory;
+
+    @BeforeClass
+    public void setUp() throws IOException {
+        tempDirectory = Files.createTempDirectory("ballerinax-docker-layers-");
+    }
+
+    @Test
+    public void testCreateLayers() throws IOException, KubernetesPluginException {
+        Path uberJar = createUberJar("layered.jar", "myorg.hello.___init", "myorg/hello/___init.class",
+                "ballerina/http/HttpService.class", "org/apache/commons/Lib.class");
+        Path stagingPath = tempDirectory.resolve("layered");
+        Path launcherJar = new DockerImageLayers(uberJar, stagingPath).createArtifacts("hello.jar");
+
+        Assert.assertTrue(Files.exists(stagingPath.resolve("application/myorg/hello/___init.class")));
+        Assert.assertTrue(Files.exists(stagingPath.resolve("ballerina/ballerina/http/HttpService.class")));
+        Assert.assertTrue(Files.exists(stagingPath.resolve("dependencies/org/apache/commons/Lib.class")));
+        Assert.assertEquals(launcherJar, stagingPath.resolve("hello.jar"));
+        try (JarFile jarFile = new JarFile(launcherJar.toFile())) {
+            Attributes attributes = jarFile.getManifest().getMainAttributes();
+            Assert.assertEquals(attributes.getValue(Attributes.Name.MAIN_CLASS), "myorg.hello.___init");
+            Assert.assertEquals(attributes.getValue(Attributes.Name.CLASS_PATH), "/home/ballerina/app/dependencies/ " +
+                    "/home/ballerina/app/ballerina/ /home/ballerina/app/application/");
+            Assert.assertEquals(jarFile.size(), 1);
+        }
+    }
+
+    @Test
+    public void testCopyFilesStartWithLayers() {
+        CopyFileModel configFile = new CopyFileModel();
+        configFile.setSource("./conf/ballerina.conf");
+        configFile.setTarget("/home/ballerina/conf/ballerina.conf");
+        Path stagingPath = tempDirectory.resolve("copy-files");
+        List<CopyFileModel> copyFiles = new ArrayList<>(new DockerImageLayers(tempDirectory.resolve("hello.jar"),
+                stagingPath).getCopyFiles(Collections.singleton(configFile)));
+
+        Assert.assertEquals(copyFiles.size(), 4);
+        Assert.assertEquals(copyFiles.get(0).getSource(), stagingPath.resolve("dependencies").toString());
+        Assert.assertEquals(copyFiles.get(0).getTarget(), "/home/ballerina/app/dependencies");
+        Assert.assertEquals(copyFiles.get(1).getTarget(), "/home/ballerina/app/ballerina");
+        Assert.assertEquals(copyFiles.get(2).getTarget(), "/home/ballerina/app/application");
+        Assert.assertEquals(copyFiles.get(3), configFile);
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = "unable to find the main class of no_main.jar")
+    public void testUberJarWithoutMainClass() throws IOException, KubernetesPluginException {
+        Path uberJar = createUberJar("no_main.jar", null, "hello/___init.class");
+        new DockerImageLayers(uberJar, tempDirectory.resolve("no-main")).createArtifacts("hello.jar");
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = "invalid entry found in zip_slip.jar: .*")
+    public void testUberJarWithInvalidEntry() throws IOException, KubernetesPluginException {
+        Path uberJar = createUberJar("zip_slip.jar", "___init", "___init.class", "../../outside.class");
+        new DockerImageLayers(uberJar, tempDirectory.resolve("zip-slip")).createArtifacts("hello.jar");
+    }
+
+    private Path createUberJar(String fileName, String mainClass, String... entries) throws IOException {
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        if (null != mainClass) {
+            manifest.getMainAttributes().put(Attributes.Name.MAIN_CLASS, mainClass);
+        }
+        Path uberJar = tempDirectory.resolve(fileName);
+        try (OutputStream outputStream = Files.newOutputStream(uberJar);
+             JarOutputStream jarOutputStream = new JarOutputStream(outputStream, manifest)) {
+            for (String entry : entries) {
+                jarOutputStream.putNextEntry(new JarEntry(entry));
+                jarOutputStream.write(entry.getBytes(StandardCharsets.UTF_8));
+                jarOutputStream.closeEntry();
+            }
+        }
+        return uberJar;
+    }
+
+    @AfterClass
+    public void cleanUp() {
+        FileUtils.deleteQuietly(tempDirectory.toFile());
+    }
+}
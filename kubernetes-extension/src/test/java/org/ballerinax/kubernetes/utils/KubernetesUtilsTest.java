@@ -18,7 +18,16 @@
 
 package org.ballerinax.kubernetes.utils;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.ReplicationController;
+import io.fabric8.kubernetes.api.model.ReplicationControllerBuilder;
+import io.fabric8.kubernetes.client.internal.SerializationUtils;
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
 import org.ballerinax.docker.generator.utils.DockerGenUtils;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.testng.Assert;
@@ -26,15 +35,22 @@ import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
 
 /**
  * Kubernetes Utils Test Class.
@@ -155,6 +171,35 @@ public class KubernetesUtilsTest {
         FileUtils.deleteQuietly(destinationDir.toFile());
     }
     
+    @Test
+    public void inMemoryArtifactSinkTest() throws IOException {
+        ArtifactSink artifactSink = ArtifactSink.inMemory("hello", true);
+        Path artifactPath = artifactSink.getArtifactPath(tempDirectory, "_svc.yaml");
+        Assert.assertEquals(artifactPath, tempDirectory.resolve("hello.yaml"));
+        artifactSink.write(artifactPath, "---\nkind: Service\n");
+        artifactSink.write(artifactPath, "kind: Deployment\n");
+        artifactSink.close();
+    
+        // assert
+        Assert.assertEquals(artifactSink.getArtifacts(tempDirectory).get(artifactPath),
+                "---\nkind: Service\n---\nkind: Deployment\n");
+        Assert.assertFalse(Files.exists(artifactPath));
+    }
+    
+    @Test
+    public void fileArtifactSinkTest() throws IOException {
+        ArtifactSink artifactSink = ArtifactSink.toFiles("hello", false);
+        Path artifactPath = artifactSink.getArtifactPath(tempDirectory.resolve("sink"), "_svc.yaml");
+        Assert.assertEquals(artifactPath, tempDirectory.resolve("sink").resolve("hello_svc.yaml"));
+        artifactSink.write(artifactPath, "---\nkind: Service\n");
+        artifactSink.write(artifactPath, "---\nkind: Service\n");
+        artifactSink.close();
+    
+        // assert
+        Assert.assertEquals(new String(Files.readAllBytes(artifactPath), StandardCharsets.UTF_8),
+                "---\nkind: Service\n---\nkind: Service\n");
+    }
+    
     private void setEnv(Map<String, String> newenv) throws Exception {
         try {
             Class<?> processEnvironmentClass = Class.forName("java.lang.ProcessEnvironment");
@@ -183,6 +228,217 @@ public class KubernetesUtilsTest {
         }
     }
     
+    @Test
+    public void parseResourceQuantityTest() throws KubernetesPluginException {
+        Assert.assertEquals(ContainerResources.parseQuantity("test", "250m").compareTo(new BigDecimal("0.25")), 0);
+        Assert.assertEquals(ContainerResources.parseQuantity("test", "2").compareTo(new BigDecimal("2")), 0);
+        Assert.assertEquals(ContainerResources.parseQuantity("test", "64Mi").longValue(), 64L * 1024 * 1024);
+        Assert.assertEquals(ContainerResources.parseQuantity("test", "1G").longValue(), 1000000000L);
+        Assert.assertEquals(ContainerResources.parseQuantity("test", "1e3").longValue(), 1000L);
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class)
+    public void invalidResourceQuantityTest() throws KubernetesPluginException {
+        ContainerResources.parseQuantity("test", "2 cores");
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class)
+    public void requestExceedsLimitTest() throws KubernetesPluginException {
+        ContainerResources.of("2", "1", null, null, null, null).validate("@kubernetes:Deployment{}");
+    }
+
+    @Test
+    public void resourceQuotaCheckTest() throws KubernetesPluginException {
+        ContainerResources resources = ContainerResources.of("500m", "1", null, "512Mi", null, null);
+        Assert.assertNotNull(resources.toResourceRequirements());
+        Assert.assertNull(ContainerResources.of(null, "", null, null, null, null).toResourceRequirements());
+
+        Map<String, String> hard = new HashMap<>();
+        hard.put("requests.cpu", "2");
+        hard.put("limits.memory", "1Gi");
+        Assert.assertTrue(resources.checkQuota("hello", 2, false, "quota", hard, null).isEmpty());
+        Assert.assertEquals(resources.checkQuota("hello", 3, false, "quota", hard, null).size(), 1);
+
+        // Memory request defaults to the limit.
+        hard.put("requests.memory", "1Gi");
+        Assert.assertTrue(resources.checkQuota("hello", 2, false, "quota", hard, null).isEmpty());
+        hard.put("limits.ephemeral-storage", "4Gi");
+        Assert.assertEquals(resources.checkQuota("hello", 1, false, "quota", hard, null).size(), 1);
+        Assert.assertTrue(resources.checkQuota("hello", 1, false, "quota", hard,
+                Collections.singleton("Terminating")).isEmpty());
+    }
+
+    @Test
+    public void dependencyReadinessTest() {
+        DependencyReadiness dependencyReadiness = new DependencyReadiness();
+        Assert.assertTrue(dependencyReadiness.isEmpty());
+        dependencyReadiness.addHttpCheck("hello-svc", 9090, "health");
+        dependencyReadiness.addTcpCheck("db-svc", 5432);
+        dependencyReadiness.addHttpCheck("quoted-svc", 8080, "/it's/ready");
+        Container initContainer = dependencyReadiness.toInitContainer(120, 8);
+        Assert.assertEquals(initContainer.getName(), "wait-for-dependencies");
+        Assert.assertEquals(initContainer.getCommand().size(), 3);
+        String script = initContainer.getCommand().get(2);
+        Assert.assertTrue(script.contains("deadline=$(($(date +%s) + 120))"));
+        Assert.assertTrue(script.contains("then delay=8;"));
+        Assert.assertTrue(script.contains("wait_for hello-svc 9090 '/health' & "));
+        Assert.assertTrue(script.contains("wait_for db-svc 5432 '' & "));
+        Assert.assertTrue(script.contains("wait_for quoted-svc 8080 '/it'\\''s/ready' & "));
+        Assert.assertTrue(script.endsWith("for pid in $pids; do wait $pid || exit 1; done\n"));
+    }
+
+    @Test
+    public void buildMetricsReportTest() throws IOException {
+        BuildMetrics buildMetrics = new BuildMetrics();
+        buildMetrics.record(BuildMetrics.HANDLER_PHASE + "service", 2000000);
+        buildMetrics.record(BuildMetrics.HANDLER_PHASE + "service", 1000000);
+        buildMetrics.increment(BuildMetrics.FILE_BYTES, 10);
+        buildMetrics.increment(BuildMetrics.FILE_BYTES, BuildMetrics.utf8Length("é€"));
+        Path reportFile = tempDirectory.resolve("report").resolve("hello-build-report.json");
+        buildMetrics.writeReport(reportFile, "hello");
+        JsonNode report = new ObjectMapper().readTree(reportFile.toFile());
+        Assert.assertEquals(report.get("module").asText(), "hello");
+        JsonNode servicePhase = report.get("phases").get("handler:service");
+        Assert.assertEquals(servicePhase.get("count").asLong(), 2);
+        Assert.assertEquals(servicePhase.get("totalMillis").asDouble(), 3.0);
+        Assert.assertEquals(servicePhase.get("maxMillis").asDouble(), 2.0);
+        Assert.assertEquals(report.get("counters").get(BuildMetrics.FILE_BYTES).asLong(), 15);
+    }
+
+    @Test
+    public void payloadShardsTest() throws KubernetesPluginException {
+        Map<String, String> data = new HashMap<>();
+        data.put("a.txt", "0123456789");
+        data.put("c.txt", "0123456789");
+        Map<String, String> binaryData = new HashMap<>();
+        binaryData.put("b.bin", "AAECAwQ=");
+        List<List<String>> shards = PayloadShards.shard("hello-config-map", data, binaryData, 32);
+        Assert.assertEquals(shards.size(), 2);
+        Assert.assertEquals(shards.get(0), Arrays.asList("a.txt", "b.bin"));
+        Assert.assertEquals(shards.get(1), Collections.singletonList("c.txt"));
+        Assert.assertEquals(PayloadShards.getShardName("hello-config-map", 1, shards.size()), "hello-config-map-1");
+        Assert.assertEquals(PayloadShards.getShardName("hello-config-map", 0, 1), "hello-config-map");
+        Assert.assertNull(PayloadShards.getShardEntries(binaryData, shards.get(1)));
+        try {
+            PayloadShards.shard("hello-config-map", data, null, 8);
+            Assert.fail("an entry larger than a shard must not be accepted");
+        } catch (KubernetesPluginException e) {
+            Assert.assertTrue(e.getMessage().contains("a.txt"));
+        }
+    }
+
+    @Test
+    public void payloadShardsAnnotationLimitTest() throws KubernetesPluginException {
+        Assert.assertEquals(PayloadShards.jsonLength("a\"b\\c\n"), 9);
+        Assert.assertEquals(PayloadShards.jsonLength("<&>"), 18);
+        Assert.assertEquals(PayloadShards.jsonLength("h\u00e9\u20ac\ud83d\ude00"), 10);
+
+        char[] text = new char[150 * 1024];
+        Arrays.fill(text, 'x');
+        Map<String, String> data = new HashMap<>();
+        data.put("a.txt", new String(text));
+        data.put("b.txt", new String(text));
+        List<List<String>> shards = PayloadShards.shard("hello-config-map", data, null);
+        Assert.assertEquals(shards.size(), 2);
+        for (List<String> shard : shards) {
+            long shardBytes = 0;
+            for (String key : shard) {
+                shardBytes += PayloadShards.jsonLength(key) + PayloadShards.jsonLength(data.get(key));
+            }
+            Assert.assertTrue(shardBytes < 256 * 1024);
+        }
+
+        // quotes double in size in the last applied configuration.
+        char[] quotes = new char[120 * 1024];
+        Arrays.fill(quotes, '"');
+        try {
+            PayloadShards.shard("hello-config-map", Collections.singletonMap("quotes.txt", new String(quotes)), null);
+            Assert.fail("an entry larger than the annotation limit must not be accepted");
+        } catch (KubernetesPluginException e) {
+            Assert.assertTrue(e.getMessage().contains("quotes.txt"));
+        }
+    }
+
+    @Test
+    public void payloadEncodingTest() throws IOException, KubernetesPluginException {
+        Assert.assertEquals(KubernetesUtils.decodeUtf8("héllo".getBytes(StandardCharsets.UTF_8)), "héllo");
+        Assert.assertNull(KubernetesUtils.decodeUtf8(new byte[]{(byte) 0xff, (byte) 0xfe, 0x00}));
+        byte[] content = "hello hello hello hello".getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = KubernetesUtils.gzip(content);
+        try (GZIPInputStream gzipStream = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            Assert.assertEquals(IOUtils.toByteArray(gzipStream), content);
+        }
+        PayloadDecompression payloadDecompression = new PayloadDecompression();
+        payloadDecompression.addPayload("hello-config-map");
+        Container container = payloadDecompression.toInitContainer();
+        Assert.assertEquals(container.getName(), PayloadDecompression.INIT_CONTAINER_NAME);
+        Assert.assertEquals(container.getVolumeMounts().get(0).getName(), "hello-config-map-volume");
+        Assert.assertEquals(container.getVolumeMounts().get(1).getName(), "hello-config-map-decompressed-volume");
+        Assert.assertTrue(payloadDecompression.getScript().endsWith("decompress hello-config-map\n"));
+    }
+
+    @Test
+    public void configChecksumTest() {
+        Map<String, String> data = new HashMap<>();
+        data.put("a.txt", "hello");
+        data.put("b.txt", "world");
+        ConfigChecksum checksum = new ConfigChecksum();
+        Assert.assertTrue(checksum.isEmpty());
+        checksum.addPayload("hello-config-map", data, null);
+        checksum.addPayload("other-config-map", Collections.singletonMap("c.txt", "!"), null);
+
+        Map<String, String> reordered = new LinkedHashMap<>();
+        reordered.put("b.txt", "world");
+        reordered.put("a.txt", "hello");
+        ConfigChecksum sameChecksum = new ConfigChecksum();
+        sameChecksum.addPayload("other-config-map", Collections.singletonMap("c.txt", "!"), null);
+        sameChecksum.addPayload("hello-config-map", reordered, null);
+        Assert.assertEquals(sameChecksum.getChecksum(), checksum.getChecksum());
+
+        ConfigChecksum changedChecksum = new ConfigChecksum();
+        changedChecksum.addPayload("hello-config-map", Collections.singletonMap("a.txt", "hello"), null);
+        changedChecksum.addPayload("other-config-map", Collections.singletonMap("c.txt", "!"),
+                Collections.singletonMap("b.txt", "world"));
+        Assert.assertNotEquals(changedChecksum.getChecksum(), checksum.getChecksum());
+    }
+
+    @Test
+    public void yamlWriterTest() throws IOException {
+        ConfigMap configMap = new ConfigMapBuilder()
+                .withNewMetadata()
+                .withName("hello-config-map")
+                .withResourceVersion("42")
+                .withUid("0b5a2f6c")
+                .withCreationTimestamp("2019-10-01T00:00:00Z")
+                .endMetadata()
+                .withData(Collections.singletonMap("a.txt", "hello"))
+                .build();
+        String yaml = YamlWriter.toYaml(configMap);
+        Assert.assertEquals(yaml, SerializationUtils.dumpWithoutRuntimeStateAsYaml(configMap));
+        Assert.assertFalse(yaml.contains("resourceVersion"));
+        Assert.assertFalse(yaml.contains("uid"));
+        Assert.assertFalse(yaml.contains("creationTimestamp"));
+        Assert.assertTrue(yaml.contains("name: \"hello-config-map\""));
+        Assert.assertTrue(yaml.contains("a.txt: \"hello\""));
+
+        ReplicationController replicationController = new ReplicationControllerBuilder()
+                .withNewMetadata()
+                .withName("hello-rc")
+                .withGeneration(2L)
+                .endMetadata()
+                .withNewSpec()
+                .withReplicas(3)
+                .endSpec()
+                .withNewStatus()
+                .withReplicas(1)
+                .endStatus()
+                .build();
+        String controllerYaml = YamlWriter.toYaml(replicationController);
+        Assert.assertEquals(controllerYaml, SerializationUtils.dumpWithoutRuntimeStateAsYaml(replicationController));
+        Assert.assertFalse(controllerYaml.contains("status"));
+        Assert.assertFalse(controllerYaml.contains("generation"));
+    }
+
     @AfterClass
     public void cleanUp() {
         FileUtils.deleteQuietly(tempDirectory.toFile());